@@ -0,0 +1,38 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+plugins {
+    id("java-conventions")
+    id("me.champeau.jmh")
+}
+
+jmh {
+    // Benchmarks generate synthetic data with the test domain builders
+    includeTests = true
+    jmhVersion = "1.37"
+    // Report the allocation rate alongside the throughput
+    profilers = listOf("gc")
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("reports/jmh/results.json")
+
+    providers.gradleProperty("jmhIncludes").orNull?.let { includes = listOf(it) }
+}
+
+tasks.named<JavaCompile>("compileJmhJava") {
+    options.encoding = "UTF-8"
+    sourceCompatibility = "21"
+    targetCompatibility = "21"
+}
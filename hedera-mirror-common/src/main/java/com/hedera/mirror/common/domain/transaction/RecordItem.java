@@ -44,12 +44,15 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.CustomLog;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
+import lombok.ToString;
 import lombok.Value;
 import lombok.experimental.NonFinal;
 import org.apache.commons.codec.binary.Hex;
@@ -107,10 +110,18 @@ public class RecordItem implements StreamItem {
     private EthereumTransaction ethereumTransaction;
 
     @Builder.Default
+    @Getter(AccessLevel.NONE)
     @NonFinal
     @Setter
     private List<TransactionSidecarRecord> sidecarRecords = Collections.emptyList();
 
+    @EqualsAndHashCode.Exclude
+    @Getter(AccessLevel.NONE)
+    @NonFinal
+    @Setter
+    @ToString.Exclude
+    private Supplier<List<TransactionSidecarRecord>> sidecarRecordsSupplier;
+
     public void addContractTransaction(EntityId entityId) {
         if (contractTransactionPredicate == null || !contractTransactionPredicate.test(entityId)) {
             return;
@@ -147,6 +158,21 @@ public class RecordItem implements StreamItem {
         return entityTransactions;
     }
 
+    /**
+     * Gets the sidecar records of the transaction. If a sidecar records supplier is set, the sidecar records are
+     * resolved from it on first access so they can be decoded while the record file is being parsed.
+     *
+     * @return The sidecar records of the transaction
+     */
+    public List<TransactionSidecarRecord> getSidecarRecords() {
+        if (sidecarRecordsSupplier != null) {
+            sidecarRecords = sidecarRecordsSupplier.get();
+            sidecarRecordsSupplier = null;
+        }
+
+        return sidecarRecords;
+    }
+
     public int getAndIncrementLogIndex() {
         return logIndex.getAndIncrement();
     }
@@ -25,6 +25,7 @@ import com.hedera.mirror.common.domain.contract.ContractTransaction;
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.entity.EntityTransaction;
 import com.hedera.mirror.common.exception.ProtobufException;
+import com.hedera.services.stream.proto.TransactionSidecarRecord;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.CryptoTransferTransactionBody;
 import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
@@ -42,7 +43,9 @@ import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.codec.binary.Hex;
 import org.junit.jupiter.api.Test;
@@ -141,6 +144,24 @@ class RecordItemTest {
                 .isEqualTo(TRANSACTION_RECORD.getTransactionHash().toByteArray());
     }
 
+    @Test
+    void getSidecarRecordsFromSupplier() {
+        var sidecarRecords = List.of(TransactionSidecarRecord.getDefaultInstance());
+        var count = new AtomicInteger();
+        var recordItem = RecordItem.builder()
+                .transaction(DEFAULT_TRANSACTION)
+                .transactionRecord(TRANSACTION_RECORD)
+                .build();
+        recordItem.setSidecarRecordsSupplier(() -> {
+            count.incrementAndGet();
+            return sidecarRecords;
+        });
+
+        assertThat(recordItem.getSidecarRecords()).isSameAs(sidecarRecords);
+        assertThat(recordItem.getSidecarRecords()).isSameAs(sidecarRecords);
+        assertThat(count).hasValue(1);
+    }
+
     @ParameterizedTest
     @ValueSource(booleans = {true, false})
     void testAddEntityId(boolean accept) {
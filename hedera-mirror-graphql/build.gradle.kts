@@ -37,6 +37,7 @@ dependencies {
     implementation("io.github.mweirauch:micrometer-jvm-extras")
     implementation("jakarta.inject:jakarta.inject-api")
     implementation("org.mapstruct:mapstruct")
+    implementation("org.postgresql:postgresql")
     implementation("org.springframework.boot:spring-boot-actuator-autoconfigure")
     implementation("org.springframework.boot:spring-boot-starter-graphql")
     implementation("org.springframework.boot:spring-boot-starter-validation")
@@ -49,7 +50,6 @@ dependencies {
         name = "netty-resolver-dns-native-macos",
         classifier = "osx-aarch_64"
     )
-    runtimeOnly("org.postgresql:postgresql")
     testImplementation(project(path = ":common", configuration = "testClasses"))
     testImplementation("io.projectreactor:reactor-test")
     testImplementation("org.flywaydb:flyway-core")
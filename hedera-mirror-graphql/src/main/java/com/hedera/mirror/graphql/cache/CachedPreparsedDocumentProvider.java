@@ -16,27 +16,150 @@
 
 package com.hedera.mirror.graphql.cache;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import graphql.ErrorType;
 import graphql.ExecutionInput;
+import graphql.GraphqlErrorBuilder;
 import graphql.execution.preparsed.PreparsedDocumentEntry;
 import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.execution.preparsed.persisted.PersistedQueryIdInvalid;
+import graphql.execution.preparsed.persisted.PersistedQueryNotFound;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
 import jakarta.inject.Named;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 import java.util.function.Function;
+import lombok.CustomLog;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.lang3.StringUtils;
 
+/**
+ * Caches parsed and validated documents and implements the automatic persisted queries protocol. A client can send
+ * the SHA-256 hash of a query in the {@code persistedQuery} extension instead of the query itself. If the hash is not
+ * known, a {@code PersistedQueryNotFound} error is returned and the client retries with both the hash and the query,
+ * after which the document is cached by its hash. Queries can be pre-registered in an allow list file containing a JSON
+ * object of hash to query, and the server can be restricted to only execute queries in the allow list.
+ */
+@CustomLog
 @Named
 final class CachedPreparsedDocumentProvider implements PreparsedDocumentProvider {
 
-    private final Cache<String, PreparsedDocumentEntry> cache;
+    static final String PERSISTED_QUERY = "persistedQuery";
+    static final String SHA256_HASH = "sha256Hash";
+
+    private final Map<String, String> allowList;
+    private final Cache<Object, PreparsedDocumentEntry> cache;
+    private final PersistedQueryProperties persistedQueryProperties;
 
-    CachedPreparsedDocumentProvider(CacheProperties properties) {
-        cache = Caffeine.from(properties.getQuery()).build();
+    CachedPreparsedDocumentProvider(
+            CacheProperties properties, ObjectMapper objectMapper, PersistedQueryProperties persistedQueryProperties) {
+        this.allowList = loadAllowList(objectMapper, persistedQueryProperties);
+        this.cache = Caffeine.from(properties.getQuery()).build();
+        this.persistedQueryProperties = persistedQueryProperties;
     }
 
     @Override
     @SuppressWarnings("deprecation")
     public PreparsedDocumentEntry getDocument(
             ExecutionInput executionInput, Function<ExecutionInput, PreparsedDocumentEntry> parseCallback) {
-        return cache.get(executionInput.getQuery(), key -> parseCallback.apply(executionInput));
+        var hash = getHash(executionInput);
+        var query = executionInput.getQuery();
+
+        if (hash == null) {
+            if (persistedQueryProperties.isAllowListOnly() && !allowList.containsKey(sha256(query))) {
+                return notAllowed();
+            }
+
+            return cache.get(query, key -> parseCallback.apply(executionInput));
+        }
+
+        var key = new PersistedQueryKey(hash);
+        var entry = cache.getIfPresent(key);
+        if (entry != null) {
+            return entry;
+        }
+
+        var persistedQuery = allowList.get(hash);
+        if (persistedQuery == null) {
+            if (persistedQueryProperties.isAllowListOnly()) {
+                return notAllowed();
+            }
+
+            if (StringUtils.isBlank(query) || PersistedQuerySupport.PERSISTED_QUERY_MARKER.equals(query)) {
+                return new PreparsedDocumentEntry(new PersistedQueryNotFound(hash));
+            }
+
+            if (!hash.equals(sha256(query))) {
+                return new PreparsedDocumentEntry(new PersistedQueryIdInvalid(hash));
+            }
+
+            persistedQuery = query;
+        }
+
+        var document = persistedQuery;
+        return cache.get(key, k -> parseCallback.apply(executionInput.transform(b -> b.query(document))));
     }
+
+    private String getHash(ExecutionInput executionInput) {
+        if (!persistedQueryProperties.isEnabled()
+                || !(executionInput.getExtensions().get(PERSISTED_QUERY) instanceof Map<?, ?> persistedQuery)
+                || !(persistedQuery.get(SHA256_HASH) instanceof String hash)) {
+            return null;
+        }
+
+        return hash.toLowerCase(Locale.ROOT);
+    }
+
+    private static Map<String, String> loadAllowList(
+            ObjectMapper objectMapper, PersistedQueryProperties persistedQueryProperties) {
+        var allowList = new HashMap<String, String>();
+        var path = persistedQueryProperties.getAllowList();
+
+        if (path == null) {
+            if (persistedQueryProperties.isAllowListOnly()) {
+                throw new IllegalStateException("An allow list is required when only allowed queries can be executed");
+            }
+
+            return allowList;
+        }
+
+        try {
+            Map<String, String> queries = objectMapper.readerForMapOf(String.class).readValue(path.toFile());
+
+            for (var entry : queries.entrySet()) {
+                var hash = entry.getKey().toLowerCase(Locale.ROOT);
+                var query = entry.getValue();
+
+                if (!hash.equals(sha256(query))) {
+                    throw new IllegalStateException("Hash " + hash + " in allow list does not match its query");
+                }
+
+                allowList.put(hash, query);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read allow list " + path, e);
+        }
+
+        log.info("Loaded {} persisted queries from allow list {}", allowList.size(), path);
+        return allowList;
+    }
+
+    private static PreparsedDocumentEntry notAllowed() {
+        return new PreparsedDocumentEntry(GraphqlErrorBuilder.newError()
+                .errorType(ErrorType.ValidationError)
+                .message("Query is not in the allow list")
+                .build());
+    }
+
+    private static String sha256(String query) {
+        return query != null ? DigestUtils.sha256Hex(query) : StringUtils.EMPTY;
+    }
+
+    // A distinct key type keeps persisted query hashes from colliding with query strings in the cache
+    private record PersistedQueryKey(String hash) {}
 }
@@ -0,0 +1,207 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.graphql.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.inject.Named;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.CustomLog;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * Appends each GraphQL request and its outcome to the capture file as a line of JSON when capture is enabled, so the
+ * monitor can replay the real request mix. A line holds the method, path, query and body of the request, its offset in
+ * milliseconds from the start of the capture, the request headers that affect the status, and the response status and
+ * latency in milliseconds. The body is copied as it's read by the handler, up to the configured maximum size. Captured
+ * requests are queued and written by a dedicated thread so the event loop never blocks on the file, and requests are
+ * dropped when the queue is full.
+ */
+@CustomLog
+@Named
+class CaptureFilter implements DisposableBean, WebFilter {
+
+    @SuppressWarnings("java:S1075")
+    private static final String ACTUATOR_PATH = "/actuator/";
+
+    private static final List<String> HEADERS = List.of(HttpHeaders.ACCEPT, HttpHeaders.IF_NONE_MATCH);
+    private static final long POLL_TIMEOUT_MS = 100L;
+
+    private final AtomicLong dropped = new AtomicLong(0L);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final CaptureProperties properties;
+    private final BlockingQueue<CapturedRequest> queue;
+    private final long startTime = System.currentTimeMillis();
+    private final BufferedWriter writer;
+    private final Thread writerThread;
+    private volatile boolean running = true;
+
+    CaptureFilter(CaptureProperties properties) throws IOException {
+        this.properties = properties;
+
+        if (properties.isEnabled()) {
+            this.queue = new ArrayBlockingQueue<>(properties.getQueueSize());
+            this.writer = Files.newBufferedWriter(
+                    properties.getPath(), StandardOpenOption.APPEND, StandardOpenOption.CREATE);
+            this.writerThread = Thread.ofPlatform().daemon().name("capture-writer").start(this::write);
+            log.info("Capturing requests to {}", properties.getPath().toAbsolutePath());
+        } else {
+            this.queue = null;
+            this.writer = null;
+            this.writerThread = null;
+        }
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        var request = exchange.getRequest();
+        if (writer == null || StringUtils.startsWith(request.getPath().value(), ACTUATOR_PATH)) {
+            return chain.filter(exchange);
+        }
+
+        long start = System.currentTimeMillis();
+        var body = new ByteArrayOutputStream();
+        var decorator = new ServerHttpRequestDecorator(request) {
+            @Override
+            public Flux<DataBuffer> getBody() {
+                return super.getBody().doOnNext(buffer -> copy(buffer, body));
+            }
+        };
+
+        return chain.filter(exchange.mutate().request(decorator).build()).doFinally(signal -> {
+            var statusCode = exchange.getResponse().getStatusCode();
+            int status;
+
+            if (signal == SignalType.ON_ERROR) {
+                status = HttpStatus.INTERNAL_SERVER_ERROR.value();
+            } else {
+                status = statusCode != null ? statusCode.value() : HttpStatus.OK.value();
+            }
+            capture(request, body, status, start);
+        });
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (writer != null) {
+            running = false;
+            writerThread.join();
+            writer.close();
+
+            if (dropped.get() > 0) {
+                log.warn("Dropped {} requests because the capture queue was full", dropped.get());
+            }
+        }
+    }
+
+    private void copy(DataBuffer buffer, ByteArrayOutputStream body) {
+        int length = Math.min(buffer.readableByteCount(), properties.getMaxBodySize() - body.size());
+        if (length > 0) {
+            var bytes = ByteBuffer.allocate(length);
+            buffer.toByteBuffer(buffer.readPosition(), bytes, 0, length);
+            body.write(bytes.array(), 0, length);
+        }
+    }
+
+    private void capture(ServerHttpRequest request, ByteArrayOutputStream body, int status, long start) {
+        try {
+            var uri = request.getURI();
+            var capturedRequest = new CapturedRequest(
+                    start - startTime,
+                    request.getMethod().name(),
+                    uri.getRawPath(),
+                    uri.getRawQuery(),
+                    body.size() > 0 ? body.toString(StandardCharsets.UTF_8) : null,
+                    getHeaders(request),
+                    status,
+                    System.currentTimeMillis() - start);
+
+            if (!queue.offer(capturedRequest)) {
+                dropped.incrementAndGet();
+            }
+        } catch (Exception e) {
+            log.warn("Unable to capture request {}: {}", request.getURI(), e.getMessage());
+        }
+    }
+
+    private Map<String, String> getHeaders(ServerHttpRequest request) {
+        var headers = new LinkedHashMap<String, String>();
+        for (var name : HEADERS) {
+            var value = request.getHeaders().getFirst(name);
+            if (value != null) {
+                headers.put(name, value);
+            }
+        }
+        return headers.isEmpty() ? null : headers;
+    }
+
+    // Drains the queue to the file until destroyed, flushing whenever the queue is empty
+    private void write() {
+        while (running || !queue.isEmpty()) {
+            try {
+                var capturedRequest = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (capturedRequest != null) {
+                    writer.write(objectMapper.writeValueAsString(capturedRequest));
+                    writer.newLine();
+
+                    if (queue.isEmpty()) {
+                        writer.flush();
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.warn("Unable to write captured request: {}", e.getMessage());
+            }
+        }
+    }
+
+    record CapturedRequest(
+            long offset,
+            String method,
+            String path,
+            String query,
+            String body,
+            Map<String, String> headers,
+            int status,
+            long latency) {}
+}
@@ -28,6 +28,7 @@ import org.springframework.boot.autoconfigure.graphql.GraphQlSourceBuilderCustom
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.graphql.execution.RuntimeWiringConfigurer;
+import org.springframework.web.filter.reactive.ServerWebExchangeContextFilter;
 
 @Configuration
 class GraphQlConfiguration {
@@ -46,6 +47,12 @@ class GraphQlConfiguration {
                 .scalar(GraphQlTimestamp.INSTANCE);
     }
 
+    // Exposes the exchange in the Reactor context so the GraphQL interceptors can identify the client
+    @Bean
+    ServerWebExchangeContextFilter serverWebExchangeContextFilter() {
+        return new ServerWebExchangeContextFilter();
+    }
+
     @Bean
     SchemaDirectiveWiring validationDirectives() {
         var validationRules = ValidationRules.newValidationRules()
@@ -16,15 +16,14 @@
 
 package com.hedera.mirror.graphql.config;
 
+import com.hedera.mirror.graphql.util.GraphQlUtils;
 import jakarta.inject.Named;
 import java.io.Serial;
-import java.net.InetSocketAddress;
 import java.net.URI;
 import lombok.CustomLog;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpResponse;
-import org.springframework.util.CollectionUtils;
 import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.WebFilter;
 import org.springframework.web.server.WebFilterChain;
@@ -34,12 +33,9 @@ import reactor.core.publisher.Mono;
 @Named
 class LoggingFilter implements WebFilter {
 
-    static final String X_FORWARDED_FOR = "X-Forwarded-For";
-
     @SuppressWarnings("java:S1075")
     private static final String ACTUATOR_PATH = "/actuator/";
 
-    private static final String LOCALHOST = "127.0.0.1";
     private static final String LOG_FORMAT = "{} {} {} in {} ms: {}";
 
     @Override
@@ -68,7 +64,7 @@ class LoggingFilter implements WebFilter {
         URI uri = request.getURI();
         var message =
                 cause != null ? cause.getMessage() : exchange.getResponse().getStatusCode();
-        var params = new Object[] {getClient(request), request.getMethod(), uri, elapsed, message};
+        var params = new Object[] {GraphQlUtils.getClient(request), request.getMethod(), uri, elapsed, message};
 
         if (StringUtils.startsWith(uri.getPath(), ACTUATOR_PATH)) {
             log.debug(LOG_FORMAT, params);
@@ -79,22 +75,6 @@ class LoggingFilter implements WebFilter {
         }
     }
 
-    private String getClient(ServerHttpRequest request) {
-        String xForwardedFor = CollectionUtils.firstElement(request.getHeaders().get(X_FORWARDED_FOR));
-
-        if (StringUtils.isNotBlank(xForwardedFor)) {
-            return xForwardedFor;
-        }
-
-        InetSocketAddress remoteAddress = request.getRemoteAddress();
-
-        if (remoteAddress != null && remoteAddress.getAddress() != null) {
-            return remoteAddress.getAddress().toString();
-        }
-
-        return LOCALHOST;
-    }
-
     private static class CancelledException extends RuntimeException {
         private static final String MESSAGE = "cancelled";
 
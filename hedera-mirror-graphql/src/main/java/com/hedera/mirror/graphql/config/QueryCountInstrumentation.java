@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.graphql.config;
+
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.GraphQLContext;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimpleInstrumentationContext;
+import graphql.execution.instrumentation.SimplePerformantInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.inject.Named;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Records the number of database queries executed per GraphQL request. Data fetchers and batch loaders report each
+ * query they execute via {@link #increment(GraphQLContext)}, which makes N+1 query patterns visible as a shift in the
+ * distribution.
+ */
+@Named
+public class QueryCountInstrumentation extends SimplePerformantInstrumentation {
+
+    static final String METRIC = "hedera.mirror.graphql.queries";
+
+    private static final String KEY = QueryCountInstrumentation.class.getName();
+
+    private final DistributionSummary queries;
+
+    public QueryCountInstrumentation(MeterRegistry meterRegistry) {
+        queries = DistributionSummary.builder(METRIC)
+                .baseUnit("queries")
+                .description("The number of database queries executed per GraphQL request")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Counts a database query against the current request.
+     *
+     * @param context The GraphQL context of the request
+     */
+    public static void increment(GraphQLContext context) {
+        AtomicInteger count = context.get(KEY);
+        if (count != null) {
+            count.incrementAndGet();
+        }
+    }
+
+    @Override
+    public ExecutionInput instrumentExecutionInput(
+            ExecutionInput executionInput,
+            InstrumentationExecutionParameters parameters,
+            InstrumentationState state) {
+        executionInput.getGraphQLContext().put(KEY, new AtomicInteger());
+        return executionInput;
+    }
+
+    @Override
+    public InstrumentationContext<ExecutionResult> beginExecution(
+            InstrumentationExecutionParameters parameters, InstrumentationState state) {
+        AtomicInteger count = parameters.getGraphQLContext().get(KEY);
+        return SimpleInstrumentationContext.whenCompleted((result, throwable) -> {
+            if (count != null) {
+                queries.record(count.get());
+            }
+        });
+    }
+}
@@ -20,31 +20,121 @@ import static com.hedera.mirror.graphql.util.GraphQlUtils.convertCurrency;
 import static com.hedera.mirror.graphql.util.GraphQlUtils.toEntityId;
 import static com.hedera.mirror.graphql.util.GraphQlUtils.validateOneOf;
 
+import com.hedera.mirror.common.domain.entity.Entity;
+import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.entity.EntityType;
+import com.hedera.mirror.graphql.config.QueryCountInstrumentation;
+import com.hedera.mirror.graphql.listener.EntityListener;
 import com.hedera.mirror.graphql.mapper.AccountMapper;
 import com.hedera.mirror.graphql.service.EntityService;
 import com.hedera.mirror.graphql.viewmodel.Account;
 import com.hedera.mirror.graphql.viewmodel.AccountInput;
 import com.hedera.mirror.graphql.viewmodel.HbarUnit;
+import graphql.GraphQLContext;
+import graphql.execution.DataFetcherResult;
+import graphql.schema.DataFetchingEnvironment;
 import jakarta.validation.Valid;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import lombok.CustomLog;
-import lombok.RequiredArgsConstructor;
+import org.dataloader.DataLoader;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.graphql.data.method.annotation.SubscriptionMapping;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
 import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+/**
+ * Resolves accounts and the accounts they reference. Every account is returned with its domain entity as the local
+ * context so the referenced account ids are available to the nested fields, which are loaded through a shared
+ * {@link DataLoader}. All references in one level of the query are therefore fetched with a single query regardless
+ * of the number of parents or nested fields. Account subscriptions reload the account whenever the
+ * {@link EntityListener} reports a change and only emit it if it differs from the previously emitted account.
+ */
 @Controller
 @CustomLog
-@RequiredArgsConstructor
 class AccountController {
 
     private final AccountMapper accountMapper;
+    private final EntityListener entityListener;
     private final EntityService entityService;
 
+    AccountController(
+            AccountMapper accountMapper,
+            BatchLoaderRegistry batchLoaderRegistry,
+            EntityListener entityListener,
+            EntityService entityService) {
+        this.accountMapper = accountMapper;
+        this.entityListener = entityListener;
+        this.entityService = entityService;
+        batchLoaderRegistry
+                .forTypePair(Long.class, Entity.class)
+                .registerMappedBatchLoader((ids, environment) -> Mono.fromSupplier(() -> {
+                    QueryCountInstrumentation.increment(environment.getContext());
+                    return entityService.getByIdsAndType(ids, EntityType.ACCOUNT);
+                }));
+    }
+
     @QueryMapping
-    Mono<Account> account(@Argument @Valid AccountInput input) {
+    Mono<DataFetcherResult<Account>> account(@Argument @Valid AccountInput input, GraphQLContext context) {
+        return Mono.justOrEmpty(getAccount(input, context).map(this::toResult));
+    }
+
+    @SubscriptionMapping("account")
+    Flux<DataFetcherResult<Account>> accountSubscription(@Argument @Valid AccountInput input, GraphQLContext context) {
+        var account = getAccount(input, context);
+        if (account.isEmpty()) {
+            return Flux.empty();
+        }
+
+        var entity = account.get();
+        var entityId = entity.toEntityId();
+
+        // Reload one change at a time. Changes arriving in the meantime are conflated by the listener.
+        return entityListener
+                .listen(entity.getId())
+                .concatMap(
+                        id -> Mono.fromSupplier(() -> entityService.getByIdAndType(entityId, EntityType.ACCOUNT))
+                                .subscribeOn(Schedulers.boundedElastic())
+                                .flatMap(Mono::justOrEmpty),
+                        1)
+                .startWith(entity)
+                .distinctUntilChanged()
+                .map(this::toResult);
+    }
+
+    @SchemaMapping(typeName = "Account")
+    CompletableFuture<DataFetcherResult<Account>> autoRenewAccount(
+            DataFetchingEnvironment environment, DataLoader<Long, Entity> dataLoader) {
+        Entity entity = environment.getLocalContext();
+        return load(dataLoader, entity != null ? entity.getAutoRenewAccountId() : null);
+    }
+
+    @SchemaMapping
+    Mono<Long> balance(@Argument @Valid HbarUnit unit, Account account) {
+        return Mono.justOrEmpty(convertCurrency(unit, account.getBalance()));
+    }
+
+    @SchemaMapping(typeName = "Account")
+    CompletableFuture<DataFetcherResult<Account>> obtainer(
+            DataFetchingEnvironment environment, DataLoader<Long, Entity> dataLoader) {
+        Entity entity = environment.getLocalContext();
+        var obtainerId = entity != null ? entity.getObtainerId() : null;
+        return load(dataLoader, !EntityId.isEmpty(obtainerId) ? obtainerId.getId() : null);
+    }
+
+    @SchemaMapping(typeName = "Account")
+    CompletableFuture<DataFetcherResult<Account>> stakedAccount(
+            DataFetchingEnvironment environment, DataLoader<Long, Entity> dataLoader) {
+        Entity entity = environment.getLocalContext();
+        return load(dataLoader, entity != null ? entity.getStakedAccountId() : null);
+    }
+
+    private Optional<Entity> getAccount(AccountInput input, GraphQLContext context) {
         final var alias = input.getAlias();
         final var evmAddress = input.getEvmAddress();
         final var entityId = input.getEntityId();
@@ -53,27 +143,35 @@ class AccountController {
         validateOneOf(alias, entityId, evmAddress, id);
 
         if (entityId != null) {
-            return Mono.justOrEmpty(entityService
-                    .getByIdAndType(toEntityId(entityId), EntityType.ACCOUNT)
-                    .map(accountMapper::map));
+            QueryCountInstrumentation.increment(context);
+            return entityService.getByIdAndType(toEntityId(entityId), EntityType.ACCOUNT);
         }
 
         if (alias != null) {
-            return Mono.justOrEmpty(
-                    entityService.getByAliasAndType(alias, EntityType.ACCOUNT).map(accountMapper::map));
+            QueryCountInstrumentation.increment(context);
+            return entityService.getByAliasAndType(alias, EntityType.ACCOUNT);
         }
 
         if (evmAddress != null) {
-            return Mono.justOrEmpty(entityService
-                    .getByEvmAddressAndType(evmAddress, EntityType.ACCOUNT)
-                    .map(accountMapper::map));
+            QueryCountInstrumentation.increment(context);
+            return entityService.getByEvmAddressAndType(evmAddress, EntityType.ACCOUNT);
         }
 
-        return Mono.error(new IllegalStateException("Not implemented"));
+        throw new IllegalStateException("Not implemented");
     }
 
-    @SchemaMapping
-    Mono<Long> balance(@Argument @Valid HbarUnit unit, Account account) {
-        return Mono.justOrEmpty(convertCurrency(unit, account.getBalance()));
+    private CompletableFuture<DataFetcherResult<Account>> load(DataLoader<Long, Entity> dataLoader, Long id) {
+        if (id == null || id <= 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return dataLoader.load(id).thenApply(entity -> entity != null ? toResult(entity) : null);
+    }
+
+    private DataFetcherResult<Account> toResult(Entity entity) {
+        return DataFetcherResult.<Account>newResult()
+                .data(accountMapper.map(entity))
+                .localContext(entity)
+                .build();
     }
 }
@@ -0,0 +1,215 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.graphql.controller;
+
+import static com.hedera.mirror.graphql.util.GraphQlUtils.convertCurrency;
+import static com.hedera.mirror.graphql.util.GraphQlUtils.decodeCursor;
+import static com.hedera.mirror.graphql.util.GraphQlUtils.encodeCursor;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toSet;
+
+import com.hedera.mirror.common.domain.entity.Entity;
+import com.hedera.mirror.graphql.config.QueryCountInstrumentation;
+import com.hedera.mirror.graphql.mapper.TransactionMapper;
+import com.hedera.mirror.graphql.service.PageCursor;
+import com.hedera.mirror.graphql.service.TimestampPage;
+import com.hedera.mirror.graphql.service.TransactionService;
+import com.hedera.mirror.graphql.viewmodel.CryptoTransfer;
+import com.hedera.mirror.graphql.viewmodel.CryptoTransferConnection;
+import com.hedera.mirror.graphql.viewmodel.CryptoTransferEdge;
+import com.hedera.mirror.graphql.viewmodel.HbarUnit;
+import com.hedera.mirror.graphql.viewmodel.PageInfo;
+import com.hedera.mirror.graphql.viewmodel.Transaction;
+import com.hedera.mirror.graphql.viewmodel.TransactionConnection;
+import com.hedera.mirror.graphql.viewmodel.TransactionEdge;
+import graphql.schema.DataFetchingEnvironment;
+import jakarta.validation.Valid;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import org.dataloader.BatchLoaderEnvironment;
+import org.dataloader.DataLoader;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
+import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Mono;
+
+/**
+ * Resolves the transaction and transfer connections of accounts. The pages are loaded through a {@link DataLoader} per
+ * connection that groups its keys by page arguments, so the connections of all accounts in one level of the query that
+ * share the same arguments are fetched with a single query.
+ */
+@Controller
+class TransactionController {
+
+    static final int DEFAULT_PAGE_SIZE = 25;
+    static final String CRYPTO_TRANSFERS = "cryptoTransfers";
+    static final String TRANSACTIONS = "transactions";
+
+    private final TransactionMapper transactionMapper;
+
+    TransactionController(
+            BatchLoaderRegistry batchLoaderRegistry,
+            TransactionMapper transactionMapper,
+            TransactionService transactionService) {
+        this.transactionMapper = transactionMapper;
+        batchLoaderRegistry
+                .<AccountPage, List<com.hedera.mirror.common.domain.transaction.CryptoTransfer>>forName(
+                        CRYPTO_TRANSFERS)
+                .registerMappedBatchLoader((keys, environment) ->
+                        Mono.fromSupplier(() -> load(keys, environment, transactionService::getCryptoTransfers)));
+        batchLoaderRegistry
+                .<AccountPage, List<com.hedera.mirror.common.domain.transaction.Transaction>>forName(TRANSACTIONS)
+                .registerMappedBatchLoader((keys, environment) ->
+                        Mono.fromSupplier(() -> load(keys, environment, transactionService::getTransactions)));
+    }
+
+    @SchemaMapping
+    Mono<Long> amount(@Argument @Valid HbarUnit unit, CryptoTransfer cryptoTransfer) {
+        return Mono.justOrEmpty(convertCurrency(unit, cryptoTransfer.getAmount()));
+    }
+
+    @SchemaMapping
+    Mono<Long> chargedTxFee(@Argument @Valid HbarUnit unit, Transaction transaction) {
+        return Mono.justOrEmpty(convertCurrency(unit, transaction.getChargedTxFee()));
+    }
+
+    @SchemaMapping
+    Mono<Long> maxFee(@Argument @Valid HbarUnit unit, Transaction transaction) {
+        return Mono.justOrEmpty(convertCurrency(unit, transaction.getMaxFee()));
+    }
+
+    @SchemaMapping(typeName = "Account")
+    CompletableFuture<TransactionConnection> transactions(
+            @Argument Integer first,
+            @Argument String after,
+            @Argument Integer last,
+            @Argument String before,
+            DataFetchingEnvironment environment) {
+        var page = toPage(first, after, last, before);
+        Entity entity = environment.getLocalContext();
+        if (entity == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        DataLoader<AccountPage, List<com.hedera.mirror.common.domain.transaction.Transaction>> dataLoader =
+                environment.getDataLoader(TRANSACTIONS);
+        return dataLoader.load(new AccountPage(entity.getId(), page)).thenApply(rows -> {
+            var edges = new ArrayList<TransactionEdge>();
+            for (var transaction : page.toPage(rows)) {
+                var edge = new TransactionEdge();
+                edge.setCursor(encodeCursor(transaction.getConsensusTimestamp(), 0L));
+                edge.setNode(transactionMapper.map(transaction));
+                edges.add(edge);
+            }
+
+            var connection = new TransactionConnection();
+            connection.setEdges(edges);
+            connection.setPageInfo(toPageInfo(page, rows, edges, TransactionEdge::getCursor));
+            return connection;
+        });
+    }
+
+    @SchemaMapping(typeName = "Account")
+    CompletableFuture<CryptoTransferConnection> transfers(
+            @Argument Integer first,
+            @Argument String after,
+            @Argument Integer last,
+            @Argument String before,
+            DataFetchingEnvironment environment) {
+        var page = toPage(first, after, last, before);
+        Entity entity = environment.getLocalContext();
+        if (entity == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        DataLoader<AccountPage, List<com.hedera.mirror.common.domain.transaction.CryptoTransfer>> dataLoader =
+                environment.getDataLoader(CRYPTO_TRANSFERS);
+        return dataLoader.load(new AccountPage(entity.getId(), page)).thenApply(rows -> {
+            var edges = new ArrayList<CryptoTransferEdge>();
+            for (var cryptoTransfer : page.toPage(rows)) {
+                var edge = new CryptoTransferEdge();
+                edge.setCursor(encodeCursor(cryptoTransfer.getConsensusTimestamp(), cryptoTransfer.getAmount()));
+                edge.setNode(transactionMapper.map(cryptoTransfer));
+                edges.add(edge);
+            }
+
+            var connection = new CryptoTransferConnection();
+            connection.setEdges(edges);
+            connection.setPageInfo(toPageInfo(page, rows, edges, CryptoTransferEdge::getCursor));
+            return connection;
+        });
+    }
+
+    private static <T> Map<AccountPage, List<T>> load(
+            Set<AccountPage> keys,
+            BatchLoaderEnvironment environment,
+            BiFunction<Collection<Long>, TimestampPage, Map<Long, List<T>>> finder) {
+        var results = new HashMap<AccountPage, List<T>>();
+        var accountIdsByPage =
+                keys.stream().collect(groupingBy(AccountPage::page, mapping(AccountPage::accountId, toSet())));
+
+        accountIdsByPage.forEach((page, accountIds) -> {
+            QueryCountInstrumentation.increment(environment.getContext());
+            var rows = finder.apply(accountIds, page);
+            for (var accountId : accountIds) {
+                results.put(new AccountPage(accountId, page), rows.getOrDefault(accountId, List.of()));
+            }
+        });
+
+        return results;
+    }
+
+    private static TimestampPage toPage(Integer first, String after, Integer last, String before) {
+        if (first != null && last != null) {
+            throw new IllegalArgumentException("Only one of first or last can be provided");
+        }
+
+        var lower = before != null ? decodeCursor(before) : PageCursor.MIN;
+        var upper = after != null ? decodeCursor(after) : PageCursor.MAX;
+
+        if (last != null) {
+            return new TimestampPage(lower, upper, last, false);
+        }
+
+        return new TimestampPage(lower, upper, first != null ? first : DEFAULT_PAGE_SIZE, true);
+    }
+
+    private static <E> PageInfo toPageInfo(
+            TimestampPage page, List<?> rows, List<E> edges, Function<E, String> cursor) {
+        boolean hasMore = page.hasMore(rows);
+        var pageInfo = new PageInfo();
+        pageInfo.setEndCursor(edges.isEmpty() ? "" : cursor.apply(edges.getLast()));
+        pageInfo.setHasNextPage(page.descending() && hasMore);
+        pageInfo.setHasPreviousPage(!page.descending() && hasMore);
+        pageInfo.setStartCursor(edges.isEmpty() ? "" : cursor.apply(edges.getFirst()));
+        return pageInfo;
+    }
+
+    /**
+     * The key of a connection page of an account.
+     */
+    private record AccountPage(long accountId, TimestampPage page) {}
+}
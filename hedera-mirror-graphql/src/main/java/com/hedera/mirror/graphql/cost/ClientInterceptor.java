@@ -0,0 +1,51 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.graphql.cost;
+
+import com.hedera.mirror.graphql.util.GraphQlUtils;
+import jakarta.inject.Named;
+import lombok.RequiredArgsConstructor;
+import org.springframework.graphql.server.WebGraphQlInterceptor;
+import org.springframework.graphql.server.WebGraphQlRequest;
+import org.springframework.graphql.server.WebGraphQlResponse;
+import org.springframework.web.filter.reactive.ServerWebExchangeContextFilter;
+import reactor.core.publisher.Mono;
+
+/**
+ * Identifies the client of a GraphQL request so its query cost can be accounted against the client's budget. The
+ * client is resolved from the HTTP exchange, which {@link ServerWebExchangeContextFilter} exposes in the Reactor
+ * context, trusting only the X-Forwarded-For entries added by the configured number of proxies.
+ */
+@Named
+@RequiredArgsConstructor
+class ClientInterceptor implements WebGraphQlInterceptor {
+
+    private final CostProperties properties;
+
+    @Override
+    public Mono<WebGraphQlResponse> intercept(WebGraphQlRequest request, Chain chain) {
+        return Mono.deferContextual(contextView -> {
+            ServerWebExchangeContextFilter.getExchange(contextView)
+                    .map(exchange -> GraphQlUtils.getClient(exchange.getRequest(), properties.getTrustedProxies()))
+                    .ifPresent(client -> request.configureExecutionInput((input, builder) -> {
+                        input.getGraphQLContext().put(CostInstrumentation.CLIENT, client);
+                        return input;
+                    }));
+            return chain.next(request);
+        });
+    }
+}
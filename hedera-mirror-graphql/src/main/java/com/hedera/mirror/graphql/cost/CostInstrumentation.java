@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.graphql.cost;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.primitives.Ints;
+import com.google.common.util.concurrent.RateLimiter;
+import graphql.ExecutionResult;
+import graphql.execution.AbortExecutionException;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimplePerformantInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationExecuteOperationParameters;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.inject.Named;
+import java.time.Duration;
+import lombok.CustomLog;
+
+/**
+ * Admits an operation for execution only if its static cost is within the maximum cost per query and within the
+ * cost per second budget of the client that sent it.
+ */
+@CustomLog
+@Named
+public class CostInstrumentation extends SimplePerformantInstrumentation {
+
+    static final String CLIENT = CostInstrumentation.class.getName() + ".client";
+    static final String METRIC = "hedera.mirror.graphql.cost";
+
+    private final QueryCostCalculator calculator;
+    private final CostProperties properties;
+    private final Cache<String, RateLimiter> rateLimiters;
+    private final DistributionSummary executed;
+    private final DistributionSummary overBudget;
+    private final DistributionSummary rateLimited;
+
+    public CostInstrumentation(QueryCostCalculator calculator, CostProperties properties, MeterRegistry meterRegistry) {
+        this.calculator = calculator;
+        this.properties = properties;
+        this.rateLimiters = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMinutes(1L))
+                .maximumSize(100_000L)
+                .build();
+        this.executed = summary(meterRegistry, "executed");
+        this.overBudget = summary(meterRegistry, "over_budget");
+        this.rateLimited = summary(meterRegistry, "rate_limited");
+    }
+
+    @Override
+    public InstrumentationContext<ExecutionResult> beginExecuteOperation(
+            InstrumentationExecuteOperationParameters parameters, InstrumentationState state) {
+        if (!properties.isEnabled()) {
+            return super.beginExecuteOperation(parameters, state);
+        }
+
+        var context = parameters.getExecutionContext();
+        long cost = calculator.calculate(
+                context.getGraphQLSchema(), context.getDocument(), context.getOperationDefinition());
+        long maxCost = properties.getMaxCost();
+
+        if (cost > maxCost) {
+            overBudget.record(cost);
+            throw new AbortExecutionException("Query cost of %d exceeds the maximum of %d".formatted(cost, maxCost));
+        }
+
+        String client = context.getGraphQLContext().get(CLIENT);
+        if (client != null && !tryAcquire(client, cost)) {
+            log.warn("Client {} exceeded its query cost budget with a query costing {}", client, cost);
+            rateLimited.record(cost);
+            throw new AbortExecutionException(
+                    "Query cost budget of %d per second exceeded".formatted(properties.getClientRate()));
+        }
+
+        executed.record(cost);
+        return super.beginExecuteOperation(parameters, state);
+    }
+
+    private boolean tryAcquire(String client, long cost) {
+        long clientRate = properties.getClientRate();
+        if (clientRate <= 0 || cost <= 0) {
+            return true;
+        }
+
+        var rateLimiter = rateLimiters.get(client, c -> RateLimiter.create(clientRate));
+        return rateLimiter.tryAcquire(Ints.saturatedCast(cost));
+    }
+
+    private static DistributionSummary summary(MeterRegistry meterRegistry, String outcome) {
+        return DistributionSummary.builder(METRIC)
+                .baseUnit("cost")
+                .description("The static cost of the GraphQL queries admitted or rejected")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.graphql.cost;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.util.Map;
+import java.util.Set;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@ConfigurationProperties("hedera.mirror.graphql.cost")
+@Data
+@Validated
+public class CostProperties {
+
+    @Min(0)
+    private long clientRate = 5000L;
+
+    @Min(0)
+    private int defaultFieldCost = 1;
+
+    private boolean enabled = true;
+
+    @NotNull
+    private Map<String, Map<String, Integer>> fields = Map.of(
+            "Account",
+                    Map.of(
+                            "autoRenewAccount",
+                            10,
+                            "obtainer",
+                            10,
+                            "stakedAccount",
+                            10,
+                            "transactions",
+                            10,
+                            "transfers",
+                            10),
+            "Query", Map.of("account", 10),
+            "Subscription", Map.of("account", 10));
+
+    @NotNull
+    private Set<String> listArguments = Set.of("first", "last");
+
+    @Min(1)
+    private long maxCost = 1000L;
+
+    @Min(1)
+    private int maxListSize = 100;
+
+    @Min(0)
+    private int trustedProxies = 0;
+
+    public int getFieldCost(String typeName, String fieldName) {
+        var typeFields = fields.get(typeName);
+        if (typeFields != null) {
+            var cost = typeFields.get(fieldName);
+            if (cost != null) {
+                return cost;
+            }
+        }
+
+        return defaultFieldCost;
+    }
+}
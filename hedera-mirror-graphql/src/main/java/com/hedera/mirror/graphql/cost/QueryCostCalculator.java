@@ -0,0 +1,168 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.graphql.cost;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.math.LongMath;
+import graphql.language.Argument;
+import graphql.language.Document;
+import graphql.language.Field;
+import graphql.language.FragmentDefinition;
+import graphql.language.FragmentSpread;
+import graphql.language.InlineFragment;
+import graphql.language.IntValue;
+import graphql.language.OperationDefinition;
+import graphql.language.Selection;
+import graphql.language.SelectionSet;
+import graphql.language.TypeName;
+import graphql.language.Value;
+import graphql.schema.GraphQLCompositeType;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLFieldsContainer;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.GraphQLTypeUtil;
+import jakarta.inject.Named;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Statically calculates the cost of a GraphQL operation before it's executed. Each field costs its configured amount
+ * and the cost of the selections of a field with a list argument is multiplied by the requested size of the list, or
+ * by the maximum list size if the size is a variable or absent. The result only depends on the document, so it's
+ * cached for as long as the pre-parsed document itself is cached.
+ */
+@Named
+@RequiredArgsConstructor
+public class QueryCostCalculator {
+
+    private final CostProperties properties;
+
+    // Weak keys compare by identity, so an entry lives exactly as long as the cached pre-parsed document
+    private final Cache<Document, Map<String, Long>> costs = Caffeine.newBuilder().weakKeys().build();
+
+    public long calculate(GraphQLSchema schema, Document document, OperationDefinition operation) {
+        var operationCosts = costs.get(document, d -> new ConcurrentHashMap<>());
+        var key = Objects.requireNonNullElse(operation.getName(), "");
+        return operationCosts.computeIfAbsent(key, k -> {
+            var fragments = document.getDefinitionsOfType(FragmentDefinition.class).stream()
+                    .collect(Collectors.toMap(FragmentDefinition::getName, f -> f, (a, b) -> a));
+            var rootType = switch (operation.getOperation()) {
+                case MUTATION -> schema.getMutationType();
+                case SUBSCRIPTION -> schema.getSubscriptionType();
+                default -> schema.getQueryType();
+            };
+            return getCost(schema, operation.getSelectionSet(), rootType, fragments);
+        });
+    }
+
+    private long getCost(
+            GraphQLSchema schema,
+            SelectionSet selectionSet,
+            GraphQLCompositeType parentType,
+            Map<String, FragmentDefinition> fragments) {
+        if (selectionSet == null || parentType == null) {
+            return 0L;
+        }
+
+        long cost = 0L;
+        for (Selection<?> selection : selectionSet.getSelections()) {
+            long selectionCost =
+                    switch (selection) {
+                        case Field field -> getCost(schema, field, parentType, fragments);
+                        case FragmentSpread spread -> {
+                            var fragment = fragments.get(spread.getName());
+                            yield fragment != null
+                                    ? getCost(
+                                            schema,
+                                            fragment.getSelectionSet(),
+                                            getType(schema, fragment.getTypeCondition(), parentType),
+                                            fragments)
+                                    : 0L;
+                        }
+                        case InlineFragment fragment -> getCost(
+                                schema,
+                                fragment.getSelectionSet(),
+                                getType(schema, fragment.getTypeCondition(), parentType),
+                                fragments);
+                        default -> 0L;
+                    };
+            cost = LongMath.saturatedAdd(cost, selectionCost);
+        }
+
+        return cost;
+    }
+
+    private long getCost(
+            GraphQLSchema schema,
+            Field field,
+            GraphQLCompositeType parentType,
+            Map<String, FragmentDefinition> fragments) {
+        long cost = properties.getFieldCost(parentType.getName(), field.getName());
+        if (!(parentType instanceof GraphQLFieldsContainer container)) {
+            return cost;
+        }
+
+        // Introspection fields aren't part of the container and are bounded by the size of the schema
+        var definition = container.getFieldDefinition(field.getName());
+        if (definition == null) {
+            return cost;
+        }
+
+        var type = GraphQLTypeUtil.unwrapAll(definition.getType());
+        if (field.getSelectionSet() != null && type instanceof GraphQLCompositeType compositeType) {
+            long children = getCost(schema, field.getSelectionSet(), compositeType, fragments);
+            cost = LongMath.saturatedAdd(cost, LongMath.saturatedMultiply(getMultiplier(field, definition), children));
+        }
+
+        return cost;
+    }
+
+    private long getMultiplier(Field field, GraphQLFieldDefinition definition) {
+        long multiplier = 1L;
+
+        for (var argumentDefinition : definition.getArguments()) {
+            var name = argumentDefinition.getName();
+            if (!properties.getListArguments().contains(name)) {
+                continue;
+            }
+
+            long size = properties.getMaxListSize();
+            for (Argument argument : field.getArguments()) {
+                Value<?> value = argument.getValue();
+                if (argument.getName().equals(name) && value instanceof IntValue intValue) {
+                    size = Math.clamp(intValue.getValue().longValue(), 0L, size);
+                }
+            }
+
+            multiplier = Math.max(multiplier, size);
+        }
+
+        return multiplier;
+    }
+
+    private GraphQLCompositeType getType(GraphQLSchema schema, TypeName typeName, GraphQLCompositeType parentType) {
+        if (typeName != null && schema.getType(typeName.getName()) instanceof GraphQLCompositeType compositeType) {
+            return compositeType;
+        }
+
+        return parentType;
+    }
+}
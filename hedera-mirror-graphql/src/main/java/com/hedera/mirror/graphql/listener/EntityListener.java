@@ -0,0 +1,32 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.graphql.listener;
+
+import reactor.core.publisher.Flux;
+
+public interface EntityListener {
+
+    /**
+     * Listens for changes to an entity. Changes that occur while the subscriber is busy are conflated so a slow
+     * subscriber only receives the latest pending notification.
+     *
+     * @param entityId the id of the entity to listen for
+     * @return a stream of the entity id emitted every time the entity changes
+     * @throws IllegalStateException if listening is disabled or the maximum number of subscribers has been reached
+     */
+    Flux<Long> listen(long entityId);
+}
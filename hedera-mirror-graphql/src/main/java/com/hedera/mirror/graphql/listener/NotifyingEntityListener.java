@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.graphql.listener;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.inject.Named;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.sql.DataSource;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.SynchronousSink;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+/**
+ * Listens for the comma separated ids of changed entities the importer sends to the entity channel via PostgreSQL
+ * Notify. A single connection is dedicated to listening while there are subscribers and it is polled for
+ * notifications on a separate thread.
+ */
+@Named
+public class NotifyingEntityListener extends SharedEntityListener {
+
+    private static final String LISTEN_SQL = "listen entity";
+
+    private final DataSource dataSource;
+    private final Flux<Long> entityIds;
+
+    public NotifyingEntityListener(
+            DataSource dataSource, ListenerProperties listenerProperties, MeterRegistry meterRegistry) {
+        super(listenerProperties, meterRegistry);
+        this.dataSource = dataSource;
+
+        var interval = listenerProperties.getInterval();
+        entityIds = Flux.generate(this::connect, this::poll, this::close)
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapIterable(Arrays::asList)
+                .flatMapIterable(notification -> toEntityIds(notification.getParameter()))
+                .doOnError(t -> log.error("Error listening for entity changes", t))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, interval).maxBackoff(interval.multipliedBy(4L)));
+    }
+
+    @Override
+    protected Flux<Long> getSharedListener() {
+        return entityIds;
+    }
+
+    private Connection connect() throws SQLException {
+        var connection = dataSource.getConnection();
+        try (var statement = connection.createStatement()) {
+            statement.execute(LISTEN_SQL);
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+
+        log.info("Listening for entity changes");
+        return connection;
+    }
+
+    private Connection poll(Connection connection, SynchronousSink<PGNotification[]> sink) {
+        try {
+            int timeout = (int) listenerProperties.getInterval().toMillis();
+            var notifications = connection.unwrap(PGConnection.class).getNotifications(timeout);
+            sink.next(notifications != null ? notifications : new PGNotification[0]);
+        } catch (SQLException e) {
+            sink.error(e);
+        }
+
+        return connection;
+    }
+
+    private void close(Connection connection) {
+        try {
+            connection.close();
+            log.info("Stopped listening for entity changes");
+        } catch (SQLException e) {
+            log.warn("Unable to close connection", e);
+        }
+    }
+
+    private List<Long> toEntityIds(String payload) {
+        var ids = new ArrayList<Long>();
+        for (var id : payload.split(",")) {
+            try {
+                ids.add(Long.parseLong(id));
+            } catch (NumberFormatException e) {
+                // Discard invalid ids. No need to propagate error and cause a reconnect.
+                log.error("Error parsing entity id {}", id);
+            }
+        }
+
+        return ids;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.graphql.listener;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.FluxSink.OverflowStrategy;
+
+/**
+ * Demultiplexes a single stream of changed entity ids shared by all subscribers. The shared stream is connected when
+ * the first subscriber arrives and disconnected after the last one leaves. Each subscriber has its own sink that only
+ * keeps the latest notification, so a slow subscriber never holds up the shared stream or other subscribers.
+ */
+public abstract class SharedEntityListener implements EntityListener {
+
+    static final String METRIC = "hedera.mirror.graphql.subscribers";
+
+    protected final Logger log = LoggerFactory.getLogger(getClass());
+    protected final ListenerProperties listenerProperties;
+    private final AtomicInteger count = new AtomicInteger();
+    private final Flux<Long> entityIds;
+    private final Map<Long, Set<FluxSink<Long>>> subscribers = new ConcurrentHashMap<>();
+
+    protected SharedEntityListener(ListenerProperties listenerProperties, MeterRegistry meterRegistry) {
+        this.listenerProperties = listenerProperties;
+        this.entityIds = Flux.defer(this::getSharedListener).doOnNext(this::dispatch).share();
+        Gauge.builder(METRIC, count, AtomicInteger::get)
+                .description("The number of active GraphQL subscribers")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Flux<Long> listen(long entityId) {
+        if (!listenerProperties.isEnabled()) {
+            throw new IllegalStateException("Subscriptions are disabled");
+        }
+
+        return Flux.create(
+                sink -> {
+                    // Reserve the slot atomically so concurrent subscribers can't exceed the limit
+                    if (count.incrementAndGet() > listenerProperties.getMaxSubscribers()) {
+                        count.decrementAndGet();
+                        sink.error(new IllegalStateException("Maximum number of subscribers reached"));
+                        return;
+                    }
+
+                    add(entityId, sink);
+                    var connection = entityIds.subscribe();
+                    sink.onDispose(() -> {
+                        remove(entityId, sink);
+                        connection.dispose();
+                    });
+                },
+                OverflowStrategy.LATEST);
+    }
+
+    /**
+     * Gets the stream of changed entity ids. It's subscribed to at most once at a time and should retry on errors.
+     *
+     * @return the ids of the entities as they change
+     */
+    protected abstract Flux<Long> getSharedListener();
+
+    private void add(long entityId, FluxSink<Long> sink) {
+        subscribers.compute(entityId, (id, sinks) -> {
+            var result = sinks != null ? sinks : ConcurrentHashMap.<FluxSink<Long>>newKeySet();
+            result.add(sink);
+            return result;
+        });
+        log.debug("Subscribed to entity {}", entityId);
+    }
+
+    private void dispatch(Long entityId) {
+        var sinks = subscribers.get(entityId);
+        if (sinks != null) {
+            sinks.forEach(sink -> sink.next(entityId));
+        }
+    }
+
+    private void remove(long entityId, FluxSink<Long> sink) {
+        subscribers.computeIfPresent(entityId, (id, sinks) -> {
+            sinks.remove(sink);
+            return sinks.isEmpty() ? null : sinks;
+        });
+        count.decrementAndGet();
+        log.debug("Unsubscribed from entity {}", entityId);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.graphql.mapper;
+
+import com.hedera.mirror.graphql.viewmodel.CryptoTransfer;
+import com.hedera.mirror.graphql.viewmodel.EntityId;
+import com.hedera.mirror.graphql.viewmodel.Transaction;
+import com.hedera.mirror.graphql.viewmodel.TransactionType;
+import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
+import java.time.Instant;
+import org.apache.commons.lang3.EnumUtils;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
+
+@Mapper(uses = CommonMapper.class)
+public interface TransactionMapper {
+
+    @Mapping(source = "consensusTimestamp", target = "consensusTimestamp", qualifiedByName = "timestamp")
+    @Mapping(source = "entityId", target = "entityId", qualifiedByName = "entityId")
+    CryptoTransfer map(com.hedera.mirror.common.domain.transaction.CryptoTransfer source);
+
+    @Mapping(source = "result", target = "result", qualifiedByName = "result")
+    @Mapping(source = "type", target = "type", qualifiedByName = "type")
+    @Mapping(source = "validStartNs", target = "validStartTimestamp")
+    Transaction map(com.hedera.mirror.common.domain.transaction.Transaction source);
+
+    @Named("entityId")
+    default EntityId mapEntityId(long source) {
+        var entityId = com.hedera.mirror.common.domain.entity.EntityId.of(source);
+        var viewModel = new EntityId();
+        viewModel.setShard(entityId.getShard());
+        viewModel.setRealm(entityId.getRealm());
+        viewModel.setNum(entityId.getNum());
+        return viewModel;
+    }
+
+    @Named("result")
+    default String mapResult(Integer source) {
+        if (source == null) {
+            return null;
+        }
+
+        var result = ResponseCodeEnum.forNumber(source);
+        return result != null ? result.name() : source.toString();
+    }
+
+    @Named("timestamp")
+    default Instant mapTimestamp(long source) {
+        return Instant.ofEpochSecond(0L, source);
+    }
+
+    @Named("type")
+    default TransactionType mapType(Integer source) {
+        if (source == null) {
+            return null;
+        }
+
+        // A type added to the importer before the schema is mapped to UNKNOWN instead of failing the whole query
+        var type = com.hedera.mirror.common.domain.transaction.TransactionType.of(source);
+        return EnumUtils.getEnum(TransactionType.class, type.name(), TransactionType.UNKNOWN);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.graphql.repository;
+
+import com.hedera.mirror.common.domain.transaction.CryptoTransfer;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+
+/**
+ * Finds a keyset page of hbar transfers for each of a batch of accounts. Every page is an index range scan of
+ * crypto_transfer__entity_id_consensus_timestamp so the cost of a page is independent of its position.
+ */
+public interface CryptoTransferRepository extends CrudRepository<CryptoTransfer, CryptoTransfer.Id> {
+
+    @Query(
+            value =
+                    """
+            select c.* from unnest(array[?1]) as a(id)
+            cross join lateral (
+              select * from crypto_transfer
+              where entity_id = a.id and consensus_timestamp >= ?2 and consensus_timestamp <= ?4
+                and (consensus_timestamp, amount) > (?2, ?3) and (consensus_timestamp, amount) < (?4, ?5)
+              order by consensus_timestamp, amount
+              limit ?6
+            ) c
+            order by c.entity_id, c.consensus_timestamp, c.amount
+            """,
+            nativeQuery = true)
+    List<CryptoTransfer> findAscending(
+            Collection<Long> accounts,
+            long lowerTimestamp,
+            long lowerAmount,
+            long upperTimestamp,
+            long upperAmount,
+            int limit);
+
+    @Query(
+            value =
+                    """
+            select c.* from unnest(array[?1]) as a(id)
+            cross join lateral (
+              select * from crypto_transfer
+              where entity_id = a.id and consensus_timestamp >= ?2 and consensus_timestamp <= ?4
+                and (consensus_timestamp, amount) > (?2, ?3) and (consensus_timestamp, amount) < (?4, ?5)
+              order by consensus_timestamp desc, amount desc
+              limit ?6
+            ) c
+            order by c.entity_id, c.consensus_timestamp desc, c.amount desc
+            """,
+            nativeQuery = true)
+    List<CryptoTransfer> findDescending(
+            Collection<Long> accounts,
+            long lowerTimestamp,
+            long lowerAmount,
+            long upperTimestamp,
+            long upperAmount,
+            int limit);
+}
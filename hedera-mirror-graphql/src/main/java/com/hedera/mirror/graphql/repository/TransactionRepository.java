@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.graphql.repository;
+
+import com.hedera.mirror.common.domain.transaction.Transaction;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+
+/**
+ * Finds a keyset page of transactions for each of a batch of payers. Every page is an index range scan of
+ * transaction__payer_account_id_consensus_ns so the cost of a page is independent of its position.
+ */
+public interface TransactionRepository extends CrudRepository<Transaction, Long> {
+
+    @Query(
+            value =
+                    """
+            select t.* from unnest(array[?1]) as p(id)
+            cross join lateral (
+              select * from transaction
+              where payer_account_id = p.id and consensus_timestamp > ?2 and consensus_timestamp < ?3
+              order by consensus_timestamp
+              limit ?4
+            ) t
+            order by t.payer_account_id, t.consensus_timestamp
+            """,
+            nativeQuery = true)
+    List<Transaction> findAscending(Collection<Long> payers, long lower, long upper, int limit);
+
+    @Query(
+            value =
+                    """
+            select t.* from unnest(array[?1]) as p(id)
+            cross join lateral (
+              select * from transaction
+              where payer_account_id = p.id and consensus_timestamp > ?2 and consensus_timestamp < ?3
+              order by consensus_timestamp desc
+              limit ?4
+            ) t
+            order by t.payer_account_id, t.consensus_timestamp desc
+            """,
+            nativeQuery = true)
+    List<Transaction> findDescending(Collection<Long> payers, long lower, long upper, int limit);
+}
@@ -19,12 +19,16 @@ package com.hedera.mirror.graphql.service;
 import com.hedera.mirror.common.domain.entity.Entity;
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.entity.EntityType;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 public interface EntityService {
 
     Optional<Entity> getByIdAndType(EntityId entityId, EntityType type);
 
+    Map<Long, Entity> getByIdsAndType(Collection<Long> ids, EntityType type);
+
     Optional<Entity> getByAliasAndType(String alias, EntityType type);
 
     Optional<Entity> getByEvmAddressAndType(String evmAddress, EntityType type);
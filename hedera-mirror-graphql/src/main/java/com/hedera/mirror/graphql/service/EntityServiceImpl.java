@@ -25,6 +25,9 @@ import com.hedera.mirror.common.domain.entity.EntityType;
 import com.hedera.mirror.graphql.repository.EntityRepository;
 import jakarta.inject.Named;
 import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 
@@ -39,6 +42,22 @@ public class EntityServiceImpl implements EntityService {
         return entityRepository.findById(entityId.getId()).filter(e -> e.getType() == type);
     }
 
+    @Override
+    public Map<Long, Entity> getByIdsAndType(Collection<Long> ids, EntityType type) {
+        var entities = new HashMap<Long, Entity>();
+        if (ids.isEmpty()) {
+            return entities;
+        }
+
+        for (var entity : entityRepository.findAllById(ids)) {
+            if (entity.getType() == type) {
+                entities.put(entity.getId(), entity);
+            }
+        }
+
+        return entities;
+    }
+
     @Override
     public Optional<Entity> getByAliasAndType(String alias, EntityType type) {
         return entityRepository.findByAlias(decodeBase32(alias)).filter(e -> e.getType() == type);
@@ -0,0 +1,30 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.graphql.service;
+
+/**
+ * A position in a page of rows ordered by consensus timestamp and then by a tiebreaker column, so rows that share a
+ * consensus timestamp are never skipped when a page boundary falls between them.
+ *
+ * @param timestamp  The consensus timestamp of the row
+ * @param tiebreaker The value of the tiebreaker column of the row
+ */
+public record PageCursor(long timestamp, long tiebreaker) {
+
+    public static final PageCursor MAX = new PageCursor(Long.MAX_VALUE, Long.MAX_VALUE);
+    public static final PageCursor MIN = new PageCursor(Long.MIN_VALUE, Long.MIN_VALUE);
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.graphql.service;
+
+import java.util.List;
+
+/**
+ * A keyset page of rows ordered by consensus timestamp and tiebreaker, newest first. The bounds are exclusive. A page
+ * in descending order starts at the upper bound and a page in ascending order starts at the lower bound, so the rows
+ * closest to the cursor are always selected.
+ *
+ * @param lower      The exclusive lower bound of the consensus timestamp and tiebreaker
+ * @param upper      The exclusive upper bound of the consensus timestamp and tiebreaker
+ * @param size       The maximum number of rows of the page
+ * @param descending Whether the rows are selected in descending order of consensus timestamp
+ */
+public record TimestampPage(PageCursor lower, PageCursor upper, int size, boolean descending) {
+
+    /**
+     * Gets the number of rows to query. It includes one extra row to tell whether there are more rows past the page.
+     */
+    public int limit() {
+        return size + 1;
+    }
+
+    /**
+     * Trims the queried rows to the page size and orders them newest first.
+     *
+     * @param rows The rows in query order
+     * @return The rows of the page
+     */
+    public <T> List<T> toPage(List<T> rows) {
+        var page = rows.size() > size ? rows.subList(0, size) : rows;
+        return descending ? page : page.reversed();
+    }
+
+    /**
+     * Whether there are more rows past the page in query order.
+     *
+     * @param rows The rows in query order
+     */
+    public boolean hasMore(List<?> rows) {
+        return rows.size() > size;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.graphql.service;
+
+import static java.util.stream.Collectors.groupingBy;
+
+import com.hedera.mirror.common.domain.transaction.CryptoTransfer;
+import com.hedera.mirror.common.domain.transaction.Transaction;
+import com.hedera.mirror.graphql.repository.CryptoTransferRepository;
+import com.hedera.mirror.graphql.repository.TransactionRepository;
+import jakarta.inject.Named;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+
+@Named
+@RequiredArgsConstructor
+public class TransactionServiceImpl implements TransactionService {
+
+    private final CryptoTransferRepository cryptoTransferRepository;
+    private final TransactionRepository transactionRepository;
+
+    @Override
+    public Map<Long, List<CryptoTransfer>> getCryptoTransfers(Collection<Long> accountIds, TimestampPage page) {
+        if (accountIds.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        var lower = page.lower();
+        var upper = page.upper();
+        var cryptoTransfers = page.descending()
+                ? cryptoTransferRepository.findDescending(
+                        accountIds,
+                        lower.timestamp(),
+                        lower.tiebreaker(),
+                        upper.timestamp(),
+                        upper.tiebreaker(),
+                        page.limit())
+                : cryptoTransferRepository.findAscending(
+                        accountIds,
+                        lower.timestamp(),
+                        lower.tiebreaker(),
+                        upper.timestamp(),
+                        upper.tiebreaker(),
+                        page.limit());
+        return cryptoTransfers.stream().collect(groupingBy(CryptoTransfer::getEntityId));
+    }
+
+    @Override
+    public Map<Long, List<Transaction>> getTransactions(Collection<Long> payerAccountIds, TimestampPage page) {
+        if (payerAccountIds.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        // The consensus timestamp of a transaction is unique, so its cursor doesn't need a tiebreaker
+        long lower = page.lower().timestamp();
+        long upper = page.upper().timestamp();
+        var transactions = page.descending()
+                ? transactionRepository.findDescending(payerAccountIds, lower, upper, page.limit())
+                : transactionRepository.findAscending(payerAccountIds, lower, upper, page.limit());
+        return transactions.stream().collect(groupingBy(t -> t.getPayerAccountId().getId()));
+    }
+}
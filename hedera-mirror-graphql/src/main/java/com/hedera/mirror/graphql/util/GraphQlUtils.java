@@ -18,9 +18,12 @@ package com.hedera.mirror.graphql.util;
 
 import com.google.common.base.Splitter;
 import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.graphql.service.PageCursor;
 import com.hedera.mirror.graphql.viewmodel.HbarUnit;
 import com.hedera.mirror.graphql.viewmodel.Node;
+import java.net.InetSocketAddress;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
 import java.util.function.Function;
@@ -30,12 +33,18 @@ import org.apache.commons.codec.binary.Base32;
 import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.util.CollectionUtils;
 
 @UtilityClass
 public class GraphQlUtils {
 
+    public static final String X_FORWARDED_FOR = "X-Forwarded-For";
+
     private static final Base32 BASE32 = new Base32();
+    private static final Splitter FORWARDED_SPLITTER = Splitter.on(',').omitEmptyStrings().trimResults();
     private static final String HEX_PREFIX = "0x";
+    private static final String LOCALHOST = "127.0.0.1";
     private static final Splitter SPLITTER = Splitter.on(':');
 
     public static Long convertCurrency(HbarUnit unit, Long tinybars) {
@@ -58,6 +67,70 @@ public class GraphQlUtils {
         };
     }
 
+    /**
+     * Decodes an opaque pagination cursor into the consensus timestamp and tiebreaker it points at.
+     *
+     * @param cursor The base64 encoded cursor
+     * @return The position of the cursor
+     * @throws IllegalArgumentException if the cursor is not valid
+     */
+    public static PageCursor decodeCursor(String cursor) {
+        try {
+            var value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            var parts = SPLITTER.splitToList(value);
+            if (parts.size() != 2) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+
+            return new PageCursor(Long.parseLong(parts.get(0)), Long.parseLong(parts.get(1)));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    public static String encodeCursor(long consensusTimestamp, long tiebreaker) {
+        var value = (consensusTimestamp + ":" + tiebreaker).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value);
+    }
+
+    public static String getClient(ServerHttpRequest request) {
+        String xForwardedFor = CollectionUtils.firstElement(request.getHeaders().get(X_FORWARDED_FOR));
+
+        if (StringUtils.isNotBlank(xForwardedFor)) {
+            return xForwardedFor;
+        }
+
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+
+        if (remoteAddress != null && remoteAddress.getAddress() != null) {
+            return remoteAddress.getAddress().toString();
+        }
+
+        return LOCALHOST;
+    }
+
+    /**
+     * Resolves the client of a request in a way that can't be spoofed. X-Forwarded-For is client controlled, so only
+     * the entries appended by the given number of trusted proxies in front of the server are believed.
+     *
+     * @param request        the HTTP request
+     * @param trustedProxies the number of trusted proxies in front of the server
+     * @return the client's IP address
+     */
+    public static String getClient(ServerHttpRequest request, int trustedProxies) {
+        var hops = new ArrayList<String>();
+        request.getHeaders().getOrEmpty(X_FORWARDED_FOR).forEach(h -> hops.addAll(FORWARDED_SPLITTER.splitToList(h)));
+
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        if (remoteAddress != null && remoteAddress.getAddress() != null) {
+            hops.add(remoteAddress.getAddress().getHostAddress());
+        } else {
+            hops.add(LOCALHOST);
+        }
+
+        return hops.get(Math.max(0, hops.size() - 1 - trustedProxies));
+    }
+
     public static <T> T getId(Node node, Function<List<String>, T> converter) {
         var id = new String(Base64.getDecoder().decode(node.getId()), StandardCharsets.UTF_8);
         var parts = SPLITTER.splitToList(id);
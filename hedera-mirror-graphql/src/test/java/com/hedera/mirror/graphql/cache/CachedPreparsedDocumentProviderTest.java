@@ -0,0 +1,167 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.graphql.cache;
+
+import static com.hedera.mirror.graphql.cache.CachedPreparsedDocumentProvider.PERSISTED_QUERY;
+import static com.hedera.mirror.graphql.cache.CachedPreparsedDocumentProvider.SHA256_HASH;
+import static graphql.execution.preparsed.persisted.PersistedQuerySupport.PERSISTED_QUERY_MARKER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import graphql.ExecutionInput;
+import graphql.GraphQLError;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.language.Document;
+import graphql.parser.Parser;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.assertj.core.api.AbstractStringAssert;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CachedPreparsedDocumentProviderTest {
+
+    private static final String QUERY = "query { account(input: {entityId: {num: 1}}) { balance } }";
+    private static final String HASH = DigestUtils.sha256Hex(QUERY);
+
+    private final AtomicInteger parsed = new AtomicInteger();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private CacheProperties cacheProperties;
+    private PersistedQueryProperties persistedQueryProperties;
+
+    @TempDir
+    private Path tempDir;
+
+    @BeforeEach
+    void setup() {
+        cacheProperties = new CacheProperties();
+        persistedQueryProperties = new PersistedQueryProperties();
+    }
+
+    @Test
+    void query() {
+        var provider = provider();
+        assertThat(document(provider, QUERY, null)).isNotNull();
+        assertThat(document(provider, QUERY, null)).isNotNull();
+        assertThat(parsed).hasValue(1);
+    }
+
+    @Test
+    void persistedQuery() {
+        var provider = provider();
+        assertError(provider, PERSISTED_QUERY_MARKER, HASH).isEqualTo("PersistedQueryNotFound");
+        assertThat(document(provider, QUERY, HASH)).isNotNull();
+        assertThat(document(provider, PERSISTED_QUERY_MARKER, HASH)).isNotNull();
+        assertThat(document(provider, QUERY, HASH.toUpperCase())).isNotNull();
+        assertThat(parsed).hasValue(1);
+    }
+
+    @Test
+    void persistedQueryInvalidHash() {
+        var provider = provider();
+        var hash = DigestUtils.sha256Hex("query { other }");
+        assertError(provider, QUERY, hash).isEqualTo("PersistedQueryIdInvalid");
+        assertError(provider, "", hash).isEqualTo("PersistedQueryNotFound");
+        assertThat(parsed).hasValue(0);
+    }
+
+    @Test
+    void persistedQueryDisabled() {
+        persistedQueryProperties.setEnabled(false);
+        var provider = provider();
+        assertThat(document(provider, QUERY, HASH)).isNotNull();
+        assertThat(document(provider, QUERY, HASH)).isNotNull();
+        assertThat(parsed).hasValue(1);
+    }
+
+    @Test
+    void allowList() throws IOException {
+        persistedQueryProperties.setAllowList(allowList(Map.of(HASH.toUpperCase(), QUERY)));
+        var provider = provider();
+        var other = "query { other }";
+        assertThat(document(provider, PERSISTED_QUERY_MARKER, HASH)).isNotNull();
+        assertThat(document(provider, other, DigestUtils.sha256Hex(other))).isNotNull();
+        assertThat(parsed).hasValue(2);
+    }
+
+    @Test
+    void allowListOnly() throws IOException {
+        persistedQueryProperties.setAllowList(allowList(Map.of(HASH, QUERY)));
+        persistedQueryProperties.setAllowListOnly(true);
+        var provider = provider();
+        var other = "query { other }";
+        assertThat(document(provider, PERSISTED_QUERY_MARKER, HASH)).isNotNull();
+        assertThat(document(provider, QUERY, null)).isNotNull();
+        assertError(provider, other, DigestUtils.sha256Hex(other)).isEqualTo("Query is not in the allow list");
+        assertError(provider, other, null).isEqualTo("Query is not in the allow list");
+        assertThat(parsed).hasValue(2);
+    }
+
+    @Test
+    void allowListInvalid() throws IOException {
+        persistedQueryProperties.setAllowList(allowList(Map.of(DigestUtils.sha256Hex("query { other }"), QUERY)));
+        assertThatThrownBy(this::provider)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("does not match its query");
+
+        persistedQueryProperties.setAllowList(tempDir.resolve("missing.json"));
+        assertThatThrownBy(this::provider).hasMessageContaining("Unable to read allow list");
+    }
+
+    @Test
+    void allowListRequired() {
+        persistedQueryProperties.setAllowListOnly(true);
+        assertThatThrownBy(this::provider).isInstanceOf(IllegalStateException.class);
+    }
+
+    private Path allowList(Map<String, String> queries) throws IOException {
+        var path = tempDir.resolve("allowList.json");
+        Files.writeString(path, objectMapper.writeValueAsString(queries));
+        return path;
+    }
+
+    private AbstractStringAssert<?> assertError(CachedPreparsedDocumentProvider provider, String query, String hash) {
+        var entry = provider.getDocument(input(query, hash), this::parse);
+        assertThat(entry.hasErrors()).isTrue();
+        return assertThat(entry.getErrors()).hasSize(1).first().extracting(GraphQLError::getMessage).asString();
+    }
+
+    private ExecutionInput input(String query, String hash) {
+        Map<String, Object> extensions = hash != null ? Map.of(PERSISTED_QUERY, Map.of(SHA256_HASH, hash)) : Map.of();
+        return ExecutionInput.newExecutionInput(query).extensions(extensions).build();
+    }
+
+    private PreparsedDocumentEntry parse(ExecutionInput executionInput) {
+        parsed.incrementAndGet();
+        return new PreparsedDocumentEntry(Parser.parse(executionInput.getQuery()));
+    }
+
+    private Document document(CachedPreparsedDocumentProvider provider, String query, String hash) {
+        return provider.getDocument(input(query, hash), this::parse).getDocument();
+    }
+
+    private CachedPreparsedDocumentProvider provider() {
+        return new CachedPreparsedDocumentProvider(cacheProperties, objectMapper, persistedQueryProperties);
+    }
+}
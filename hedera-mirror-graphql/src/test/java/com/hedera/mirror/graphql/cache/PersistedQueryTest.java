@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.graphql.cache;
+
+import static com.hedera.mirror.graphql.cache.CachedPreparsedDocumentProvider.PERSISTED_QUERY;
+import static com.hedera.mirror.graphql.cache.CachedPreparsedDocumentProvider.SHA256_HASH;
+
+import com.hedera.mirror.graphql.GraphqlIntegrationTest;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.graphql.tester.AutoConfigureHttpGraphQlTester;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.test.web.reactive.server.WebTestClient.BodyContentSpec;
+
+@AutoConfigureHttpGraphQlTester
+@RequiredArgsConstructor
+class PersistedQueryTest extends GraphqlIntegrationTest {
+
+    private static final String QUERY = "query { account(input: {entityId: {num: 999}}) { balance } }";
+
+    private final WebTestClient webTestClient;
+
+    @Test
+    void handshake() {
+        var extensions = Map.of(PERSISTED_QUERY, Map.of("version", 1, SHA256_HASH, DigestUtils.sha256Hex(QUERY)));
+
+        post(Map.of("extensions", extensions))
+                .jsonPath("$.errors[0].message")
+                .isEqualTo("PersistedQueryNotFound");
+        post(Map.of("extensions", extensions, "query", QUERY))
+                .jsonPath("$.errors")
+                .doesNotExist()
+                .jsonPath("$.data")
+                .exists();
+        post(Map.of("extensions", extensions))
+                .jsonPath("$.errors")
+                .doesNotExist()
+                .jsonPath("$.data")
+                .exists();
+    }
+
+    @Test
+    void invalidHash() {
+        var extensions = Map.of(PERSISTED_QUERY, Map.of("version", 1, SHA256_HASH, DigestUtils.sha256Hex("query")));
+
+        post(Map.of("extensions", extensions, "query", QUERY))
+                .jsonPath("$.errors[0].message")
+                .isEqualTo("PersistedQueryIdInvalid");
+    }
+
+    private BodyContentSpec post(Map<String, Object> body) {
+        return webTestClient
+                .post()
+                .uri("/graphql/alpha")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectBody();
+    }
+}
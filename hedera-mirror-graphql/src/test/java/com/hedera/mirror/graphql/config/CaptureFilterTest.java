@@ -0,0 +1,202 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.graphql.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hedera.mirror.graphql.config.CaptureFilter.CapturedRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class CaptureFilterTest {
+
+    private static final String BODY = "{\"query\":\"{account(input: {entityId: {num: 98}}) {balance}}\"}";
+    private static final String PATH = "/graphql/alpha";
+    private static final Duration WAIT = Duration.ofSeconds(10L);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final CaptureProperties properties = new CaptureProperties();
+
+    @TempDir
+    private Path tempDir;
+
+    @BeforeEach
+    void setup() {
+        properties.setEnabled(true);
+        properties.setPath(tempDir.resolve("capture.jsonl"));
+    }
+
+    @Test
+    @SneakyThrows
+    void capture() {
+        var captureFilter = new CaptureFilter(properties);
+        var exchange = MockServerWebExchange.from(MockServerHttpRequest.post(PATH + "?client=test")
+                .body(BODY));
+        exchange.getResponse().setStatusCode(HttpStatus.OK);
+
+        StepVerifier.create(captureFilter.filter(exchange, e -> e.getRequest()
+                        .getBody()
+                        .then(Mono.defer(() -> e.getResponse().setComplete()))))
+                .expectComplete()
+                .verify(WAIT);
+        captureFilter.destroy();
+
+        assertThat(read())
+                .hasSize(1)
+                .first()
+                .returns("POST", CapturedRequest::method)
+                .returns(PATH, CapturedRequest::path)
+                .returns("client=test", CapturedRequest::query)
+                .returns(BODY, CapturedRequest::body)
+                .returns(null, CapturedRequest::headers)
+                .returns(HttpStatus.OK.value(), CapturedRequest::status)
+                .satisfies(c -> assertThat(c.offset()).isNotNegative())
+                .satisfies(c -> assertThat(c.latency()).isNotNegative());
+    }
+
+    @Test
+    @SneakyThrows
+    void captureMaxBodySize() {
+        properties.setMaxBodySize(8);
+        var captureFilter = new CaptureFilter(properties);
+        var exchange = MockServerWebExchange.from(MockServerHttpRequest.post(PATH).body(BODY));
+
+        StepVerifier.create(captureFilter.filter(exchange, e -> e.getRequest()
+                        .getBody()
+                        .then(Mono.defer(() -> e.getResponse().setComplete()))))
+                .expectComplete()
+                .verify(WAIT);
+        captureFilter.destroy();
+
+        assertThat(read()).hasSize(1).first().returns(BODY.substring(0, 8), CapturedRequest::body);
+    }
+
+    @Test
+    @SneakyThrows
+    void captureHeaders() {
+        var captureFilter = new CaptureFilter(properties);
+        var exchange = MockServerWebExchange.from(MockServerHttpRequest.post(PATH)
+                .accept(MediaType.APPLICATION_GRAPHQL_RESPONSE)
+                .header(HttpHeaders.USER_AGENT, "test")
+                .body(BODY));
+
+        StepVerifier.create(captureFilter.filter(exchange, e -> e.getResponse().setComplete()))
+                .expectComplete()
+                .verify(WAIT);
+        captureFilter.destroy();
+
+        assertThat(read())
+                .hasSize(1)
+                .first()
+                .returns(
+                        Map.of(HttpHeaders.ACCEPT, MediaType.APPLICATION_GRAPHQL_RESPONSE_VALUE),
+                        CapturedRequest::headers);
+    }
+
+    @Test
+    @SneakyThrows
+    void captureMany() {
+        var captureFilter = new CaptureFilter(properties);
+        int count = 100;
+
+        for (int i = 0; i < count; i++) {
+            var exchange = MockServerWebExchange.from(MockServerHttpRequest.get(PATH + "?id=" + i));
+            StepVerifier.create(captureFilter.filter(exchange, e -> e.getResponse().setComplete()))
+                    .expectComplete()
+                    .verify(WAIT);
+        }
+        captureFilter.destroy();
+
+        assertThat(read())
+                .hasSize(count)
+                .extracting(CapturedRequest::query)
+                .startsWith("id=0", "id=1")
+                .endsWith("id=" + (count - 1));
+    }
+
+    @Test
+    @SneakyThrows
+    void captureError() {
+        var captureFilter = new CaptureFilter(properties);
+        var exchange = MockServerWebExchange.from(MockServerHttpRequest.get(PATH));
+
+        StepVerifier.create(captureFilter.filter(exchange, e -> Mono.error(new IllegalStateException("error"))))
+                .expectError(IllegalStateException.class)
+                .verify(WAIT);
+        captureFilter.destroy();
+
+        assertThat(read())
+                .hasSize(1)
+                .first()
+                .returns(null, CapturedRequest::body)
+                .returns(HttpStatus.INTERNAL_SERVER_ERROR.value(), CapturedRequest::status);
+    }
+
+    @Test
+    @SneakyThrows
+    void actuator() {
+        var captureFilter = new CaptureFilter(properties);
+        var exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/actuator/health"));
+
+        StepVerifier.create(captureFilter.filter(exchange, e -> e.getResponse().setComplete()))
+                .expectComplete()
+                .verify(WAIT);
+        captureFilter.destroy();
+
+        assertThat(read()).isEmpty();
+    }
+
+    @Test
+    @SneakyThrows
+    void disabled() {
+        properties.setEnabled(false);
+        var captureFilter = new CaptureFilter(properties);
+        var exchange = MockServerWebExchange.from(MockServerHttpRequest.get(PATH));
+
+        StepVerifier.create(captureFilter.filter(exchange, e -> e.getResponse().setComplete()))
+                .expectComplete()
+                .verify(WAIT);
+        captureFilter.destroy();
+
+        assertThat(properties.getPath()).doesNotExist();
+    }
+
+    @SneakyThrows
+    private List<CapturedRequest> read() {
+        var capturedRequests = new ArrayList<CapturedRequest>();
+        for (var line : Files.readAllLines(properties.getPath())) {
+            capturedRequests.add(objectMapper.readValue(line, CapturedRequest.class));
+        }
+        return capturedRequests;
+    }
+}
@@ -18,6 +18,7 @@ package com.hedera.mirror.graphql.config;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.hedera.mirror.graphql.util.GraphQlUtils;
 import java.time.Duration;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -72,7 +73,7 @@ class LoggingFilterTest {
     void filterXForwardedFor(CapturedOutput output) {
         String clientIp = "10.0.0.100";
         var exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/")
-                .header(LoggingFilter.X_FORWARDED_FOR, clientIp)
+                .header(GraphQlUtils.X_FORWARDED_FOR, clientIp)
                 .build());
         exchange.getResponse().setRawStatusCode(200);
 
@@ -18,24 +18,39 @@ package com.hedera.mirror.graphql.controller;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.graphql.GraphqlIntegrationTest;
+import com.hedera.mirror.graphql.config.QueryCountInstrumentation;
 import com.hedera.mirror.graphql.mapper.AccountMapper;
 import com.hedera.mirror.graphql.viewmodel.Account;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.codec.binary.Base32;
 import org.apache.commons.codec.binary.Hex;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.boot.test.autoconfigure.graphql.tester.AutoConfigureHttpGraphQlTester;
+import org.springframework.graphql.ExecutionGraphQlService;
 import org.springframework.graphql.ResponseError;
+import org.springframework.graphql.test.tester.ExecutionGraphQlServiceTester;
 import org.springframework.graphql.test.tester.HttpGraphQlTester;
+import org.springframework.jdbc.core.JdbcTemplate;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
 
 @AutoConfigureHttpGraphQlTester
 @RequiredArgsConstructor
 class AccountControllerTest extends GraphqlIntegrationTest {
 
     private final AccountMapper accountMapper;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ExecutionGraphQlService graphQlService;
+    private final JdbcTemplate jdbcTemplate;
     private final HttpGraphQlTester tester;
 
     @CsvSource(
@@ -224,4 +239,127 @@ class AccountControllerTest extends GraphqlIntegrationTest {
                 .entity(Long.class)
                 .isEqualTo(entity.getBalance() / 100_000_000L);
     }
+
+    @Test
+    void nested() {
+        var staked = domainBuilder.entity().persist();
+        var autoRenew = domainBuilder
+                .entity()
+                .customize(e -> e.stakedAccountId(staked.getId()))
+                .persist();
+        var obtainer = domainBuilder.entity().persist();
+        var entity = domainBuilder
+                .entity()
+                .customize(e -> e.autoRenewAccountId(autoRenew.getId())
+                        .obtainerId(obtainer.toEntityId())
+                        .stakedAccountId(staked.getId()))
+                .persist();
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long statements = statistics.getPrepareStatementCount();
+        var summary = meterRegistry.find(QueryCountInstrumentation.METRIC).summary();
+        double queries = summary.totalAmount();
+
+        var response = tester.document(
+                        """
+                        query Account($id: Long!) {
+                          account(input: { entityId: { num: $id } }) {
+                            autoRenewAccount {
+                              entityId { num }
+                              stakedAccount { entityId { num } }
+                            }
+                            obtainer { entityId { num } }
+                            stakedAccount { entityId { num } }
+                          }
+                        }
+                        """)
+                .variable("id", entity.getNum())
+                .execute()
+                .errors()
+                .verify();
+
+        response.path("account.autoRenewAccount.entityId.num").entity(Long.class).isEqualTo(autoRenew.getNum());
+        response.path("account.autoRenewAccount.stakedAccount.entityId.num")
+                .entity(Long.class)
+                .isEqualTo(staked.getNum());
+        response.path("account.obtainer.entityId.num").entity(Long.class).isEqualTo(obtainer.getNum());
+        response.path("account.stakedAccount.entityId.num").entity(Long.class).isEqualTo(staked.getNum());
+
+        // One query for the account and one per level of nested accounts
+        assertThat(statistics.getPrepareStatementCount() - statements).isEqualTo(3);
+        assertThat(summary.totalAmount() - queries).isEqualTo(3);
+    }
+
+    @Test
+    void nestedMissing() {
+        var entity = domainBuilder
+                .entity()
+                .customize(e -> e.autoRenewAccountId(null)
+                        .obtainerId(EntityId.EMPTY)
+                        .stakedAccountId(domainBuilder.id()))
+                .persist();
+        var summary = meterRegistry.find(QueryCountInstrumentation.METRIC).summary();
+        double queries = summary.totalAmount();
+
+        var response = tester.document(
+                        """
+                        query Account($id: Long!) {
+                          account(input: { entityId: { num: $id } }) {
+                            autoRenewAccount { entityId { num } }
+                            obtainer { entityId { num } }
+                            stakedAccount { entityId { num } }
+                          }
+                        }
+                        """)
+                .variable("id", entity.getNum())
+                .execute()
+                .errors()
+                .verify();
+
+        response.path("account.autoRenewAccount").valueIsNull();
+        response.path("account.obtainer").valueIsNull();
+        response.path("account.stakedAccount").valueIsNull();
+        assertThat(summary.totalAmount() - queries).isEqualTo(2);
+    }
+
+    @Test
+    void subscription() {
+        var entity = domainBuilder.entity().persist();
+        long balance = entity.getBalance() + 1;
+        var notifier = Flux.interval(Duration.ofMillis(100L))
+                .doOnNext(i -> jdbcTemplate.execute("select pg_notify('entity', '" + entity.getId() + "')"));
+        var subscription = new AtomicReference<Disposable>();
+
+        try {
+            subscribe(entity.getNum())
+                    .as(StepVerifier::create)
+                    .expectNext(entity.getBalance())
+                    .then(() -> {
+                        jdbcTemplate.update("update entity set balance = ? where id = ?", balance, entity.getId());
+                        subscription.set(notifier.subscribe());
+                    })
+                    .expectNext(balance)
+                    .expectNoEvent(Duration.ofMillis(500L))
+                    .thenCancel()
+                    .verify(Duration.ofSeconds(10L));
+        } finally {
+            var disposable = subscription.get();
+            if (disposable != null) {
+                disposable.dispose();
+            }
+        }
+    }
+
+    @Test
+    void subscriptionMissing() {
+        subscribe(999L).as(StepVerifier::create).expectComplete().verify(Duration.ofSeconds(5L));
+    }
+
+    private Flux<Long> subscribe(long num) {
+        var query = "subscription Account($id: Long!) {account(input: { entityId: { num: $id } }) { balance }}";
+        return ExecutionGraphQlServiceTester.create(graphQlService)
+                .document(query)
+                .variable("id", num)
+                .executeSubscription()
+                .toFlux("account.balance", Long.class);
+    }
 }
@@ -0,0 +1,313 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.graphql.controller;
+
+import static com.hedera.mirror.graphql.util.GraphQlUtils.encodeCursor;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.mirror.common.domain.entity.Entity;
+import com.hedera.mirror.common.domain.transaction.CryptoTransfer;
+import com.hedera.mirror.common.domain.transaction.Transaction;
+import com.hedera.mirror.graphql.GraphqlIntegrationTest;
+import com.hedera.mirror.graphql.config.QueryCountInstrumentation;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.boot.test.autoconfigure.graphql.tester.AutoConfigureHttpGraphQlTester;
+import org.springframework.graphql.ResponseError;
+import org.springframework.graphql.test.tester.HttpGraphQlTester;
+
+@AutoConfigureHttpGraphQlTester
+@RequiredArgsConstructor
+class TransactionControllerTest extends GraphqlIntegrationTest {
+
+    private static final String TRANSACTIONS_QUERY =
+            """
+            query Transactions($id: Long!) {
+              account(input: { entityId: { num: $id } }) {
+                transactions(%s) {
+                  edges { cursor, node { consensusTimestamp, payerAccountId { num }, result, type } }
+                  pageInfo { endCursor, hasNextPage, hasPreviousPage, startCursor }
+                }
+              }
+            }
+            """;
+
+    private static final String TRANSFERS_QUERY =
+            """
+            query Transfers($id: Long!) {
+              account(input: { entityId: { num: $id } }) {
+                transfers(%s) {
+                  edges { cursor }
+                  pageInfo { endCursor, hasNextPage, hasPreviousPage, startCursor }
+                }
+              }
+            }
+            """;
+
+    private final HttpGraphQlTester tester;
+
+    @CsvSource(
+            delimiter = '|',
+            textBlock =
+                    """
+            transactions(first: 1, last: 1) { pageInfo { endCursor } }  | Only one of first or last can be provided
+            transactions(after: "*") { pageInfo { endCursor } }         | Invalid cursor
+            transactions(first: -1) { pageInfo { endCursor } }          | first must be greater than or equal to 0
+            transactions(first: 101) { pageInfo { endCursor } }         | first must be less than or equal to 100
+            transfers(last: 101) { pageInfo { endCursor } }             | last must be less than or equal to 100
+            """)
+    @ParameterizedTest
+    void invalidInput(String field, String error) {
+        var account = domainBuilder.entity().persist();
+        var query = "query { account(input: {entityId: {num: %d}}) { %s }}".formatted(account.getNum(), field);
+        tester.document(query).execute().errors().satisfy(r -> assertThat(r)
+                .hasSize(1)
+                .first()
+                .extracting(ResponseError::getMessage)
+                .asString()
+                .contains(error));
+    }
+
+    @Test
+    void forward() {
+        var account = domainBuilder.entity().persist();
+        var transaction1 = transaction(account);
+        var transaction2 = transaction(account);
+        var transaction3 = transaction(account);
+        domainBuilder.transaction().persist();
+
+        var response = tester.document(TRANSACTIONS_QUERY.formatted("first: 2"))
+                .variable("id", account.getNum())
+                .execute()
+                .errors()
+                .verify();
+        response.path("account.transactions.edges[*].cursor")
+                .entityList(String.class)
+                .containsExactly(cursor(transaction3), cursor(transaction2));
+        response.path("account.transactions.edges[0].node.payerAccountId.num")
+                .entity(Long.class)
+                .isEqualTo(account.getNum());
+        response.path("account.transactions.edges[0].node.result").entity(String.class).isEqualTo("SUCCESS");
+        response.path("account.transactions.edges[0].node.type").entity(String.class).isEqualTo("CRYPTOTRANSFER");
+        response.path("account.transactions.pageInfo.hasNextPage").entity(Boolean.class).isEqualTo(true);
+        response.path("account.transactions.pageInfo.hasPreviousPage").entity(Boolean.class).isEqualTo(false);
+        response.path("account.transactions.pageInfo.startCursor").entity(String.class).isEqualTo(cursor(transaction3));
+        response.path("account.transactions.pageInfo.endCursor").entity(String.class).isEqualTo(cursor(transaction2));
+
+        response = tester.document(TRANSACTIONS_QUERY.formatted("first: 2, after: \"" + cursor(transaction2) + "\""))
+                .variable("id", account.getNum())
+                .execute()
+                .errors()
+                .verify();
+        response.path("account.transactions.edges[*].cursor")
+                .entityList(String.class)
+                .containsExactly(cursor(transaction1));
+        response.path("account.transactions.pageInfo.hasNextPage").entity(Boolean.class).isEqualTo(false);
+    }
+
+    @Test
+    void backward() {
+        var account = domainBuilder.entity().persist();
+        var transaction1 = transaction(account);
+        var transaction2 = transaction(account);
+        var transaction3 = transaction(account);
+
+        var response = tester.document(TRANSACTIONS_QUERY.formatted("last: 2"))
+                .variable("id", account.getNum())
+                .execute()
+                .errors()
+                .verify();
+        response.path("account.transactions.edges[*].cursor")
+                .entityList(String.class)
+                .containsExactly(cursor(transaction2), cursor(transaction1));
+        response.path("account.transactions.pageInfo.hasNextPage").entity(Boolean.class).isEqualTo(false);
+        response.path("account.transactions.pageInfo.hasPreviousPage").entity(Boolean.class).isEqualTo(true);
+
+        response = tester.document(TRANSACTIONS_QUERY.formatted("last: 2, before: \"" + cursor(transaction2) + "\""))
+                .variable("id", account.getNum())
+                .execute()
+                .errors()
+                .verify();
+        response.path("account.transactions.edges[*].cursor")
+                .entityList(String.class)
+                .containsExactly(cursor(transaction3));
+        response.path("account.transactions.pageInfo.hasPreviousPage").entity(Boolean.class).isEqualTo(false);
+    }
+
+    @Test
+    void empty() {
+        var account = domainBuilder.entity().persist();
+
+        var response = tester.document(TRANSACTIONS_QUERY.formatted("first: 5"))
+                .variable("id", account.getNum())
+                .execute()
+                .errors()
+                .verify();
+        response.path("account.transactions.edges").entityList(Object.class).hasSize(0);
+        response.path("account.transactions.pageInfo.endCursor").entity(String.class).isEqualTo("");
+        response.path("account.transactions.pageInfo.hasNextPage").entity(Boolean.class).isEqualTo(false);
+        response.path("account.transactions.pageInfo.startCursor").entity(String.class).isEqualTo("");
+    }
+
+    @Test
+    void transfers() {
+        var account = domainBuilder.entity().persist();
+        var cryptoTransfer1 = domainBuilder
+                .cryptoTransfer()
+                .customize(c -> c.amount(-200_000_000L).entityId(account.getId()))
+                .persist();
+        var cryptoTransfer2 = domainBuilder
+                .cryptoTransfer()
+                .customize(c -> c.amount(300_000_000L).entityId(account.getId()))
+                .persist();
+
+        var response = tester.document(
+                        """
+                        query Transfers($id: Long!) {
+                          account(input: { entityId: { num: $id } }) {
+                            transfers(first: 5) {
+                              edges { cursor, node { amount(unit: HBAR), entityId { num } } }
+                              pageInfo { hasNextPage }
+                            }
+                          }
+                        }
+                        """)
+                .variable("id", account.getNum())
+                .execute()
+                .errors()
+                .verify();
+        response.path("account.transfers.edges[*].cursor")
+                .entityList(String.class)
+                .containsExactly(cursor(cryptoTransfer2), cursor(cryptoTransfer1));
+        response.path("account.transfers.edges[*].node.amount").entityList(Long.class).containsExactly(3L, -2L);
+        response.path("account.transfers.edges[0].node.entityId.num")
+                .entity(Long.class)
+                .isEqualTo(account.getNum());
+        response.path("account.transfers.pageInfo.hasNextPage").entity(Boolean.class).isEqualTo(false);
+    }
+
+    @Test
+    void transfersSharedTimestamp() {
+        var account = domainBuilder.entity().persist();
+        long timestamp = domainBuilder.timestamp();
+        var cryptoTransfers = new ArrayList<CryptoTransfer>();
+        for (long amount = 1L; amount <= 3L; amount++) {
+            long value = amount;
+            cryptoTransfers.add(domainBuilder
+                    .cryptoTransfer()
+                    .customize(c -> c.amount(value).consensusTimestamp(timestamp).entityId(account.getId()))
+                    .persist());
+        }
+
+        // Page forward and backward one row at a time with every page boundary inside the shared timestamp
+        var forward = new ArrayList<String>();
+        var after = "";
+        do {
+            var arguments = after.isEmpty() ? "first: 1" : "first: 1, after: \"" + after + "\"";
+            after = transfersPage(account, arguments, forward, "endCursor");
+        } while (!after.isEmpty());
+
+        var backward = new ArrayList<String>();
+        var before = "";
+        do {
+            var arguments = before.isEmpty() ? "last: 1" : "last: 1, before: \"" + before + "\"";
+            before = transfersPage(account, arguments, backward, "startCursor");
+        } while (!before.isEmpty());
+
+        var expected = cryptoTransfers.reversed().stream().map(this::cursor).toList();
+        assertThat(forward).containsExactlyElementsOf(expected);
+        assertThat(backward).containsExactlyElementsOf(expected.reversed());
+    }
+
+    @Test
+    void batched() {
+        var staked = domainBuilder.entity().persist();
+        var autoRenew = domainBuilder.entity().persist();
+        var account = domainBuilder
+                .entity()
+                .customize(e -> e.autoRenewAccountId(autoRenew.getId()).stakedAccountId(staked.getId()))
+                .persist();
+        transaction(autoRenew);
+        var transaction = transaction(staked);
+        var summary = meterRegistry.find(QueryCountInstrumentation.METRIC).summary();
+        double queries = summary.totalAmount();
+
+        var response = tester.document(
+                        """
+                        query Account($id: Long!) {
+                          account(input: { entityId: { num: $id } }) {
+                            autoRenewAccount { transactions(first: 1) { edges { cursor } } }
+                            stakedAccount { transactions(first: 1) { edges { cursor } } }
+                            transactions(first: 1) { edges { cursor } }
+                          }
+                        }
+                        """)
+                .variable("id", account.getNum())
+                .execute()
+                .errors()
+                .verify();
+        response.path("account.stakedAccount.transactions.edges[*].cursor")
+                .entityList(String.class)
+                .containsExactly(cursor(transaction));
+        response.path("account.transactions.edges").entityList(Object.class).hasSize(0);
+
+        // One query for the account, one for the nested accounts and one per level of transactions
+        assertThat(summary.totalAmount() - queries).isEqualTo(4);
+    }
+
+    private String cursor(CryptoTransfer cryptoTransfer) {
+        return encodeCursor(cryptoTransfer.getConsensusTimestamp(), cryptoTransfer.getAmount());
+    }
+
+    private String cursor(Transaction transaction) {
+        return encodeCursor(transaction.getConsensusTimestamp(), 0L);
+    }
+
+    // Appends the cursors of the page to the list and returns the cursor of the next page or empty if there's none
+    private String transfersPage(Entity account, String arguments, List<String> cursors, String nextCursor) {
+        var response = tester.document(TRANSFERS_QUERY.formatted(arguments))
+                .variable("id", account.getNum())
+                .execute()
+                .errors()
+                .verify();
+        cursors.addAll(response.path("account.transfers.edges[*].cursor")
+                .entityList(String.class)
+                .get());
+        boolean hasMore = response.path("account.transfers.pageInfo.hasNextPage")
+                        .entity(Boolean.class)
+                        .get()
+                || response.path("account.transfers.pageInfo.hasPreviousPage")
+                        .entity(Boolean.class)
+                        .get();
+        return hasMore
+                ? response.path("account.transfers.pageInfo." + nextCursor)
+                        .entity(String.class)
+                        .get()
+                : "";
+    }
+
+    private Transaction transaction(Entity payer) {
+        return domainBuilder
+                .transaction()
+                .customize(t -> t.payerAccountId(payer.toEntityId()))
+                .persist();
+    }
+}
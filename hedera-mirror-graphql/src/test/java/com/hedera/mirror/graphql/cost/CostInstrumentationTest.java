@@ -0,0 +1,133 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.graphql.cost;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.mirror.graphql.GraphqlIntegrationTest;
+import com.hedera.mirror.graphql.util.GraphQlUtils;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.graphql.tester.AutoConfigureHttpGraphQlTester;
+import org.springframework.graphql.ResponseError;
+import org.springframework.graphql.test.tester.HttpGraphQlTester;
+
+@AutoConfigureHttpGraphQlTester
+@RequiredArgsConstructor
+class CostInstrumentationTest extends GraphqlIntegrationTest {
+
+    private static final String QUERY = "query { account(input: {entityId: {num: 999}}) { balance memo } }";
+
+    private final CostProperties properties;
+    private final HttpGraphQlTester tester;
+
+    @AfterEach
+    void cleanup() {
+        var defaults = new CostProperties();
+        properties.setClientRate(defaults.getClientRate());
+        properties.setEnabled(defaults.isEnabled());
+        properties.setMaxCost(defaults.getMaxCost());
+        properties.setTrustedProxies(defaults.getTrustedProxies());
+    }
+
+    @Test
+    void executed() {
+        double cost = summary("executed");
+        tester.document(QUERY).execute().errors().verify().path("account").valueIsNull();
+        assertThat(summary("executed") - cost).isEqualTo(12);
+    }
+
+    @Test
+    void overBudget() {
+        properties.setMaxCost(11L);
+        double cost = summary("over_budget");
+        assertError(tester, "Query cost of 12 exceeds the maximum of 11");
+        assertThat(summary("over_budget") - cost).isEqualTo(12);
+    }
+
+    @Test
+    void rateLimited() {
+        properties.setClientRate(1L);
+        properties.setTrustedProxies(1);
+        var client = tester.mutate()
+                .header(GraphQlUtils.X_FORWARDED_FOR, "10.0.0.1")
+                .build();
+        var other = tester.mutate()
+                .header(GraphQlUtils.X_FORWARDED_FOR, "10.0.0.2")
+                .build();
+        double cost = summary("rate_limited");
+
+        client.document(QUERY).execute().errors().verify();
+        assertError(client, "Query cost budget of 1 per second exceeded");
+        other.document(QUERY).execute().errors().verify();
+        assertThat(summary("rate_limited") - cost).isEqualTo(12);
+    }
+
+    @Test
+    void rateLimitedSpoofedForwardedFor() {
+        properties.setClientRate(1L);
+        var client = tester.mutate()
+                .header(GraphQlUtils.X_FORWARDED_FOR, "10.0.0.1")
+                .build();
+        var spoofed = tester.mutate()
+                .header(GraphQlUtils.X_FORWARDED_FOR, "10.0.0.2")
+                .build();
+
+        client.document(QUERY).execute().errors().verify();
+        assertError(spoofed, "Query cost budget of 1 per second exceeded");
+    }
+
+    @Test
+    void rateLimitedSpoofedBehindProxy() {
+        properties.setClientRate(1L);
+        properties.setTrustedProxies(1);
+        var client = tester.mutate()
+                .header(GraphQlUtils.X_FORWARDED_FOR, "10.0.0.1")
+                .build();
+        var spoofed = tester.mutate()
+                .header(GraphQlUtils.X_FORWARDED_FOR, "10.0.0.2, 10.0.0.1")
+                .build();
+
+        client.document(QUERY).execute().errors().verify();
+        assertError(spoofed, "Query cost budget of 1 per second exceeded");
+    }
+
+    @Test
+    void disabled() {
+        properties.setEnabled(false);
+        properties.setMaxCost(1L);
+        tester.document(QUERY).execute().errors().verify();
+    }
+
+    private void assertError(HttpGraphQlTester graphQlTester, String message) {
+        graphQlTester.document(QUERY).execute().errors().satisfy(r -> assertThat(r)
+                .hasSize(1)
+                .first()
+                .extracting(ResponseError::getMessage)
+                .asString()
+                .contains(message));
+    }
+
+    private double summary(String outcome) {
+        return meterRegistry
+                .get(CostInstrumentation.METRIC)
+                .tag("outcome", outcome)
+                .summary()
+                .totalAmount();
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.graphql.cost;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import graphql.language.Document;
+import graphql.language.OperationDefinition;
+import graphql.parser.Parser;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class QueryCostCalculatorTest {
+
+    private static final String SCHEMA =
+            """
+            type Query {
+              account(id: Int): Account
+              accounts(first: Int, last: Int): [Account]
+            }
+            type Account {
+              id: Int
+              name: String
+              friends(first: Int): [Account]
+            }
+            """;
+
+    private final GraphQLSchema schema = new SchemaGenerator()
+            .makeExecutableSchema(new SchemaParser().parse(SCHEMA), RuntimeWiring.MOCKED_WIRING);
+
+    private CostProperties properties;
+    private QueryCostCalculator calculator;
+
+    @BeforeEach
+    void setup() {
+        properties = new CostProperties();
+        properties.setFields(Map.of("Query", Map.of("account", 10)));
+        calculator = new QueryCostCalculator(properties);
+    }
+
+    @CsvSource(
+            delimiter = '|',
+            textBlock =
+                    """
+            { __typename }                                                      | 1
+            { account { id } }                                                  | 11
+            { account { id name } }                                             | 12
+            { a: account { id } b: account { id } }                             | 22
+            { account { ... on Account { id } } }                               | 11
+            { account { ...f } } fragment f on Account { id name }              | 12
+            { accounts(first: 5) { id } }                                       | 6
+            { accounts(first: 5, last: 7) { id } }                              | 8
+            { accounts(first: 500) { id } }                                     | 101
+            { accounts { id } }                                                 | 101
+            query ($n: Int) { accounts(first: $n) { id } }                      | 101
+            { accounts(first: 2) { friends(first: 3) { id } } }                 | 9
+            """)
+    @ParameterizedTest
+    void calculate(String query, long cost) {
+        assertThat(calculate(query, null)).isEqualTo(cost);
+    }
+
+    @Test
+    void calculateOperation() {
+        var query = "query a { account { id } } query b { accounts(first: 2) { id name } }";
+        var document = Parser.parse(query);
+        assertThat(calculate(document, "a")).isEqualTo(11L);
+        assertThat(calculate(document, "b")).isEqualTo(5L);
+        assertThat(calculate(document, "a")).isEqualTo(11L);
+    }
+
+    @Test
+    void calculateFieldCost() {
+        properties.setDefaultFieldCost(2);
+        properties.setFields(Map.of("Account", Map.of("friends", 5)));
+        assertThat(calculate("{ accounts(first: 2) { id friends(first: 1) { id } } }", null))
+                .isEqualTo(2 + 2 * (2 + 5 + 2));
+    }
+
+    @Test
+    void calculateSaturates() {
+        properties.setMaxListSize(Integer.MAX_VALUE);
+        var query = "{ accounts { friends { friends { friends { friends { friends { id } } } } } } }";
+        assertThat(calculate(query, null)).isEqualTo(Long.MAX_VALUE);
+    }
+
+    private long calculate(String query, String operationName) {
+        return calculate(Parser.parse(query), operationName);
+    }
+
+    private long calculate(Document document, String operationName) {
+        var operation = document.getDefinitionsOfType(OperationDefinition.class).stream()
+                .filter(o -> operationName == null || operationName.equals(o.getName()))
+                .findFirst()
+                .orElseThrow();
+        return calculator.calculate(schema, document, operation);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.graphql.listener;
+
+import com.hedera.mirror.graphql.GraphqlIntegrationTest;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+@RequiredArgsConstructor
+class NotifyingEntityListenerTest extends GraphqlIntegrationTest {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NotifyingEntityListener listener;
+
+    @Test
+    void listen() {
+        // Keep notifying since the listener connects asynchronously
+        var notifier = Flux.interval(Duration.ofMillis(100L))
+                .doOnNext(i -> jdbcTemplate.execute("select pg_notify('entity', '1,invalid,2')"))
+                .subscribe();
+
+        try {
+            StepVerifier.create(listener.listen(2L).take(2L))
+                    .expectNext(2L, 2L)
+                    .expectComplete()
+                    .verify(Duration.ofSeconds(10L));
+        } finally {
+            notifier.dispose();
+        }
+    }
+
+    @Test
+    void other() {
+        var notifier = Flux.interval(Duration.ofMillis(100L))
+                .doOnNext(i -> jdbcTemplate.execute("select pg_notify('entity', '1')"))
+                .subscribe();
+
+        try {
+            StepVerifier.create(listener.listen(2L))
+                    .expectNoEvent(Duration.ofMillis(500L))
+                    .thenCancel()
+                    .verify(Duration.ofSeconds(5L));
+        } finally {
+            notifier.dispose();
+        }
+    }
+}
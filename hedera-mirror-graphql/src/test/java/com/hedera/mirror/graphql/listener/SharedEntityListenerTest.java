@@ -0,0 +1,167 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.graphql.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import com.google.common.util.concurrent.Uninterruptibles;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+class SharedEntityListenerTest {
+
+    private static final Duration WAIT = Duration.ofSeconds(5L);
+
+    private ListenerProperties listenerProperties;
+    private MeterRegistry meterRegistry;
+    private Sinks.Many<Long> sink;
+    private SharedEntityListener listener;
+
+    @BeforeEach
+    void setup() {
+        listenerProperties = new ListenerProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        sink = Sinks.many().multicast().directBestEffort();
+        listener = new SharedEntityListener(listenerProperties, meterRegistry) {
+            @Override
+            protected Flux<Long> getSharedListener() {
+                return sink.asFlux();
+            }
+        };
+    }
+
+    @Test
+    void listen() {
+        StepVerifier.create(listener.listen(1L).mergeWith(listener.listen(2L)))
+                .then(() -> emit(1L, 3L, 2L, 1L))
+                .expectNext(1L, 2L, 1L)
+                .thenCancel()
+                .verify(WAIT);
+    }
+
+    @Test
+    void conflate() {
+        StepVerifier.create(listener.listen(1L), 0L)
+                .then(() -> emit(1L, 1L, 1L))
+                .thenRequest(1L)
+                .expectNext(1L)
+                .thenRequest(1L)
+                .expectNoEvent(Duration.ofMillis(100L))
+                .then(() -> emit(1L))
+                .expectNext(1L)
+                .thenCancel()
+                .verify(WAIT);
+    }
+
+    @Test
+    void disabled() {
+        listenerProperties.setEnabled(false);
+        assertThatThrownBy(() -> listener.listen(1L))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Subscriptions are disabled");
+    }
+
+    @Test
+    void maxSubscribers() {
+        listenerProperties.setMaxSubscribers(1);
+        var subscription = listener.listen(1L).subscribe();
+
+        StepVerifier.create(listener.listen(2L))
+                .expectErrorSatisfies(e -> assertThat(e)
+                        .isInstanceOf(IllegalStateException.class)
+                        .hasMessage("Maximum number of subscribers reached"))
+                .verify(WAIT);
+
+        subscription.dispose();
+        StepVerifier.create(listener.listen(2L))
+                .then(() -> emit(2L))
+                .expectNext(2L)
+                .thenCancel()
+                .verify(WAIT);
+    }
+
+    @Test
+    void maxSubscribersConcurrent() throws Exception {
+        int maxSubscribers = 10;
+        listenerProperties.setMaxSubscribers(maxSubscribers);
+        var gauge = meterRegistry.find(SharedEntityListener.METRIC).gauge();
+        var errors = new AtomicInteger();
+        var subscriptions = new ConcurrentLinkedQueue<Disposable>();
+        var start = new CountDownLatch(1);
+        var executor = Executors.newFixedThreadPool(8);
+
+        try {
+            for (int i = 0; i < maxSubscribers * 5; i++) {
+                long entityId = i;
+                executor.execute(() -> {
+                    Uninterruptibles.awaitUninterruptibly(start);
+                    subscriptions.add(listener.listen(entityId).subscribe(n -> {}, e -> errors.incrementAndGet()));
+                });
+            }
+
+            start.countDown();
+            executor.shutdown();
+            assertThat(executor.awaitTermination(WAIT.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(gauge.value()).isEqualTo(maxSubscribers);
+        assertThat(errors.get()).isEqualTo(maxSubscribers * 4);
+        subscriptions.forEach(Disposable::dispose);
+        assertThat(gauge.value()).isZero();
+    }
+
+    @Test
+    void shared() {
+        var gauge = meterRegistry.find(SharedEntityListener.METRIC).gauge();
+        assertThat(gauge).isNotNull();
+        assertThat(sink.currentSubscriberCount()).isZero();
+
+        var subscription1 = listener.listen(1L).subscribe();
+        var subscription2 = listener.listen(1L).subscribe();
+        assertThat(sink.currentSubscriberCount()).isOne();
+        assertThat(gauge.value()).isEqualTo(2.0);
+
+        subscription1.dispose();
+        assertThat(sink.currentSubscriberCount()).isOne();
+        assertThat(gauge.value()).isEqualTo(1.0);
+
+        subscription2.dispose();
+        assertThat(sink.currentSubscriberCount()).isZero();
+        assertThat(gauge.value()).isZero();
+    }
+
+    private void emit(long... entityIds) {
+        for (long entityId : entityIds) {
+            sink.tryEmitNext(entityId);
+        }
+    }
+}
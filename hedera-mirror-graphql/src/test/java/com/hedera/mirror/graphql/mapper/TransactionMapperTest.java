@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.graphql.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.mirror.common.domain.DomainBuilder;
+import com.hedera.mirror.graphql.viewmodel.CryptoTransfer;
+import com.hedera.mirror.graphql.viewmodel.EntityId;
+import com.hedera.mirror.graphql.viewmodel.Transaction;
+import com.hedera.mirror.graphql.viewmodel.TransactionType;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class TransactionMapperTest {
+
+    private DomainBuilder domainBuilder;
+    private TransactionMapper transactionMapper;
+
+    @BeforeEach
+    void setup() {
+        domainBuilder = new DomainBuilder();
+        transactionMapper = new TransactionMapperImpl(new CommonMapperImpl());
+    }
+
+    @Test
+    void mapCryptoTransfer() {
+        var cryptoTransfer = domainBuilder.cryptoTransfer().get();
+        var entityId = com.hedera.mirror.common.domain.entity.EntityId.of(cryptoTransfer.getEntityId());
+
+        assertThat(transactionMapper.map(cryptoTransfer))
+                .returns(cryptoTransfer.getAmount(), CryptoTransfer::getAmount)
+                .returns(
+                        Instant.ofEpochSecond(0L, cryptoTransfer.getConsensusTimestamp()),
+                        CryptoTransfer::getConsensusTimestamp)
+                .returns(cryptoTransfer.getIsApproval(), CryptoTransfer::getIsApproval)
+                .satisfies(c -> assertThat(c.getEntityId())
+                        .returns(entityId.getShard(), EntityId::getShard)
+                        .returns(entityId.getRealm(), EntityId::getRealm)
+                        .returns(entityId.getNum(), EntityId::getNum))
+                .satisfies(c -> assertThat(c.getPayerAccountId())
+                        .returns(cryptoTransfer.getPayerAccountId().getNum(), EntityId::getNum));
+    }
+
+    @Test
+    void mapTransaction() {
+        var transaction = domainBuilder.transaction().get();
+
+        assertThat(transactionMapper.map(transaction))
+                .returns(transaction.getChargedTxFee(), Transaction::getChargedTxFee)
+                .returns(
+                        Instant.ofEpochSecond(0L, transaction.getConsensusTimestamp()),
+                        Transaction::getConsensusTimestamp)
+                .returns(transaction.getMaxFee(), Transaction::getMaxFee)
+                .returns(transaction.getNonce(), Transaction::getNonce)
+                .returns("SUCCESS", Transaction::getResult)
+                .returns(transaction.isScheduled(), Transaction::getScheduled)
+                .returns(TransactionType.CRYPTOTRANSFER, Transaction::getType)
+                .returns(Instant.ofEpochSecond(0L, transaction.getValidStartNs()), Transaction::getValidStartTimestamp)
+                .satisfies(t -> assertThat(t.getEntityId())
+                        .returns(transaction.getEntityId().getNum(), EntityId::getNum))
+                .satisfies(t -> assertThat(t.getNodeAccountId())
+                        .returns(transaction.getNodeAccountId().getNum(), EntityId::getNum))
+                .satisfies(t -> assertThat(t.getPayerAccountId())
+                        .returns(transaction.getPayerAccountId().getNum(), EntityId::getNum));
+    }
+
+    @Test
+    void mapTransactionUnknown() {
+        var transaction = domainBuilder
+                .transaction()
+                .customize(t -> t.result(Integer.MAX_VALUE).type(Integer.MAX_VALUE))
+                .get();
+
+        assertThat(transactionMapper.map(transaction))
+                .returns(String.valueOf(Integer.MAX_VALUE), Transaction::getResult)
+                .returns(TransactionType.UNKNOWN, Transaction::getType);
+    }
+
+    @ParameterizedTest
+    @EnumSource(com.hedera.mirror.common.domain.transaction.TransactionType.class)
+    void mapTransactionType(com.hedera.mirror.common.domain.transaction.TransactionType type) {
+        var transaction = domainBuilder.transaction().customize(t -> t.type(type.getProtoId())).get();
+
+        assertThat(transactionMapper.map(transaction))
+                .extracting(Transaction::getType)
+                .returns(type.name(), TransactionType::name);
+    }
+
+    @Test
+    void mapNulls() {
+        var transaction = new com.hedera.mirror.common.domain.transaction.Transaction();
+
+        assertThat(transactionMapper.map(transaction))
+                .returns(null, Transaction::getChargedTxFee)
+                .returns(null, Transaction::getConsensusTimestamp)
+                .returns(null, Transaction::getEntityId)
+                .returns(null, Transaction::getResult)
+                .returns(null, Transaction::getType)
+                .returns(null, Transaction::getValidStartTimestamp);
+    }
+}
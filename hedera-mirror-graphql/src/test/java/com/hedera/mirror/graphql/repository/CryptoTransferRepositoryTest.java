@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.graphql.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.mirror.common.domain.transaction.CryptoTransfer;
+import com.hedera.mirror.graphql.GraphqlIntegrationTest;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+
+@RequiredArgsConstructor
+class CryptoTransferRepositoryTest extends GraphqlIntegrationTest {
+
+    private static final long MAX = Long.MAX_VALUE;
+    private static final long MIN = Long.MIN_VALUE;
+
+    private final CryptoTransferRepository cryptoTransferRepository;
+
+    @Test
+    void findAscending() {
+        long account1 = domainBuilder.id();
+        long account2 = domainBuilder.id();
+        var cryptoTransfer1 = cryptoTransfer(account1);
+        var cryptoTransfer2 = cryptoTransfer(account2);
+        var cryptoTransfer3 = cryptoTransfer(account1);
+        var cryptoTransfer4 = cryptoTransfer(account2);
+        var cryptoTransfer5 = cryptoTransfer(account1);
+        cryptoTransfer(domainBuilder.id());
+
+        var accounts = List.of(account1, account2);
+        assertThat(cryptoTransferRepository.findAscending(accounts, MIN, MIN, MAX, MAX, 2))
+                .containsExactly(cryptoTransfer1, cryptoTransfer3, cryptoTransfer2, cryptoTransfer4);
+        long lower = cryptoTransfer1.getConsensusTimestamp();
+        long upper = cryptoTransfer5.getConsensusTimestamp();
+        assertThat(cryptoTransferRepository.findAscending(
+                        accounts, lower, cryptoTransfer1.getAmount(), upper, cryptoTransfer5.getAmount(), 2))
+                .containsExactly(cryptoTransfer3, cryptoTransfer2, cryptoTransfer4);
+    }
+
+    @Test
+    void findDescending() {
+        long account1 = domainBuilder.id();
+        long account2 = domainBuilder.id();
+        var cryptoTransfer1 = cryptoTransfer(account1);
+        var cryptoTransfer2 = cryptoTransfer(account2);
+        var cryptoTransfer3 = cryptoTransfer(account1);
+        var cryptoTransfer4 = cryptoTransfer(account2);
+        var cryptoTransfer5 = cryptoTransfer(account1);
+        cryptoTransfer(domainBuilder.id());
+
+        var accounts = List.of(account1, account2);
+        assertThat(cryptoTransferRepository.findDescending(accounts, MIN, MIN, MAX, MAX, 2))
+                .containsExactly(cryptoTransfer5, cryptoTransfer3, cryptoTransfer4, cryptoTransfer2);
+        long lower = cryptoTransfer1.getConsensusTimestamp();
+        long upper = cryptoTransfer5.getConsensusTimestamp();
+        assertThat(cryptoTransferRepository.findDescending(
+                        accounts, lower, cryptoTransfer1.getAmount(), upper, cryptoTransfer5.getAmount(), 2))
+                .containsExactly(cryptoTransfer3, cryptoTransfer4, cryptoTransfer2);
+    }
+
+    @Test
+    void findSharedTimestamp() {
+        long account = domainBuilder.id();
+        long timestamp = domainBuilder.timestamp();
+        var cryptoTransfer1 = cryptoTransfer(account, timestamp, -2L);
+        var cryptoTransfer2 = cryptoTransfer(account, timestamp, 1L);
+        var cryptoTransfer3 = cryptoTransfer(account, timestamp, 3L);
+        var accounts = List.of(account);
+
+        // The page boundary falls between rows of the same consensus timestamp
+        assertThat(cryptoTransferRepository.findDescending(accounts, MIN, MIN, timestamp, 3L, 1))
+                .containsExactly(cryptoTransfer2);
+        assertThat(cryptoTransferRepository.findDescending(accounts, MIN, MIN, timestamp, 1L, 1))
+                .containsExactly(cryptoTransfer1);
+        assertThat(cryptoTransferRepository.findAscending(accounts, timestamp, -2L, MAX, MAX, 1))
+                .containsExactly(cryptoTransfer2);
+        assertThat(cryptoTransferRepository.findAscending(accounts, timestamp, 1L, MAX, MAX, 1))
+                .containsExactly(cryptoTransfer3);
+    }
+
+    private CryptoTransfer cryptoTransfer(long accountId) {
+        return domainBuilder.cryptoTransfer().customize(c -> c.entityId(accountId)).persist();
+    }
+
+    private CryptoTransfer cryptoTransfer(long accountId, long timestamp, long amount) {
+        return domainBuilder
+                .cryptoTransfer()
+                .customize(c -> c.amount(amount).consensusTimestamp(timestamp).entityId(accountId))
+                .persist();
+    }
+}
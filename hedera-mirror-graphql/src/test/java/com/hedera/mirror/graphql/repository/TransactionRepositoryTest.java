@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.graphql.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.transaction.Transaction;
+import com.hedera.mirror.graphql.GraphqlIntegrationTest;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+
+@RequiredArgsConstructor
+class TransactionRepositoryTest extends GraphqlIntegrationTest {
+
+    private final TransactionRepository transactionRepository;
+
+    @Test
+    void findAscending() {
+        var payer1 = domainBuilder.entityId();
+        var payer2 = domainBuilder.entityId();
+        var transaction1 = transaction(payer1);
+        var transaction2 = transaction(payer2);
+        var transaction3 = transaction(payer1);
+        var transaction4 = transaction(payer2);
+        var transaction5 = transaction(payer1);
+        transaction(domainBuilder.entityId());
+
+        var payers = List.of(payer1.getId(), payer2.getId());
+        assertThat(transactionRepository.findAscending(payers, Long.MIN_VALUE, Long.MAX_VALUE, 2))
+                .containsExactly(transaction1, transaction3, transaction2, transaction4);
+        long lower = transaction1.getConsensusTimestamp();
+        long upper = transaction5.getConsensusTimestamp();
+        assertThat(transactionRepository.findAscending(payers, lower, upper, 2))
+                .containsExactly(transaction3, transaction2, transaction4);
+    }
+
+    @Test
+    void findDescending() {
+        var payer1 = domainBuilder.entityId();
+        var payer2 = domainBuilder.entityId();
+        var transaction1 = transaction(payer1);
+        var transaction2 = transaction(payer2);
+        var transaction3 = transaction(payer1);
+        var transaction4 = transaction(payer2);
+        var transaction5 = transaction(payer1);
+        transaction(domainBuilder.entityId());
+
+        var payers = List.of(payer1.getId(), payer2.getId());
+        assertThat(transactionRepository.findDescending(payers, Long.MIN_VALUE, Long.MAX_VALUE, 2))
+                .containsExactly(transaction5, transaction3, transaction4, transaction2);
+        long upper = transaction5.getConsensusTimestamp();
+        assertThat(transactionRepository.findDescending(payers, Long.MIN_VALUE, upper, 1))
+                .containsExactly(transaction3, transaction4);
+        assertThat(transactionRepository.findDescending(List.of(domainBuilder.id()), Long.MIN_VALUE, upper, 1))
+                .isEmpty();
+    }
+
+    private Transaction transaction(EntityId payer) {
+        return domainBuilder.transaction().customize(t -> t.payerAccountId(payer)).persist();
+    }
+}
@@ -17,12 +17,14 @@
 package com.hedera.mirror.graphql.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.hedera.mirror.common.domain.DomainBuilder;
 import com.hedera.mirror.common.domain.entity.EntityType;
 import com.hedera.mirror.graphql.repository.EntityRepository;
 import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.Optional;
 import org.apache.commons.codec.DecoderException;
 import org.apache.commons.codec.binary.Base32;
@@ -167,4 +169,21 @@ class EntityServiceTest {
                 .get()
                 .isEqualTo(entity);
     }
+
+    @Test
+    void getByIdsAndType() {
+        var account = domainBuilder.entity().get();
+        var contract = domainBuilder.entity().customize(e -> e.type(EntityType.CONTRACT)).get();
+        var ids = List.of(account.getId(), contract.getId(), account.getId() + 100);
+        when(entityRepository.findAllById(ids)).thenReturn(List.of(account, contract));
+        assertThat(entityService.getByIdsAndType(ids, EntityType.ACCOUNT))
+                .containsOnlyKeys(account.getId())
+                .containsEntry(account.getId(), account);
+    }
+
+    @Test
+    void getByIdsAndTypeEmpty() {
+        assertThat(entityService.getByIdsAndType(List.of(), EntityType.ACCOUNT)).isEmpty();
+        verifyNoInteractions(entityRepository);
+    }
 }
@@ -20,10 +20,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.graphql.service.PageCursor;
 import com.hedera.mirror.graphql.viewmodel.Account;
 import com.hedera.mirror.graphql.viewmodel.EntityIdInput;
 import com.hedera.mirror.graphql.viewmodel.HbarUnit;
 import java.math.BigInteger;
+import java.net.InetSocketAddress;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 import org.apache.commons.codec.binary.Base32;
@@ -32,6 +34,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 
 class GraphQlUtilsTest {
 
@@ -61,6 +64,44 @@ class GraphQlUtilsTest {
         assertThat(GraphQlUtils.convertCurrency(unit, input)).isEqualTo(output);
     }
 
+    @CsvSource({"0, 0", "1, -1", "1700000000123456789, 300000000", "9223372036854775807, -9223372036854775808"})
+    @ParameterizedTest
+    void cursor(long timestamp, long tiebreaker) {
+        var cursor = GraphQlUtils.encodeCursor(timestamp, tiebreaker);
+        assertThat(GraphQlUtils.decodeCursor(cursor)).isEqualTo(new PageCursor(timestamp, tiebreaker));
+    }
+
+    // Empty, not base64, "abc", "1" and "1:2:3"
+    @ValueSource(strings = {"", "*", "YWJj", "MQ", "MToyOjM"})
+    @ParameterizedTest
+    void invalidCursor(String cursor) {
+        assertThatThrownBy(() -> GraphQlUtils.decodeCursor(cursor))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor");
+    }
+
+    @CsvSource(
+            nullValues = "null",
+            textBlock =
+                    """
+              null,                         0, 10.0.0.9
+              10.0.0.1,                     0, 10.0.0.9
+              10.0.0.1,                     1, 10.0.0.1
+              '10.0.0.2, 10.0.0.1',         1, 10.0.0.1
+              '10.0.0.2, 10.0.0.1',         2, 10.0.0.2
+              '10.0.0.2, 10.0.0.1',         5, 10.0.0.2
+              '10.0.0.3,, 10.0.0.2',        1, 10.0.0.2
+            """)
+    @ParameterizedTest
+    void getClient(String forwardedFor, int trustedProxies, String client) {
+        var builder = MockServerHttpRequest.get("/graphql").remoteAddress(new InetSocketAddress("10.0.0.9", 8080));
+        if (forwardedFor != null) {
+            builder.header(GraphQlUtils.X_FORWARDED_FOR, forwardedFor);
+        }
+
+        assertThat(GraphQlUtils.getClient(builder.build(), trustedProxies)).isEqualTo(client);
+    }
+
     @Test
     void getId() {
         var node = new Account();
@@ -16,14 +16,16 @@
 
 description = "Hedera Mirror Node Importer"
 
-plugins { id("spring-conventions") }
+plugins {
+    id("jmh-conventions")
+    id("spring-conventions")
+}
 
 dependencies {
     implementation(platform("com.google.cloud:spring-cloud-gcp-dependencies"))
     implementation(platform("org.springframework.cloud:spring-cloud-dependencies"))
     implementation(platform("software.amazon.awssdk:bom"))
     implementation(project(":common"))
-    implementation("com.esaulpaugh:headlong")
     implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-csv")
     implementation("com.google.cloud:spring-cloud-gcp-starter-pubsub")
     implementation("commons-io:commons-io")
@@ -57,6 +59,7 @@ dependencies {
         classifier = "osx-aarch_64"
     )
     testImplementation(project(path = ":common", configuration = "testClasses"))
+    testImplementation("com.esaulpaugh:headlong")
     testImplementation("com.github.vertical-blank:sql-formatter")
     testImplementation("com.playtika.testcontainers:embedded-google-pubsub")
     testImplementation("com.redis.testcontainers:testcontainers-redis-junit-jupiter")
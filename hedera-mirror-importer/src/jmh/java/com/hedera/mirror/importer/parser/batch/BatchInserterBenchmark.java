@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.batch;
+
+import com.hedera.mirror.common.domain.DomainBuilder;
+import com.hedera.mirror.importer.parser.CommonParserProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the CSV serialization of rows for the COPY command by writing to a null sink instead of PostgreSQL.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5)
+public class BatchInserterBenchmark {
+
+    private static final int ROWS = 1000;
+
+    @Param({"CONTRACT_RESULT", "CRYPTO_TRANSFER", "ENTITY", "TRANSACTION"})
+    private Domain domain;
+
+    private BatchInserter batchInserter;
+    private List<Object> items;
+
+    @Setup
+    public void setup() {
+        var domainBuilder = new DomainBuilder();
+        batchInserter =
+                new BatchInserter(domain.type, null, new SimpleMeterRegistry(), new CommonParserProperties());
+        items = Stream.generate(() -> domain.generator.apply(domainBuilder))
+                .limit(ROWS)
+                .toList();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void write() throws IOException {
+        batchInserter.write(items, OutputStream.nullOutputStream());
+    }
+
+    @RequiredArgsConstructor
+    public enum Domain {
+        CONTRACT_RESULT(com.hedera.mirror.common.domain.contract.ContractResult.class, d -> d.contractResult()
+                .get()),
+        CRYPTO_TRANSFER(com.hedera.mirror.common.domain.transaction.CryptoTransfer.class, d -> d.cryptoTransfer()
+                .get()),
+        ENTITY(com.hedera.mirror.common.domain.entity.Entity.class, d -> d.entity().get()),
+        TRANSACTION(com.hedera.mirror.common.domain.transaction.Transaction.class, d -> d.transaction()
+                .get());
+
+        private final Class<?> type;
+        private final Function<DomainBuilder, Object> generator;
+    }
+}
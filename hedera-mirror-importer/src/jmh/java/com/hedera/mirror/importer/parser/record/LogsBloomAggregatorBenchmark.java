@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record;
+
+import com.hedera.mirror.common.aggregator.LogsBloomAggregator;
+import com.hedera.mirror.common.domain.DomainBuilder;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the aggregation of the contract result blooms of a record file into the block bloom, and the check of a
+ * bloom against the aggregated bloom.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5)
+public class LogsBloomAggregatorBenchmark {
+
+    // The number of contract results with a bloom in a record file
+    @Param({"1", "10", "100"})
+    private int blooms;
+
+    private LogsBloomAggregator aggregated;
+    private byte[][] items;
+
+    @Setup
+    public void setup() {
+        var domainBuilder = new DomainBuilder();
+        items = Stream.generate(domainBuilder::bloomFilter).limit(blooms).toArray(byte[][]::new);
+        aggregated = new LogsBloomAggregator();
+        for (var bloom : items) {
+            aggregated.aggregate(bloom);
+        }
+    }
+
+    @Benchmark
+    public byte[] aggregate() {
+        var logsBloom = new LogsBloomAggregator();
+        for (var bloom : items) {
+            logsBloom.aggregate(bloom);
+        }
+        return logsBloom.getBloom();
+    }
+
+    @Benchmark
+    public void couldContain(Blackhole blackhole) {
+        for (var bloom : items) {
+            blackhole.consume(aggregated.couldContain(bloom));
+        }
+    }
+}
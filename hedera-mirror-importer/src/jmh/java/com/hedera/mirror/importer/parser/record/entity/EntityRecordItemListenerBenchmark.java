@@ -0,0 +1,331 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.entity;
+
+import com.hedera.mirror.common.domain.addressbook.NetworkStake;
+import com.hedera.mirror.common.domain.addressbook.NodeStake;
+import com.hedera.mirror.common.domain.contract.Contract;
+import com.hedera.mirror.common.domain.contract.ContractAction;
+import com.hedera.mirror.common.domain.contract.ContractLog;
+import com.hedera.mirror.common.domain.contract.ContractResult;
+import com.hedera.mirror.common.domain.contract.ContractStateChange;
+import com.hedera.mirror.common.domain.contract.ContractTransaction;
+import com.hedera.mirror.common.domain.entity.CryptoAllowance;
+import com.hedera.mirror.common.domain.entity.Entity;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.entity.EntityTransaction;
+import com.hedera.mirror.common.domain.entity.NftAllowance;
+import com.hedera.mirror.common.domain.entity.TokenAllowance;
+import com.hedera.mirror.common.domain.file.FileData;
+import com.hedera.mirror.common.domain.schedule.Schedule;
+import com.hedera.mirror.common.domain.token.CustomFee;
+import com.hedera.mirror.common.domain.token.Nft;
+import com.hedera.mirror.common.domain.token.Token;
+import com.hedera.mirror.common.domain.token.TokenAccount;
+import com.hedera.mirror.common.domain.token.TokenTransfer;
+import com.hedera.mirror.common.domain.topic.TopicMessage;
+import com.hedera.mirror.common.domain.transaction.AssessedCustomFee;
+import com.hedera.mirror.common.domain.transaction.CryptoTransfer;
+import com.hedera.mirror.common.domain.transaction.EthereumTransaction;
+import com.hedera.mirror.common.domain.transaction.LiveHash;
+import com.hedera.mirror.common.domain.transaction.NetworkFreeze;
+import com.hedera.mirror.common.domain.transaction.Prng;
+import com.hedera.mirror.common.domain.transaction.RecordItem;
+import com.hedera.mirror.common.domain.transaction.StakingRewardTransfer;
+import com.hedera.mirror.common.domain.transaction.Transaction;
+import com.hedera.mirror.common.domain.transaction.TransactionSignature;
+import com.hedera.mirror.common.domain.transaction.TransactionType;
+import com.hedera.mirror.importer.domain.EntityIdService;
+import com.hedera.mirror.importer.parser.CommonParserProperties;
+import com.hedera.mirror.importer.parser.contractlog.SyntheticContractLogServiceImpl;
+import com.hedera.mirror.importer.parser.contractresult.SyntheticContractResultServiceImpl;
+import com.hedera.mirror.importer.parser.domain.RecordItemBuilder;
+import com.hedera.mirror.importer.parser.record.transactionhandler.BenchmarkTransactionHandlerFactory;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.ContractID;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the transformation of record items into domain objects for each transaction type. The entity listener hands
+ * every domain object to a blackhole instead of persisting it, so only the listener and transaction handler logic is
+ * measured.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5)
+public class EntityRecordItemListenerBenchmark {
+
+    private static final int ITEMS = 1000;
+
+    // Every transaction type with a builder in RecordItemBuilder
+    @Param({
+        "CONSENSUSCREATETOPIC", "CONSENSUSDELETETOPIC", "CONSENSUSSUBMITMESSAGE", "CONSENSUSUPDATETOPIC",
+        "CONTRACTCALL", "CONTRACTCREATEINSTANCE", "CONTRACTDELETEINSTANCE", "CONTRACTUPDATEINSTANCE",
+        "CRYPTOADDLIVEHASH", "CRYPTOAPPROVEALLOWANCE", "CRYPTOCREATEACCOUNT", "CRYPTODELETE", "CRYPTODELETEALLOWANCE",
+        "CRYPTOTRANSFER", "CRYPTOUPDATEACCOUNT", "ETHEREUMTRANSACTION", "FILEAPPEND", "FILECREATE", "FILEDELETE",
+        "FILEUPDATE", "FREEZE", "NODESTAKEUPDATE", "SCHEDULECREATE", "SCHEDULEDELETE", "SCHEDULESIGN", "SYSTEMDELETE",
+        "SYSTEMUNDELETE", "TOKENASSOCIATE", "TOKENBURN", "TOKENCREATION", "TOKENDELETION", "TOKENDISSOCIATE",
+        "TOKENFEESCHEDULEUPDATE", "TOKENFREEZE", "TOKENGRANTKYC", "TOKENMINT", "TOKENPAUSE", "TOKENREVOKEKYC",
+        "TOKENUNFREEZE", "TOKENUNPAUSE", "TOKENUPDATE", "TOKENUPDATENFTS", "TOKENWIPE", "UNCHECKEDSUBMIT", "UTILPRNG"
+    })
+    private TransactionType type;
+
+    private RecordItem[] recordItems;
+    private EntityRecordItemListener entityRecordItemListener;
+
+    @Setup
+    public void setup(Blackhole blackhole) {
+        var builder = new RecordItemBuilder().lookup(type);
+        recordItems = new RecordItem[ITEMS];
+        Arrays.setAll(recordItems, i -> builder.get().build());
+
+        var entityIdService = new StaticEntityIdService();
+        var entityListener = new BlackholeEntityListener(blackhole);
+        var entityProperties = new EntityProperties();
+        var syntheticContractLogService = new SyntheticContractLogServiceImpl(entityListener, entityProperties);
+        var syntheticContractResultService = new SyntheticContractResultServiceImpl(entityListener, entityProperties);
+        var transactionHandlerFactory = BenchmarkTransactionHandlerFactory.create(
+                entityIdService,
+                entityListener,
+                entityProperties,
+                syntheticContractLogService,
+                syntheticContractResultService);
+        entityRecordItemListener = new EntityRecordItemListener(
+                new CommonParserProperties(),
+                (recordItem, transaction) -> {},
+                entityIdService,
+                entityListener,
+                entityProperties,
+                transactionHandlerFactory,
+                syntheticContractLogService,
+                syntheticContractResultService);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public void onItem() {
+        for (var recordItem : recordItems) {
+            entityRecordItemListener.onItem(recordItem);
+        }
+    }
+
+    /*
+     * Consumes every domain object so the handlers' work isn't eliminated as dead code.
+     */
+    private record BlackholeEntityListener(Blackhole blackhole) implements EntityListener {
+
+        @Override
+        public void onAssessedCustomFee(AssessedCustomFee assessedCustomFee) {
+            blackhole.consume(assessedCustomFee);
+        }
+
+        @Override
+        public void onContract(Contract contract) {
+            blackhole.consume(contract);
+        }
+
+        @Override
+        public void onContractAction(ContractAction contractAction) {
+            blackhole.consume(contractAction);
+        }
+
+        @Override
+        public void onContractLog(ContractLog contractLog) {
+            blackhole.consume(contractLog);
+        }
+
+        @Override
+        public void onContractResult(ContractResult contractResult) {
+            blackhole.consume(contractResult);
+        }
+
+        @Override
+        public void onContractStateChange(ContractStateChange contractStateChange) {
+            blackhole.consume(contractStateChange);
+        }
+
+        @Override
+        public void onContractTransactions(Collection<ContractTransaction> contractTransactions) {
+            blackhole.consume(contractTransactions);
+        }
+
+        @Override
+        public void onCryptoAllowance(CryptoAllowance cryptoAllowance) {
+            blackhole.consume(cryptoAllowance);
+        }
+
+        @Override
+        public void onCustomFee(CustomFee customFee) {
+            blackhole.consume(customFee);
+        }
+
+        @Override
+        public void onCryptoTransfer(CryptoTransfer cryptoTransfer) {
+            blackhole.consume(cryptoTransfer);
+        }
+
+        @Override
+        public void onEntity(Entity entity) {
+            blackhole.consume(entity);
+        }
+
+        @Override
+        public void onEntityTransactions(Collection<EntityTransaction> entityTransactions) {
+            blackhole.consume(entityTransactions);
+        }
+
+        @Override
+        public void onEthereumTransaction(EthereumTransaction ethereumTransaction) {
+            blackhole.consume(ethereumTransaction);
+        }
+
+        @Override
+        public void onFileData(FileData fileData) {
+            blackhole.consume(fileData);
+        }
+
+        @Override
+        public void onLiveHash(LiveHash liveHash) {
+            blackhole.consume(liveHash);
+        }
+
+        @Override
+        public void onNetworkFreeze(NetworkFreeze networkFreeze) {
+            blackhole.consume(networkFreeze);
+        }
+
+        @Override
+        public void onNetworkStake(NetworkStake networkStake) {
+            blackhole.consume(networkStake);
+        }
+
+        @Override
+        public void onNft(Nft nft) {
+            blackhole.consume(nft);
+        }
+
+        @Override
+        public void onNftAllowance(NftAllowance nftAllowance) {
+            blackhole.consume(nftAllowance);
+        }
+
+        @Override
+        public void onNodeStake(NodeStake nodeStake) {
+            blackhole.consume(nodeStake);
+        }
+
+        @Override
+        public void onPrng(Prng prng) {
+            blackhole.consume(prng);
+        }
+
+        @Override
+        public void onSchedule(Schedule schedule) {
+            blackhole.consume(schedule);
+        }
+
+        @Override
+        public void onStakingRewardTransfer(StakingRewardTransfer stakingRewardTransfer) {
+            blackhole.consume(stakingRewardTransfer);
+        }
+
+        @Override
+        public void onToken(Token token) {
+            blackhole.consume(token);
+        }
+
+        @Override
+        public void onTokenAccount(TokenAccount tokenAccount) {
+            blackhole.consume(tokenAccount);
+        }
+
+        @Override
+        public void onTokenAllowance(TokenAllowance tokenAllowance) {
+            blackhole.consume(tokenAllowance);
+        }
+
+        @Override
+        public void onTokenTransfer(TokenTransfer tokenTransfer) {
+            blackhole.consume(tokenTransfer);
+        }
+
+        @Override
+        public void onTopicMessage(TopicMessage topicMessage) {
+            blackhole.consume(topicMessage);
+        }
+
+        @Override
+        public void onTransaction(Transaction transaction) {
+            blackhole.consume(transaction);
+        }
+
+        @Override
+        public void onTransactionSignature(TransactionSignature transactionSignature) {
+            blackhole.consume(transactionSignature);
+        }
+    }
+
+    /*
+     * Resolves entity ids from their numeric form without a database, since aliases aren't used by the benchmark.
+     */
+    private static class StaticEntityIdService implements EntityIdService {
+
+        @Override
+        public Optional<EntityId> lookup(AccountID accountId) {
+            return Optional.of(EntityId.of(accountId));
+        }
+
+        @Override
+        public Optional<EntityId> lookup(AccountID... accountIds) {
+            return Arrays.stream(accountIds).map(EntityId::of).findFirst();
+        }
+
+        @Override
+        public Optional<EntityId> lookup(ContractID contractId) {
+            return Optional.of(EntityId.of(contractId));
+        }
+
+        @Override
+        public Optional<EntityId> lookup(ContractID... contractIds) {
+            return Arrays.stream(contractIds).map(EntityId::of).findFirst();
+        }
+
+        @Override
+        public void notify(Entity entity) {
+            // Nothing to cache
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.ethereum;
+
+import com.esaulpaugh.headlong.rlp.RLPDecoder;
+import com.esaulpaugh.headlong.rlp.RLPItem;
+import com.hedera.mirror.common.domain.transaction.EthereumTransaction;
+import com.hedera.mirror.importer.parser.domain.RecordItemBuilder;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.codec.DecoderException;
+import org.apache.commons.codec.binary.Hex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the zero-copy RLP decoding of the Ethereum transaction parsers against a baseline that decodes and
+ * materializes every field with headlong.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5)
+public class EthereumTransactionParserBenchmark {
+
+    @Param({"EIP1559", "EIP2930", "LEGACY"})
+    private Type type;
+
+    private byte[] transactionBytes;
+    private EthereumTransactionParser parser;
+
+    @Setup
+    public void setup() throws DecoderException {
+        transactionBytes = Hex.decodeHex(type.rawTransaction);
+        parser = new CompositeEthereumTransactionParser(
+                new LegacyEthereumTransactionParser(),
+                new Eip2930EthereumTransactionParser(),
+                new Eip1559EthereumTransactionParser());
+    }
+
+    @Benchmark
+    public EthereumTransaction decode() {
+        return parser.decode(transactionBytes);
+    }
+
+    @Benchmark
+    public void headlong(Blackhole blackhole) {
+        var iterator = RLPDecoder.RLP_STRICT.sequenceIterator(transactionBytes);
+        while (iterator.hasNext()) {
+            var item = iterator.next();
+            if (item.isList()) {
+                for (RLPItem element : item.asRLPList().elements()) {
+                    blackhole.consume(element.data());
+                }
+            } else {
+                blackhole.consume(item.data());
+            }
+        }
+    }
+
+    @RequiredArgsConstructor
+    public enum Type {
+        EIP1559(RecordItemBuilder.LONDON_RAW_TX),
+        EIP2930(Eip2930EthereumTransactionParserTest.EIP_2930_RAW_TX),
+        LEGACY(LegacyEthereumTransactionParserTest.EIP155_RAW_TX);
+
+        private final String rawTransaction;
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.transactionhandler;
+
+import com.hedera.mirror.common.domain.addressbook.AddressBook;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.file.FileData;
+import com.hedera.mirror.importer.addressbook.AddressBookService;
+import com.hedera.mirror.importer.addressbook.ConsensusNode;
+import com.hedera.mirror.importer.domain.EntityIdService;
+import com.hedera.mirror.importer.parser.contractlog.SyntheticContractLogService;
+import com.hedera.mirror.importer.parser.contractresult.SyntheticContractResultService;
+import com.hedera.mirror.importer.parser.record.entity.EntityListener;
+import com.hedera.mirror.importer.parser.record.entity.EntityProperties;
+import com.hedera.mirror.importer.parser.record.ethereum.CompositeEthereumTransactionParser;
+import com.hedera.mirror.importer.parser.record.ethereum.Eip1559EthereumTransactionParser;
+import com.hedera.mirror.importer.parser.record.ethereum.Eip2930EthereumTransactionParser;
+import com.hedera.mirror.importer.parser.record.ethereum.LegacyEthereumTransactionParser;
+import java.util.Collection;
+import java.util.List;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Creates a transaction handler factory with the handlers of every transaction type without a Spring context. The
+ * address book service is stubbed since it requires a database.
+ */
+@UtilityClass
+public class BenchmarkTransactionHandlerFactory {
+
+    public static TransactionHandlerFactory create(
+            EntityIdService entityIdService,
+            EntityListener entityListener,
+            EntityProperties entityProperties,
+            SyntheticContractLogService syntheticContractLogService,
+            SyntheticContractResultService syntheticContractResultService) {
+        var addressBookService = new StaticAddressBookService();
+        var ethereumTransactionParser = new CompositeEthereumTransactionParser(
+                new LegacyEthereumTransactionParser(),
+                new Eip2930EthereumTransactionParser(),
+                new Eip1559EthereumTransactionParser());
+        var feeScheduleHandler = new TokenFeeScheduleUpdateTransactionHandler(entityListener, entityProperties);
+        var fileDataHandler = new FileDataHandler(addressBookService, entityListener, entityProperties);
+
+        return new TransactionHandlerFactory(List.of(
+                new ConsensusCreateTopicTransactionHandler(entityIdService, entityListener),
+                new ConsensusDeleteTopicTransactionHandler(entityIdService, entityListener),
+                new ConsensusSubmitMessageTransactionHandler(entityListener, entityProperties),
+                new ConsensusUpdateTopicTransactionHandler(entityIdService, entityListener),
+                new ContractCallTransactionHandler(entityIdService),
+                new ContractCreateTransactionHandler(entityIdService, entityListener, entityProperties),
+                new ContractDeleteTransactionHandler(entityIdService, entityListener),
+                new ContractUpdateTransactionHandler(entityIdService, entityListener),
+                new CryptoAddLiveHashTransactionHandler(entityListener, entityProperties),
+                new CryptoApproveAllowanceTransactionHandler(
+                        entityIdService, entityListener, syntheticContractLogService, syntheticContractResultService),
+                new CryptoCreateTransactionHandler(entityIdService, entityListener),
+                new CryptoDeleteAllowanceTransactionHandler(entityListener, syntheticContractLogService),
+                new CryptoDeleteLiveHashTransactionHandler(),
+                new CryptoDeleteTransactionHandler(entityIdService, entityListener),
+                new CryptoTransferTransactionHandler(),
+                new CryptoUpdateTransactionHandler(entityIdService, entityListener),
+                new EthereumTransactionHandler(entityListener, entityProperties, ethereumTransactionParser),
+                new FileAppendTransactionHandler(fileDataHandler),
+                new FileCreateTransactionHandler(entityIdService, entityListener, fileDataHandler),
+                new FileDeleteTransactionHandler(entityIdService, entityListener),
+                new FileUpdateTransactionHandler(entityIdService, entityListener, fileDataHandler),
+                new FreezeTransactionHandler(entityListener),
+                new NodeStakeUpdateTransactionHandler(event -> {}, addressBookService, entityListener),
+                new ScheduleCreateTransactionHandler(entityIdService, entityListener, entityProperties),
+                new ScheduleDeleteTransactionHandler(entityIdService, entityListener),
+                new ScheduleSignTransactionHandler(),
+                new SystemDeleteTransactionHandler(entityIdService, entityListener),
+                new SystemUndeleteTransactionHandler(entityIdService, entityListener),
+                new TokenAssociateTransactionHandler(entityListener, entityProperties),
+                new TokenBurnTransactionHandler(entityListener, entityProperties),
+                new TokenCreateTransactionHandler(
+                        entityIdService, entityListener, entityProperties, feeScheduleHandler),
+                new TokenDeleteTransactionHandler(entityIdService, entityListener),
+                new TokenDissociateTransactionHandler(entityListener, entityProperties),
+                feeScheduleHandler,
+                new TokenFreezeTransactionHandler(entityListener, entityProperties),
+                new TokenGrantKycTransactionHandler(entityListener, entityProperties),
+                new TokenMintTransactionHandler(entityListener, entityProperties),
+                new TokenPauseTransactionHandler(entityListener, entityProperties),
+                new TokenRevokeKycTransactionHandler(entityListener, entityProperties),
+                new TokenUnfreezeTransactionHandler(entityListener, entityProperties),
+                new TokenUnpauseTransactionHandler(entityListener, entityProperties),
+                new TokenUpdateNftsTransactionHandler(entityListener, entityProperties),
+                new TokenUpdateTransactionHandler(entityIdService, entityListener, entityProperties),
+                new TokenWipeTransactionHandler(entityIdService, entityListener, entityProperties),
+                new UncheckedSubmitTransactionHandler(),
+                new UnknownDataTransactionHandler(),
+                new UtilPrngTransactionHandler(entityListener)));
+    }
+
+    /*
+     * Treats every file as a regular file and has no consensus nodes, since both are read from the database.
+     */
+    private static class StaticAddressBookService implements AddressBookService {
+
+        @Override
+        public AddressBook getCurrent() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Collection<ConsensusNode> getNodes() {
+            return List.of();
+        }
+
+        @Override
+        public boolean isAddressBook(EntityId entityId) {
+            return false;
+        }
+
+        @Override
+        public AddressBook migrate() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void refresh() {
+            // Nothing to refresh
+        }
+
+        @Override
+        public void update(FileData fileData) {
+            // Never called since no file is an address book
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.reader.record;
+
+import com.google.common.primitives.Bytes;
+import com.google.common.primitives.Ints;
+import com.google.protobuf.ByteString;
+import com.hedera.mirror.common.domain.transaction.RecordFile;
+import com.hedera.mirror.common.domain.transaction.TransactionType;
+import com.hedera.mirror.importer.domain.StreamFileData;
+import com.hedera.mirror.importer.parser.domain.RecordItemBuilder;
+import com.hedera.services.stream.proto.HashAlgorithm;
+import com.hedera.services.stream.proto.HashObject;
+import com.hedera.services.stream.proto.RecordStreamFile;
+import com.hedera.services.stream.proto.RecordStreamItem;
+import com.hederahashgraph.api.proto.java.SemanticVersion;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 5)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5)
+public class ProtoRecordFileReaderBenchmark {
+
+    private static final String FILENAME = "2022-06-21T09_15_38.325469003Z.rcd.gz";
+
+    @Param({"100", "1000"})
+    private int count;
+
+    @Param({"CONSENSUSSUBMITMESSAGE", "CONTRACTCALL", "CRYPTOTRANSFER"})
+    private TransactionType type;
+
+    private byte[] bytes;
+    private RecordFileReader recordFileReader;
+
+    @Setup
+    public void setup() throws IOException {
+        var recordItemBuilder = new RecordItemBuilder();
+        var builder = recordItemBuilder.lookup(type);
+        var hash = HashObject.newBuilder()
+                .setAlgorithm(HashAlgorithm.SHA_384)
+                .setHash(ByteString.copyFrom(new byte[48]))
+                .setLength(48)
+                .build();
+        var recordStreamFile = RecordStreamFile.newBuilder()
+                .setBlockNumber(100L)
+                .setEndObjectRunningHash(hash)
+                .setHapiProtoVersion(SemanticVersion.newBuilder().setMinor(49))
+                .setStartObjectRunningHash(hash);
+
+        for (int i = 0; i < count; i++) {
+            var recordItem = builder.get().build();
+            recordStreamFile.addRecordStreamItems(RecordStreamItem.newBuilder()
+                    .setRecord(recordItem.getTransactionRecord())
+                    .setTransaction(recordItem.getTransaction()));
+        }
+
+        var data = Bytes.concat(
+                Ints.toByteArray(ProtoRecordFileReader.VERSION),
+                recordStreamFile.build().toByteArray());
+
+        try (var byteArrayOutputStream = new ByteArrayOutputStream();
+                var compressorOutputStream = new GzipCompressorOutputStream(byteArrayOutputStream)) {
+            compressorOutputStream.write(data);
+            compressorOutputStream.finish();
+            bytes = byteArrayOutputStream.toByteArray();
+        }
+
+        recordFileReader = new ProtoRecordFileReader();
+    }
+
+    @Benchmark
+    public RecordFile read() {
+        // StreamFileData caches the decompressed bytes, so create it per invocation to include decompression
+        return recordFileReader.read(StreamFileData.from(FILENAME, bytes));
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.repository.upsert;
+
+import static com.hedera.mirror.importer.util.Utility.toSnakeCase;
+
+import com.hedera.mirror.common.domain.UpsertColumn;
+import com.hedera.mirror.common.domain.Upsertable;
+import com.hedera.mirror.common.domain.entity.Entity;
+import com.hedera.mirror.common.domain.token.TokenAccount;
+import jakarta.persistence.Column;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import java.lang.reflect.Modifier;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.annotation.AnnotationUtils;
+
+/**
+ * Measures the generation of upsert SQL. The entity metadata is built from the domain class annotations instead of the
+ * JPA metamodel and the information schema so no database is required.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 5)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5)
+public class GenericUpsertQueryGeneratorBenchmark {
+
+    @Param({"ENTITY", "TOKEN_ACCOUNT"})
+    private Domain domain;
+
+    private GenericUpsertQueryGenerator generator;
+
+    @Setup
+    public void setup() {
+        generator = new GenericUpsertQueryGenerator(metadata(domain.type));
+    }
+
+    @Benchmark
+    public String getUpsertQuery() {
+        return generator.getUpsertQuery();
+    }
+
+    private static EntityMetadata metadata(Class<?> domainClass) {
+        var upsertable = AnnotationUtils.findAnnotation(domainClass, Upsertable.class);
+        var table = AnnotationUtils.findAnnotation(domainClass, Table.class);
+        var tableName = table != null ? table.name() : toSnakeCase(domainClass.getSimpleName());
+        var columns = new TreeSet<ColumnMetadata>();
+
+        for (var type = domainClass; type != Object.class; type = type.getSuperclass()) {
+            for (var field : type.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || field.isAnnotationPresent(Transient.class)) {
+                    continue;
+                }
+
+                var column = field.getAnnotation(Column.class);
+                var name = column != null && StringUtils.isNotBlank(column.name()) ? column.name() : field.getName();
+                boolean id = field.isAnnotationPresent(Id.class);
+                boolean updatable = !id && (column == null || column.updatable());
+                columns.add(new ColumnMetadata(
+                        null,
+                        null,
+                        id,
+                        toSnakeCase(name),
+                        true,
+                        null,
+                        field.getType(),
+                        updatable,
+                        field.getAnnotation(UpsertColumn.class)));
+            }
+        }
+
+        return new EntityMetadata(tableName, upsertable, columns);
+    }
+
+    @RequiredArgsConstructor
+    public enum Domain {
+        ENTITY(Entity.class),
+        TOKEN_ACCOUNT(TokenAccount.class);
+
+        private final Class<?> type;
+    }
+}
@@ -16,11 +16,10 @@
 
 package com.hedera.mirror.importer.downloader.record;
 
-import com.google.common.collect.ArrayListMultimap;
-import com.google.common.collect.Multimaps;
 import com.hedera.mirror.common.domain.transaction.RecordFile;
 import com.hedera.mirror.common.domain.transaction.RecordItem;
 import com.hedera.mirror.common.domain.transaction.SidecarFile;
+import com.hedera.mirror.common.util.DomainUtils;
 import com.hedera.mirror.importer.ImporterProperties;
 import com.hedera.mirror.importer.addressbook.ConsensusNode;
 import com.hedera.mirror.importer.addressbook.ConsensusNodeService;
@@ -41,14 +40,22 @@ import com.hedera.mirror.importer.reader.signature.SignatureFileReader;
 import com.hedera.mirror.importer.util.Utility;
 import com.hedera.services.stream.proto.SidecarType;
 import com.hedera.services.stream.proto.TransactionSidecarRecord;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.inject.Named;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.function.Function;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import org.springframework.scheduling.annotation.Scheduled;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @Named
 public class RecordFileDownloader extends Downloader<RecordFile, RecordItem> {
@@ -57,6 +64,9 @@ public class RecordFileDownloader extends Downloader<RecordFile, RecordItem> {
 
     private final SidecarFileReader sidecarFileReader;
     private final SidecarProperties sidecarProperties;
+    private final DistributionSummary sidecarBufferedMetric;
+    private final DistributionSummary sidecarBytesMetric;
+    private final Timer sidecarDecodeMetric;
 
     @SuppressWarnings("java:S107")
     public RecordFileDownloader(
@@ -85,6 +95,20 @@ public class RecordFileDownloader extends Downloader<RecordFile, RecordItem> {
                 streamFileReader);
         this.sidecarFileReader = sidecarFileReader;
         this.sidecarProperties = sidecarProperties;
+
+        sidecarBufferedMetric = DistributionSummary.builder("hedera.mirror.importer.sidecar.buffered")
+                .baseUnit("records")
+                .description("The number of decoded sidecar records buffered after each sidecar file is decoded")
+                .register(meterRegistry);
+
+        sidecarBytesMetric = DistributionSummary.builder("hedera.mirror.importer.sidecar.bytes")
+                .baseUnit("bytes")
+                .description("The size of the downloaded sidecar files")
+                .register(meterRegistry);
+
+        sidecarDecodeMetric = Timer.builder("hedera.mirror.importer.sidecar.decode")
+                .description("The time it takes to decode the records of a sidecar file")
+                .register(meterRegistry);
     }
 
     @Override
@@ -117,30 +141,29 @@ public class RecordFileDownloader extends Downloader<RecordFile, RecordItem> {
         var acceptedTypes =
                 sidecarProperties.getTypes().stream().map(Enum::ordinal).collect(Collectors.toSet());
 
-        var records = Flux.fromIterable(recordFile.getSidecars())
+        // Sidecar files are verified before the record file is published, but their records are decoded concurrently
+        // and handed to each record item when the parser reaches it
+        var sidecars = Flux.fromIterable(recordFile.getSidecars())
                 .filter(sidecar ->
                         acceptedTypes.isEmpty() || sidecar.getTypes().stream().anyMatch(acceptedTypes::contains))
-                .flatMap(sidecar -> getSidecar(node, recordFilename, sidecar))
-                .flatMapIterable(SidecarFile::getRecords)
-                .filter(t -> acceptedTypes.isEmpty() || acceptedTypes.contains(getSidecarType(t)))
-                .collect(Multimaps.toMultimap(
-                        TransactionSidecarRecord::getConsensusTimestamp,
-                        Function.identity(),
-                        ArrayListMultimap::create))
+                .flatMapSequential(sidecar -> getSidecar(node, recordFilename, sidecar, acceptedTypes))
+                .collectList()
                 .block();
 
-        recordFile.getItems().forEach(recordItem -> {
-            var timestamp = recordItem.getTransactionRecord().getConsensusTimestamp();
-            if (records.containsKey(timestamp)) {
-                recordItem.setSidecarRecords(records.get(timestamp));
-            }
-        });
+        if (sidecars == null || sidecars.isEmpty()) {
+            return;
+        }
+
+        var sidecarRecordBuckets = new SidecarRecordBuckets(sidecars, sidecarBufferedMetric);
+        recordFile.getItems().forEach(recordItem -> recordItem.setSidecarRecordsSupplier(
+                () -> sidecarRecordBuckets.take(recordItem.getConsensusTimestamp())));
     }
 
-    private Mono<SidecarFile> getSidecar(ConsensusNode node, StreamFilename recordFilename, SidecarFile sidecar) {
+    private Mono<CompletableFuture<NavigableMap<Long, List<TransactionSidecarRecord>>>> getSidecar(
+            ConsensusNode node, StreamFilename recordFilename, SidecarFile sidecar, Set<Integer> acceptedTypes) {
         var sidecarFilename = StreamFilename.from(recordFilename, sidecar.getName());
         return streamFileProvider.get(node, sidecarFilename).map(streamFileData -> {
-            sidecarFileReader.read(sidecar, streamFileData);
+            var content = sidecarFileReader.readContent(sidecar, streamFileData);
 
             if (!Arrays.equals(sidecar.getHash(), sidecar.getActualHash())) {
                 throw new HashMismatchException(
@@ -152,11 +175,30 @@ public class RecordFileDownloader extends Downloader<RecordFile, RecordItem> {
                 Utility.archiveFile(streamFileData.getFilePath(), sidecar.getBytes(), streamPath);
             }
 
+            sidecarBytesMetric.record(sidecar.getSize());
+
             if (!sidecarProperties.isPersistBytes()) {
                 sidecar.setBytes(null);
             }
 
-            return sidecar;
+            return Mono.fromCallable(() -> decode(sidecar, content, acceptedTypes))
+                    .subscribeOn(Schedulers.parallel())
+                    .toFuture();
+        });
+    }
+
+    private NavigableMap<Long, List<TransactionSidecarRecord>> decode(
+            SidecarFile sidecar, byte[] content, Set<Integer> acceptedTypes) {
+        return sidecarDecodeMetric.record(() -> {
+            var buckets = new TreeMap<Long, List<TransactionSidecarRecord>>();
+            for (var sidecarRecord : sidecarFileReader.decode(sidecar, content)) {
+                if (acceptedTypes.isEmpty() || acceptedTypes.contains(getSidecarType(sidecarRecord))) {
+                    var timestamp = DomainUtils.timestampInNanosMax(sidecarRecord.getConsensusTimestamp());
+                    buckets.computeIfAbsent(timestamp, k -> new ArrayList<>()).add(sidecarRecord);
+                }
+            }
+
+            return buckets;
         });
     }
 
@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.downloader.record;
+
+import com.hedera.services.stream.proto.TransactionSidecarRecord;
+import io.micrometer.core.instrument.DistributionSummary;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import reactor.core.publisher.Mono;
+
+/**
+ * Holds the sidecar records of a record file, bucketed by consensus timestamp, while its sidecar files are decoded
+ * concurrently. The bucket of a record item is taken when the parser reaches it, waiting only for the sidecar files up
+ * to the one containing its consensus timestamp. Since sidecar files are written in consensus order, no later sidecar
+ * file contains records for a timestamp once a decoded sidecar file ends after it. Buckets are released as they are
+ * taken, including those of record items the parser skipped. A sidecar file that failed to decode fails every
+ * subsequent take that needs it instead of being skipped.
+ */
+final class SidecarRecordBuckets {
+
+    private final NavigableMap<Long, List<TransactionSidecarRecord>> buffered = new TreeMap<>();
+    private final DistributionSummary bufferedMetric;
+    private final List<CompletableFuture<NavigableMap<Long, List<TransactionSidecarRecord>>>> sidecars;
+
+    private long bufferedEnd = Long.MIN_VALUE;
+    private int bufferedRecords;
+    private int next;
+
+    /**
+     * @param sidecars       The per-timestamp buckets of each sidecar file in sidecar file order
+     * @param bufferedMetric The metric recording the number of buffered sidecar records after each sidecar file
+     */
+    SidecarRecordBuckets(
+            List<CompletableFuture<NavigableMap<Long, List<TransactionSidecarRecord>>>> sidecars,
+            DistributionSummary bufferedMetric) {
+        this.bufferedMetric = bufferedMetric;
+        this.sidecars = new ArrayList<>(sidecars);
+    }
+
+    /**
+     * Takes the sidecar records of the consensus timestamp, waiting for the sidecar files that may contain them to be
+     * decoded. Must be called in ascending consensus timestamp order.
+     *
+     * @param consensusTimestamp The consensus timestamp of the record item
+     * @return The sidecar records of the consensus timestamp
+     */
+    synchronized List<TransactionSidecarRecord> take(long consensusTimestamp) {
+        while (bufferedEnd <= consensusTimestamp && next < sidecars.size()) {
+            // Only release the sidecar file once it's decoded, so a failed decode fails every retry of the parse
+            var buckets = Mono.fromFuture(sidecars.get(next)).block();
+            sidecars.set(next++, null);
+            buckets.forEach((timestamp, records) -> {
+                buffered.merge(timestamp, records, (existing, added) -> {
+                    existing.addAll(added);
+                    return existing;
+                });
+                bufferedRecords += records.size();
+            });
+
+            if (!buckets.isEmpty()) {
+                bufferedEnd = Math.max(bufferedEnd, buckets.lastKey());
+            }
+
+            bufferedMetric.record(bufferedRecords);
+        }
+
+        var skipped = buffered.headMap(consensusTimestamp, false);
+        skipped.values().forEach(records -> bufferedRecords -= records.size());
+        skipped.clear();
+
+        var records = buffered.remove(consensusTimestamp);
+        if (records == null) {
+            return Collections.emptyList();
+        }
+
+        bufferedRecords -= records.size();
+        return records;
+    }
+}
@@ -16,10 +16,12 @@
 
 package com.hedera.mirror.importer.migration;
 
+import com.google.common.collect.Range;
 import com.hedera.mirror.common.aggregator.LogsBloomAggregator;
 import com.hedera.mirror.importer.ImporterProperties;
 import com.hedera.mirror.importer.db.DBProperties;
 import com.hedera.mirror.importer.repository.RecordFileRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.Nonnull;
 import jakarta.inject.Named;
 import java.util.Map;
@@ -32,7 +34,7 @@ import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.transaction.support.TransactionOperations;
 
 @Named
-public class BackfillBlockMigration extends AsyncJavaMigration<Long> {
+public class BackfillBlockMigration extends ShardedAsyncJavaMigration {
 
     private static final String SELECT_CONTRACT_RESULT = "select bloom, gas_used " + "from contract_result cr "
             + "join transaction t on t.consensus_timestamp = cr.consensus_timestamp "
@@ -40,6 +42,9 @@ public class BackfillBlockMigration extends AsyncJavaMigration<Long> {
             + "  and cr.consensus_timestamp <= :consensusEnd "
             + "  and t.nonce = 0";
 
+    private static final String SELECT_KEY_RANGE =
+            "select min(consensus_end) as min, max(consensus_end) as max from record_file where gas_used = -1";
+
     private static final String SET_TRANSACTION_INDEX = "with indexed as ( "
             + "  select consensus_timestamp, row_number() over (order by consensus_timestamp) - 1 as index "
             + "  from transaction "
@@ -61,9 +66,10 @@ public class BackfillBlockMigration extends AsyncJavaMigration<Long> {
             DBProperties dbProperties,
             ImporterProperties importerProperties,
             NamedParameterJdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
             RecordFileRepository recordFileRepository,
             TransactionOperations transactionOperations) {
-        super(importerProperties.getMigration(), jdbcTemplate, dbProperties.getSchema());
+        super(importerProperties.getMigration(), meterRegistry, jdbcTemplate, dbProperties.getSchema());
         this.recordFileRepository = recordFileRepository;
         this.transactionOperations = transactionOperations;
     }
@@ -74,8 +80,12 @@ public class BackfillBlockMigration extends AsyncJavaMigration<Long> {
     }
 
     @Override
-    protected Long getInitial() {
-        return Long.MAX_VALUE;
+    protected Optional<Range<Long>> getKeyRange() {
+        var keyRange = namedParameterJdbcTemplate.queryForObject(SELECT_KEY_RANGE, Map.of(), (rs, rowNum) -> {
+            long min = rs.getLong("min");
+            return rs.wasNull() ? null : Range.closed(min, rs.getLong("max"));
+        });
+        return Optional.ofNullable(keyRange);
     }
 
     @Override
@@ -84,16 +94,16 @@ public class BackfillBlockMigration extends AsyncJavaMigration<Long> {
     }
 
     /**
-     * Backfills information for the record file immediately before the consensus end timestamp of the last record file.
+     * Backfills information for the first record file missing gas used in the remaining consensus end range.
      *
-     * @param lastConsensusEnd The consensus end timestamp of the last record file
-     * @return The consensus end of the processed record file or null if no record file is processed
+     * @param remaining The remaining consensus end range of the shard
+     * @return The consensus end of the processed record file or empty if no record file is processed
      */
     @Nonnull
     @Override
-    protected Optional<Long> migratePartial(Long lastConsensusEnd) {
+    protected Optional<Long> migrateShard(Range<Long> remaining) {
         return recordFileRepository
-                .findLatestMissingGasUsedBefore(lastConsensusEnd)
+                .findNextMissingGasUsed(remaining.lowerEndpoint(), remaining.upperEndpoint())
                 .map(recordFile -> {
                     var queryParams = Map.of(
                             "consensusStart",
@@ -30,4 +30,8 @@ public class MigrationProperties {
 
     @NotNull
     private Map<String, String> params = new CaseInsensitiveMap<>();
+
+    private int shards = 16;
+
+    private int workers = 1;
 }
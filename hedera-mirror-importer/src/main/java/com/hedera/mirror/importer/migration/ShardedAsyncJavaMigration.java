@@ -0,0 +1,303 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.migration;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Stopwatch;
+import com.google.common.collect.Range;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * An asynchronous migration that splits a closed key range into disjoint shards and migrates them concurrently. The
+ * progress of each shard is persisted in the same transaction as the migrated batch, so a restarted migration resumes
+ * every shard from where it left off. Within a shard, keys are processed in ascending order.
+ */
+abstract class ShardedAsyncJavaMigration extends AsyncJavaMigration<Long> {
+
+    private static final String DELETE_PROGRESS_SQL = "delete from async_migration_progress where migration = :migration";
+
+    private static final String INSERT_PROGRESS_SQL =
+            """
+            insert into async_migration_progress (last, lower_bound, migration, shard, upper_bound)
+            values (:last, :lowerBound, :migration, :shard, :upperBound)
+            """;
+
+    private static final String SELECT_PROGRESS_SQL =
+            """
+            select last, lower_bound, shard, upper_bound from async_migration_progress
+            where migration = :migration order by shard
+            """;
+
+    private static final String UPDATE_PROGRESS_SQL =
+            "update async_migration_progress set last = :last where migration = :migration and shard = :shard";
+
+    private final MeterRegistry meterRegistry;
+
+    protected ShardedAsyncJavaMigration(
+            Map<String, MigrationProperties> migrationPropertiesMap,
+            MeterRegistry meterRegistry,
+            NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+            String schema) {
+        super(migrationPropertiesMap, namedParameterJdbcTemplate, schema);
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Gets the closed key range to migrate. The lower endpoint must be greater than Long.MIN_VALUE.
+     *
+     * @return The key range, or empty if there is nothing to migrate
+     */
+    protected abstract Optional<Range<Long>> getKeyRange();
+
+    /**
+     * Migrates the next batch of keys in the remaining range of a shard. The remaining range is always open at the
+     * lower endpoint and closed at the upper endpoint.
+     *
+     * @param remaining The remaining key range of the shard
+     * @return The largest key migrated in the batch, or empty if there is nothing left to migrate in the range
+     */
+    @Nonnull
+    protected abstract Optional<Long> migrateShard(Range<Long> remaining);
+
+    /**
+     * Partitions the key range into disjoint, closed sub-ranges. The default implementation splits the key range evenly.
+     * Override it when keys are not uniformly distributed, e.g., to align sub-ranges with table partitions.
+     *
+     * @param keyRange The closed key range to partition
+     * @param count    The desired number of sub-ranges
+     * @return The ordered list of disjoint sub-ranges covering the key range
+     */
+    protected List<Range<Long>> partition(Range<Long> keyRange, int count) {
+        long lower = keyRange.lowerEndpoint();
+        long upper = keyRange.upperEndpoint();
+        long size = Math.max(1L, Math.ceilDiv(upper - lower + 1, count));
+        var ranges = new ArrayList<Range<Long>>(count);
+
+        for (long start = lower; start <= upper; start += size) {
+            long end = start + size - 1;
+            if (end >= upper || end < start) {
+                ranges.add(Range.closed(start, upper));
+                break;
+            }
+
+            ranges.add(Range.closed(start, end));
+        }
+
+        return ranges;
+    }
+
+    @Override
+    protected final Long getInitial() {
+        return Long.MIN_VALUE;
+    }
+
+    @Nonnull
+    @Override
+    protected final Optional<Long> migratePartial(Long last) {
+        return migrateShard(Range.openClosed(last, Long.MAX_VALUE));
+    }
+
+    @Override
+    protected void migrateAsync() {
+        var shards = getShards();
+        if (shards.isEmpty()) {
+            log.info("Skipping asynchronous migration since there is nothing to migrate");
+            return;
+        }
+
+        int workers = Math.max(1, migrationProperties.getWorkers());
+        var pending = shards.stream().filter(s -> !s.isComplete()).toList();
+        var progress = new Progress(shards);
+        var meters = registerMeters(progress);
+        var scheduler = Schedulers.newBoundedElastic(workers, Integer.MAX_VALUE, getClass().getSimpleName());
+        var stopwatch = Stopwatch.createStarted();
+        log.info(
+                "Starting asynchronous migration of {} pending out of {} shards with {} workers",
+                pending.size(),
+                shards.size(),
+                workers);
+
+        try {
+            Flux.fromIterable(pending)
+                    .flatMap(
+                            shard -> Mono.fromRunnable(() -> runShard(shard, progress))
+                                    .subscribeOn(scheduler),
+                            workers)
+                    .blockLast();
+            namedParameterJdbcTemplate.update(DELETE_PROGRESS_SQL, getSqlParamSource());
+            log.info("Successfully completed asynchronous migration of {} shards in {}", shards.size(), stopwatch);
+        } catch (Exception e) {
+            log.error("Error executing asynchronous migration of {} shards in {}", shards.size(), stopwatch);
+            throw e;
+        } finally {
+            scheduler.dispose();
+            meters.forEach(meterRegistry::remove);
+        }
+    }
+
+    @VisibleForTesting
+    List<Shard> getShards() {
+        var shards = namedParameterJdbcTemplate.query(
+                SELECT_PROGRESS_SQL,
+                getSqlParamSource(),
+                (rs, rowNum) -> new Shard(
+                        rs.getInt("shard"),
+                        rs.getLong("lower_bound"),
+                        rs.getLong("upper_bound"),
+                        rs.getObject("last", Long.class)));
+        if (!shards.isEmpty()) {
+            return shards;
+        }
+
+        var keyRange = getKeyRange();
+        if (keyRange.isEmpty()) {
+            return List.of();
+        }
+
+        var ranges = partition(keyRange.get(), Math.max(1, migrationProperties.getShards()));
+        var created = new ArrayList<Shard>(ranges.size());
+        for (int i = 0; i < ranges.size(); i++) {
+            var range = ranges.get(i);
+            var shard = new Shard(i, range.lowerEndpoint(), range.upperEndpoint(), null);
+            var paramSource = getSqlParamSource()
+                    .addValue("last", null)
+                    .addValue("lowerBound", shard.getLowerBound())
+                    .addValue("shard", shard.getIndex())
+                    .addValue("upperBound", shard.getUpperBound());
+            namedParameterJdbcTemplate.update(INSERT_PROGRESS_SQL, paramSource);
+            created.add(shard);
+        }
+
+        return created;
+    }
+
+    private void runShard(Shard shard, Progress progress) {
+        long count = 0;
+        var stopwatch = Stopwatch.createStarted();
+
+        while (!shard.isComplete()) {
+            var remaining = shard.getRemaining();
+            var last = Objects.requireNonNullElse(
+                    getTransactionOperations().execute(t -> {
+                        var migrated = migrateShard(remaining);
+                        long next = migrated.map(m -> Math.min(m, shard.getUpperBound()))
+                                .orElse(shard.getUpperBound());
+                        var paramSource = getSqlParamSource()
+                                .addValue("last", next)
+                                .addValue("shard", shard.getIndex());
+                        namedParameterJdbcTemplate.update(UPDATE_PROGRESS_SQL, paramSource);
+                        return Optional.of(next);
+                    }),
+                    Optional.<Long>empty());
+
+            if (last.isEmpty()) {
+                break;
+            }
+
+            long previous = remaining.lowerEndpoint();
+            shard.setLast(last.get());
+            progress.add(last.get() - previous);
+            count++;
+        }
+
+        log.info("Completed shard {} with {} iterations in {}", shard.getIndex(), count, stopwatch);
+    }
+
+    private List<Meter> registerMeters(Progress progress) {
+        var migration = getClass().getSimpleName();
+        return List.of(
+                Gauge.builder("hedera.mirror.importer.migration.eta", progress, Progress::getEta)
+                        .baseUnit("seconds")
+                        .description("The estimated time remaining for the asynchronous migration to complete")
+                        .tag("migration", migration)
+                        .register(meterRegistry),
+                Gauge.builder("hedera.mirror.importer.migration.throughput", progress, Progress::getThroughput)
+                        .baseUnit("keys")
+                        .description("The number of keys migrated per second by the asynchronous migration")
+                        .tag("migration", migration)
+                        .register(meterRegistry));
+    }
+
+    private MapSqlParameterSource getSqlParamSource() {
+        return new MapSqlParameterSource().addValue("migration", getClass().getSimpleName());
+    }
+
+    @AllArgsConstructor
+    @Data
+    static class Shard {
+
+        private final int index;
+        private final long lowerBound;
+        private final long upperBound;
+        private volatile Long last;
+
+        Range<Long> getRemaining() {
+            long lower = last != null ? last : lowerBound - 1;
+            return Range.openClosed(lower, upperBound);
+        }
+
+        boolean isComplete() {
+            return last != null && last >= upperBound;
+        }
+    }
+
+    private static class Progress {
+
+        private final AtomicLong migrated = new AtomicLong();
+        private final AtomicLong remaining = new AtomicLong();
+        private final Stopwatch stopwatch = Stopwatch.createStarted();
+
+        Progress(List<Shard> shards) {
+            for (var shard : shards) {
+                var range = shard.getRemaining();
+                remaining.addAndGet(range.upperEndpoint() - range.lowerEndpoint());
+            }
+        }
+
+        void add(long keys) {
+            migrated.addAndGet(keys);
+            remaining.addAndGet(-keys);
+        }
+
+        double getEta() {
+            double throughput = getThroughput();
+            return throughput > 0 ? remaining.get() / throughput : Double.NaN;
+        }
+
+        double getThroughput() {
+            long elapsed = stopwatch.elapsed(TimeUnit.MILLISECONDS);
+            return elapsed > 0 ? migrated.get() * 1000.0 / elapsed : 0.0;
+        }
+    }
+}
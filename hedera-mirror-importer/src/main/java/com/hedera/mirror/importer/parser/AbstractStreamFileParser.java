@@ -101,6 +101,7 @@ public abstract class AbstractStreamFileParser<T extends StreamFile<?>> implemen
                 return;
             }
 
+            streamFileListener.onStart();
             doParse(streamFile);
             doFlush(streamFile);
 
@@ -151,6 +152,10 @@ public abstract class AbstractStreamFileParser<T extends StreamFile<?>> implemen
                     continue;
                 }
 
+                if (previous == initial) {
+                    streamFileListener.onStart();
+                }
+
                 doParse(streamFile);
 
                 count += streamFile.getCount();
@@ -21,5 +21,10 @@ import com.hedera.mirror.importer.exception.ImporterException;
 
 public interface StreamFileListener<T extends StreamFile<?>> {
 
+    /**
+     * Called before parsing the stream files that will be flushed together by the next {@link #onEnd(StreamFile)}.
+     */
+    default void onStart() throws ImporterException {}
+
     void onEnd(T streamFile) throws ImporterException;
 }
@@ -32,6 +32,13 @@ public class CompositeBalanceStreamFileListener implements BalanceStreamFileList
     private final List<BalanceStreamFileListener> listeners;
     private final AccountBalanceFileRepository accountBalanceFileRepository;
 
+    @Override
+    public void onStart() throws ImporterException {
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onStart();
+        }
+    }
+
     @Override
     public void onEnd(AccountBalanceFile streamFile) throws ImporterException {
         accountBalanceFileRepository.save(streamFile);
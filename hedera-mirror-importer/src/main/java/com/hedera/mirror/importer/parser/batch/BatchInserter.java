@@ -34,6 +34,7 @@ import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Collection;
@@ -137,7 +138,7 @@ public class BatchInserter implements BatchPersister {
         }
 
         try (var pgCopyOutputStream = new PGCopyOutputStream(copyIn, properties.getBufferSize())) {
-            writer.writeValue(pgCopyOutputStream, items);
+            write(items, pgCopyOutputStream);
             rowsMetric.increment(items.size());
             latencyMetric.record(stopwatch.elapsed());
         } finally {
@@ -146,4 +147,11 @@ public class BatchInserter implements BatchPersister {
             }
         }
     }
+
+    /**
+     * Serializes the items as CSV rows in the column order of the COPY statement.
+     */
+    void write(Collection<?> items, OutputStream outputStream) throws IOException {
+        writer.writeValue(outputStream, items);
+    }
 }
@@ -31,6 +31,13 @@ public class CompositeRecordStreamFileListener implements RecordStreamFileListen
 
     private final List<RecordStreamFileListener> listeners;
 
+    @Override
+    public void onStart() throws ImporterException {
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onStart();
+        }
+    }
+
     @Override
     public void onEnd(RecordFile streamFile) throws ImporterException {
         for (int i = 0; i < listeners.size(); i++) {
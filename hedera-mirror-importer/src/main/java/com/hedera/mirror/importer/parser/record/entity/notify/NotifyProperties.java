@@ -28,5 +28,7 @@ public class NotifyProperties implements BatchPublisherProperties {
 
     private boolean enabled = false;
 
+    private boolean entities = false;
+
     private int maxJsonPayloadSize = 8000;
 }
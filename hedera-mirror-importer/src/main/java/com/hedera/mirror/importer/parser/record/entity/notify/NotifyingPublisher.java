@@ -19,6 +19,7 @@ package com.hedera.mirror.importer.parser.record.entity.notify;
 import static com.hedera.mirror.common.converter.ObjectToStringSerializer.OBJECT_MAPPER;
 
 import com.google.common.base.Stopwatch;
+import com.hedera.mirror.common.domain.entity.Entity;
 import com.hedera.mirror.common.domain.topic.TopicMessage;
 import com.hedera.mirror.common.domain.transaction.RecordFile;
 import com.hedera.mirror.importer.parser.record.entity.BatchPublisher;
@@ -28,6 +29,7 @@ import com.hedera.mirror.importer.util.Utility;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import jakarta.inject.Named;
+import java.util.ArrayList;
 import java.util.Collection;
 import lombok.CustomLog;
 import org.springframework.core.annotation.Order;
@@ -40,6 +42,7 @@ import org.springframework.jdbc.core.PreparedStatementCallback;
 @Order(1)
 public class NotifyingPublisher implements BatchPublisher {
 
+    private static final String ENTITY_SQL = "select pg_notify('entity', ?)";
     private static final String SQL = "select pg_notify('topic_message', ?)";
 
     private final NotifyProperties notifyProperties;
@@ -60,29 +63,69 @@ public class NotifyingPublisher implements BatchPublisher {
 
     @Override
     public void onEnd(RecordFile recordFile) {
-        if (!notifyProperties.isEnabled()) {
-            return;
+        if (notifyProperties.isEnabled()) {
+            notifyTopicMessages();
         }
 
+        if (notifyProperties.isEntities()) {
+            notifyEntities();
+        }
+    }
+
+    private void notifyTopicMessages() {
         var topicMessages = parserContext.get(TopicMessage.class);
         if (topicMessages.isEmpty()) {
             return;
         }
 
+        var payloads = new ArrayList<String>(topicMessages.size());
+        for (var topicMessage : topicMessages) {
+            String json = toJson(topicMessage);
+            if (json != null) {
+                payloads.add(json);
+            }
+        }
+
         var stopwatch = Stopwatch.createStarted();
-        timer.record(() -> jdbcTemplate.execute(SQL, callback(topicMessages)));
+        timer.record(() -> jdbcTemplate.execute(SQL, callback(payloads)));
         log.info("Finished notifying {} messages in {}", topicMessages.size(), stopwatch);
     }
 
-    private PreparedStatementCallback<int[]> callback(Collection<TopicMessage> topicMessages) {
-        return preparedStatement -> {
-            for (TopicMessage topicMessage : topicMessages) {
-                String json = toJson(topicMessage);
-                if (json != null) {
-                    preparedStatement.setString(1, json);
-                    preparedStatement.addBatch();
+    // Sends the ids of the changed entities as comma separated lists that fit in the maximum payload size
+    private void notifyEntities() {
+        var entities = parserContext.get(Entity.class);
+        if (entities.isEmpty()) {
+            return;
+        }
+
+        var payloads = new ArrayList<String>();
+        var payload = new StringBuilder();
+        for (var entity : entities) {
+            var id = String.valueOf(entity.getId());
+            if (!payload.isEmpty()) {
+                if (payload.length() + id.length() + 1 >= notifyProperties.getMaxJsonPayloadSize()) {
+                    payloads.add(payload.toString());
+                    payload.setLength(0);
+                } else {
+                    payload.append(',');
                 }
             }
+
+            payload.append(id);
+        }
+
+        payloads.add(payload.toString());
+        var stopwatch = Stopwatch.createStarted();
+        jdbcTemplate.execute(ENTITY_SQL, callback(payloads));
+        log.info("Finished notifying {} entity changes in {}", entities.size(), stopwatch);
+    }
+
+    private PreparedStatementCallback<int[]> callback(Collection<String> payloads) {
+        return preparedStatement -> {
+            for (String payload : payloads) {
+                preparedStatement.setString(1, payload);
+                preparedStatement.addBatch();
+            }
             return preparedStatement.executeBatch();
         };
     }
@@ -16,7 +16,6 @@
 
 package com.hedera.mirror.importer.parser.record.ethereum;
 
-import com.esaulpaugh.headlong.rlp.RLPDecoder;
 import com.hedera.mirror.common.domain.transaction.EthereumTransaction;
 import com.hedera.mirror.importer.exception.InvalidDatasetException;
 import jakarta.inject.Named;
@@ -28,6 +27,8 @@ import org.springframework.context.annotation.Primary;
 @Primary
 @RequiredArgsConstructor
 public class CompositeEthereumTransactionParser implements EthereumTransactionParser {
+    private static final int RLP_LIST_PREFIX = 0xc0;
+
     private final LegacyEthereumTransactionParser legacyEthereumTransactionParser;
     private final Eip2930EthereumTransactionParser eip2930EthereumTransactionParser;
     private final Eip1559EthereumTransactionParser eip1559EthereumTransactionParser;
@@ -43,19 +44,16 @@ public class CompositeEthereumTransactionParser implements EthereumTransactionPa
             throw new InvalidDatasetException("Ethereum transaction bytes length is less than 2 bytes in length");
         }
 
-        var decoder = RLPDecoder.RLP_STRICT.sequenceIterator(transactionBytes);
-        var firstRlpItem = decoder.next();
-
-        // legacy transactions are encoded as a list
-        if (firstRlpItem.isList()) {
+        // legacy transactions are encoded as a list, so inspect the prefix without decoding the whole envelope
+        int firstByte = Byte.toUnsignedInt(transactionBytes[0]);
+        if (firstByte >= RLP_LIST_PREFIX) {
             return legacyEthereumTransactionParser;
         }
 
         // typed transactions encode the type in the first byte
-        var legacyRlpItemByte = firstRlpItem.asByte();
-        if (legacyRlpItemByte == Eip2930EthereumTransactionParser.EIP2930_TYPE_BYTE) {
+        if (firstByte == Eip2930EthereumTransactionParser.EIP2930_TYPE_BYTE) {
             return eip2930EthereumTransactionParser;
-        } else if (legacyRlpItemByte == Eip1559EthereumTransactionParser.EIP1559_TYPE_BYTE) {
+        } else if (firstByte == Eip1559EthereumTransactionParser.EIP1559_TYPE_BYTE) {
             return eip1559EthereumTransactionParser;
         }
         throw new InvalidDatasetException("Unsupported Ethereum transaction data type");
@@ -16,7 +16,6 @@
 
 package com.hedera.mirror.importer.parser.record.ethereum;
 
-import com.esaulpaugh.headlong.rlp.RLPDecoder;
 import com.hedera.mirror.common.domain.transaction.EthereumTransaction;
 import com.hedera.mirror.importer.exception.InvalidEthereumBytesException;
 import jakarta.inject.Named;
@@ -29,20 +28,20 @@ public class Eip1559EthereumTransactionParser implements EthereumTransactionPars
 
     @Override
     public EthereumTransaction decode(byte[] transactionBytes) {
-        var decoder = RLPDecoder.RLP_STRICT.sequenceIterator(transactionBytes);
-        var type = decoder.next().asByte();
+        var typeRlpItem = RlpItem.decode(transactionBytes, 0);
+        var type = typeRlpItem.asByte();
         if (type != EIP1559_TYPE_BYTE) {
             throw new InvalidEthereumBytesException(
                     TRANSACTION_TYPE_NAME,
                     String.format("First byte was %s but should be %s", type, EIP1559_TYPE_BYTE));
         }
 
-        var eip1559RlpItem = decoder.next();
+        var eip1559RlpItem = typeRlpItem.next();
         if (!eip1559RlpItem.isList()) {
             throw new InvalidEthereumBytesException(TRANSACTION_TYPE_NAME, "Second RLPItem was not a list");
         }
 
-        var rlpItems = eip1559RlpItem.asRLPList().elements();
+        var rlpItems = eip1559RlpItem.elements();
         if (rlpItems.size() != EIP1559_TYPE_RLP_ITEM_COUNT) {
             throw new InvalidEthereumBytesException(
                     TRANSACTION_TYPE_NAME,
@@ -57,7 +56,7 @@ public class Eip1559EthereumTransactionParser implements EthereumTransactionPars
                 .maxFeePerGas(rlpItems.get(3).data())
                 .gasLimit(rlpItems.get(4).asLong())
                 .toAddress(rlpItems.get(5).data())
-                .value(rlpItems.get(6).asBigInt().toByteArray())
+                .value(rlpItems.get(6).asUnsignedIntegerBytes())
                 .callData(rlpItems.get(7).data())
                 .accessList(rlpItems.get(8).data())
                 .recoveryId((int) rlpItems.get(9).asByte())
@@ -16,7 +16,6 @@
 
 package com.hedera.mirror.importer.parser.record.ethereum;
 
-import com.esaulpaugh.headlong.rlp.RLPDecoder;
 import com.hedera.mirror.common.domain.transaction.EthereumTransaction;
 import com.hedera.mirror.importer.exception.InvalidEthereumBytesException;
 import jakarta.inject.Named;
@@ -29,20 +28,20 @@ public class Eip2930EthereumTransactionParser implements EthereumTransactionPars
 
     @Override
     public EthereumTransaction decode(byte[] transactionBytes) {
-        var decoder = RLPDecoder.RLP_STRICT.sequenceIterator(transactionBytes);
-        var type = decoder.next().asByte();
+        var typeRlpItem = RlpItem.decode(transactionBytes, 0);
+        var type = typeRlpItem.asByte();
         if (type != EIP2930_TYPE_BYTE) {
             throw new InvalidEthereumBytesException(
                     TRANSACTION_TYPE_NAME,
                     String.format("First byte was %s but should be %s", type, EIP2930_TYPE_BYTE));
         }
 
-        var eip2930RlpItem = decoder.next();
+        var eip2930RlpItem = typeRlpItem.next();
         if (!eip2930RlpItem.isList()) {
             throw new InvalidEthereumBytesException(TRANSACTION_TYPE_NAME, "Second RLPItem was not a list");
         }
 
-        var rlpItems = eip2930RlpItem.asRLPList().elements();
+        var rlpItems = eip2930RlpItem.elements();
         if (rlpItems.size() != EIP2930_TYPE_RLP_ITEM_COUNT) {
             throw new InvalidEthereumBytesException(
                     TRANSACTION_TYPE_NAME,
@@ -53,10 +52,10 @@ public class Eip2930EthereumTransactionParser implements EthereumTransactionPars
         var ethereumTransaction = EthereumTransaction.builder()
                 .chainId(rlpItems.get(0).data())
                 .nonce(rlpItems.get(1).asLong())
-                .gasPrice(rlpItems.get(2).asBytes())
+                .gasPrice(rlpItems.get(2).data())
                 .gasLimit(rlpItems.get(3).asLong())
                 .toAddress(rlpItems.get(4).data())
-                .value(rlpItems.get(5).asBigInt().toByteArray())
+                .value(rlpItems.get(5).asUnsignedIntegerBytes())
                 .callData(rlpItems.get(6).data())
                 .accessList(rlpItems.get(7).data())
                 .recoveryId((int) rlpItems.get(8).asByte())
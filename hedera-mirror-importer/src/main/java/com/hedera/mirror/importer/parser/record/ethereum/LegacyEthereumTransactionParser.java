@@ -16,7 +16,6 @@
 
 package com.hedera.mirror.importer.parser.record.ethereum;
 
-import com.esaulpaugh.headlong.rlp.RLPDecoder;
 import com.hedera.mirror.common.domain.transaction.EthereumTransaction;
 import com.hedera.mirror.importer.exception.InvalidEthereumBytesException;
 import jakarta.inject.Named;
@@ -30,9 +29,12 @@ public class LegacyEthereumTransactionParser implements EthereumTransactionParse
 
     @Override
     public EthereumTransaction decode(byte[] transactionBytes) {
-        var decoder = RLPDecoder.RLP_STRICT.sequenceIterator(transactionBytes);
-        var legacyRlpItem = decoder.next();
-        var rlpItems = legacyRlpItem.asRLPList().elements();
+        var legacyRlpItem = RlpItem.decode(transactionBytes, 0);
+        if (!legacyRlpItem.isList()) {
+            throw new InvalidEthereumBytesException(TRANSACTION_TYPE_NAME, "RLPItem was not a list");
+        }
+
+        var rlpItems = legacyRlpItem.elements();
         if (rlpItems.size() != LEGACY_TYPE_RLP_ITEM_COUNT) {
             throw new InvalidEthereumBytesException(
                     TRANSACTION_TYPE_NAME,
@@ -43,14 +45,14 @@ public class LegacyEthereumTransactionParser implements EthereumTransactionParse
 
         var ethereumTransaction = EthereumTransaction.builder()
                 .nonce(rlpItems.get(0).asLong())
-                .gasPrice(rlpItems.get(1).asBytes())
+                .gasPrice(rlpItems.get(1).data())
                 .gasLimit(rlpItems.get(2).asLong())
                 .toAddress(rlpItems.get(3).data())
-                .value(rlpItems.get(4).asBigInt().toByteArray())
+                .value(rlpItems.get(4).asUnsignedIntegerBytes())
                 .callData(rlpItems.get(5).data())
                 .type(LEGACY_TYPE_BYTE);
 
-        var v = rlpItems.get(6).asBytes();
+        var v = rlpItems.get(6).data();
         BigInteger vBi = new BigInteger(1, v);
         ethereumTransaction
                 .signatureV(v)
@@ -0,0 +1,218 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.ethereum;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A zero-copy view of a strictly (canonically) encoded RLP item within a byte array. Decoding only records offsets
+ * into the original buffer, and the item's data is copied out of the buffer only when it is materialized.
+ */
+final class RlpItem {
+
+    private static final int LIST_LONG_OFFSET = 0xf7;
+    private static final int LIST_SHORT_OFFSET = 0xc0;
+    private static final int STRING_LONG_OFFSET = 0xb7;
+    private static final int STRING_SHORT_OFFSET = 0x80;
+    private static final int MAX_SHORT_LENGTH = 55;
+
+    private final byte[] buffer;
+    private final int dataOffset;
+    private final int dataLength;
+    private final int endOffset;
+    private final boolean list;
+
+    private RlpItem(byte[] buffer, int dataOffset, int dataLength, boolean list) {
+        this.buffer = buffer;
+        this.dataOffset = dataOffset;
+        this.dataLength = dataLength;
+        this.endOffset = dataOffset + dataLength;
+        this.list = list;
+    }
+
+    /**
+     * Decodes the RLP item starting at the offset of the buffer.
+     *
+     * @param buffer The buffer containing the RLP encoded item
+     * @param offset The offset of the first byte of the item
+     * @return The decoded item
+     * @throws IllegalArgumentException if the item is not canonically encoded or exceeds the buffer
+     */
+    static RlpItem decode(byte[] buffer, int offset) {
+        return decode(buffer, offset, buffer.length);
+    }
+
+    private static RlpItem decode(byte[] buffer, int offset, int limit) {
+        if (offset >= limit) {
+            throw new IllegalArgumentException("RLP item at offset " + offset + " exceeds the end of the data");
+        }
+
+        int prefix = buffer[offset] & 0xff;
+        if (prefix < STRING_SHORT_OFFSET) {
+            return new RlpItem(buffer, offset, 1, false);
+        } else if (prefix <= STRING_LONG_OFFSET) {
+            int length = prefix - STRING_SHORT_OFFSET;
+            var item = create(buffer, offset + 1, length, limit, false);
+            if (length == 1 && (buffer[offset + 1] & 0xff) < STRING_SHORT_OFFSET) {
+                throw new IllegalArgumentException("Non-canonical single byte RLP string at offset " + offset);
+            }
+            return item;
+        } else if (prefix < LIST_SHORT_OFFSET) {
+            return createLong(buffer, offset, prefix - STRING_LONG_OFFSET, limit, false);
+        } else if (prefix <= LIST_LONG_OFFSET) {
+            return create(buffer, offset + 1, prefix - LIST_SHORT_OFFSET, limit, true);
+        } else {
+            return createLong(buffer, offset, prefix - LIST_LONG_OFFSET, limit, true);
+        }
+    }
+
+    private static RlpItem create(byte[] buffer, int dataOffset, long length, int limit, boolean list) {
+        if (length > limit - dataOffset) {
+            throw new IllegalArgumentException("RLP item at offset " + dataOffset + " exceeds the end of the data");
+        }
+
+        return new RlpItem(buffer, dataOffset, (int) length, list);
+    }
+
+    private static RlpItem createLong(byte[] buffer, int offset, int lengthOfLength, int limit, boolean list) {
+        int lengthOffset = offset + 1;
+        if (lengthOfLength > limit - lengthOffset) {
+            throw new IllegalArgumentException("RLP length at offset " + offset + " exceeds the end of the data");
+        }
+
+        if (buffer[lengthOffset] == 0) {
+            throw new IllegalArgumentException("RLP length with leading zero at offset " + offset);
+        }
+
+        long length = 0;
+        for (int i = lengthOffset; i < lengthOffset + lengthOfLength; i++) {
+            length = (length << 8) | (buffer[i] & 0xff);
+            if (length > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("RLP length too large at offset " + offset);
+            }
+        }
+
+        if (length <= MAX_SHORT_LENGTH) {
+            throw new IllegalArgumentException("Non-canonical RLP long length at offset " + offset);
+        }
+
+        return create(buffer, lengthOffset + lengthOfLength, length, limit, list);
+    }
+
+    boolean isList() {
+        return list;
+    }
+
+    /**
+     * Decodes the item immediately following this one in the buffer.
+     *
+     * @return The next item
+     */
+    RlpItem next() {
+        return decode(buffer, endOffset);
+    }
+
+    /**
+     * Decodes the elements of a list item. The elements share the buffer of the list.
+     *
+     * @return The elements of the list
+     */
+    List<RlpItem> elements() {
+        if (!list) {
+            throw new IllegalArgumentException("RLP item is not a list");
+        }
+
+        var elements = new ArrayList<RlpItem>();
+        int offset = dataOffset;
+        while (offset < endOffset) {
+            var element = decode(buffer, offset, endOffset);
+            elements.add(element);
+            offset = element.endOffset;
+        }
+
+        return elements;
+    }
+
+    byte asByte() {
+        assertString();
+        if (dataLength == 0) {
+            return 0;
+        } else if (dataLength != 1) {
+            throw new IllegalArgumentException("RLP item of length " + dataLength + " is too large for a byte");
+        }
+
+        return buffer[dataOffset];
+    }
+
+    long asLong() {
+        assertString();
+        if (dataLength > Long.BYTES) {
+            throw new IllegalArgumentException("RLP item of length " + dataLength + " is too large for a long");
+        }
+
+        assertNoLeadingZero();
+        long value = 0;
+        for (int i = dataOffset; i < endOffset; i++) {
+            value = (value << 8) | (buffer[i] & 0xff);
+        }
+
+        return value;
+    }
+
+    /**
+     * Materializes the item's data by copying it out of the buffer.
+     *
+     * @return A copy of the item's data
+     */
+    byte[] data() {
+        return Arrays.copyOfRange(buffer, dataOffset, endOffset);
+    }
+
+    /**
+     * Materializes the item's data as an unsigned integer in two's complement form. This is equivalent to
+     * {@code new BigInteger(1, data()).toByteArray()} without the intermediate copies.
+     *
+     * @return The minimal two's complement representation of the unsigned integer
+     */
+    byte[] asUnsignedIntegerBytes() {
+        assertString();
+        assertNoLeadingZero();
+        if (dataLength == 0) {
+            return new byte[] {0};
+        } else if (buffer[dataOffset] < 0) {
+            var bytes = new byte[dataLength + 1];
+            System.arraycopy(buffer, dataOffset, bytes, 1, dataLength);
+            return bytes;
+        }
+
+        return data();
+    }
+
+    private void assertNoLeadingZero() {
+        if (dataLength > 0 && buffer[dataOffset] == 0) {
+            throw new IllegalArgumentException("RLP integer with leading zero at offset " + dataOffset);
+        }
+    }
+
+    private void assertString() {
+        if (list) {
+            throw new IllegalArgumentException("RLP item is a list");
+        }
+    }
+}
@@ -0,0 +1,286 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.pubsub;
+
+import com.google.cloud.spring.pubsub.core.PubSubTemplate;
+import com.google.cloud.spring.pubsub.support.GcpPubSubHeaders;
+import com.google.cloud.spring.pubsub.support.PublisherFactory;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.importer.exception.ParserException;
+import com.hedera.mirror.importer.parser.domain.PubSubMessage;
+import jakarta.inject.Named;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Publishes messages to PubSub asynchronously, bounding the number of in-flight messages, and tracks the outcome of
+ * every message published since the last {@link #await()} so the record file is only acknowledged once all of its
+ * messages have been published.
+ *
+ * <p>A failed publish pauses its ordering key in the PubSub client, failing the messages for that key still in flight.
+ * To keep the messages of a key in order, it's held until all of its in-flight messages have completed. The key is
+ * then resumed and its failed and held messages are resent in the order they were originally published.
+ */
+@CustomLog
+@Named
+@ConditionalOnPubSubRecordParser
+public class PubSubBatchPublisher {
+
+    private final PubSubProperties pubSubProperties;
+    private final PubSubTemplate pubSubTemplate;
+    private final PublisherFactory publisherFactory;
+    private final Semaphore inFlight;
+    private final List<CompletableFuture<Void>> pending = new ArrayList<>();
+    private final Map<String, OrderingKey> orderingKeys = new HashMap<>();
+    private long sequence;
+
+    public PubSubBatchPublisher(
+            PubSubProperties pubSubProperties, PubSubTemplate pubSubTemplate, PublisherFactory publisherFactory) {
+        this.pubSubProperties = pubSubProperties;
+        this.pubSubTemplate = pubSubTemplate;
+        this.publisherFactory = publisherFactory;
+        this.inFlight = new Semaphore(pubSubProperties.getMaxInFlight());
+    }
+
+    /**
+     * Publishes the message asynchronously. Blocks if the maximum number of in-flight messages is reached.
+     *
+     * @param message The message to publish
+     */
+    public void publish(PubSubMessage message) {
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ParserException("Interrupted while waiting to send transaction to pubsub", e);
+        }
+
+        var result = new CompletableFuture<Void>();
+        result.whenComplete((r, e) -> inFlight.release());
+
+        try {
+            var header = getHeader(message);
+            var orderingKey = header.get(GcpPubSubHeaders.ORDERING_KEY);
+
+            if (orderingKey == null) {
+                send(message, header, result, 0);
+            } else {
+                publishOrdered(orderingKey, new OrderedMessage(message, header, result, sequence++));
+            }
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+            throw e;
+        }
+
+        pending.add(result);
+    }
+
+    /**
+     * Waits for all messages published since the last call to complete.
+     *
+     * @throws ParserException if any message failed to be published or the wait timed out
+     */
+    public void await() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        int count = pending.size();
+        long timeout = pubSubProperties.getPublishTimeout().toMillis();
+
+        try {
+            CompletableFuture.allOf(pending.toArray(new CompletableFuture<?>[0])).get(timeout, TimeUnit.MILLISECONDS);
+            log.debug("Published {} transactions to pubsub", count);
+        } catch (ExecutionException e) {
+            throw new ParserException("Error sending transactions to pubsub", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ParserException("Interrupted while waiting for transactions to be sent to pubsub", e);
+        } catch (TimeoutException e) {
+            throw new ParserException(
+                    String.format("Timed out after %d ms waiting for %d transactions", timeout, count), e);
+        } finally {
+            clear();
+        }
+    }
+
+    /**
+     * Forgets the messages published since the last {@link #await()}, failing any still held back by a paused ordering
+     * key, so that a retried record file starts afresh.
+     */
+    public synchronized void clear() {
+        var cleared = new ParserException("Cleared before the transaction was sent to pubsub");
+        orderingKeys.values().forEach(k -> {
+            // Messages of the previous attempt still in flight are failed instead of resent when they complete
+            k.error = cleared;
+            k.paused = true;
+            k.fail(cleared);
+        });
+        orderingKeys.clear();
+        pending.clear();
+    }
+
+    private Map<String, String> getHeader(PubSubMessage message) {
+        var header = new HashMap<String, String>();
+        header.put("consensusTimestamp", message.getConsensusTimestamp().toString());
+
+        var entity = message.getEntity();
+        if (pubSubProperties.isOrdered() && !EntityId.isEmpty(entity)) {
+            header.put(GcpPubSubHeaders.ORDERING_KEY, entity.toString());
+        }
+
+        return header;
+    }
+
+    private void send(
+            PubSubMessage message, Map<String, String> header, CompletableFuture<Void> result, int retryCount) {
+        String topicName = pubSubProperties.getTopicName();
+        int retry = retryCount + 1;
+        pubSubTemplate.publish(topicName, message, header).whenComplete((id, ex) -> {
+            if (ex == null) {
+                log.debug("Published transaction : {}", message.getConsensusTimestamp());
+                result.complete(null);
+            } else if (retry > pubSubProperties.getMaxSendAttempts()) {
+                log.error("Failed to send message to PubSub after {} attempts: {}", retry - 1, ex);
+                result.completeExceptionally(ex);
+            } else {
+                log.warn("Attempt {} to send message to PubSub failed: {}", retry, ex);
+
+                try {
+                    send(message, header, result, retry);
+                } catch (Exception e) {
+                    result.completeExceptionally(e);
+                }
+            }
+        });
+    }
+
+    private synchronized void publishOrdered(String key, OrderedMessage message) {
+        var orderingKey = orderingKeys.computeIfAbsent(key, OrderingKey::new);
+
+        if (orderingKey.paused) {
+            orderingKey.held.add(message);
+        } else {
+            sendOrdered(orderingKey, message);
+        }
+    }
+
+    private synchronized void sendOrdered(OrderingKey orderingKey, OrderedMessage message) {
+        ++orderingKey.inFlight;
+        ++message.attempts;
+
+        try {
+            pubSubTemplate
+                    .publish(pubSubProperties.getTopicName(), message.message, message.header)
+                    .whenComplete((id, ex) -> onComplete(orderingKey, message, ex));
+        } catch (RuntimeException e) {
+            --orderingKey.inFlight;
+            throw e;
+        }
+    }
+
+    private synchronized void onComplete(OrderingKey orderingKey, OrderedMessage message, Throwable ex) {
+        --orderingKey.inFlight;
+
+        if (ex == null) {
+            log.debug("Published transaction : {}", message.message.getConsensusTimestamp());
+            message.result.complete(null);
+        } else if (orderingKey.error != null) {
+            message.result.completeExceptionally(orderingKey.error);
+        } else if (message.attempts > pubSubProperties.getMaxSendAttempts()) {
+            log.error("Failed to send message to PubSub after {} attempts: {}", message.attempts, ex);
+            message.result.completeExceptionally(ex);
+            orderingKey.error = ex;
+            orderingKey.paused = true;
+        } else {
+            log.warn("Attempt {} to send message to PubSub failed: {}", message.attempts, ex);
+            orderingKey.held.add(message);
+            orderingKey.paused = true;
+        }
+
+        if (orderingKey.paused && orderingKey.inFlight == 0) {
+            resume(orderingKey);
+        }
+    }
+
+    /*
+     * Resumes a paused ordering key once none of its messages are in flight, resending its held messages in their
+     * original order. If one of its messages exhausted its attempts, the held messages are failed instead.
+     */
+    private void resume(OrderingKey orderingKey) {
+        try {
+            publisherFactory.createPublisher(pubSubProperties.getTopicName()).resumePublish(orderingKey.key);
+        } catch (Exception e) {
+            orderingKey.error = Objects.requireNonNullElse(orderingKey.error, e);
+        }
+
+        if (orderingKey.error != null) {
+            orderingKey.fail(orderingKey.error);
+            orderingKey.error = null;
+            orderingKey.paused = false;
+            return;
+        }
+
+        orderingKey.paused = false;
+        OrderedMessage message;
+        while (!orderingKey.paused && (message = orderingKey.held.poll()) != null) {
+            try {
+                sendOrdered(orderingKey, message);
+            } catch (Exception e) {
+                message.result.completeExceptionally(e);
+            }
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class OrderedMessage {
+
+        private final PubSubMessage message;
+        private final Map<String, String> header;
+        private final CompletableFuture<Void> result;
+        private final long sequence;
+        private int attempts;
+    }
+
+    @RequiredArgsConstructor
+    private static class OrderingKey {
+
+        private final String key;
+        private final Queue<OrderedMessage> held = new PriorityQueue<>(Comparator.comparingLong(m -> m.sequence));
+        private Throwable error;
+        private int inFlight;
+        private boolean paused;
+
+        private void fail(Throwable throwable) {
+            held.forEach(m -> m.result.completeExceptionally(throwable));
+            held.clear();
+        }
+    }
+}
@@ -16,7 +16,10 @@
 
 package com.hedera.mirror.importer.parser.record.pubsub;
 
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
@@ -32,4 +35,12 @@ public class PubSubProperties {
     private String topicName;
 
     private int maxSendAttempts = 5;
+
+    @Min(1)
+    private int maxInFlight = 10000;
+
+    private boolean ordered = false;
+
+    @NotNull
+    private Duration publishTimeout = Duration.ofSeconds(60);
 }
@@ -16,7 +16,6 @@
 
 package com.hedera.mirror.importer.parser.record.pubsub;
 
-import com.google.cloud.spring.pubsub.core.PubSubTemplate;
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.file.FileData;
 import com.hedera.mirror.common.domain.transaction.RecordItem;
@@ -36,8 +35,6 @@ import com.hederahashgraph.api.proto.java.FileID;
 import com.hederahashgraph.api.proto.java.TransactionBody;
 import com.hederahashgraph.api.proto.java.TransactionRecord;
 import jakarta.inject.Named;
-import java.util.Map;
-import java.util.concurrent.CompletableFuture;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
 
@@ -47,8 +44,7 @@ import lombok.RequiredArgsConstructor;
 @ConditionalOnPubSubRecordParser
 public class PubSubRecordItemListener implements RecordItemListener {
 
-    private final PubSubProperties pubSubProperties;
-    private final PubSubTemplate pubSubTemplate;
+    private final PubSubBatchPublisher pubSubBatchPublisher;
     private final AddressBookService addressBookService;
     private final TransactionHandlerFactory transactionHandlerFactory;
 
@@ -78,10 +74,8 @@ public class PubSubRecordItemListener implements RecordItemListener {
         }
 
         PubSubMessage pubSubMessage = buildPubSubMessage(consensusTimestamp, entityId, recordItem);
-        Map<String, String> header = Map.of(
-                "consensusTimestamp", pubSubMessage.getConsensusTimestamp().toString());
         try {
-            sendPubSubMessage(pubSubMessage, header, 0);
+            pubSubBatchPublisher.publish(pubSubMessage);
         } catch (Exception e) {
             // This will make RecordFileParser to retry whole file, thus sending duplicates of previous transactions
             // in this file. In needed in future, this can be optimized to resend only the txns with consensusTimestamp
@@ -110,11 +104,6 @@ public class PubSubRecordItemListener implements RecordItemListener {
         }
     }
 
-    private void sendPubSubMessage(PubSubMessage message, Map<String, String> header, int retryCount) {
-        var publishResult = pubSubTemplate.publish(pubSubProperties.getTopicName(), message, header);
-        setPublishCallback(publishResult, message, header, retryCount);
-    }
-
     private PubSubMessage buildPubSubMessage(long consensusTimestamp, EntityId entity, RecordItem recordItem) {
         var nonFeeTransfers = addNonFeeTransfers(recordItem.getTransactionBody());
         return new PubSubMessage(
@@ -136,24 +125,4 @@ public class PubSubRecordItemListener implements RecordItemListener {
         }
         return nonFeeTransfers;
     }
-
-    private void setPublishCallback(
-            CompletableFuture<String> publishResult,
-            PubSubMessage message,
-            Map<String, String> header,
-            int retryCount) {
-        int retry = retryCount + 1;
-        publishResult.whenComplete((result, ex) -> {
-            if (ex != null) {
-                if (retry > pubSubProperties.getMaxSendAttempts()) {
-                    log.error("Failed to send message to PubSub after {} attempts: {}", retry - 1, ex);
-                } else {
-                    log.warn("Attempt {} to send message to PubSub failed: {}", retry, ex);
-                    sendPubSubMessage(message, header, retry);
-                }
-            } else {
-                log.debug("Published transaction : {}", message.getConsensusTimestamp());
-            }
-        });
-    }
 }
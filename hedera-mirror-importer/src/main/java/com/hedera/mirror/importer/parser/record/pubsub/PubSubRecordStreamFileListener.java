@@ -29,11 +29,21 @@ import lombok.RequiredArgsConstructor;
 @ConditionalOnPubSubRecordParser
 public class PubSubRecordStreamFileListener implements RecordStreamFileListener {
 
+    private final PubSubBatchPublisher pubSubBatchPublisher;
     private final RecordFileRepository recordFileRepository;
     private final SidecarFileRepository sidecarFileRepository;
 
+    @Override
+    public void onStart() throws ImporterException {
+        // Drop any messages left over from a previous attempt that failed before it was acknowledged
+        pubSubBatchPublisher.clear();
+    }
+
     @Override
     public void onEnd(RecordFile recordFile) throws ImporterException {
+        // Only acknowledge the record file once all of its transactions have been published
+        pubSubBatchPublisher.await();
+
         if (recordFile != null) {
             recordFileRepository.save(recordFile);
             sidecarFileRepository.saveAll(recordFile.getSidecars());
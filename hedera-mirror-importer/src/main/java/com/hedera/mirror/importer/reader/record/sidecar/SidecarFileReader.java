@@ -18,8 +18,29 @@ package com.hedera.mirror.importer.reader.record.sidecar;
 
 import com.hedera.mirror.common.domain.transaction.SidecarFile;
 import com.hedera.mirror.importer.domain.StreamFileData;
+import com.hedera.services.stream.proto.TransactionSidecarRecord;
+import java.util.List;
 
 public interface SidecarFileReader {
 
     void read(SidecarFile sidecarFile, StreamFileData streamFileData);
+
+    /**
+     * Reads the sidecar file without decoding its records. The actual hash, bytes, count and size of the sidecar file
+     * are populated so it can be verified before its records are decoded with {@link #decode(SidecarFile, byte[])}.
+     *
+     * @param sidecarFile    The sidecar file to populate
+     * @param streamFileData The sidecar stream file data
+     * @return The uncompressed content of the sidecar file
+     */
+    byte[] readContent(SidecarFile sidecarFile, StreamFileData streamFileData);
+
+    /**
+     * Decodes the records from the uncompressed content of the sidecar file.
+     *
+     * @param sidecarFile The sidecar file
+     * @param content     The uncompressed content of the sidecar file
+     * @return The sidecar records
+     */
+    List<TransactionSidecarRecord> decode(SidecarFile sidecarFile, byte[] content);
 }
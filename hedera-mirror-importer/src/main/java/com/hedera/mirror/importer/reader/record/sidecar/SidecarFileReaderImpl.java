@@ -16,32 +16,74 @@
 
 package com.hedera.mirror.importer.reader.record.sidecar;
 
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.WireFormat;
 import com.hedera.mirror.common.domain.transaction.SidecarFile;
 import com.hedera.mirror.importer.domain.StreamFileData;
 import com.hedera.mirror.importer.exception.InvalidStreamFileException;
+import com.hedera.services.stream.proto.TransactionSidecarRecord;
 import jakarta.inject.Named;
+import java.io.IOException;
 import java.security.DigestInputStream;
 import java.security.MessageDigest;
+import java.util.List;
 
 @Named
 public class SidecarFileReaderImpl implements SidecarFileReader {
 
     @Override
     public void read(SidecarFile sidecarFile, StreamFileData streamFileData) {
+        var content = readContent(sidecarFile, streamFileData);
+        sidecarFile.setRecords(decode(sidecarFile, content));
+    }
+
+    @Override
+    public byte[] readContent(SidecarFile sidecarFile, StreamFileData streamFileData) {
         try (var digestInputStream = new DigestInputStream(
                 streamFileData.getInputStream(),
                 MessageDigest.getInstance(sidecarFile.getHashAlgorithm().getName()))) {
-            var protoSidecarFile = com.hedera.services.stream.proto.SidecarFile.parseFrom(digestInputStream);
+            var content = digestInputStream.readAllBytes();
             var bytes = streamFileData.getBytes();
             sidecarFile.setActualHash(digestInputStream.getMessageDigest().digest());
             sidecarFile.setBytes(bytes);
-            sidecarFile.setCount(protoSidecarFile.getSidecarRecordsCount());
-            sidecarFile.setRecords(protoSidecarFile.getSidecarRecordsList());
+            sidecarFile.setCount(countRecords(content));
             sidecarFile.setSize(bytes.length);
+            return content;
         } catch (InvalidStreamFileException e) {
             throw e;
         } catch (Exception e) {
             throw new InvalidStreamFileException("Error reading sidecar file " + sidecarFile.getName(), e);
         }
     }
+
+    @Override
+    public List<TransactionSidecarRecord> decode(SidecarFile sidecarFile, byte[] content) {
+        try {
+            return com.hedera.services.stream.proto.SidecarFile.parseFrom(content)
+                    .getSidecarRecordsList();
+        } catch (InvalidProtocolBufferException e) {
+            throw new InvalidStreamFileException("Error reading sidecar file " + sidecarFile.getName(), e);
+        }
+    }
+
+    /*
+     * Counts the sidecar records by skipping over the encoded fields, so the count is known without decoding them.
+     */
+    private int countRecords(byte[] content) throws IOException {
+        var input = CodedInputStream.newInstance(content);
+        int count = 0;
+        int tag;
+
+        while ((tag = input.readTag()) != 0) {
+            if (WireFormat.getTagFieldNumber(tag)
+                    == com.hedera.services.stream.proto.SidecarFile.SIDECAR_RECORDS_FIELD_NUMBER) {
+                count++;
+            }
+
+            input.skipField(tag);
+        }
+
+        return count;
+    }
 }
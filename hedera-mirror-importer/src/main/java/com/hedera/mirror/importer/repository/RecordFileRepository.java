@@ -44,10 +44,10 @@ public interface RecordFileRepository extends StreamFileRepository<RecordFile, L
     Optional<RecordFile> findLatestBefore(long offset);
 
     @Query(
-            value = "select * from record_file where consensus_end < ?1 and gas_used = -1 order by consensus_end desc "
-                    + "limit 1",
+            value = "select * from record_file where consensus_end > ?1 and consensus_end <= ?2 and gas_used = -1 "
+                    + "order by consensus_end asc limit 1",
             nativeQuery = true)
-    Optional<RecordFile> findLatestMissingGasUsedBefore(long consensusTimestamp);
+    Optional<RecordFile> findNextMissingGasUsed(long afterConsensusEnd, long maxConsensusEnd);
 
     @Query(
             value = "select * from record_file where consensus_end > ?1 and consensus_end <= ?2 "
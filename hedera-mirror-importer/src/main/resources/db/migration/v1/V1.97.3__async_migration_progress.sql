@@ -0,0 +1,11 @@
+-- add table to persist per-shard progress of range-sharded asynchronous java migrations
+create table if not exists async_migration_progress
+(
+    last        bigint       null,
+    lower_bound bigint       not null,
+    migration   varchar(100) not null,
+    shard       int          not null,
+    upper_bound bigint       not null,
+    primary key (migration, shard)
+);
+comment on table async_migration_progress is 'Per-shard progress of range-sharded asynchronous java migrations';
@@ -24,6 +24,7 @@ import static org.mockito.Mockito.when;
 
 import com.hedera.mirror.common.domain.transaction.RecordFile;
 import com.hedera.mirror.common.domain.transaction.RecordItem;
+import com.hedera.mirror.common.domain.transaction.SidecarFile;
 import com.hedera.mirror.importer.downloader.AbstractLinkedStreamDownloaderTest;
 import com.hedera.mirror.importer.downloader.Downloader;
 import com.hedera.mirror.importer.downloader.DownloaderProperties;
@@ -37,6 +38,7 @@ import com.hedera.mirror.importer.reader.record.RecordFileReaderImplV5;
 import com.hedera.mirror.importer.reader.record.sidecar.SidecarFileReaderImpl;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
@@ -111,8 +113,12 @@ abstract class AbstractRecordFileDownloaderTest extends AbstractLinkedStreamDown
                             .returns(expected.getSidecarCount(), RecordFile::getSidecarCount)
                             .returns(expected.getSize(), RecordFile::getSize),
                     () -> assertThat(recordFile.getSidecars())
-                            .containsExactlyInAnyOrderElementsOf(expected.getSidecars())
-                            .allMatch(sidecar -> sidecarProperties.isPersistBytes() ^ (sidecar.getBytes() == null)));
+                            .allMatch(sidecar -> sidecarProperties.isPersistBytes() ^ (sidecar.getBytes() == null))
+                            // sidecar records are decoded into the record items instead of the sidecar files
+                            .map(AbstractRecordFileDownloaderTest::withoutRecords)
+                            .containsExactlyInAnyOrderElementsOf(expected.getSidecars().stream()
+                                    .map(AbstractRecordFileDownloaderTest::withoutRecords)
+                                    .toList()));
         };
         super.verifyStreamFiles(files, recordAssert.andThen(extraAssert));
     }
@@ -146,4 +152,8 @@ abstract class AbstractRecordFileDownloaderTest extends AbstractLinkedStreamDown
             return null;
         });
     }
+
+    private static SidecarFile withoutRecords(SidecarFile sidecarFile) {
+        return sidecarFile.toBuilder().records(Collections.emptyList()).build();
+    }
 }
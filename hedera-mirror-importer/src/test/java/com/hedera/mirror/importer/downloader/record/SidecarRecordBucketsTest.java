@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.downloader.record;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hedera.mirror.importer.exception.InvalidStreamFileException;
+import com.hedera.mirror.importer.parser.domain.RecordItemBuilder;
+import com.hedera.services.stream.proto.ContractBytecode;
+import com.hedera.services.stream.proto.TransactionSidecarRecord;
+import com.hederahashgraph.api.proto.java.Timestamp;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SidecarRecordBucketsTest {
+
+    private DistributionSummary bufferedMetric;
+
+    @BeforeEach
+    void setup() {
+        bufferedMetric = DistributionSummary.builder("buffered").register(new SimpleMeterRegistry());
+    }
+
+    @Test
+    void take() {
+        var first = buckets(sidecarRecord(1L), sidecarRecord(3L), sidecarRecord(3L));
+        var second = buckets(sidecarRecord(3L), sidecarRecord(5L));
+        var sidecarRecordBuckets = new SidecarRecordBuckets(List.of(first, second), bufferedMetric);
+
+        assertThat(sidecarRecordBuckets.take(1L)).containsExactly(sidecarRecord(1L));
+        assertThat(sidecarRecordBuckets.take(2L)).isEmpty();
+        // the records of a transaction span both sidecar files
+        assertThat(sidecarRecordBuckets.take(3L)).hasSize(3).allMatch(r -> r.equals(sidecarRecord(3L)));
+        assertThat(sidecarRecordBuckets.take(5L)).containsExactly(sidecarRecord(5L));
+        assertThat(sidecarRecordBuckets.take(6L)).isEmpty();
+        assertThat(bufferedMetric.count()).isEqualTo(2L);
+        assertThat(bufferedMetric.max()).isEqualTo(4.0);
+    }
+
+    @Test
+    void takeWaitsOnlyForNeededSidecarFiles() {
+        var first = buckets(sidecarRecord(1L));
+        var second = new CompletableFuture<NavigableMap<Long, List<TransactionSidecarRecord>>>();
+        var sidecarRecordBuckets = new SidecarRecordBuckets(List.of(first, second), bufferedMetric);
+
+        assertThat(sidecarRecordBuckets.take(0L)).isEmpty();
+        assertThat(second).isNotDone();
+
+        second.complete(new TreeMap<>());
+        assertThat(sidecarRecordBuckets.take(1L)).containsExactly(sidecarRecord(1L));
+    }
+
+    @Test
+    void takeSkipped() {
+        var sidecarRecordBuckets = new SidecarRecordBuckets(
+                List.of(buckets(sidecarRecord(1L), sidecarRecord(2L), sidecarRecord(3L))), bufferedMetric);
+
+        assertThat(sidecarRecordBuckets.take(3L)).containsExactly(sidecarRecord(3L));
+        assertThat(sidecarRecordBuckets.take(1L)).isEmpty();
+    }
+
+    @Test
+    void takeDecodeFailure() {
+        var failed = CompletableFuture.<NavigableMap<Long, List<TransactionSidecarRecord>>>failedFuture(
+                new InvalidStreamFileException("error"));
+        var sidecarRecordBuckets = new SidecarRecordBuckets(List.of(failed), bufferedMetric);
+
+        assertThatThrownBy(() -> sidecarRecordBuckets.take(1L)).isInstanceOf(InvalidStreamFileException.class);
+    }
+
+    @Test
+    void takeDecodeFailureRetried() {
+        var failed = CompletableFuture.<NavigableMap<Long, List<TransactionSidecarRecord>>>failedFuture(
+                new InvalidStreamFileException("error"));
+        var sidecars = List.of(buckets(sidecarRecord(1L)), failed, buckets(sidecarRecord(5L)));
+        var sidecarRecordBuckets = new SidecarRecordBuckets(sidecars, bufferedMetric);
+
+        assertThat(sidecarRecordBuckets.take(1L)).containsExactly(sidecarRecord(1L));
+        // a retried parse must keep failing instead of skipping the sidecar file that failed to decode
+        assertThatThrownBy(() -> sidecarRecordBuckets.take(3L)).isInstanceOf(InvalidStreamFileException.class);
+        assertThatThrownBy(() -> sidecarRecordBuckets.take(3L)).isInstanceOf(InvalidStreamFileException.class);
+        assertThatThrownBy(() -> sidecarRecordBuckets.take(5L)).isInstanceOf(InvalidStreamFileException.class);
+    }
+
+    @Test
+    void recordItemRetriesFailedSupplier() {
+        var failed = CompletableFuture.<NavigableMap<Long, List<TransactionSidecarRecord>>>failedFuture(
+                new InvalidStreamFileException("error"));
+        var sidecarRecordBuckets = new SidecarRecordBuckets(List.of(failed), bufferedMetric);
+        var recordItem = new RecordItemBuilder().cryptoTransfer().build();
+        recordItem.setSidecarRecordsSupplier(() -> sidecarRecordBuckets.take(recordItem.getConsensusTimestamp()));
+
+        assertThatThrownBy(recordItem::getSidecarRecords).isInstanceOf(InvalidStreamFileException.class);
+        assertThatThrownBy(recordItem::getSidecarRecords).isInstanceOf(InvalidStreamFileException.class);
+    }
+
+    private CompletableFuture<NavigableMap<Long, List<TransactionSidecarRecord>>> buckets(
+            TransactionSidecarRecord... sidecarRecords) {
+        var buckets = new TreeMap<Long, List<TransactionSidecarRecord>>();
+        for (var sidecarRecord : sidecarRecords) {
+            buckets.computeIfAbsent(sidecarRecord.getConsensusTimestamp().getNanos() + 0L, k -> new ArrayList<>())
+                    .add(sidecarRecord);
+        }
+        return CompletableFuture.completedFuture(buckets);
+    }
+
+    private TransactionSidecarRecord sidecarRecord(long timestamp) {
+        return TransactionSidecarRecord.newBuilder()
+                .setBytecode(ContractBytecode.getDefaultInstance())
+                .setConsensusTimestamp(Timestamp.newBuilder().setNanos((int) timestamp))
+                .build();
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.collect.Range;
+import com.hedera.mirror.importer.EnabledIfV1;
+import com.hedera.mirror.importer.ImporterIntegrationTest;
+import com.hedera.mirror.importer.db.DBProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.Nonnull;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.LongStream;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+
+@EnabledIfV1
+@RequiredArgsConstructor
+@Tag("migration")
+class ShardedAsyncJavaMigrationTest extends ImporterIntegrationTest {
+
+    private static final String MIGRATION = TestShardedAsyncJavaMigration.class.getSimpleName();
+
+    private final DBProperties dbProperties;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionOperations transactionOperations;
+
+    @Test
+    void partition() {
+        var migration = new TestShardedAsyncJavaMigration(List.of(), 1, 1);
+        assertThat(migration.partition(Range.closed(1L, 10L), 3))
+                .containsExactly(Range.closed(1L, 4L), Range.closed(5L, 8L), Range.closed(9L, 10L));
+        assertThat(migration.partition(Range.closed(1L, 2L), 4))
+                .containsExactly(Range.closed(1L, 1L), Range.closed(2L, 2L));
+        assertThat(migration.partition(Range.closed(5L, 5L), 4)).containsExactly(Range.closed(5L, 5L));
+    }
+
+    @Test
+    void empty() {
+        var migration = new TestShardedAsyncJavaMigration(List.of(), 4, 2);
+        migration.migrateAsync();
+        assertThat(migration.getMigrated()).isEmpty();
+        assertThat(getProgressCount()).isZero();
+    }
+
+    @Test
+    void migrate() {
+        var keys = LongStream.rangeClosed(1, 100).boxed().toList();
+        var migration = new TestShardedAsyncJavaMigration(keys, 8, 4);
+        migration.migrateAsync();
+        assertThat(migration.getMigrated()).containsExactlyInAnyOrderElementsOf(keys);
+        assertThat(getProgressCount()).isZero();
+    }
+
+    @Test
+    void resume() {
+        var keys = LongStream.rangeClosed(1, 20).boxed().toList();
+        var migration = new TestShardedAsyncJavaMigration(keys, 2, 2);
+        migration.error = true;
+        assertThatThrownBy(migration::migrateAsync).isInstanceOf(IllegalStateException.class);
+        assertThat(getProgressCount()).isEqualTo(2);
+
+        // Mark the first shard partially migrated and the second shard complete
+        setProgress(0, 5L);
+        setProgress(1, 20L);
+
+        var resumed = new TestShardedAsyncJavaMigration(keys, 2, 2);
+        resumed.migrateAsync();
+        assertThat(resumed.getMigrated()).containsExactlyInAnyOrderElementsOf(LongStream.rangeClosed(6, 10)
+                .boxed()
+                .toList());
+        assertThat(getProgressCount()).isZero();
+    }
+
+    @Test
+    void resumeIgnoresNewKeyRange() {
+        var migration = new TestShardedAsyncJavaMigration(List.of(1L, 2L, 3L, 4L), 2, 1);
+        assertThat(migration.getShards())
+                .extracting(ShardedAsyncJavaMigration.Shard::getRemaining)
+                .containsExactly(Range.openClosed(0L, 2L), Range.openClosed(2L, 4L));
+
+        var restarted = new TestShardedAsyncJavaMigration(List.of(1L, 2L, 3L, 4L, 5L, 6L), 3, 1);
+        assertThat(restarted.getShards())
+                .extracting(ShardedAsyncJavaMigration.Shard::getRemaining)
+                .containsExactly(Range.openClosed(0L, 2L), Range.openClosed(2L, 4L));
+    }
+
+    private long getProgressCount() {
+        return namedParameterJdbcTemplate.queryForObject(
+                "select count(*) from async_migration_progress where migration = :migration",
+                Map.of("migration", MIGRATION),
+                Long.class);
+    }
+
+    private void setProgress(int shard, long last) {
+        namedParameterJdbcTemplate.update(
+                "update async_migration_progress set last = :last where migration = :migration and shard = :shard",
+                Map.of("last", last, "migration", MIGRATION, "shard", shard));
+    }
+
+    private class TestShardedAsyncJavaMigration extends ShardedAsyncJavaMigration {
+
+        private final ConcurrentSkipListSet<Long> keys;
+        private final Collection<Long> migrated = new ConcurrentLinkedQueue<>();
+        private boolean error;
+
+        public TestShardedAsyncJavaMigration(List<Long> keys, int shards, int workers) {
+            super(
+                    Map.of("testShardedAsyncJavaMigration", migrationProperties(shards, workers)),
+                    new SimpleMeterRegistry(),
+                    ShardedAsyncJavaMigrationTest.this.namedParameterJdbcTemplate,
+                    dbProperties.getSchema());
+            this.keys = new ConcurrentSkipListSet<>(keys);
+        }
+
+        private static MigrationProperties migrationProperties(int shards, int workers) {
+            var migrationProperties = new MigrationProperties();
+            migrationProperties.setShards(shards);
+            migrationProperties.setWorkers(workers);
+            return migrationProperties;
+        }
+
+        @Override
+        public String getDescription() {
+            return "Sharded async java migration for testing";
+        }
+
+        Collection<Long> getMigrated() {
+            return migrated;
+        }
+
+        @Override
+        protected Optional<Range<Long>> getKeyRange() {
+            return keys.isEmpty() ? Optional.empty() : Optional.of(Range.closed(keys.first(), keys.last()));
+        }
+
+        @Nonnull
+        @Override
+        protected Optional<Long> migrateShard(Range<Long> remaining) {
+            if (error) {
+                throw new IllegalStateException();
+            }
+
+            var next = keys.higher(remaining.lowerEndpoint());
+            if (next == null || !remaining.contains(next)) {
+                return Optional.empty();
+            }
+
+            migrated.add(next);
+            return Optional.of(next);
+        }
+
+        @Override
+        protected TransactionOperations getTransactionOperations() {
+            return transactionOperations;
+        }
+    }
+}
@@ -0,0 +1,296 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.domain;
+
+import static com.hedera.mirror.importer.addressbook.AddressBookServiceImpl.INITIAL_NODE_ID_ACCOUNT_ID_OFFSET;
+
+import com.google.common.primitives.Bytes;
+import com.google.common.primitives.Ints;
+import com.google.protobuf.ByteString;
+import com.hedera.mirror.common.domain.DigestAlgorithm;
+import com.hedera.mirror.common.domain.StreamType;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.transaction.RecordFile;
+import com.hedera.mirror.common.domain.transaction.SidecarFile;
+import com.hedera.mirror.common.util.DomainUtils;
+import com.hedera.mirror.importer.domain.StreamFilename;
+import com.hedera.mirror.importer.reader.record.ProtoRecordFileReader;
+import com.hedera.mirror.importer.reader.signature.ProtoSignatureFileReader;
+import com.hedera.services.stream.proto.HashAlgorithm;
+import com.hedera.services.stream.proto.HashObject;
+import com.hedera.services.stream.proto.RecordStreamFile;
+import com.hedera.services.stream.proto.RecordStreamItem;
+import com.hedera.services.stream.proto.SidecarMetadata;
+import com.hedera.services.stream.proto.SidecarType;
+import com.hedera.services.stream.proto.SignatureFile;
+import com.hedera.services.stream.proto.SignatureObject;
+import com.hedera.services.stream.proto.SignatureType;
+import com.hedera.services.stream.proto.TransactionSidecarRecord;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.NodeAddress;
+import com.hederahashgraph.api.proto.java.NodeAddressBook;
+import com.hederahashgraph.api.proto.java.SemanticVersion;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.Signature;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import lombok.CustomLog;
+import lombok.SneakyThrows;
+import org.apache.commons.codec.binary.Hex;
+import org.springframework.util.Assert;
+
+/**
+ * Generates record stream files from a {@link RecordFileBuilder} and writes them to disk the way consensus nodes upload
+ * them. Each v6 record file is written together with its sidecar file and a signature file per node in the account ID
+ * based directory layout read by the {@code LocalStreamFileProvider}. The node keys are generated locally and the
+ * address book containing their public keys can be written for use as the importer's initial address book.
+ */
+@CustomLog
+public class StreamFileGenerator {
+
+    private static final String COMPRESSOR = ".gz";
+    private static final DigestAlgorithm DIGEST_ALGORITHM = DigestAlgorithm.SHA_384;
+    private static final String KEY_ALGORITHM = "RSA";
+    private static final int KEY_SIZE = 3072;
+    private static final int SIDECAR_ID = 1;
+    private static final String SIGNATURE_ALGORITHM = "SHA384withRSA";
+    private static final StreamType STREAM_TYPE = StreamType.RECORD;
+
+    private final RecordFileBuilder.Builder builder;
+    private final List<Node> nodes = new ArrayList<>();
+    private final Path streamPath;
+
+    @SneakyThrows
+    public StreamFileGenerator(RecordFileBuilder.Builder builder, Path streamPath, int nodeCount) {
+        Assert.isTrue(nodeCount > 0, "nodeCount must be positive");
+        this.builder = builder;
+        this.streamPath = streamPath;
+
+        var keyPairGenerator = KeyPairGenerator.getInstance(KEY_ALGORITHM);
+        keyPairGenerator.initialize(KEY_SIZE);
+
+        for (int nodeId = 0; nodeId < nodeCount; nodeId++) {
+            var accountId = EntityId.of(0L, 0L, nodeId + INITIAL_NODE_ID_ACCOUNT_ID_OFFSET);
+            nodes.add(new Node(accountId, nodeId, keyPairGenerator.generateKeyPair()));
+        }
+    }
+
+    /**
+     * Builds the next record file and writes it, its sidecar and the signature files of all nodes. The signature files
+     * are written last since the importer discovers new record files by listing the signature files.
+     *
+     * @return the record file with the hashes and sidecars of the written stream file
+     */
+    @SneakyThrows
+    public RecordFile generate() {
+        var recordFile = builder.build();
+        var streamFilename = StreamFilename.from(recordFile.getName() + COMPRESSOR);
+        var recordStreamFile = RecordStreamFile.newBuilder()
+                .setBlockNumber(recordFile.getIndex())
+                .setEndObjectRunningHash(hashObject(DomainUtils.fromBytes(Hex.decodeHex(recordFile.getHash()))))
+                .setHapiProtoVersion(SemanticVersion.newBuilder()
+                        .setMajor(recordFile.getHapiVersionMajor())
+                        .setMinor(recordFile.getHapiVersionMinor())
+                        .setPatch(recordFile.getHapiVersionPatch()))
+                .setStartObjectRunningHash(
+                        hashObject(DomainUtils.fromBytes(Hex.decodeHex(recordFile.getPreviousHash()))));
+
+        var sidecarRecords = new ArrayList<TransactionSidecarRecord>();
+        for (var recordItem : recordFile.getItems()) {
+            recordStreamFile.addRecordStreamItems(RecordStreamItem.newBuilder()
+                    .setRecord(recordItem.getTransactionRecord())
+                    .setTransaction(recordItem.getTransaction()));
+            sidecarRecords.addAll(recordItem.getSidecarRecords());
+        }
+
+        var sidecars = new ArrayList<SidecarFile>();
+        if (!sidecarRecords.isEmpty()) {
+            var sidecar = writeSidecar(recordFile, streamFilename, sidecarRecords);
+            recordStreamFile.addSidecars(SidecarMetadata.newBuilder()
+                    .setHash(hashObject(DomainUtils.fromBytes(sidecar.getHash())))
+                    .setId(sidecar.getIndex())
+                    .addAllTypesValue(sidecar.getTypes()));
+            sidecars.add(sidecar);
+        }
+
+        var bytes = Bytes.concat(
+                Ints.toByteArray(ProtoRecordFileReader.VERSION),
+                recordStreamFile.build().toByteArray());
+        var fileHash = digest(bytes);
+        var metadataHash = getMetadataHash(recordStreamFile);
+        var compressed = gzip(bytes);
+        write(streamFilename.getFilename(), compressed);
+
+        var signatureFilename =
+                StreamFilename.getFilename(STREAM_TYPE, StreamFilename.FileType.SIGNATURE, streamFilename.getInstant());
+        for (var node : nodes) {
+            var signatureFile = SignatureFile.newBuilder()
+                    .setFileSignature(signatureObject(node, fileHash))
+                    .setMetadataSignature(signatureObject(node, metadataHash))
+                    .build();
+            var signatureBytes =
+                    Bytes.concat(new byte[] {ProtoSignatureFileReader.VERSION}, signatureFile.toByteArray());
+            Files.write(getNodePath(node).resolve(signatureFilename), signatureBytes);
+        }
+
+        recordFile.setBytes(compressed);
+        recordFile.setDigestAlgorithm(DIGEST_ALGORITHM);
+        recordFile.setFileHash(DomainUtils.bytesToHex(fileHash));
+        recordFile.setMetadataHash(DomainUtils.bytesToHex(metadataHash));
+        recordFile.setName(streamFilename.getFilename());
+        recordFile.setSidecarCount(sidecars.size());
+        recordFile.setSidecars(sidecars);
+        recordFile.setSize(compressed.length);
+        recordFile.setVersion(ProtoRecordFileReader.VERSION);
+        log.debug("Generated {} with {} items", recordFile.getName(), recordFile.getCount());
+        return recordFile;
+    }
+
+    public NodeAddressBook getAddressBook() {
+        var addressBook = NodeAddressBook.newBuilder();
+        for (var node : nodes) {
+            addressBook.addNodeAddress(NodeAddress.newBuilder()
+                    .setNodeAccountId(AccountID.newBuilder()
+                            .setAccountNum(node.accountId().getNum())
+                            .build())
+                    .setNodeId(node.nodeId())
+                    .setRSAPubKey(Hex.encodeHexString(node.keyPair().getPublic().getEncoded())));
+        }
+        return addressBook.build();
+    }
+
+    /**
+     * Writes the address book of the generated nodes so the importer can be started with it as its
+     * {@code initialAddressBook}.
+     *
+     * @param path the file to write the serialized {@link NodeAddressBook} to
+     */
+    @SneakyThrows
+    public void writeAddressBook(Path path) {
+        var parent = path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Files.write(path, getAddressBook().toByteArray());
+    }
+
+    private byte[] digest(byte[] bytes) throws Exception {
+        return MessageDigest.getInstance(DIGEST_ALGORITHM.getName()).digest(bytes);
+    }
+
+    private byte[] getMetadataHash(RecordStreamFile.Builder recordStreamFile) throws Exception {
+        try (var byteArrayOutputStream = new ByteArrayOutputStream();
+                var dataOutputStream = new DataOutputStream(byteArrayOutputStream)) {
+            var hapiProtoVersion = recordStreamFile.getHapiProtoVersion();
+            dataOutputStream.writeInt(ProtoRecordFileReader.VERSION);
+            dataOutputStream.writeInt(hapiProtoVersion.getMajor());
+            dataOutputStream.writeInt(hapiProtoVersion.getMinor());
+            dataOutputStream.writeInt(hapiProtoVersion.getPatch());
+            dataOutputStream.write(DomainUtils.getHashBytes(recordStreamFile.getStartObjectRunningHash()));
+            dataOutputStream.write(DomainUtils.getHashBytes(recordStreamFile.getEndObjectRunningHash()));
+            dataOutputStream.writeLong(recordStreamFile.getBlockNumber());
+            dataOutputStream.flush();
+            return digest(byteArrayOutputStream.toByteArray());
+        }
+    }
+
+    private Path getNodePath(Node node) throws Exception {
+        var nodePath =
+                streamPath.resolve(STREAM_TYPE.getPath()).resolve(STREAM_TYPE.getNodePrefix() + node.accountId());
+        Files.createDirectories(nodePath.resolve(StreamFilename.SIDECAR_FOLDER));
+        return nodePath;
+    }
+
+    private byte[] gzip(byte[] bytes) throws Exception {
+        try (var byteArrayOutputStream = new ByteArrayOutputStream()) {
+            try (var gzipOutputStream = new GZIPOutputStream(byteArrayOutputStream)) {
+                gzipOutputStream.write(bytes);
+            }
+            return byteArrayOutputStream.toByteArray();
+        }
+    }
+
+    private HashObject hashObject(ByteString hash) {
+        return HashObject.newBuilder()
+                .setAlgorithm(HashAlgorithm.SHA_384)
+                .setHash(hash)
+                .setLength(DIGEST_ALGORITHM.getSize())
+                .build();
+    }
+
+    private SignatureObject signatureObject(Node node, byte[] hash) throws Exception {
+        var signer = Signature.getInstance(SIGNATURE_ALGORITHM);
+        signer.initSign(node.keyPair().getPrivate());
+        signer.update(hash);
+        var signature = signer.sign();
+        return SignatureObject.newBuilder()
+                .setHashObject(hashObject(DomainUtils.fromBytes(hash)))
+                .setLength(signature.length)
+                .setSignature(DomainUtils.fromBytes(signature))
+                .setType(SignatureType.SHA_384_WITH_RSA)
+                .build();
+    }
+
+    private SidecarFile writeSidecar(
+            RecordFile recordFile, StreamFilename streamFilename, Collection<TransactionSidecarRecord> records)
+            throws Exception {
+        var bytes = com.hedera.services.stream.proto.SidecarFile.newBuilder()
+                .addAllSidecarRecords(records)
+                .build()
+                .toByteArray();
+        var compressed = gzip(bytes);
+        var name = streamFilename.getSidecarFilename(SIDECAR_ID);
+        write(Path.of(StreamFilename.SIDECAR_FOLDER, name).toString(), compressed);
+
+        var types = records.stream().map(this::getType).distinct().sorted().toList();
+        return SidecarFile.builder()
+                .bytes(compressed)
+                .consensusEnd(recordFile.getConsensusEnd())
+                .count(records.size())
+                .hash(digest(bytes))
+                .hashAlgorithm(DIGEST_ALGORITHM)
+                .index(SIDECAR_ID)
+                .name(name)
+                .records(List.copyOf(records))
+                .size(compressed.length)
+                .types(types)
+                .build();
+    }
+
+    private int getType(TransactionSidecarRecord transactionSidecarRecord) {
+        return switch (transactionSidecarRecord.getSidecarRecordsCase()) {
+            case ACTIONS -> SidecarType.CONTRACT_ACTION_VALUE;
+            case BYTECODE -> SidecarType.CONTRACT_BYTECODE_VALUE;
+            case STATE_CHANGES -> SidecarType.CONTRACT_STATE_CHANGE_VALUE;
+            default -> SidecarType.SIDECAR_TYPE_UNKNOWN_VALUE;
+        };
+    }
+
+    private void write(String relativePath, byte[] bytes) throws Exception {
+        for (var node : nodes) {
+            Files.write(getNodePath(node).resolve(relativePath), bytes);
+        }
+    }
+
+    private record Node(EntityId accountId, long nodeId, KeyPair keyPair) {}
+}
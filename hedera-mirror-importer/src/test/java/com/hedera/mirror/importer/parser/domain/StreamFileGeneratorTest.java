@@ -0,0 +1,139 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.hedera.mirror.common.domain.DomainBuilder;
+import com.hedera.mirror.common.domain.StreamType;
+import com.hedera.mirror.common.domain.addressbook.AddressBookEntry;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.transaction.RecordFile;
+import com.hedera.mirror.common.domain.transaction.TransactionType;
+import com.hedera.mirror.common.util.DomainUtils;
+import com.hedera.mirror.importer.domain.StreamFileData;
+import com.hedera.mirror.importer.domain.StreamFilename;
+import com.hedera.mirror.importer.reader.record.ProtoRecordFileReader;
+import com.hedera.mirror.importer.reader.record.sidecar.SidecarFileReaderImpl;
+import com.hedera.mirror.importer.reader.signature.ProtoSignatureFileReader;
+import com.hederahashgraph.api.proto.java.NodeAddress;
+import com.hederahashgraph.api.proto.java.NodeAddressBook;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Signature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class StreamFileGeneratorTest {
+
+    private static final int NODES = 2;
+
+    private final ProtoRecordFileReader recordFileReader = new ProtoRecordFileReader();
+    private final RecordFileBuilder recordFileBuilder =
+            new RecordFileBuilder(new DomainBuilder(), new RecordItemBuilder());
+    private final SidecarFileReaderImpl sidecarFileReader = new SidecarFileReaderImpl();
+    private final ProtoSignatureFileReader signatureFileReader = new ProtoSignatureFileReader();
+
+    @TempDir
+    private Path streamPath;
+
+    private StreamFileGenerator generator;
+
+    @BeforeEach
+    void setup() {
+        var builder = recordFileBuilder
+                .recordFile()
+                .recordItems(i -> i.count(10).entities(5).type(TransactionType.CRYPTOTRANSFER))
+                .recordItems(i -> i.count(4).entities(2).type(TransactionType.CONTRACTCALL));
+        generator = new StreamFileGenerator(builder, streamPath, NODES);
+    }
+
+    @Test
+    void generate() throws Exception {
+        var first = generator.generate();
+        var second = generator.generate();
+
+        assertThat(second.getIndex()).isEqualTo(first.getIndex() + 1);
+        assertThat(second.getPreviousHash()).isEqualTo(first.getHash());
+        assertThat(generator.getAddressBook().getNodeAddressList()).hasSize(NODES);
+
+        for (var nodeAddress : generator.getAddressBook().getNodeAddressList()) {
+            verify(first, nodeAddress);
+            verify(second, nodeAddress);
+        }
+    }
+
+    @Test
+    void writeAddressBook() throws Exception {
+        var path = streamPath.resolve("addressbook").resolve("addressbook.bin");
+
+        generator.writeAddressBook(path);
+
+        var addressBook = NodeAddressBook.parseFrom(Files.readAllBytes(path));
+        assertThat(addressBook).isEqualTo(generator.getAddressBook());
+        assertThat(addressBook.getNodeAddressList())
+                .extracting(NodeAddress::getNodeId, n -> n.getNodeAccountId().getAccountNum())
+                .containsExactly(tuple(0L, 3L), tuple(1L, 4L));
+    }
+
+    private void verify(RecordFile expected, NodeAddress nodeAddress) throws Exception {
+        var accountId = EntityId.of(nodeAddress.getNodeAccountId());
+        var nodePath = Path.of(StreamType.RECORD.getPath(), StreamType.RECORD.getNodePrefix() + accountId);
+        var streamFilename = StreamFilename.from(nodePath.resolve(expected.getName()).toString());
+        var actual = recordFileReader.read(StreamFileData.from(streamPath, streamFilename));
+
+        assertThat(actual)
+                .returns(expected.getConsensusEnd(), RecordFile::getConsensusEnd)
+                .returns(expected.getConsensusStart(), RecordFile::getConsensusStart)
+                .returns(expected.getCount(), RecordFile::getCount)
+                .returns(expected.getFileHash(), RecordFile::getFileHash)
+                .returns(expected.getHash(), RecordFile::getHash)
+                .returns(expected.getIndex(), RecordFile::getIndex)
+                .returns(expected.getMetadataHash(), RecordFile::getMetadataHash)
+                .returns(expected.getPreviousHash(), RecordFile::getPreviousHash)
+                .returns(1, RecordFile::getSidecarCount);
+
+        var sidecar = actual.getSidecars().get(0);
+        var sidecarFilename = StreamFilename.from(streamFilename, sidecar.getName());
+        sidecarFileReader.read(sidecar, StreamFileData.from(streamPath, sidecarFilename));
+        assertThat(sidecar.getActualHash()).isEqualTo(sidecar.getHash());
+        assertThat(sidecar.getRecords())
+                .isNotEmpty()
+                .isEqualTo(expected.getSidecars().get(0).getRecords());
+
+        var signatureName = StreamFilename.getFilename(
+                StreamType.RECORD, StreamFilename.FileType.SIGNATURE, streamFilename.getInstant());
+        var signatureFilename = StreamFilename.from(streamFilename, signatureName);
+        var signature = signatureFileReader.read(StreamFileData.from(streamPath, signatureFilename));
+        assertThat(DomainUtils.bytesToHex(signature.getFileHash())).isEqualTo(expected.getFileHash());
+        assertThat(DomainUtils.bytesToHex(signature.getMetadataHash())).isEqualTo(expected.getMetadataHash());
+
+        var publicKey = AddressBookEntry.builder()
+                .publicKey(nodeAddress.getRSAPubKey())
+                .build()
+                .getPublicKeyObject();
+        var signatureType = signature.getSignatureType();
+        var verifier = Signature.getInstance(signatureType.getAlgorithm(), signatureType.getProvider());
+        verifier.initVerify(publicKey);
+        verifier.update(signature.getFileHash());
+        assertThat(verifier.verify(signature.getFileHashSignature())).isTrue();
+        verifier.update(signature.getMetadataHash());
+        assertThat(verifier.verify(signature.getMetadataHashSignature())).isTrue();
+    }
+}
@@ -19,7 +19,9 @@ package com.hedera.mirror.importer.parser.record;
 import com.hedera.mirror.common.domain.transaction.TransactionType;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
+import java.nio.file.Path;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
 import lombok.Data;
@@ -32,9 +34,25 @@ public class ParserPerformanceProperties {
     @NotNull
     private Duration duration = Duration.ofSeconds(60L);
 
+    @NotNull
+    private GeneratorProperties generator = new GeneratorProperties();
+
     @NotNull
     private List<PerformanceTransactionProperties> transactions = Collections.emptyList();
 
+    @Data
+    public static class GeneratorProperties {
+
+        @Min(1)
+        private int nodes = 4;
+
+        @NotNull
+        private Path output = Path.of("build", "generator");
+
+        @NotNull
+        private Instant startTime = Instant.parse("2024-01-01T00:00:00Z");
+    }
+
     @Data
     public static class PerformanceTransactionProperties {
 
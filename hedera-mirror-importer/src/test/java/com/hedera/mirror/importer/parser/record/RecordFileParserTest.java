@@ -100,6 +100,7 @@ class RecordFileParserTest extends AbstractStreamFileParserTest<RecordFile, Reco
 
         if (parsed) {
             verify(recordItemListener).onItem(recordItem);
+            verify(recordStreamFileListener).onStart();
             verify(recordStreamFileListener).onEnd(recordFile);
             // Can't verify the event object since ApplicationEvent has a timestamp field for when the event happened
             verify(applicationEventPublisher)
@@ -362,6 +363,7 @@ class RecordFileParserTest extends AbstractStreamFileParserTest<RecordFile, Reco
         // then
         verify(recordItemListener).onItem(recordItem1);
         verify(recordItemListener).onItem(recordItem2);
+        verify(recordStreamFileListener).onStart();
         verify(recordStreamFileListener).onEnd(streamFile2);
         verify(applicationEventPublisher)
                 .publishEvent(argThat(e -> e instanceof RecordFileParsedEvent recordFileParsedEvent
@@ -392,7 +394,8 @@ class RecordFileParserTest extends AbstractStreamFileParserTest<RecordFile, Reco
         // then
         verify(recordItemListener).onItem(recordItem1);
         verifyNoMoreInteractions(recordItemListener);
-        verifyNoInteractions(recordStreamFileListener);
+        verify(recordStreamFileListener).onStart();
+        verifyNoMoreInteractions(recordStreamFileListener);
     }
 
     @Test
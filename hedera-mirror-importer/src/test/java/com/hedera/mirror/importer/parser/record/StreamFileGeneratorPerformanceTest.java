@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.mirror.common.domain.DigestAlgorithm;
+import com.hedera.mirror.common.domain.StreamType;
+import com.hedera.mirror.common.domain.transaction.RecordFile;
+import com.hedera.mirror.common.util.DomainUtils;
+import com.hedera.mirror.importer.ImporterIntegrationTest;
+import com.hedera.mirror.importer.ImporterProperties;
+import com.hedera.mirror.importer.parser.domain.RecordFileBuilder;
+import com.hedera.mirror.importer.parser.domain.StreamFileGenerator;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Writes signed record stream files with the configured transaction mix and TPS for the configured duration, so an
+ * importer using the local cloud provider can ingest them without access to a bucket.
+ */
+@ActiveProfiles("performance")
+@RequiredArgsConstructor
+@Tag("performance")
+class StreamFileGeneratorPerformanceTest extends ImporterIntegrationTest {
+
+    private static final String ADDRESS_BOOK = "addressbook.bin";
+
+    private final ParserPerformanceProperties performanceProperties;
+    private final RecordFileBuilder recordFileBuilder;
+
+    @Test
+    void generate() {
+        var properties = performanceProperties.getGenerator();
+        long interval = StreamType.RECORD.getFileCloseInterval().toMillis();
+        long files = performanceProperties.getDuration().toMillis() / interval;
+        long startTime = DomainUtils.convertToNanosMax(properties.getStartTime());
+        var genesis = RecordFile.builder()
+                .consensusStart(startTime - StreamType.RECORD.getFileCloseInterval().toNanos())
+                .hash(DigestAlgorithm.SHA_384.getEmptyHash())
+                .index(-1L)
+                .build();
+        var builder = recordFileBuilder.recordFile().previous(genesis);
+
+        performanceProperties.getTransactions().forEach(p -> {
+            int count = (int) (p.getTps() * interval / 1000);
+            builder.recordItems(i -> i.count(count).entities(p.getEntities()).type(p.getType()));
+        });
+
+        var output = properties.getOutput();
+        var streamPath = output.resolve(ImporterProperties.STREAMS);
+        var generator = new StreamFileGenerator(builder, streamPath, properties.getNodes());
+        generator.writeAddressBook(output.resolve(ADDRESS_BOOK));
+        long count = 0L;
+
+        for (long i = 0; i < files; i++) {
+            count += generator.generate().getCount();
+        }
+
+        log.info("Generated {} record files with {} transactions in {}", files, count, streamPath.toAbsolutePath());
+        assertThat(streamPath.resolve(StreamType.RECORD.getPath())).isDirectory();
+    }
+}
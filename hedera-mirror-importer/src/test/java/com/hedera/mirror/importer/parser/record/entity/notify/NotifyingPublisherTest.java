@@ -18,6 +18,7 @@ package com.hedera.mirror.importer.parser.record.entity.notify;
 
 import static com.hedera.mirror.common.converter.ObjectToStringSerializer.OBJECT_MAPPER;
 import static com.hedera.mirror.common.util.CommonUtils.nextBytes;
+import static org.assertj.core.api.Assertions.assertThat;
 
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.topic.TopicMessage;
@@ -65,6 +66,41 @@ class NotifyingPublisherTest extends BatchPublisherTest {
                 .verify(Duration.ofMillis(500));
     }
 
+    @Test
+    void onEntities() throws SQLException {
+        var notifyProperties = (NotifyProperties) properties;
+        notifyProperties.setEnabled(false);
+        notifyProperties.setEntities(true);
+        notifyProperties.setMaxJsonPayloadSize(16);
+        var ids = new ArrayList<Long>();
+        for (int i = 0; i < 5; i++) {
+            var entity = domainBuilder.entity().get();
+            parserContext.merge(entity.getId(), entity, (a, b) -> b);
+            ids.add(entity.getId());
+        }
+
+        try (var connection = dataSource.getConnection()) {
+            var pgConnection = connection.unwrap(PgConnection.class);
+            pgConnection.execSQLUpdate("listen entity");
+            batchPublisher.onEnd(null);
+
+            var notified = new ArrayList<Long>();
+            var notifications = pgConnection.getNotifications(1000);
+            assertThat(notifications).hasSizeGreaterThan(1);
+            for (var notification : notifications) {
+                assertThat(notification.getParameter()).hasSizeLessThan(16);
+                for (var id : notification.getParameter().split(",")) {
+                    notified.add(Long.parseLong(id));
+                }
+            }
+            assertThat(notified).containsExactlyElementsOf(ids);
+        } finally {
+            var defaults = new NotifyProperties();
+            notifyProperties.setEntities(defaults.isEntities());
+            notifyProperties.setMaxJsonPayloadSize(defaults.getMaxJsonPayloadSize());
+        }
+    }
+
     @Override
     protected Flux<TopicMessage> subscribe(EntityId topicId) {
         try {
@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.ethereum;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.esaulpaugh.headlong.rlp.RLPDecoder;
+import com.esaulpaugh.headlong.rlp.RLPEncoder;
+import com.esaulpaugh.headlong.util.Integers;
+import java.math.BigInteger;
+import org.apache.commons.codec.binary.Hex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class RlpItemTest {
+
+    @Test
+    void decodeList() {
+        var longString = new byte[100];
+        longString[0] = 1;
+        var bytes = RLPEncoder.list(Integers.toBytes(5L), new byte[0], longString, new Object[] {new byte[] {0x7f}});
+
+        var item = RlpItem.decode(bytes, 0);
+        assertThat(item.isList()).isTrue();
+
+        var elements = item.elements();
+        assertThat(elements).hasSize(4);
+        assertThat(elements.get(0).asLong()).isEqualTo(5L);
+        assertThat(elements.get(1).asLong()).isZero();
+        assertThat(elements.get(1).data()).isEmpty();
+        assertThat(elements.get(2).data()).isEqualTo(longString);
+        assertThat(elements.get(3).isList()).isTrue();
+        assertThat(elements.get(3).elements().get(0).asByte()).isEqualTo((byte) 0x7f);
+    }
+
+    @Test
+    void decodeSequence() {
+        var bytes = RLPEncoder.sequence(Integers.toBytes(2), new Object[] {Integers.toBytes(1)});
+
+        var type = RlpItem.decode(bytes, 0);
+        assertThat(type.asByte()).isEqualTo((byte) 2);
+
+        var next = type.next();
+        assertThat(next.isList()).isTrue();
+        assertThat(next.elements()).hasSize(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "01", "7f", "80", "ff", "0100", "8000000000000000", "ffffffffffffffffffffffffffffffff"})
+    void asUnsignedIntegerBytes(String hex) throws Exception {
+        var value = Hex.decodeHex(hex);
+        var bytes = RLPEncoder.string(value);
+        var expected = RLPDecoder.RLP_STRICT.wrap(bytes).asBigInt().toByteArray();
+
+        assertThat(RlpItem.decode(bytes, 0).asUnsignedIntegerBytes())
+                .isEqualTo(expected)
+                .isEqualTo(new BigInteger(1, value).toByteArray());
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                "", // empty
+                "81", // truncated string
+                "8100", // single byte below 0x80 encoded as a string
+                "b800", // long length with leading zero
+                "b801ff", // long form used for a short string
+                "c2", // truncated list
+                "c28100", // list element with a non-canonical single byte
+                "c20181", // list element exceeding the list
+            })
+    void decodeInvalid(String hex) throws Exception {
+        var bytes = Hex.decodeHex(hex);
+        assertThatThrownBy(() -> {
+                    var item = RlpItem.decode(bytes, 0);
+                    if (item.isList()) {
+                        item.elements();
+                    }
+                })
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void asLongInvalid() {
+        assertThatThrownBy(() -> RlpItem.decode(RLPEncoder.string(new byte[] {0, 1}), 0).asLong())
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RlpItem.decode(RLPEncoder.string(new byte[9]), 0).asLong())
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RlpItem.decode(RLPEncoder.list(), 0).asLong())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,290 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.pubsub;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.cloud.pubsub.v1.Publisher;
+import com.google.cloud.spring.pubsub.core.PubSubTemplate;
+import com.google.cloud.spring.pubsub.support.GcpPubSubHeaders;
+import com.google.cloud.spring.pubsub.support.PublisherFactory;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.importer.exception.ParserException;
+import com.hedera.mirror.importer.parser.domain.PubSubMessage;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PubSubBatchPublisherTest {
+
+    private static final String TOPIC_NAME = "topic-name";
+
+    private final AtomicLong timestamp = new AtomicLong(1L);
+
+    @Mock
+    private Publisher publisher;
+
+    @Mock
+    private PublisherFactory publisherFactory;
+
+    @Mock
+    private PubSubTemplate pubSubTemplate;
+
+    private PubSubProperties pubSubProperties;
+
+    @BeforeEach
+    void setup() {
+        pubSubProperties = new PubSubProperties();
+        pubSubProperties.setMaxInFlight(2);
+        pubSubProperties.setMaxSendAttempts(1);
+        pubSubProperties.setOrdered(true);
+        pubSubProperties.setPublishTimeout(Duration.ofMillis(500L));
+        pubSubProperties.setTopicName(TOPIC_NAME);
+    }
+
+    @Test
+    void awaitEmpty() {
+        var pubSubBatchPublisher = publisher();
+        pubSubBatchPublisher.await();
+        verify(pubSubTemplate, times(0)).publish(any(), any(), anyMap());
+    }
+
+    @Test
+    void await() {
+        when(pubSubTemplate.publish(eq(TOPIC_NAME), any(), anyMap()))
+                .thenReturn(CompletableFuture.completedFuture("1"))
+                .thenReturn(CompletableFuture.completedFuture("2"));
+        var pubSubBatchPublisher = publisher();
+
+        pubSubBatchPublisher.publish(message(EntityId.of(1000L)));
+        pubSubBatchPublisher.publish(message(EntityId.of(1001L)));
+        pubSubBatchPublisher.await();
+
+        verify(pubSubTemplate)
+                .publish(TOPIC_NAME, message(1L, EntityId.of(1000L)), header(1L, EntityId.of(1000L)));
+        verify(pubSubTemplate)
+                .publish(TOPIC_NAME, message(2L, EntityId.of(1001L)), header(2L, EntityId.of(1001L)));
+    }
+
+    @Test
+    void awaitFailure() {
+        when(publisherFactory.createPublisher(TOPIC_NAME)).thenReturn(publisher);
+        when(pubSubTemplate.publish(eq(TOPIC_NAME), any(), anyMap()))
+                .thenReturn(CompletableFuture.completedFuture("1"))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("error")));
+        var pubSubBatchPublisher = publisher();
+
+        pubSubBatchPublisher.publish(message(EntityId.of(1000L)));
+        pubSubBatchPublisher.publish(message(EntityId.of(1001L)));
+
+        assertThatThrownBy(pubSubBatchPublisher::await)
+                .isInstanceOf(ParserException.class)
+                .hasMessageContaining("Error sending transactions to pubsub");
+
+        // pending messages are cleared so the retried record file starts afresh
+        pubSubBatchPublisher.await();
+    }
+
+    @Test
+    void awaitTimeout() {
+        when(pubSubTemplate.publish(eq(TOPIC_NAME), any(), anyMap())).thenReturn(new CompletableFuture<>());
+        var pubSubBatchPublisher = publisher();
+
+        pubSubBatchPublisher.publish(message(EntityId.of(1000L)));
+
+        assertThatThrownBy(pubSubBatchPublisher::await)
+                .isInstanceOf(ParserException.class)
+                .hasMessageContaining("Timed out");
+    }
+
+    @Test
+    void boundedInFlight() throws Exception {
+        pubSubProperties.setMaxInFlight(1);
+        var first = new CompletableFuture<String>();
+        when(pubSubTemplate.publish(eq(TOPIC_NAME), any(), anyMap()))
+                .thenReturn(first)
+                .thenReturn(CompletableFuture.completedFuture("2"));
+        var pubSubBatchPublisher = publisher();
+
+        pubSubBatchPublisher.publish(message(EntityId.of(1000L)));
+        var second = CompletableFuture.runAsync(() -> pubSubBatchPublisher.publish(message(EntityId.of(1001L))));
+
+        // the second message is blocked until the first completes
+        assertThatThrownBy(() -> second.get(200, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+        verify(pubSubTemplate, times(1)).publish(eq(TOPIC_NAME), any(), anyMap());
+
+        first.complete("1");
+        second.get(1, TimeUnit.SECONDS);
+        verify(pubSubTemplate, times(2)).publish(eq(TOPIC_NAME), any(), anyMap());
+    }
+
+    @Test
+    void retryResumesOrderingKey() {
+        pubSubProperties.setMaxSendAttempts(2);
+        when(publisherFactory.createPublisher(TOPIC_NAME)).thenReturn(publisher);
+        when(pubSubTemplate.publish(eq(TOPIC_NAME), any(), anyMap()))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("error")))
+                .thenReturn(CompletableFuture.completedFuture("1"));
+        var pubSubBatchPublisher = publisher();
+        var entityId = EntityId.of(1000L);
+
+        pubSubBatchPublisher.publish(message(entityId));
+        pubSubBatchPublisher.await();
+
+        verify(publisher).resumePublish(entityId.toString());
+        verify(pubSubTemplate, times(2)).publish(TOPIC_NAME, message(1L, entityId), header(1L, entityId));
+    }
+
+    @Test
+    void retryPreservesOrder() {
+        pubSubProperties.setMaxInFlight(4);
+        pubSubProperties.setMaxSendAttempts(2);
+        var first = new CompletableFuture<String>();
+        var second = new CompletableFuture<String>();
+        var third = new CompletableFuture<String>();
+        when(publisherFactory.createPublisher(TOPIC_NAME)).thenReturn(publisher);
+        when(pubSubTemplate.publish(eq(TOPIC_NAME), any(), anyMap()))
+                .thenReturn(first, second, third)
+                .thenReturn(CompletableFuture.completedFuture("4"));
+        var pubSubBatchPublisher = publisher();
+        var entityId = EntityId.of(1000L);
+
+        pubSubBatchPublisher.publish(message(entityId));
+        pubSubBatchPublisher.publish(message(entityId));
+        pubSubBatchPublisher.publish(message(entityId));
+        second.completeExceptionally(new RuntimeException("error"));
+
+        // the key is held while its earlier messages are still in flight
+        pubSubBatchPublisher.publish(message(entityId));
+        verify(pubSubTemplate, times(3)).publish(eq(TOPIC_NAME), any(), anyMap());
+
+        first.complete("1");
+        third.completeExceptionally(new RuntimeException("paused"));
+        pubSubBatchPublisher.await();
+
+        var inOrder = inOrder(pubSubTemplate, publisher);
+        inOrder.verify(pubSubTemplate).publish(TOPIC_NAME, message(1L, entityId), header(1L, entityId));
+        inOrder.verify(pubSubTemplate).publish(TOPIC_NAME, message(2L, entityId), header(2L, entityId));
+        inOrder.verify(pubSubTemplate).publish(TOPIC_NAME, message(3L, entityId), header(3L, entityId));
+        inOrder.verify(publisher).resumePublish(entityId.toString());
+        inOrder.verify(pubSubTemplate).publish(TOPIC_NAME, message(2L, entityId), header(2L, entityId));
+        inOrder.verify(pubSubTemplate).publish(TOPIC_NAME, message(3L, entityId), header(3L, entityId));
+        inOrder.verify(pubSubTemplate).publish(TOPIC_NAME, message(4L, entityId), header(4L, entityId));
+        inOrder.verifyNoMoreInteractions();
+    }
+
+    @Test
+    void retryExhaustedFailsHeldMessages() {
+        var first = new CompletableFuture<String>();
+        var second = new CompletableFuture<String>();
+        when(publisherFactory.createPublisher(TOPIC_NAME)).thenReturn(publisher);
+        when(pubSubTemplate.publish(eq(TOPIC_NAME), any(), anyMap()))
+                .thenReturn(first, second)
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("error")));
+        var pubSubBatchPublisher = publisher();
+        var entityId = EntityId.of(1000L);
+
+        pubSubBatchPublisher.publish(message(entityId));
+        pubSubBatchPublisher.publish(message(entityId));
+        first.completeExceptionally(new RuntimeException("error"));
+        second.completeExceptionally(new RuntimeException("paused"));
+
+        assertThatThrownBy(pubSubBatchPublisher::await)
+                .isInstanceOf(ParserException.class)
+                .hasMessageContaining("Error sending transactions to pubsub");
+        verify(pubSubTemplate, times(2)).publish(TOPIC_NAME, message(1L, entityId), header(1L, entityId));
+        verify(pubSubTemplate, times(1)).publish(TOPIC_NAME, message(2L, entityId), header(2L, entityId));
+    }
+
+    @Test
+    void clear() {
+        var first = new CompletableFuture<String>();
+        when(publisherFactory.createPublisher(TOPIC_NAME)).thenReturn(publisher);
+        when(pubSubTemplate.publish(eq(TOPIC_NAME), any(), anyMap())).thenReturn(first);
+        var pubSubBatchPublisher = publisher();
+        var entityId = EntityId.of(1000L);
+
+        pubSubBatchPublisher.publish(message(entityId));
+        pubSubBatchPublisher.clear();
+        first.completeExceptionally(new RuntimeException("error"));
+
+        // messages of the cleared attempt are not resent
+        pubSubBatchPublisher.await();
+        verify(pubSubTemplate, times(1)).publish(eq(TOPIC_NAME), any(), anyMap());
+    }
+
+    @Test
+    void unordered() {
+        pubSubProperties.setOrdered(false);
+        when(pubSubTemplate.publish(eq(TOPIC_NAME), any(), anyMap()))
+                .thenReturn(CompletableFuture.completedFuture("1"));
+        var pubSubBatchPublisher = publisher();
+
+        pubSubBatchPublisher.publish(message(EntityId.of(1000L)));
+        pubSubBatchPublisher.await();
+
+        verify(pubSubTemplate)
+                .publish(TOPIC_NAME, message(1L, EntityId.of(1000L)), Map.of("consensusTimestamp", "1"));
+    }
+
+    @Test
+    void synchronousFailure() {
+        when(pubSubTemplate.publish(eq(TOPIC_NAME), any(), anyMap())).thenThrow(new IllegalStateException());
+        var pubSubBatchPublisher = publisher();
+
+        assertThatThrownBy(() -> pubSubBatchPublisher.publish(message(EntityId.EMPTY)))
+                .isInstanceOf(IllegalStateException.class);
+        pubSubBatchPublisher.await();
+        verify(pubSubTemplate, times(1)).publish(eq(TOPIC_NAME), any(), anyMap());
+    }
+
+    private PubSubBatchPublisher publisher() {
+        return new PubSubBatchPublisher(pubSubProperties, pubSubTemplate, publisherFactory);
+    }
+
+    private PubSubMessage message(EntityId entityId) {
+        return message(timestamp.getAndIncrement(), entityId);
+    }
+
+    private PubSubMessage message(long consensusTimestamp, EntityId entityId) {
+        return new PubSubMessage(consensusTimestamp, entityId, 14, null, null, null);
+    }
+
+    private Map<String, String> header(long consensusTimestamp, EntityId entityId) {
+        return Map.of(
+                "consensusTimestamp",
+                String.valueOf(consensusTimestamp),
+                GcpPubSubHeaders.ORDERING_KEY,
+                entityId.toString());
+    }
+}
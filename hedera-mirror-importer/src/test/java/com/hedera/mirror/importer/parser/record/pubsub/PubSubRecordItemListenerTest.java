@@ -30,6 +30,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.cloud.spring.pubsub.core.PubSubTemplate;
+import com.google.cloud.spring.pubsub.support.PublisherFactory;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.mirror.common.domain.entity.EntityId;
@@ -98,6 +99,9 @@ class PubSubRecordItemListenerTest {
     @Mock(strictness = LENIENT)
     private AddressBookService addressBookService;
 
+    @Mock
+    private PublisherFactory publisherFactory;
+
     @Mock
     private PubSubTemplate pubSubTemplate;
 
@@ -168,8 +172,9 @@ class PubSubRecordItemListenerTest {
         when(transactionHandlerFactory.get(any())).thenReturn(transactionHandler);
         var responseFuture = mock(CompletableFuture.class);
         doReturn(responseFuture).when(pubSubTemplate).publish(any(), any(), any());
-        pubSubRecordItemListener = new PubSubRecordItemListener(
-                pubSubProperties, pubSubTemplate, addressBookService, transactionHandlerFactory);
+        var pubSubBatchPublisher = new PubSubBatchPublisher(pubSubProperties, pubSubTemplate, publisherFactory);
+        pubSubRecordItemListener =
+                new PubSubRecordItemListener(pubSubBatchPublisher, addressBookService, transactionHandlerFactory);
     }
 
     @SuppressWarnings("unchecked")
@@ -28,6 +28,7 @@ import com.hedera.mirror.importer.domain.StreamFileData;
 import com.hedera.mirror.importer.exception.InvalidStreamFileException;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.List;
 import org.apache.commons.compress.compressors.CompressorException;
 import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
 import org.junit.jupiter.api.BeforeEach;
@@ -75,6 +76,41 @@ class SidecarFileReaderImplTest {
                 .isEqualTo(expected);
     }
 
+    @Test
+    void readContentAndDecode() {
+        var expected = TestRecordFiles.getAll()
+                .get(RECORD_FILENAME)
+                .getSidecars()
+                .iterator()
+                .next();
+        var sidecar = expected.toBuilder()
+                .actualHash(null)
+                .bytes(null)
+                .count(null)
+                .size(null)
+                .records(List.of())
+                .build();
+        var streamFileData = StreamFileData.from(TestUtils.getResource(SIDECAR_FILE_PATH));
+
+        var content = sidecarFileReader.readContent(sidecar, streamFileData);
+
+        assertThat(sidecar)
+                .returns(List.of(), SidecarFile::getRecords)
+                .returns(expected.getActualHash(), SidecarFile::getActualHash)
+                .returns(expected.getCount(), SidecarFile::getCount)
+                .returns(expected.getSize(), SidecarFile::getSize);
+        assertThat(sidecarFileReader.decode(sidecar, content)).isEqualTo(expected.getRecords());
+    }
+
+    @Test
+    void decodeCorruptedContent() {
+        var sidecar = domainBuilder.sidecarFile().get();
+        var content = domainBuilder.bytes(256);
+        assertThatThrownBy(() -> sidecarFileReader.decode(sidecar, content))
+                .isInstanceOf(InvalidStreamFileException.class)
+                .hasCauseInstanceOf(InvalidProtocolBufferException.class);
+    }
+
     @Test
     void readCorruptedGzipFile() {
         var streamFileData = StreamFileData.from(SIDECAR_FILENAME, domainBuilder.bytes(256));
@@ -84,24 +84,26 @@ class RecordFileRepositoryTest extends AbstractRepositoryTest {
     }
 
     @Test
-    void findLatestMissingGasUsedBefore() {
-        assertThat(recordFileRepository.findLatestMissingGasUsedBefore(100L)).isEmpty();
+    void findNextMissingGasUsed() {
+        assertThat(recordFileRepository.findNextMissingGasUsed(0L, Long.MAX_VALUE)).isEmpty();
 
         var rf1 = domainBuilder.recordFile().customize(r -> r.gasUsed(-1)).persist();
         var rf2 = domainBuilder.recordFile().persist();
         var rf3 = domainBuilder.recordFile().customize(r -> r.gasUsed(-1)).persist();
         var rf4 = domainBuilder.recordFile().persist();
 
-        assertThat(recordFileRepository.findLatestMissingGasUsedBefore(rf4.getConsensusEnd() + 1L))
-                .get()
-                .isEqualTo(rf3);
-        assertThat(recordFileRepository.findLatestMissingGasUsedBefore(rf3.getConsensusEnd()))
+        assertThat(recordFileRepository.findNextMissingGasUsed(0L, Long.MAX_VALUE))
                 .get()
                 .isEqualTo(rf1);
-        assertThat(recordFileRepository.findLatestMissingGasUsedBefore(rf2.getConsensusEnd()))
+        assertThat(recordFileRepository.findNextMissingGasUsed(rf1.getConsensusEnd(), Long.MAX_VALUE))
                 .get()
-                .isEqualTo(rf1);
-        assertThat(recordFileRepository.findLatestMissingGasUsedBefore(rf1.getConsensusEnd()))
+                .isEqualTo(rf3);
+        assertThat(recordFileRepository.findNextMissingGasUsed(rf1.getConsensusEnd(), rf2.getConsensusEnd()))
+                .isEmpty();
+        assertThat(recordFileRepository.findNextMissingGasUsed(rf2.getConsensusEnd(), rf3.getConsensusEnd()))
+                .get()
+                .isEqualTo(rf3);
+        assertThat(recordFileRepository.findNextMissingGasUsed(rf3.getConsensusEnd(), rf4.getConsensusEnd()))
                 .isEmpty();
     }
 
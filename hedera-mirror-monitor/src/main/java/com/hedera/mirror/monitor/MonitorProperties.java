@@ -42,6 +42,9 @@ public class MonitorProperties {
     @NotNull
     private OperatorProperties operator = new OperatorProperties();
 
+    @NotNull
+    private NodeSelectionProperties nodeSelection = new NodeSelectionProperties();
+
     private NodeValidationProperties nodeValidation = new NodeValidationProperties();
 
     public MirrorNodeProperties getMirrorNode() {
@@ -0,0 +1,45 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.monitor;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import lombok.Data;
+import org.hibernate.validator.constraints.time.DurationMin;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+public class NodeSelectionProperties {
+
+    // The weight given to the latest sample in the exponentially weighted moving averages of latency and error rate
+    @DecimalMin("0.01")
+    @Max(1)
+    private double alpha = 0.2;
+
+    private boolean enabled = false;
+
+    @Min(1)
+    private int failureThreshold = 5;
+
+    @DurationMin(millis = 100L)
+    @NotNull
+    private Duration openDuration = Duration.ofSeconds(30L);
+}
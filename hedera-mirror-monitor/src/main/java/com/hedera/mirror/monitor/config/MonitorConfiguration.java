@@ -22,6 +22,9 @@ import com.hedera.mirror.monitor.publish.PublishProperties;
 import com.hedera.mirror.monitor.publish.PublishRequest;
 import com.hedera.mirror.monitor.publish.TransactionPublisher;
 import com.hedera.mirror.monitor.publish.generator.TransactionGenerator;
+import com.hedera.mirror.monitor.publish.saturation.SaturationSearch;
+import com.hedera.mirror.monitor.query.QueryMetrics;
+import com.hedera.mirror.monitor.query.QueryRunner;
 import com.hedera.mirror.monitor.subscribe.MirrorSubscriber;
 import com.hedera.mirror.monitor.subscribe.SubscribeMetrics;
 import java.util.List;
@@ -54,6 +57,9 @@ class MonitorConfiguration {
     private final MirrorSubscriber mirrorSubscriber;
     private final PublishMetrics publishMetrics;
     private final PublishProperties publishProperties;
+    private final QueryMetrics queryMetrics;
+    private final QueryRunner queryRunner;
+    private final SaturationSearch saturationSearch;
     private final SubscribeMetrics subscribeMetrics;
     private final TransactionGenerator transactionGenerator;
     private final TransactionPublisher transactionPublisher;
@@ -91,6 +97,22 @@ class MonitorConfiguration {
                 .subscribe(publishMetrics::onSuccess);
     }
 
+    /**
+     * Searches for the maximum sustainable rate of the publish scenarios once publishing has warmed up.
+     *
+     * @return the saturation search flow's Disposable
+     */
+    @Bean(destroyMethod = "dispose")
+    @ConditionalOnProperty(value = "hedera.mirror.monitor.publish.saturation.enabled", havingValue = "true")
+    Disposable saturation() {
+        return saturationSearch
+                .search()
+                .name("saturation")
+                .doFinally(s -> log.warn("Stopped saturation search after {} signal", s))
+                .doOnSubscribe(s -> log.info("Starting saturation search flow"))
+                .subscribe();
+    }
+
     /**
      * Starts subscribing to mirror node APIs to receive data, sending the results to the metrics collector.
      *
@@ -111,4 +133,22 @@ class MonitorConfiguration {
                 .subscribeOn(Schedulers.parallel())
                 .subscribe(subscribeMetrics::onNext);
     }
+
+    /**
+     * Starts the query scenarios that load the mirror node read APIs, sending every response to the metrics collector.
+     *
+     * @return the query flow's Disposable
+     */
+    @Bean(destroyMethod = "dispose")
+    @ConditionalOnProperty(value = "hedera.mirror.monitor.query.enabled", havingValue = "true")
+    Disposable query() {
+        return queryRunner
+                .run()
+                .name("query")
+                .onErrorContinue((t, r) -> log.error("Unexpected error during query flow: ", t))
+                .doFinally(s -> log.warn("Stopped query after {} signal", s))
+                .doOnSubscribe(s -> log.info("Starting query flow"))
+                .subscribeOn(Schedulers.parallel())
+                .subscribe(queryMetrics::onNext);
+    }
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.monitor.latency;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@CustomLog
+@RequestMapping("/api/v1/latency")
+@RequiredArgsConstructor
+@RestController
+class LatencyController {
+
+    private final LatencyHistograms latencyHistograms;
+
+    @GetMapping
+    public Flux<LatencySnapshot> latencies(
+            @RequestParam("scenario") Optional<String> scenario, @RequestParam("type") Optional<LatencyType> type) {
+        return Flux.fromIterable(latencyHistograms.getSnapshots())
+                .filter(s -> !scenario.isPresent() || scenario.get().equals(s.scenario()))
+                .filter(s -> !type.isPresent() || type.get() == s.type())
+                .switchIfEmpty(Mono.error(new NoSuchElementException()));
+    }
+
+    @GetMapping(value = "/hlog", produces = MediaType.TEXT_PLAIN_VALUE)
+    public Mono<String> log() {
+        return Mono.fromSupplier(latencyHistograms::getLog);
+    }
+
+    @ResponseStatus(value = HttpStatus.NOT_FOUND, reason = "Not found")
+    @ExceptionHandler(NoSuchElementException.class)
+    void notFound() {
+        // Error logging is done generically in LoggingFilter
+    }
+}
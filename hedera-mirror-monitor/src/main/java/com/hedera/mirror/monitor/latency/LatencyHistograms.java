@@ -0,0 +1,212 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.monitor.latency;
+
+import jakarta.inject.Named;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.HdrHistogram.Recorder;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Records latencies in an HdrHistogram per scenario and latency type so that tail percentiles such as p99.9 and p99.99
+ * are reported exactly instead of being approximated by the meter registry. Every interval, the latencies recorded
+ * since the previous interval are snapshotted and added to a cumulative histogram covering the lifetime of the
+ * monitor. Latencies are recorded in microseconds.
+ */
+@CustomLog
+@Named
+@RequiredArgsConstructor
+public class LatencyHistograms {
+
+    private static final Comparator<Key> COMPARATOR =
+            Comparator.comparing(Key::scenario).thenComparing(Key::type);
+
+    private final Map<Key, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final LatencyProperties properties;
+    private final long startTime = System.currentTimeMillis();
+
+    public void record(LatencyType type, String scenario, Duration latency) {
+        if (!properties.isEnabled() || latency == null) {
+            return;
+        }
+
+        long micros = Math.max(0L, TimeUnit.NANOSECONDS.toMicros(latency.toNanos()));
+        histograms.computeIfAbsent(new Key(scenario, type), this::create).record(micros);
+    }
+
+    @Scheduled(fixedDelayString = "${hedera.mirror.monitor.latency.interval:10000}")
+    public void roll() {
+        histograms.values().forEach(LatencyHistogram::roll);
+    }
+
+    public List<LatencySnapshot> getSnapshots() {
+        return histograms.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(COMPARATOR))
+                .map(e -> e.getValue().snapshot())
+                .toList();
+    }
+
+    /**
+     * Gets the merged cumulative histograms of every scenario with the given latency type, including the latencies
+     * recorded since the last roll. Reading it does not change the intervals reported by the snapshots.
+     *
+     * @param type the latency type
+     * @return a copy of the merged histogram in microseconds
+     */
+    public Histogram getCumulative(LatencyType type) {
+        var merged = new Histogram(properties.getSignificantDigits());
+        histograms.forEach((key, histogram) -> {
+            if (key.type() == type) {
+                merged.add(histogram.current());
+            }
+        });
+        return merged;
+    }
+
+    /**
+     * Gets the cumulative histogram of a scenario and latency type, including the latencies recorded since the last
+     * roll. Reading it does not change the intervals reported by the snapshots.
+     *
+     * @param type     the latency type
+     * @param scenario the scenario name
+     * @return a copy of the histogram in microseconds, or an empty histogram if none were recorded
+     */
+    public Histogram getCumulative(LatencyType type, String scenario) {
+        var histogram = histograms.get(new Key(scenario, type));
+        return histogram != null ? histogram.current() : new Histogram(properties.getSignificantDigits());
+    }
+
+    /**
+     * Gets the cumulative histograms in the HdrHistogram log format. Each histogram is tagged with its latency type
+     * and scenario, so logs from multiple runs can be merged and analyzed with the standard HdrHistogram tools.
+     *
+     * @return the histogram log
+     */
+    public String getLog() {
+        var outputStream = new ByteArrayOutputStream();
+        try (var printStream = new PrintStream(outputStream, false, StandardCharsets.UTF_8)) {
+            var writer = new HistogramLogWriter(printStream);
+            writer.outputComment("Cumulative latencies in microseconds tagged by latency type and scenario");
+            writer.outputLogFormatVersion();
+            writer.outputStartTime(startTime);
+            writer.outputLegend();
+
+            histograms.entrySet().stream()
+                    .sorted(Map.Entry.comparingByKey(COMPARATOR))
+                    .map(e -> e.getValue().cumulative())
+                    .forEach(h -> writer.outputIntervalHistogram(
+                            h.getStartTimeStamp() / 1000.0, h.getEndTimeStamp() / 1000.0, h, 1000.0));
+        }
+
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+
+    private LatencyHistogram create(Key key) {
+        log.info("Recording {} latencies for scenario {}", key.type(), key.scenario());
+        return new LatencyHistogram(key, properties.getSignificantDigits());
+    }
+
+    private record Key(String scenario, LatencyType type) {
+
+        // Tags can't contain whitespace or commas
+        String tag() {
+            return type + "/" + scenario.replaceAll("[\\s,]", "_");
+        }
+    }
+
+    private static class LatencyHistogram {
+
+        private final Key key;
+        private final Recorder recorder;
+        private final Histogram cumulative;
+        private final Histogram pending;
+        private Histogram interval;
+        private Histogram sample;
+        private long intervalStart;
+
+        private LatencyHistogram(Key key, int significantDigits) {
+            this.key = key;
+            this.recorder = new Recorder(significantDigits);
+            this.interval = recorder.getIntervalHistogram();
+            this.sample = recorder.getIntervalHistogram();
+            this.cumulative = new Histogram(significantDigits);
+            this.pending = new Histogram(significantDigits);
+            long now = System.currentTimeMillis();
+            cumulative.setStartTimeStamp(now);
+            cumulative.setEndTimeStamp(now);
+            intervalStart = now;
+        }
+
+        private void record(long micros) {
+            recorder.recordValue(micros);
+        }
+
+        // Moves the recorded latencies to the pending histogram so they can be read before the interval is rolled
+        private void drain() {
+            sample = recorder.getIntervalHistogram(sample);
+            pending.add(sample);
+        }
+
+        private synchronized void roll() {
+            drain();
+            long now = System.currentTimeMillis();
+            interval.reset();
+            interval.add(pending);
+            interval.setStartTimeStamp(intervalStart);
+            interval.setEndTimeStamp(now);
+            pending.reset();
+            intervalStart = now;
+            cumulative.add(interval);
+            cumulative.setEndTimeStamp(now);
+        }
+
+        private synchronized Histogram current() {
+            drain();
+            var copy = cumulative.copy();
+            copy.add(pending);
+            return copy;
+        }
+
+        private synchronized Histogram cumulative() {
+            var copy = cumulative.copy();
+            copy.setStartTimeStamp(cumulative.getStartTimeStamp());
+            copy.setEndTimeStamp(cumulative.getEndTimeStamp());
+            copy.setTag(key.tag());
+            return copy;
+        }
+
+        private synchronized LatencySnapshot snapshot() {
+            return new LatencySnapshot(
+                    key.scenario(),
+                    key.type(),
+                    LatencySnapshot.Statistics.of(interval),
+                    LatencySnapshot.Statistics.of(cumulative));
+        }
+    }
+}
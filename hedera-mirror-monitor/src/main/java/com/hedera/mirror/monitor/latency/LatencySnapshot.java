@@ -0,0 +1,55 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.monitor.latency;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * The latency statistics of a scenario for the last completed interval and for the lifetime of the monitor. All
+ * values are in milliseconds.
+ */
+public record LatencySnapshot(String scenario, LatencyType type, Statistics interval, Statistics cumulative) {
+
+    public record Statistics(
+            long count,
+            double max,
+            double mean,
+            double min,
+            double p50,
+            double p90,
+            double p99,
+            double p999,
+            double p9999) {
+
+        static Statistics of(Histogram histogram) {
+            return new Statistics(
+                    histogram.getTotalCount(),
+                    toMillis(histogram.getMaxValue()),
+                    histogram.getMean() / 1000.0,
+                    toMillis(histogram.getMinValue()),
+                    toMillis(histogram.getValueAtPercentile(50.0)),
+                    toMillis(histogram.getValueAtPercentile(90.0)),
+                    toMillis(histogram.getValueAtPercentile(99.0)),
+                    toMillis(histogram.getValueAtPercentile(99.9)),
+                    toMillis(histogram.getValueAtPercentile(99.99)));
+        }
+
+        private static double toMillis(long micros) {
+            return micros / 1000.0;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.monitor.publish;
+
+import com.hedera.mirror.monitor.NodeSelectionProperties;
+import java.time.Duration;
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Tracks the health of a single consensus node from the outcome of the transactions published to it. Latency and error
+ * rate are exponentially weighted moving averages, and a circuit breaker stops selecting the node after consecutive
+ * failures until a single half-open probe succeeds.
+ */
+@RequiredArgsConstructor
+class NodeHealth {
+
+    private final NodeSelectionProperties properties;
+
+    private int consecutiveFailures;
+    private double errorRate;
+    private double latency;
+    private Instant retryAt = Instant.EPOCH;
+    private State state = State.CLOSED;
+
+    synchronized double getErrorRate() {
+        return errorRate;
+    }
+
+    synchronized double getLatency() {
+        return latency;
+    }
+
+    synchronized State getState() {
+        return state;
+    }
+
+    // The expected latency of a successful transaction, penalizing nodes that fail more often
+    synchronized double getScore() {
+        return latency / Math.max(1.0 - errorRate, properties.getAlpha());
+    }
+
+    synchronized boolean isClosed() {
+        return state == State.CLOSED;
+    }
+
+    synchronized void onError(Instant now) {
+        errorRate = average(errorRate, 1.0);
+
+        if (state == State.HALF_OPEN || ++consecutiveFailures >= properties.getFailureThreshold()) {
+            open(now);
+        }
+    }
+
+    synchronized void onSuccess(Duration duration) {
+        errorRate = average(errorRate, 0.0);
+        latency = latency > 0 ? average(latency, duration.toMillis()) : duration.toMillis();
+        consecutiveFailures = 0;
+        state = State.CLOSED;
+    }
+
+    /**
+     * Claims the single probe allowed once an open circuit has waited long enough. The probe is also reissued if the
+     * previous one never reported back within the open duration.
+     *
+     * @param now the current time
+     * @return whether the caller should send the next transaction to this node as a probe
+     */
+    synchronized boolean tryProbe(Instant now) {
+        if (state == State.CLOSED || now.isBefore(retryAt)) {
+            return false;
+        }
+
+        state = State.HALF_OPEN;
+        retryAt = now.plus(properties.getOpenDuration());
+        return true;
+    }
+
+    private double average(double current, double sample) {
+        double alpha = properties.getAlpha();
+        return alpha * sample + (1.0 - alpha) * current;
+    }
+
+    private void open(Instant now) {
+        state = State.OPEN;
+        retryAt = now.plus(properties.getOpenDuration());
+    }
+
+    enum State {
+        CLOSED,
+        HALF_OPEN,
+        OPEN
+    }
+}
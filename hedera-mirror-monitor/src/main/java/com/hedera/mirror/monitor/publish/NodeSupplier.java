@@ -19,21 +19,35 @@ package com.hedera.mirror.monitor.publish;
 import static com.hedera.hashgraph.sdk.Status.SUCCESS;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Throwables;
 import com.hedera.hashgraph.sdk.AccountId;
 import com.hedera.hashgraph.sdk.Client;
 import com.hedera.hashgraph.sdk.Hbar;
+import com.hedera.hashgraph.sdk.MaxAttemptsExceededException;
+import com.hedera.hashgraph.sdk.PrecheckStatusException;
 import com.hedera.hashgraph.sdk.PrivateKey;
 import com.hedera.hashgraph.sdk.Status;
 import com.hedera.hashgraph.sdk.TransferTransaction;
 import com.hedera.mirror.monitor.MonitorProperties;
 import com.hedera.mirror.monitor.NodeProperties;
 import com.hedera.mirror.monitor.subscribe.rest.RestApiClient;
+import io.grpc.StatusRuntimeException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
 import jakarta.annotation.PostConstruct;
 import jakarta.inject.Named;
 import java.security.SecureRandom;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 import lombok.CustomLog;
@@ -49,9 +63,19 @@ import reactor.util.retry.Retry;
 @RequiredArgsConstructor
 public class NodeSupplier {
 
+    static final String METRIC_NODE_ERRORS = "hedera.mirror.monitor.publish.node.errors";
+    static final String METRIC_NODE_LATENCY = "hedera.mirror.monitor.publish.node.latency";
+    static final String METRIC_NODE_STATE = "hedera.mirror.monitor.publish.node.state";
+    static final String TAG_NODE = "node";
+
+    private static final Set<Status> NODE_STATUSES =
+            EnumSet.of(Status.BUSY, Status.PLATFORM_NOT_ACTIVE, Status.PLATFORM_TRANSACTION_NOT_CREATED);
+
+    private final MeterRegistry meterRegistry;
     private final MonitorProperties monitorProperties;
     private final RestApiClient restApiClient;
 
+    private final Map<String, NodeHealth> health = new ConcurrentHashMap<>();
     private final CopyOnWriteArrayList<NodeProperties> nodes = new CopyOnWriteArrayList<>();
     private final SecureRandom secureRandom = new SecureRandom();
 
@@ -87,10 +111,31 @@ public class NodeSupplier {
             throw new IllegalArgumentException("No valid nodes available");
         }
 
+        if (monitorProperties.getNodeSelection().isEnabled()) {
+            return select();
+        }
+
         int nodeIndex = secureRandom.nextInt(nodes.size());
         return nodes.get(nodeIndex);
     }
 
+    public void onError(PublishException publishException) {
+        if (monitorProperties.getNodeSelection().isEnabled()
+                && Throwables.getCausalChain(publishException).stream().anyMatch(this::isNodeError)) {
+            getNodeAccountId(publishException.getPublishRequest())
+                    .map(this::getHealth)
+                    .ifPresent(h -> h.onError(Instant.now()));
+        }
+    }
+
+    public void onSuccess(PublishResponse response) {
+        if (monitorProperties.getNodeSelection().isEnabled()) {
+            var request = response.getRequest();
+            var duration = Duration.between(request.getTimestamp(), response.getTimestamp());
+            getNodeAccountId(request).map(this::getHealth).ifPresent(h -> h.onSuccess(duration));
+        }
+    }
+
     public synchronized Flux<NodeProperties> refresh() {
         boolean empty = nodes.isEmpty();
         Retry retrySpec = Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1L))
@@ -114,6 +159,85 @@ public class NodeSupplier {
                 }); // Populate on startup before validation
     }
 
+    /*
+     * Sends a single probe to a node whose open circuit is due to be retried, otherwise picks the better scoring of two
+     * random nodes with a closed circuit. If every circuit is open, it falls back to a random node so publishing
+     * doesn't stall.
+     */
+    private NodeProperties select() {
+        var now = Instant.now();
+        var closed = new ArrayList<NodeProperties>(nodes.size());
+
+        for (var node : nodes) {
+            var nodeHealth = getHealth(node.getAccountId());
+            if (nodeHealth.isClosed()) {
+                closed.add(node);
+            } else if (nodeHealth.tryProbe(now)) {
+                return node;
+            }
+        }
+
+        if (closed.isEmpty()) {
+            int nodeIndex = secureRandom.nextInt(nodes.size());
+            return nodes.get(nodeIndex);
+        } else if (closed.size() == 1) {
+            return closed.get(0);
+        }
+
+        int first = secureRandom.nextInt(closed.size());
+        int second = secureRandom.nextInt(closed.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+
+        var node1 = closed.get(first);
+        var node2 = closed.get(second);
+        return getHealth(node1.getAccountId()).getScore() <= getHealth(node2.getAccountId()).getScore()
+                ? node1
+                : node2;
+    }
+
+    /*
+     * Only failures of the node itself count against its health. Payer and transaction failures like an insufficient
+     * payer balance or an expired transaction would fail on any node, so they shouldn't open its circuit.
+     */
+    private boolean isNodeError(Throwable throwable) {
+        if (throwable instanceof PrecheckStatusException pse) {
+            return NODE_STATUSES.contains(pse.status);
+        }
+
+        return throwable instanceof MaxAttemptsExceededException
+                || throwable instanceof StatusRuntimeException
+                || throwable instanceof TimeoutException;
+    }
+
+    private Optional<String> getNodeAccountId(PublishRequest request) {
+        return Optional.ofNullable(request.getTransaction().getNodeAccountIds())
+                .filter(l -> !l.isEmpty())
+                .map(l -> l.get(0).toString());
+    }
+
+    private NodeHealth getHealth(String nodeAccountId) {
+        return health.computeIfAbsent(nodeAccountId, this::newHealth);
+    }
+
+    private NodeHealth newHealth(String nodeAccountId) {
+        var nodeHealth = new NodeHealth(monitorProperties.getNodeSelection());
+        Gauge.builder(METRIC_NODE_ERRORS, nodeHealth, NodeHealth::getErrorRate)
+                .description("The moving average of the fraction of transactions to a node that failed")
+                .tag(TAG_NODE, nodeAccountId)
+                .register(meterRegistry);
+        TimeGauge.builder(METRIC_NODE_LATENCY, nodeHealth, TimeUnit.MILLISECONDS, NodeHealth::getLatency)
+                .description("The moving average of the time it takes a node to respond to a submitted transaction")
+                .tag(TAG_NODE, nodeAccountId)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NODE_STATE, nodeHealth, h -> h.getState().ordinal())
+                .description("The circuit breaker state of a node: 0 closed, 1 half open or 2 open")
+                .tag(TAG_NODE, nodeAccountId)
+                .register(meterRegistry);
+        return nodeHealth;
+    }
+
     private Flux<NodeProperties> getAddressBook() {
         if (!monitorProperties.getNodeValidation().isRetrieveAddressBook()) {
             return Flux.empty();
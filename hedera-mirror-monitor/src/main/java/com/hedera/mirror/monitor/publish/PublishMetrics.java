@@ -18,10 +18,13 @@ package com.hedera.mirror.monitor.publish;
 
 import com.hedera.hashgraph.sdk.AccountId;
 import com.hedera.mirror.monitor.converter.DurationToStringSerializer;
+import com.hedera.mirror.monitor.latency.LatencyHistograms;
+import com.hedera.mirror.monitor.latency.LatencyType;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.TimeGauge;
 import io.micrometer.core.instrument.Timer;
 import jakarta.inject.Named;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
@@ -39,13 +42,18 @@ public class PublishMetrics {
 
     static final String METRIC_DURATION = "hedera.mirror.monitor.publish.duration";
     static final String METRIC_HANDLE = "hedera.mirror.monitor.publish.handle";
+    static final String METRIC_HANDLE_CORRECTED = "hedera.mirror.monitor.publish.handle.corrected";
     static final String METRIC_SUBMIT = "hedera.mirror.monitor.publish.submit";
+    static final String METRIC_SUBMIT_CORRECTED = "hedera.mirror.monitor.publish.submit.corrected";
     static final String SUCCESS = "SUCCESS";
     static final String UNKNOWN = "unknown";
 
     private final Map<Tags, TimeGauge> durationGauges = new ConcurrentHashMap<>();
+    private final Map<Tags, Timer> correctedHandleTimers = new ConcurrentHashMap<>();
+    private final Map<Tags, Timer> correctedSubmitTimers = new ConcurrentHashMap<>();
     private final Map<Tags, Timer> handleTimers = new ConcurrentHashMap<>();
     private final Map<Tags, Timer> submitTimers = new ConcurrentHashMap<>();
+    private final LatencyHistograms latencyHistograms;
     private final MeterRegistry meterRegistry;
     private final PublishProperties publishProperties;
 
@@ -75,10 +83,41 @@ public class PublishMetrics {
 
             durationGauges.computeIfAbsent(tags, this::newDurationMetric);
 
-            if (response != null && response.getReceipt() != null) {
-                long elapsed = System.currentTimeMillis() - startTime;
+            boolean handled = response != null && response.getReceipt() != null;
+            long now = System.currentTimeMillis();
+            if (handled) {
                 Timer handleTimer = handleTimers.computeIfAbsent(tags, this::newHandleMetric);
-                handleTimer.record(elapsed, TimeUnit.MILLISECONDS);
+                handleTimer.record(now - startTime, TimeUnit.MILLISECONDS);
+            }
+
+            String scenarioName = request.getScenario().getName();
+            if (response != null) {
+                latencyHistograms.record(LatencyType.SUBMIT, scenarioName, Duration.ofMillis(endTime - startTime));
+            }
+            if (handled) {
+                latencyHistograms.record(LatencyType.HANDLE, scenarioName, Duration.ofMillis(now - startTime));
+            }
+
+            // Open-loop requests are also measured from their intended send time to include any queueing delay
+            var scheduledTimestamp = request.getScheduledTimestamp();
+            if (scheduledTimestamp != null) {
+                long scheduledTime = scheduledTimestamp.toEpochMilli();
+                Timer correctedSubmitTimer =
+                        correctedSubmitTimers.computeIfAbsent(tags, this::newCorrectedSubmitMetric);
+                correctedSubmitTimer.record(endTime - scheduledTime, TimeUnit.MILLISECONDS);
+
+                if (response != null) {
+                    latencyHistograms.record(
+                            LatencyType.SUBMIT_CORRECTED, scenarioName, Duration.ofMillis(endTime - scheduledTime));
+                }
+
+                if (handled) {
+                    Timer correctedHandleTimer =
+                            correctedHandleTimers.computeIfAbsent(tags, this::newCorrectedHandleMetric);
+                    correctedHandleTimer.record(now - scheduledTime, TimeUnit.MILLISECONDS);
+                    latencyHistograms.record(
+                            LatencyType.HANDLE_CORRECTED, scenarioName, Duration.ofMillis(now - scheduledTime));
+                }
             }
         } catch (Exception ex) {
             log.error("Unexpected error when recording metric", ex);
@@ -96,19 +135,29 @@ public class PublishMetrics {
                 .register(meterRegistry);
     }
 
+    private Timer newCorrectedHandleMetric(Tags tags) {
+        return newTimer(
+                METRIC_HANDLE_CORRECTED,
+                "The time it takes from the intended send time to being handled by the main nodes",
+                tags);
+    }
+
+    private Timer newCorrectedSubmitMetric(Tags tags) {
+        return newTimer(
+                METRIC_SUBMIT_CORRECTED, "The time it takes to submit a transaction from its intended send time", tags);
+    }
+
     private Timer newHandleMetric(Tags tags) {
-        return Timer.builder(METRIC_HANDLE)
-                .description("The time it takes from submit to being handled by the main nodes")
-                .tag(Tags.TAG_NODE, tags.getNode())
-                .tag(Tags.TAG_SCENARIO, tags.getScenario().getName())
-                .tag(Tags.TAG_STATUS, tags.getStatus())
-                .tag(Tags.TAG_TYPE, tags.getType())
-                .register(meterRegistry);
+        return newTimer(METRIC_HANDLE, "The time it takes from submit to being handled by the main nodes", tags);
     }
 
     private Timer newSubmitMetric(Tags tags) {
-        return Timer.builder(METRIC_SUBMIT)
-                .description("The time it takes to submit a transaction")
+        return newTimer(METRIC_SUBMIT, "The time it takes to submit a transaction", tags);
+    }
+
+    private Timer newTimer(String name, String description, Tags tags) {
+        return Timer.builder(name)
+                .description(description)
                 .tag(Tags.TAG_NODE, tags.getNode())
                 .tag(Tags.TAG_SCENARIO, tags.getScenario().getName())
                 .tag(Tags.TAG_STATUS, tags.getStatus())
@@ -16,12 +16,16 @@
 
 package com.hedera.mirror.monitor.publish;
 
+import com.hedera.mirror.monitor.latency.LatencyType;
 import jakarta.annotation.PostConstruct;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import java.time.Duration;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 import lombok.Data;
 import org.apache.commons.lang3.StringUtils;
 import org.hibernate.validator.constraints.time.DurationMin;
@@ -46,6 +50,14 @@ public class PublishProperties {
     @NotNull
     private Duration nodeMaxBackoff = Duration.ofMinutes(1L);
 
+    private boolean openLoop = false;
+
+    @NotNull
+    private PoolProperties pool = new PoolProperties();
+
+    @NotNull
+    private SaturationProperties saturation = new SaturationProperties();
+
     @NotNull
     private Map<String, PublishScenarioProperties> scenarios = new LinkedHashMap<>();
 
@@ -71,5 +83,66 @@ public class PublishProperties {
         }
 
         scenarios.forEach((name, property) -> property.setName(name));
+
+        if (saturation.isEnabled() && saturation.getLatencyType() == LatencyType.QUERY) {
+            throw new IllegalArgumentException("Saturation latency type cannot be QUERY");
+        }
+    }
+
+    @Data
+    @Validated
+    public static class PoolProperties {
+
+        private boolean enabled = false;
+
+        @DurationMin(seconds = 10L)
+        @NotNull
+        private Duration maxAge = Duration.ofMinutes(1L);
+
+        @Min(1)
+        private int size = 10_000;
+
+        @Min(1)
+        private int threads = 2;
+    }
+
+    @Data
+    @Validated
+    public static class SaturationProperties {
+
+        private boolean enabled = false;
+
+        @DurationMin(seconds = 10L)
+        @NotNull
+        private Duration hold = Duration.ofMinutes(1L);
+
+        @Min(1)
+        private double increment = 10.0;
+
+        @Min(0)
+        @Max(100)
+        private double latencyPercentile = 99.0;
+
+        @NotNull
+        private LatencyType latencyType = LatencyType.E2E;
+
+        @Min(0)
+        @Max(1)
+        private double maxErrorRate = 0.01;
+
+        @DurationMin(millis = 1L)
+        @NotNull
+        private Duration maxLatency = Duration.ofSeconds(10L);
+
+        @Min(1)
+        private double maxTps = 100_000.0;
+
+        @Min(0)
+        @Max(1)
+        private double minThroughput = 0.9;
+
+        // The publish scenarios to search. Empty for all enabled scenarios
+        @NotNull
+        private Set<String> scenarios = new LinkedHashSet<>();
     }
 }
@@ -27,6 +27,7 @@ public class PublishRequest {
     private final boolean receipt;
     private final boolean sendRecord;
     private final PublishScenario scenario;
+    private final Instant scheduledTimestamp;
     private final Instant timestamp;
     private final Transaction<?> transaction;
 }
@@ -85,6 +85,8 @@ public class TransactionPublisher implements AutoCloseable {
                 })
                 .timeout(properties.getTimeout())
                 .onErrorMap(t -> !(t instanceof PublishException), t -> new PublishException(request, t))
+                .doOnNext(nodeSupplier::onSuccess)
+                .doOnError(PublishException.class, nodeSupplier::onError)
                 .doOnNext(scenario::onNext)
                 .doOnError(scenario::onError);
     }
@@ -0,0 +1,30 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.monitor.publish;
+
+import com.hedera.hashgraph.sdk.Transaction;
+
+public interface TransactionSigner {
+
+    /**
+     * Assigns a node and transaction ID to the transaction, then freezes and signs it with the operator key so it can
+     * be submitted as is.
+     *
+     * @param transaction the transaction to sign
+     */
+    void sign(Transaction<?> transaction);
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.monitor.publish;
+
+import com.google.common.base.Suppliers;
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.PrivateKey;
+import com.hedera.hashgraph.sdk.Transaction;
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.hedera.mirror.monitor.MonitorProperties;
+import jakarta.inject.Named;
+import java.util.function.Supplier;
+
+@Named
+public class TransactionSignerImpl implements TransactionSigner {
+
+    private final NodeSupplier nodeSupplier;
+    private final Supplier<AccountId> operatorId;
+    private final Supplier<PrivateKey> operatorPrivateKey;
+
+    public TransactionSignerImpl(
+            MonitorProperties monitorProperties, NodeSupplier nodeSupplier, PublishProperties publishProperties) {
+        // Pooled transactions are frozen with a node long before they're published, so it can't be selected by health
+        if (monitorProperties.getNodeSelection().isEnabled()
+                && publishProperties.isEnabled()
+                && publishProperties.getPool().isEnabled()) {
+            throw new IllegalArgumentException("Node selection can't be enabled with the publish pool");
+        }
+
+        this.nodeSupplier = nodeSupplier;
+        var operator = monitorProperties.getOperator();
+        operatorId = Suppliers.memoize(() -> AccountId.fromString(operator.getAccountId()));
+        operatorPrivateKey = Suppliers.memoize(() -> PrivateKey.fromString(operator.getPrivateKey()));
+    }
+
+    @Override
+    public void sign(Transaction<?> transaction) {
+        if (transaction.getNodeAccountIds() == null) {
+            transaction.setNodeAccountIds(nodeSupplier.get().getAccountIds());
+        }
+
+        transaction.setTransactionId(TransactionId.generate(operatorId.get()));
+        transaction.freezeWith(null);
+        transaction.sign(operatorPrivateKey.get());
+        transaction.getSignatures(); // Signatures are computed lazily, so force them to be computed now
+    }
+}
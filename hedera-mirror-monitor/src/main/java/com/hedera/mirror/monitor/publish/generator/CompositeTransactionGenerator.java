@@ -23,11 +23,17 @@ import com.hedera.mirror.monitor.publish.PublishProperties;
 import com.hedera.mirror.monitor.publish.PublishRequest;
 import com.hedera.mirror.monitor.publish.PublishScenario;
 import com.hedera.mirror.monitor.publish.PublishScenarioProperties;
+import com.hedera.mirror.monitor.publish.TransactionSigner;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.inject.Named;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
@@ -48,29 +54,56 @@ public class CompositeTransactionGenerator implements TransactionGenerator {
         INACTIVE_RATE_LIMITER.acquire();
     }
 
+    static final String METRIC_BACKLOG = "hedera.mirror.monitor.publish.backlog";
+
     private final PublishProperties properties;
     final AtomicReference<EnumeratedDistribution<TransactionGenerator>> distribution = new AtomicReference<>();
+    final OpenLoopSchedule openLoopSchedule = new OpenLoopSchedule();
     final AtomicReference<RateLimiter> rateLimiter = new AtomicReference<>();
     final List<ConfigurableTransactionGenerator> transactionGenerators;
+    final Map<ConfigurableTransactionGenerator, TransactionPool> transactionPools = new ConcurrentHashMap<>();
     final AtomicInteger batchSize = new AtomicInteger(1);
 
     public CompositeTransactionGenerator(
             ExpressionConverter expressionConverter,
+            MeterRegistry meterRegistry,
             ScenarioPropertiesAggregator scenarioPropertiesAggregator,
-            PublishProperties properties) {
+            PublishProperties properties,
+            TransactionSigner transactionSigner) {
         this.properties = properties;
         this.transactionGenerators = properties.getScenarios().values().stream()
                 .filter(PublishScenarioProperties::isEnabled)
                 .map(scenarioProperties -> new ConfigurableTransactionGenerator(
                         expressionConverter, scenarioPropertiesAggregator, scenarioProperties))
                 .collect(Collectors.toList());
+
+        var poolProperties = properties.getPool();
+        if (properties.isEnabled() && poolProperties.isEnabled()) {
+            transactionGenerators.forEach(g -> transactionPools.put(
+                    g, new TransactionPool(g, meterRegistry, poolProperties, transactionSigner)));
+        }
+
         rebuild();
+
+        if (properties.isOpenLoop()) {
+            Gauge.builder(METRIC_BACKLOG, openLoopSchedule, OpenLoopSchedule::getBacklog)
+                    .description("The number of transactions behind their intended send time")
+                    .register(meterRegistry);
+        }
     }
 
     @Override
     public List<PublishRequest> next(int count) {
         int permits = count > 0 ? count : batchSize.get();
-        rateLimiter.get().acquire(permits);
+        var current = rateLimiter.get();
+        boolean openLoop = properties.isOpenLoop() && !current.equals(INACTIVE_RATE_LIMITER);
+        long scheduled = 0L;
+
+        if (openLoop) {
+            scheduled = openLoopSchedule.acquire(permits);
+        } else {
+            current.acquire(permits);
+        }
 
         List<PublishRequest> publishRequests = new ArrayList<>();
         int i = 0;
@@ -93,7 +126,7 @@ public class CompositeTransactionGenerator implements TransactionGenerator {
             }
         }
 
-        return publishRequests;
+        return openLoop ? schedule(publishRequests, scheduled) : publishRequests;
     }
 
     @Override
@@ -101,6 +134,26 @@ public class CompositeTransactionGenerator implements TransactionGenerator {
         return Flux.fromIterable(transactionGenerators).flatMap(TransactionGenerator::scenarios);
     }
 
+    /**
+     * Changes the rate of an active scenario and rebalances the total rate and the distribution of transactions.
+     *
+     * @param scenarioName the name of the scenario
+     * @param tps the new rate of the scenario
+     * @return whether the scenario is active
+     */
+    public synchronized boolean setTps(String scenarioName, double tps) {
+        for (var transactionGenerator : transactionGenerators) {
+            var scenarioProperties = transactionGenerator.getProperties();
+            if (scenarioProperties.isEnabled() && scenarioProperties.getName().equals(scenarioName)) {
+                scenarioProperties.setTps(tps);
+                rebuild();
+                return true;
+            }
+        }
+
+        return false;
+    }
+
     private synchronized void rebuild() {
         double total = 0.0;
         List<Pair<TransactionGenerator, Double>> pairs = new ArrayList<>();
@@ -108,10 +161,16 @@ public class CompositeTransactionGenerator implements TransactionGenerator {
             ConfigurableTransactionGenerator transactionGenerator = iter.next();
             PublishScenarioProperties publishScenarioProperties = transactionGenerator.getProperties();
             if (publishScenarioProperties.isEnabled()) {
+                TransactionGenerator generator = transactionPools.get(transactionGenerator);
                 total += publishScenarioProperties.getTps();
-                pairs.add(Pair.create(transactionGenerator, publishScenarioProperties.getTps()));
+                pairs.add(Pair.create(
+                        generator != null ? generator : transactionGenerator, publishScenarioProperties.getTps()));
             } else {
                 iter.remove();
+                var transactionPool = transactionPools.remove(transactionGenerator);
+                if (transactionPool != null) {
+                    transactionPool.close();
+                }
             }
         }
 
@@ -129,6 +188,7 @@ public class CompositeTransactionGenerator implements TransactionGenerator {
 
         batchSize.set(Math.max(1, (int) Math.ceil(total / properties.getBatchDivisor())));
         distribution.set(new EnumeratedDistribution<>(pairs));
+        openLoopSchedule.setRate(total);
 
         RateLimiter current = rateLimiter.get();
         if (current != null) {
@@ -138,6 +198,23 @@ public class CompositeTransactionGenerator implements TransactionGenerator {
         }
     }
 
+    // Stamps each request with its intended send time so latency is measured from when it should have been sent
+    private List<PublishRequest> schedule(List<PublishRequest> publishRequests, long scheduled) {
+        var now = Instant.now();
+        long nanoTime = System.nanoTime();
+        long interval = openLoopSchedule.getInterval();
+        var scheduledRequests = new ArrayList<PublishRequest>(publishRequests.size());
+
+        for (int i = 0; i < publishRequests.size(); i++) {
+            var scheduledTimestamp = now.plusNanos(scheduled + i * interval - nanoTime);
+            scheduledRequests.add(publishRequests.get(i).toBuilder()
+                    .scheduledTimestamp(scheduledTimestamp)
+                    .build());
+        }
+
+        return scheduledRequests;
+    }
+
     private RateLimiter getRateLimiter(double tps, Duration warmupPeriod) {
         if (warmupPeriod.equals(Duration.ZERO)) {
             return RateLimiter.create(tps);
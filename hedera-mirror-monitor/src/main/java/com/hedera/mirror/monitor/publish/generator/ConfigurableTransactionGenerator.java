@@ -19,6 +19,7 @@ package com.hedera.mirror.monitor.publish.generator;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Suppliers;
+import com.hedera.hashgraph.sdk.Transaction;
 import com.hedera.mirror.monitor.expression.ExpressionConverter;
 import com.hedera.mirror.monitor.properties.ScenarioPropertiesAggregator;
 import com.hedera.mirror.monitor.publish.PublishRequest;
@@ -57,7 +58,6 @@ public class ConfigurableTransactionGenerator implements TransactionGenerator {
     private final Supplier<TransactionSupplier<?>> transactionSupplier;
     private final AtomicLong remaining;
     private final long stopTime;
-    private final PublishRequest.PublishRequestBuilder builder;
     private final PublishScenario scenario;
 
     public ConfigurableTransactionGenerator(
@@ -71,7 +71,6 @@ public class ConfigurableTransactionGenerator implements TransactionGenerator {
         remaining = new AtomicLong(properties.getLimit());
         stopTime = System.nanoTime() + properties.getDuration().toNanos();
         scenario = new PublishScenario(properties);
-        builder = PublishRequest.builder().scenario(scenario);
         Assert.state(properties.getRetry().getMaxAttempts() > 0, "maxAttempts must be positive");
     }
 
@@ -93,13 +92,13 @@ public class ConfigurableTransactionGenerator implements TransactionGenerator {
 
         List<PublishRequest> publishRequests = new ArrayList<>();
         for (long i = 0; i < actual; i++) {
-            var transaction = transactionSupplier
-                    .get()
-                    .get()
+            var transaction = nextTransaction()
                     .setMaxAttempts((int) properties.getRetry().getMaxAttempts())
                     .setTransactionMemo(scenario.getMemo());
 
-            PublishRequest publishRequest = builder.receipt(shouldGenerate(properties.getReceiptPercent()))
+            PublishRequest publishRequest = PublishRequest.builder()
+                    .scenario(scenario)
+                    .receipt(shouldGenerate(properties.getReceiptPercent()))
                     .sendRecord(shouldGenerate(properties.getRecordPercent()))
                     .timestamp(Instant.now())
                     .transaction(transaction)
@@ -115,6 +114,11 @@ public class ConfigurableTransactionGenerator implements TransactionGenerator {
         return Flux.just(scenario);
     }
 
+    // Transaction suppliers are stateful, so transaction pool workers must not call them concurrently
+    private synchronized Transaction<?> nextTransaction() {
+        return transactionSupplier.get().get();
+    }
+
     private TransactionSupplier<?> convert() {
         Map<String, String> convertedProperties = expressionConverter.convert(properties.getProperties());
         Map<String, Object> correctedProperties = scenarioPropertiesAggregator.aggregateProperties(convertedProperties);
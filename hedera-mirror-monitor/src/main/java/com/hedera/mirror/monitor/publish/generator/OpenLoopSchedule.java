@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.monitor.publish.generator;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Schedules transactions at fixed intervals derived from the target rate, independent of how long it takes to publish
+ * them. Unlike a {@link com.google.common.util.concurrent.RateLimiter}, which only stores up to a second of unused
+ * permits, it never forgets the sends that fell behind schedule. The intended send time of every transaction can
+ * therefore be used to measure its latency without coordinated omission. Not thread-safe for concurrent acquires.
+ */
+class OpenLoopSchedule {
+
+    private volatile long interval = TimeUnit.SECONDS.toNanos(1L);
+    private volatile long next;
+    private volatile boolean started;
+
+    /**
+     * Waits until the intended send time of the first of the permits.
+     *
+     * @param permits the number of transactions to schedule
+     * @return the intended send time of the first permit in {@link System#nanoTime()} units
+     */
+    long acquire(int permits) {
+        long now = System.nanoTime();
+        long start = started ? next : now;
+        next = start + permits * interval;
+        started = true;
+
+        long wait = start - now;
+        if (wait > 0) {
+            Uninterruptibles.sleepUninterruptibly(wait, TimeUnit.NANOSECONDS);
+        }
+
+        return start;
+    }
+
+    /**
+     * Gets the number of transactions whose intended send time has passed but that haven't been acquired yet.
+     *
+     * @return the backlog of late sends
+     */
+    long getBacklog() {
+        if (!started) {
+            return 0L;
+        }
+
+        long behind = System.nanoTime() - next;
+        return behind > 0 ? behind / interval + 1 : 0L;
+    }
+
+    long getInterval() {
+        return interval;
+    }
+
+    void setRate(double tps) {
+        interval = Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1L) / tps));
+    }
+}
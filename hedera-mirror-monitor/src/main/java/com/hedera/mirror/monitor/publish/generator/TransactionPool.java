@@ -0,0 +1,197 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.monitor.publish.generator;
+
+import com.hedera.mirror.monitor.publish.PublishProperties;
+import com.hedera.mirror.monitor.publish.PublishRequest;
+import com.hedera.mirror.monitor.publish.PublishScenario;
+import com.hedera.mirror.monitor.publish.TransactionSigner;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.CustomLog;
+import lombok.Getter;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+/**
+ * Pre-builds and pre-signs the transactions of a scenario on background threads into a bounded queue so the publish
+ * loop only has to dequeue them. Transactions that are older than the configured maximum age by the time they're
+ * dequeued are discarded since they risk expiring before they reach consensus.
+ */
+@CustomLog
+public class TransactionPool implements TransactionGenerator, AutoCloseable {
+
+    static final String METRIC_POOL_SIZE = "hedera.mirror.monitor.publish.pool.size";
+    static final String METRIC_POOL_STALE = "hedera.mirror.monitor.publish.pool.stale";
+    static final String TAG_SCENARIO = "scenario";
+
+    private static final long POLL_TIMEOUT = 100L;
+
+    @Getter
+    private final ConfigurableTransactionGenerator generator;
+
+    private final AtomicReference<ScenarioException> exhausted = new AtomicReference<>();
+    private final Duration maxAge;
+    private final BlockingQueue<PublishRequest> queue;
+    private final Scheduler scheduler;
+    private final TransactionSigner transactionSigner;
+    private final AtomicLong stale = new AtomicLong(0L);
+    private final Disposable workers;
+    private volatile boolean closed = false;
+
+    public TransactionPool(
+            ConfigurableTransactionGenerator generator,
+            MeterRegistry meterRegistry,
+            PublishProperties.PoolProperties properties,
+            TransactionSigner transactionSigner) {
+        this.generator = generator;
+        this.maxAge = properties.getMaxAge();
+        this.transactionSigner = transactionSigner;
+
+        // Don't pool more than can be published within the maximum age to avoid discarding most of the pool
+        double tps = generator.getProperties().getTps();
+        long capacity = Math.min(properties.getSize(), (long) Math.ceil(tps * maxAge.toSeconds()));
+        queue = new ArrayBlockingQueue<>((int) Math.max(1L, capacity));
+
+        String name = generator.getProperties().getName();
+        scheduler = Schedulers.newParallel("pool-" + name, properties.getThreads());
+        workers = Flux.range(0, properties.getThreads())
+                .flatMap(i -> Mono.fromRunnable(this::fill)
+                        .subscribeOn(scheduler)
+                        .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1L))
+                                .maxBackoff(Duration.ofSeconds(8L))
+                                .doBeforeRetry(r -> log.warn(
+                                        "Unable to pre-sign transaction for scenario {}: {}",
+                                        name,
+                                        r.failure().getMessage()))))
+                .subscribe(null, t -> log.error("Stopped pre-signing transactions for scenario {}", name, t));
+
+        Gauge.builder(METRIC_POOL_SIZE, queue, BlockingQueue::size)
+                .description("The number of pre-signed transactions waiting to be published")
+                .tag(TAG_SCENARIO, name)
+                .register(meterRegistry);
+        FunctionCounter.builder(METRIC_POOL_STALE, stale, AtomicLong::get)
+                .description("The number of pre-signed transactions discarded for exceeding the maximum age")
+                .tag(TAG_SCENARIO, name)
+                .register(meterRegistry);
+        log.info("Pre-signing up to {} transactions for scenario {}", queue.remainingCapacity(), name);
+    }
+
+    @Override
+    public List<PublishRequest> next(int count) {
+        int actual = Math.max(1, count);
+        List<PublishRequest> publishRequests = new ArrayList<>(actual);
+
+        for (int i = 0; i < actual; i++) {
+            var publishRequest = take();
+            if (publishRequest == null) {
+                break;
+            }
+            publishRequests.add(publishRequest);
+        }
+
+        // Return what was dequeued before the scenario completed and fail the next call
+        var scenarioException = exhausted.get();
+        if (publishRequests.isEmpty() && scenarioException != null) {
+            throw scenarioException;
+        }
+
+        return publishRequests;
+    }
+
+    @Override
+    public Flux<PublishScenario> scenarios() {
+        return generator.scenarios();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        workers.dispose();
+        scheduler.dispose();
+        queue.clear();
+    }
+
+    long getStale() {
+        return stale.get();
+    }
+
+    private void fill() {
+        while (!closed) {
+            try {
+                var publishRequest = generator.next().get(0);
+                transactionSigner.sign(publishRequest.getTransaction());
+
+                while (!queue.offer(publishRequest, POLL_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                    if (closed) {
+                        return;
+                    }
+                }
+            } catch (ScenarioException e) {
+                exhausted.compareAndSet(null, e);
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    // Returns null once the pool is drained after the scenario completed or if interrupted
+    private PublishRequest take() {
+        try {
+            while (true) {
+                var publishRequest = queue.poll(POLL_TIMEOUT, TimeUnit.MILLISECONDS);
+
+                if (publishRequest == null) {
+                    if (exhausted.get() != null && queue.isEmpty()) {
+                        return null;
+                    }
+                } else if (isStale(publishRequest)) {
+                    stale.incrementAndGet();
+                } else {
+                    // Measure latency from when it's actually published instead of when it was pre-signed
+                    return publishRequest.toBuilder().timestamp(Instant.now()).build();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private boolean isStale(PublishRequest publishRequest) {
+        var transactionId = publishRequest.getTransaction().getTransactionId();
+        return transactionId != null
+                && transactionId.validStart != null
+                && transactionId.validStart.plus(maxAge).isBefore(Instant.now());
+    }
+}
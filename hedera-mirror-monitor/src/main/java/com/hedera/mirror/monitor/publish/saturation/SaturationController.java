@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.monitor.publish.saturation;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@CustomLog
+@RequestMapping("/api/v1/saturation")
+@RequiredArgsConstructor
+@RestController
+class SaturationController {
+
+    private final SaturationSearch saturationSearch;
+
+    @GetMapping
+    public Flux<SaturationResult> results(@RequestParam("scenario") Optional<String> scenario) {
+        return Flux.fromIterable(saturationSearch.getResults())
+                .filter(r -> !scenario.isPresent() || scenario.get().equals(r.getScenario()))
+                .switchIfEmpty(Mono.error(new NoSuchElementException()));
+    }
+
+    @ResponseStatus(value = HttpStatus.NOT_FOUND, reason = "Not found")
+    @ExceptionHandler(NoSuchElementException.class)
+    void notFound() {
+        // Error logging is done generically in LoggingFilter
+    }
+}
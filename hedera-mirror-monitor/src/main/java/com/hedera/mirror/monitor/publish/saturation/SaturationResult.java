@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.monitor.publish.saturation;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The steps of a saturation search of a publish scenario so far, and the highest rate that passed.
+ */
+@Getter
+@RequiredArgsConstructor
+public class SaturationResult {
+
+    private final String scenario;
+    private final List<SaturationStep> steps = new CopyOnWriteArrayList<>();
+    private volatile boolean completed;
+
+    public Double getMaxTps() {
+        return steps.stream()
+                .filter(SaturationStep::passed)
+                .map(SaturationStep::tps)
+                .max(Double::compare)
+                .orElse(null);
+    }
+
+    void add(SaturationStep step) {
+        steps.add(step);
+    }
+
+    void complete() {
+        completed = true;
+    }
+}
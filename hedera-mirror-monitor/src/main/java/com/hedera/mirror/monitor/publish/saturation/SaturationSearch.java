@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.monitor.publish.saturation;
+
+import com.hedera.mirror.monitor.latency.LatencyHistograms;
+import com.hedera.mirror.monitor.latency.LatencyType;
+import com.hedera.mirror.monitor.publish.PublishProperties;
+import com.hedera.mirror.monitor.publish.PublishScenario;
+import com.hedera.mirror.monitor.publish.generator.CompositeTransactionGenerator;
+import jakarta.inject.Named;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
+import org.HdrHistogram.Histogram;
+import org.apache.commons.math3.util.Precision;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Finds the maximum sustainable rate of publish scenarios by stepping up the rate of one scenario at a time. Each step
+ * is held for a window, after which the window's error rate, achieved rate and latency percentile are compared to
+ * their objectives. The search of a scenario stops at the first step that violates an objective, after which the
+ * scenario is returned to its configured rate.
+ */
+@CustomLog
+@Named
+@RequiredArgsConstructor
+public class SaturationSearch {
+
+    private final LatencyHistograms latencyHistograms;
+    private final PublishProperties publishProperties;
+    private final Map<String, SaturationResult> results = new ConcurrentSkipListMap<>();
+    private final CompositeTransactionGenerator transactionGenerator;
+
+    public Collection<SaturationResult> getResults() {
+        return results.values();
+    }
+
+    public Flux<SaturationResult> search() {
+        var scenarioNames = publishProperties.getSaturation().getScenarios();
+        return Mono.delay(publishProperties.getWarmupPeriod())
+                .thenMany(transactionGenerator.scenarios())
+                .filter(s -> scenarioNames.isEmpty() || scenarioNames.contains(s.getName()))
+                .concatMap(this::searchScenario);
+    }
+
+    private Mono<SaturationResult> searchScenario(PublishScenario scenario) {
+        double initialTps = scenario.getProperties().getTps();
+        var result = new SaturationResult(scenario.getName());
+        results.put(scenario.getName(), result);
+        log.info("Starting saturation search of scenario {} at {} TPS", scenario, initialTps);
+
+        return stepUp(scenario, result, initialTps)
+                .doOnCancel(() -> transactionGenerator.setTps(scenario.getName(), initialTps))
+                .doOnError(t -> log.error("Error during saturation search of scenario {}: ", scenario, t))
+                .onErrorResume(t -> Mono.empty())
+                .then(Mono.fromSupplier(() -> {
+                    transactionGenerator.setTps(scenario.getName(), initialTps);
+                    result.complete();
+                    log.info(
+                            "Scenario {} has a maximum sustainable rate of {} TPS. Steps: {}",
+                            scenario,
+                            result.getMaxTps(),
+                            result.getSteps());
+                    return result;
+                }));
+    }
+
+    private Mono<Void> stepUp(PublishScenario scenario, SaturationResult result, double tps) {
+        return Mono.defer(() -> {
+            if (tps > publishProperties.getSaturation().getMaxTps() || !scenario.isRunning()) {
+                return Mono.empty();
+            }
+
+            double increment = publishProperties.getSaturation().getIncrement();
+            return step(scenario, tps).flatMap(step -> {
+                result.add(step);
+                return step.passed() ? stepUp(scenario, result, tps + increment) : Mono.<Void>empty();
+            });
+        });
+    }
+
+    private Mono<SaturationStep> step(PublishScenario scenario, double tps) {
+        return Mono.fromSupplier(() -> {
+                    transactionGenerator.setTps(scenario.getName(), tps);
+                    return sample(scenario);
+                })
+                .delayElement(publishProperties.getSaturation().getHold())
+                .map(start -> evaluate(scenario, tps, start, sample(scenario)));
+    }
+
+    private SaturationStep evaluate(PublishScenario scenario, double tps, Sample start, Sample end) {
+        var properties = publishProperties.getSaturation();
+        double seconds = (end.time() - start.time()) / 1_000_000_000.0;
+        long successes = end.count() - start.count();
+        long errors = end.errors() - start.errors();
+        double achievedTps = seconds > 0 ? Precision.round(successes / seconds, 1) : 0.0;
+        double errorRate = successes + errors > 0 ? (double) errors / (successes + errors) : 0.0;
+
+        // Latencies are only evaluated if any were recorded, since not every deployment runs subscribers
+        var latencies = end.latencies().copy();
+        latencies.subtract(start.latencies());
+        Double latency = latencies.getTotalCount() > 0
+                ? latencies.getValueAtPercentile(properties.getLatencyPercentile()) / 1000.0
+                : null;
+
+        boolean passed = errorRate <= properties.getMaxErrorRate()
+                && achievedTps >= tps * properties.getMinThroughput()
+                && (latency == null || latency <= properties.getMaxLatency().toMillis());
+        var step = new SaturationStep(tps, achievedTps, errorRate, latency, passed);
+        log.info("Scenario {} {} step: {}", scenario, passed ? "passed" : "failed", step);
+        return step;
+    }
+
+    private Sample sample(PublishScenario scenario) {
+        long errors = scenario.getErrors().values().stream()
+                .mapToLong(Integer::longValue)
+                .sum();
+
+        // E2E latencies are recorded under the subscribe scenario names, so they're merged across subscribe scenarios.
+        // Since one publish scenario is searched at a time, a step's change in them is attributed to that scenario.
+        var latencyType = publishProperties.getSaturation().getLatencyType();
+        var latencies = latencyType == LatencyType.E2E
+                ? latencyHistograms.getCumulative(latencyType)
+                : latencyHistograms.getCumulative(latencyType, scenario.getName());
+        return new Sample(Schedulers.parallel().now(TimeUnit.NANOSECONDS), scenario.getCount(), errors, latencies);
+    }
+
+    private record Sample(long time, long count, long errors, Histogram latencies) {}
+}
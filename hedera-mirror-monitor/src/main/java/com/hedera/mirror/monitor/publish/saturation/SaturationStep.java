@@ -0,0 +1,28 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.monitor.publish.saturation;
+
+/**
+ * The outcome of holding a publish scenario at a rate for one step of a saturation search.
+ *
+ * @param tps the target rate of the step
+ * @param achievedTps the rate of successfully published transactions
+ * @param errorRate the fraction of transactions that failed
+ * @param latency the latency percentile in milliseconds, or null if no latencies were recorded
+ * @param passed whether the step met every service level objective
+ */
+public record SaturationStep(double tps, double achievedTps, double errorRate, Double latency, boolean passed) {}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.monitor.query;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import java.util.Map;
+
+/**
+ * A request captured by the capture filter of a mirror node API, read from one line of a capture file. The offset is
+ * the number of milliseconds from the start of the capture to the request, and the latency is the number of
+ * milliseconds the API took to respond with the status. The headers are the captured request headers that affect the
+ * status, like If-None-Match, and are sent again on replay.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record CapturedRequest(
+        long offset,
+        String method,
+        String path,
+        String query,
+        String body,
+        Map<String, String> headers,
+        int status,
+        long latency) {}
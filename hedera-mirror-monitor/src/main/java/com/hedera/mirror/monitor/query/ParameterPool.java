@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.monitor.query;
+
+import com.hedera.mirror.monitor.expression.ExpressionConverter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * A pool of values to draw a query parameter from. The pool is either a comma separated list of values, each of which
+ * can be an expression, or an inclusive range of numbers or entity IDs like {@code 0.0.1000..0.0.2000}.
+ */
+class ParameterPool {
+
+    private static final String RANGE = "..";
+
+    private final String prefix;
+    private final long start;
+    private final long size;
+    private final List<String> values;
+
+    private ParameterPool(String prefix, long start, long size, List<String> values) {
+        this.prefix = prefix;
+        this.start = start;
+        this.size = size;
+        this.values = values;
+    }
+
+    static ParameterPool of(String name, String pool, ExpressionConverter expressionConverter) {
+        if (StringUtils.isBlank(pool)) {
+            throw new IllegalArgumentException("Query parameter " + name + " must not be empty");
+        }
+
+        int index = pool.indexOf(RANGE);
+        if (index < 0) {
+            var values = Arrays.stream(StringUtils.split(pool, ','))
+                    .map(String::trim)
+                    .filter(StringUtils::isNotEmpty)
+                    .map(expressionConverter::convert)
+                    .toList();
+            if (values.isEmpty()) {
+                throw new IllegalArgumentException("Query parameter " + name + " must not be empty");
+            }
+            return new ParameterPool(null, 0L, values.size(), values);
+        }
+
+        // Only the last component of an entity ID varies within the range
+        var from = pool.substring(0, index).trim();
+        var to = pool.substring(index + RANGE.length()).trim();
+        var prefix = from.substring(0, from.lastIndexOf('.') + 1);
+        if (!prefix.equals(to.substring(0, to.lastIndexOf('.') + 1))) {
+            throw new IllegalArgumentException("Query parameter " + name + " has a range with different prefixes");
+        }
+
+        try {
+            long start = Long.parseLong(from.substring(prefix.length()));
+            long end = Long.parseLong(to.substring(prefix.length()));
+            if (end < start) {
+                throw new IllegalArgumentException("Query parameter " + name + " has an empty range");
+            }
+            return new ParameterPool(prefix, start, end - start + 1, List.of());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Query parameter " + name + " has an invalid range: " + pool, e);
+        }
+    }
+
+    String sample(Random random) {
+        long index = random.nextLong(size);
+        return prefix == null ? values.get((int) index) : prefix + (start + index);
+    }
+}
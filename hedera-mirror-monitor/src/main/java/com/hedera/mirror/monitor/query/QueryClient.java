@@ -0,0 +1,154 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.monitor.query;
+
+import com.hedera.hashgraph.sdk.Client;
+import com.hedera.hashgraph.sdk.TopicMessageQuery;
+import com.hedera.mirror.monitor.MonitorProperties;
+import jakarta.inject.Named;
+import java.net.URI;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import lombok.CustomLog;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+/**
+ * Executes the requests of query scenarios against the mirror node REST, web3 and gRPC APIs. Every request results in a
+ * response whose status is either success or a description of the error, so failed queries are measured as well. A
+ * replayed request succeeds only if it receives the same status as when it was captured.
+ */
+@CustomLog
+@Named
+public class QueryClient implements AutoCloseable {
+
+    private static final String REST_PREFIX = "/api/v1";
+
+    private final MonitorProperties monitorProperties;
+    private final WebClient webClient;
+    private Client grpcClient;
+
+    public QueryClient(MonitorProperties monitorProperties, WebClient.Builder webClientBuilder) {
+        this.monitorProperties = monitorProperties;
+        this.webClient = webClientBuilder
+                .baseUrl(monitorProperties.getMirrorNode().getRest().getBaseUrl())
+                .defaultHeaders(h -> h.setAccept(List.of(MediaType.APPLICATION_JSON)))
+                .build();
+    }
+
+    public Mono<QueryResponse> query(QueryRequest request) {
+        var scenario = request.getScenario();
+        Mono<?> query =
+                switch (scenario.getProperties().getType()) {
+                    case CONTRACT_CALL -> webClient
+                            .post()
+                            .uri(request.getUri())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .bodyValue(request.getBody())
+                            .retrieve()
+                            .toBodilessEntity();
+                    case GRPC -> subscribe(request.getTopicMessageQuery());
+                    case REPLAY -> replay(request);
+                    case REST -> webClient
+                            .get()
+                            .uri(request.getUri(), request.getParameters())
+                            .retrieve()
+                            .toBodilessEntity();
+                };
+
+        return query.timeout(scenario.getProperties().getTimeout())
+                .then(Mono.fromSupplier(() -> toResponse(request, QueryResponse.SUCCESS)))
+                .doOnNext(scenario::onNext)
+                .doOnError(scenario::onError)
+                .onErrorResume(t -> Mono.just(toResponse(request, QueryResponse.getStatus(t))));
+    }
+
+    // Replays a captured request with its captured headers and fails if its status differs from the captured status
+    private Mono<Integer> replay(QueryRequest request) {
+        var captured = request.getCaptured();
+        var baseUrl = request.getScenario().getProperties().getReplay().getBaseUrl();
+        if (StringUtils.isBlank(baseUrl)) {
+            baseUrl = StringUtils.removeEnd(monitorProperties.getMirrorNode().getRest().getBaseUrl(), REST_PREFIX);
+        }
+
+        var bodySpec = webClient
+                .method(HttpMethod.valueOf(captured.method()))
+                .uri(URI.create(StringUtils.removeEnd(baseUrl, "/") + request.getUri()))
+                .headers(h -> {
+                    if (captured.headers() != null) {
+                        h.setAll(captured.headers());
+                    }
+                });
+        WebClient.RequestHeadersSpec<?> spec = StringUtils.isNotEmpty(captured.body())
+                ? bodySpec.contentType(MediaType.APPLICATION_JSON).bodyValue(captured.body())
+                : bodySpec;
+
+        return spec.exchangeToMono(r -> r.releaseBody().thenReturn(r.statusCode().value()))
+                .flatMap(status -> status == captured.status()
+                        ? Mono.just(status)
+                        : Mono.<Integer>error(new QueryResponse.StatusMismatchException(status, captured.status())));
+    }
+
+    private Mono<Void> subscribe(TopicMessageQuery topicMessageQuery) {
+        return Mono.create(sink -> {
+            topicMessageQuery.setCompletionHandler(sink::success);
+            topicMessageQuery.setErrorHandler((throwable, topicMessage) -> sink.error(throwable));
+            topicMessageQuery.setMaxAttempts(0); // A failed query is recorded instead of retried
+            var subscriptionHandle = topicMessageQuery.subscribe(getGrpcClient(), topicMessage -> {});
+            sink.onDispose(subscriptionHandle::unsubscribe);
+        });
+    }
+
+    private QueryResponse toResponse(QueryRequest request, String status) {
+        return QueryResponse.builder()
+                .request(request)
+                .status(status)
+                .timestamp(Instant.now())
+                .build();
+    }
+
+    private synchronized Client getGrpcClient() {
+        if (grpcClient == null) {
+            String endpoint = monitorProperties.getMirrorNode().getGrpc().getEndpoint();
+
+            try {
+                grpcClient = Client.forNetwork(Map.of());
+                grpcClient.setMirrorNetwork(List.of(endpoint));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Unable to initialize SDK client to " + endpoint);
+            }
+        }
+
+        return grpcClient;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (grpcClient != null) {
+            try {
+                grpcClient.close();
+            } catch (Exception e) {
+                // Ignore
+            }
+        }
+    }
+}
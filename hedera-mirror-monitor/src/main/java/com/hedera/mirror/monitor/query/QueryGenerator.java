@@ -0,0 +1,181 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.monitor.query;
+
+import com.hedera.hashgraph.sdk.TopicId;
+import com.hedera.hashgraph.sdk.TopicMessageQuery;
+import com.hedera.mirror.monitor.expression.ExpressionConverter;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.UnaryOperator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Generates the requests of a query scenario by drawing a value from each parameter pool and filling them into the
+ * scenario's REST path, contract call data or topic ID template.
+ */
+class QueryGenerator {
+
+    static final String CONTRACT_CALL_URI = "/contracts/call";
+
+    private static final Pattern ENTITY_ID_PATTERN = Pattern.compile("^(\\d+)\\.(\\d+)\\.(\\d+)$");
+    private static final String HEX_PREFIX = "0x";
+    private static final Pattern PLACEHOLDER_PATTERN = Pattern.compile("\\{(\\w+)}");
+    private static final String PREFIX = "/api/v1";
+    private static final int WORD_BITS = 256;
+    private static final int WORD_LENGTH = WORD_BITS / 4; // Hex characters in a 32 byte ABI word
+    private static final BigInteger WORD_MODULUS = BigInteger.ONE.shiftLeft(WORD_BITS);
+
+    private final Map<String, ParameterPool> pools = new LinkedHashMap<>();
+    private final QueryScenarioProperties properties;
+    private final Random random;
+    private final QueryScenario scenario;
+    private final String template;
+
+    QueryGenerator(QueryScenario scenario, ExpressionConverter expressionConverter) {
+        this.properties = scenario.getProperties();
+        this.random = properties.getSeed() != null ? new Random(properties.getSeed()) : new Random();
+        this.scenario = scenario;
+        properties.getParameters().forEach((k, v) -> pools.put(k, ParameterPool.of(k, v, expressionConverter)));
+
+        this.template = switch (properties.getType()) {
+            case CONTRACT_CALL -> expressionConverter.convert(properties.getCall().getTo());
+            case GRPC -> expressionConverter.convert(properties.getGrpc().getTopicId());
+            case REPLAY -> throw replayUnsupported();
+            case REST -> StringUtils.removeStart(properties.getRest().getPath(), PREFIX);
+        };
+
+        validate(template);
+        validate(properties.getCall().getData());
+    }
+
+    QueryRequest next() {
+        var parameters = new LinkedHashMap<String, String>();
+        pools.forEach((name, pool) -> parameters.put(name, pool.sample(random)));
+
+        var builder = QueryRequest.builder()
+                .parameters(parameters)
+                .scenario(scenario)
+                .timestamp(Instant.now());
+
+        return switch (properties.getType()) {
+            case CONTRACT_CALL -> builder.body(getBody(parameters)).uri(CONTRACT_CALL_URI).build();
+            case GRPC -> builder.topicMessageQuery(getTopicMessageQuery(parameters)).build();
+            case REPLAY -> throw replayUnsupported();
+            case REST -> builder.uri(template).build();
+        };
+    }
+
+    private Map<String, Object> getBody(Map<String, String> parameters) {
+        var call = properties.getCall();
+        var body = new LinkedHashMap<String, Object>();
+        body.put("block", call.getBlock());
+
+        if (StringUtils.isNotBlank(call.getData())) {
+            var data = StringUtils.removeStart(call.getData(), HEX_PREFIX);
+            body.put("data", HEX_PREFIX + resolve(data, parameters, QueryGenerator::toWord));
+        }
+
+        body.put("estimate", call.isEstimate());
+        body.put("gas", call.getGas());
+        body.put("to", toAddress(resolve(template, parameters, UnaryOperator.identity())));
+        return body;
+    }
+
+    private TopicMessageQuery getTopicMessageQuery(Map<String, String> parameters) {
+        var grpc = properties.getGrpc();
+        var topicId = TopicId.fromString(resolve(template, parameters, UnaryOperator.identity()));
+        return new TopicMessageQuery()
+                .setEndTime(Instant.now())
+                .setLimit(grpc.getLimit())
+                .setStartTime(grpc.getStartTime())
+                .setTopicId(topicId);
+    }
+
+    private String resolve(String value, Map<String, String> parameters, UnaryOperator<String> encoder) {
+        return PLACEHOLDER_PATTERN
+                .matcher(value)
+                .replaceAll(m -> Matcher.quoteReplacement(encoder.apply(parameters.get(m.group(1)))));
+    }
+
+    private IllegalArgumentException replayUnsupported() {
+        return new IllegalArgumentException("Query scenario " + scenario.getName() + " is replayed from a capture");
+    }
+
+    private void validate(String value) {
+        if (value == null) {
+            return;
+        }
+
+        var matcher = PLACEHOLDER_PATTERN.matcher(value);
+        while (matcher.find()) {
+            var name = matcher.group(1);
+            if (!pools.containsKey(name)) {
+                throw new IllegalArgumentException(
+                        "Query scenario " + scenario.getName() + " is missing parameter " + name);
+            }
+        }
+    }
+
+    // Converts an entity ID to its long-zero EVM address, leaving any other value as is
+    private static String toAddress(String value) {
+        var matcher = ENTITY_ID_PATTERN.matcher(value);
+        if (!matcher.matches()) {
+            return value;
+        }
+
+        long shard = Long.parseLong(matcher.group(1));
+        long realm = Long.parseLong(matcher.group(2));
+        long num = Long.parseLong(matcher.group(3));
+        return HEX_PREFIX + String.format("%08x%016x%016x", shard, realm, num);
+    }
+
+    // ABI encodes an entity ID as an address, a hex value as bytes32 and a decimal value as a two's complement int256
+    private static String toWord(String value) {
+        String hex;
+
+        if (ENTITY_ID_PATTERN.matcher(value).matches()) {
+            hex = toAddress(value).substring(HEX_PREFIX.length());
+        } else if (value.startsWith(HEX_PREFIX)) {
+            hex = value.substring(HEX_PREFIX.length()).toLowerCase();
+        } else {
+            var number = new BigInteger(value);
+            if (number.signum() < 0) {
+                if (number.bitLength() >= WORD_BITS) {
+                    throw wordOverflow(value);
+                }
+                number = number.add(WORD_MODULUS);
+            }
+            hex = number.toString(16);
+        }
+
+        if (hex.length() > WORD_LENGTH) {
+            throw wordOverflow(value);
+        }
+
+        return StringUtils.leftPad(hex, WORD_LENGTH, '0');
+    }
+
+    private static IllegalArgumentException wordOverflow(String value) {
+        return new IllegalArgumentException("Query parameter value " + value + " does not fit in 32 bytes");
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.monitor.query;
+
+import com.hedera.mirror.monitor.converter.DurationToStringSerializer;
+import com.hedera.mirror.monitor.latency.LatencyHistograms;
+import com.hedera.mirror.monitor.latency.LatencyType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import jakarta.inject.Named;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+
+@CustomLog
+@Named
+@RequiredArgsConstructor
+public class QueryMetrics {
+
+    static final String METRIC_CAPTURED_LATENCY = "hedera.mirror.monitor.query.captured.latency";
+    static final String METRIC_DURATION = "hedera.mirror.monitor.query.duration";
+    static final String METRIC_LATENCY = "hedera.mirror.monitor.query.latency";
+
+    private final Map<QueryScenario, Timer> capturedLatencyTimers = new ConcurrentHashMap<>();
+    private final Map<QueryScenario, TimeGauge> durationGauges = new ConcurrentHashMap<>();
+    private final Map<Tags, Timer> latencyTimers = new ConcurrentHashMap<>();
+    private final LatencyHistograms latencyHistograms;
+    private final MeterRegistry meterRegistry;
+    private final QueryProperties queryProperties;
+
+    public void onNext(QueryResponse response) {
+        try {
+            var request = response.getRequest();
+            var scenario = request.getScenario();
+            var latency = Duration.between(request.getTimestamp(), response.getTimestamp());
+            var tags = new Tags(scenario, response.getStatus());
+
+            durationGauges.computeIfAbsent(scenario, this::newDurationMetric);
+            latencyTimers.computeIfAbsent(tags, this::newLatencyMetric).record(latency);
+
+            if (response.isSuccess()) {
+                latencyHistograms.record(LatencyType.QUERY, scenario.getName(), latency);
+            }
+
+            // Record the captured latency of replayed requests so it can be compared to the replayed latency
+            var captured = request.getCaptured();
+            if (captured != null) {
+                capturedLatencyTimers
+                        .computeIfAbsent(scenario, this::newCapturedLatencyMetric)
+                        .record(captured.latency(), TimeUnit.MILLISECONDS);
+            }
+        } catch (Exception ex) {
+            log.error("Unexpected error when recording metric", ex);
+        }
+    }
+
+    private Timer newCapturedLatencyMetric(QueryScenario scenario) {
+        return Timer.builder(METRIC_CAPTURED_LATENCY)
+                .description("The time it took to respond to a replayed query when it was captured")
+                .tag(Tags.TAG_SCENARIO, scenario.getName())
+                .tag(Tags.TAG_TYPE, scenario.getProperties().getType().toString())
+                .register(meterRegistry);
+    }
+
+    private TimeGauge newDurationMetric(QueryScenario scenario) {
+        return TimeGauge.builder(METRIC_DURATION, scenario, TimeUnit.NANOSECONDS, s -> s.getElapsed()
+                        .toNanos())
+                .description("The amount of time this scenario has been querying")
+                .tag(Tags.TAG_SCENARIO, scenario.getName())
+                .tag(Tags.TAG_TYPE, scenario.getProperties().getType().toString())
+                .register(meterRegistry);
+    }
+
+    private Timer newLatencyMetric(Tags tags) {
+        return Timer.builder(METRIC_LATENCY)
+                .description("The time it takes to receive the full response to a query")
+                .tag(Tags.TAG_SCENARIO, tags.getScenario().getName())
+                .tag(Tags.TAG_STATUS, tags.getStatus())
+                .tag(Tags.TAG_TYPE, tags.getScenario().getProperties().getType().toString())
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${hedera.mirror.monitor.query.statusFrequency:10000}")
+    public void status() {
+        if (queryProperties.isEnabled()) {
+            var running = new AtomicBoolean(false);
+            durationGauges.keySet().stream()
+                    .filter(QueryScenario::isRunning)
+                    .peek(s -> running.set(true))
+                    .forEach(this::status);
+
+            if (!running.get()) {
+                log.info("No queriers");
+            }
+        }
+    }
+
+    private void status(QueryScenario scenario) {
+        String elapsed = DurationToStringSerializer.convert(scenario.getElapsed());
+        log.info(
+                "{} scenario {} executed {} queries in {} at {}/s. Errors: {}",
+                scenario.getProperties().getType(),
+                scenario,
+                scenario.getCount(),
+                elapsed,
+                scenario.getRate(),
+                scenario.getErrors());
+    }
+
+    @Value
+    class Tags {
+        static final String TAG_SCENARIO = "scenario";
+        static final String TAG_STATUS = "status";
+        static final String TAG_TYPE = "type";
+
+        private final QueryScenario scenario;
+        private final String status;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.monitor.query;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.util.concurrent.Uninterruptibles;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Replays the requests of a capture file in the order they arrived. Each request is released at its offset from the
+ * first captured request divided by the replay speed. The offsets are measured from the start of the replay instead of
+ * the previous request, so the inter-arrival distribution of the capture is preserved without accumulating drift. A
+ * speed of zero releases the requests as fast as possible.
+ */
+class QueryReplayer {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final List<CapturedRequest> capturedRequests;
+    private final QueryScenario scenario;
+    private final double speed;
+    private int index = 0;
+    private long startTime;
+
+    QueryReplayer(QueryScenario scenario) {
+        var replay = scenario.getProperties().getReplay();
+        this.capturedRequests = read(replay.getPath());
+        this.scenario = scenario;
+        this.speed = replay.getSpeed();
+
+        if (capturedRequests.isEmpty()) {
+            throw new IllegalArgumentException(
+                    "Query scenario " + scenario.getName() + " capture file " + replay.getPath() + " is empty");
+        }
+    }
+
+    /**
+     * Waits until the next captured request is due and returns it.
+     *
+     * @return the next request or null if all captured requests have been replayed
+     */
+    QueryRequest next() {
+        if (index >= capturedRequests.size()) {
+            return null;
+        }
+
+        if (index == 0) {
+            startTime = System.nanoTime();
+        }
+
+        var captured = capturedRequests.get(index++);
+
+        if (speed > 0) {
+            long offset = captured.offset() - capturedRequests.get(0).offset();
+            long due = startTime + (long) (TimeUnit.MILLISECONDS.toNanos(offset) / speed);
+            long wait = due - System.nanoTime();
+
+            if (wait > 0) {
+                Uninterruptibles.sleepUninterruptibly(wait, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        var query = captured.query();
+        return QueryRequest.builder()
+                .captured(captured)
+                .parameters(Map.of())
+                .scenario(scenario)
+                .timestamp(Instant.now())
+                .uri(StringUtils.isNotEmpty(query) ? captured.path() + "?" + query : captured.path())
+                .build();
+    }
+
+    int size() {
+        return capturedRequests.size();
+    }
+
+    private static List<CapturedRequest> read(Path path) {
+        try (var lines = Files.lines(path)) {
+            var capturedRequests = new ArrayList<CapturedRequest>();
+            for (var line : (Iterable<String>) lines::iterator) {
+                if (StringUtils.isNotBlank(line)) {
+                    capturedRequests.add(OBJECT_MAPPER.readValue(line, CapturedRequest.class));
+                }
+            }
+
+            // Requests are captured when they complete, so a long request is written after those that arrived later
+            capturedRequests.sort(Comparator.comparingLong(CapturedRequest::offset));
+            return capturedRequests;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to read capture file " + path, e);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.monitor.query;
+
+import com.hedera.hashgraph.sdk.TopicMessageQuery;
+import java.time.Instant;
+import java.util.Map;
+import lombok.Builder;
+import lombok.Value;
+
+@Builder
+@Value
+public class QueryRequest {
+    private final Map<String, Object> body;
+    private final CapturedRequest captured;
+    private final Map<String, String> parameters;
+    private final QueryScenario scenario;
+    private final Instant timestamp;
+    private final TopicMessageQuery topicMessageQuery;
+    private final String uri;
+}
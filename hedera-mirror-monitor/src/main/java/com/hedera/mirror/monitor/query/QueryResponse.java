@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.monitor.query;
+
+import com.google.common.base.Throwables;
+import io.grpc.StatusRuntimeException;
+import java.time.Instant;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+@Builder
+@Value
+public class QueryResponse {
+
+    static final String SUCCESS = "SUCCESS";
+
+    @ToString.Exclude
+    private final QueryRequest request;
+
+    private final String status;
+    private final Instant timestamp;
+
+    public boolean isSuccess() {
+        return SUCCESS.equals(status);
+    }
+
+    static String getStatus(Throwable t) {
+        Throwable throwable = Throwables.getRootCause(t);
+
+        if (throwable instanceof StatusMismatchException sme) {
+            return toName(sme.getStatus()) + " (expected " + toName(sme.getExpected()) + ")";
+        } else if (throwable instanceof WebClientResponseException wcre) {
+            return toName(wcre.getStatusCode().value());
+        } else if (throwable instanceof StatusRuntimeException sre) {
+            return sre.getStatus().getCode().toString();
+        } else {
+            return throwable.getClass().getSimpleName();
+        }
+    }
+
+    private static String toName(int status) {
+        var httpStatus = HttpStatus.resolve(status);
+        return httpStatus != null ? httpStatus.name() : String.valueOf(status);
+    }
+
+    @Getter
+    static class StatusMismatchException extends RuntimeException {
+
+        private static final long serialVersionUID = -2457283914560712348L;
+
+        private final int expected;
+        private final int status;
+
+        StatusMismatchException(int status, int expected) {
+            super("Received status " + status + " instead of the captured status " + expected);
+            this.expected = expected;
+            this.status = status;
+        }
+    }
+}
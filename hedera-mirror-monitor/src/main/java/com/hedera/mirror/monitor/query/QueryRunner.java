@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.monitor.query;
+
+import com.google.common.util.concurrent.RateLimiter;
+import com.hedera.mirror.monitor.expression.ExpressionConverter;
+import jakarta.inject.Named;
+import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Runs the enabled query scenarios concurrently. Each scenario generates its requests at its target rate, or replays
+ * them at their captured times, on its own thread and executes up to its configured concurrency of them at once.
+ */
+@CustomLog
+@Named
+@RequiredArgsConstructor
+public class QueryRunner {
+
+    private final ExpressionConverter expressionConverter;
+    private final QueryClient queryClient;
+    private final QueryProperties queryProperties;
+
+    public Flux<QueryResponse> run() {
+        var scenarios = queryProperties.getScenarios().values().stream()
+                .filter(p -> p.isEnabled() && (p.getType() == QueryType.REPLAY || p.getTps() > 0))
+                .map(QueryScenario::new)
+                .toList();
+        return Flux.fromIterable(scenarios).flatMap(this::runScenario, Math.max(scenarios.size(), 1));
+    }
+
+    private Flux<QueryResponse> runScenario(QueryScenario scenario) {
+        var properties = scenario.getProperties();
+        var scheduler = Schedulers.newSingle("query-" + scenario.getName());
+
+        return requests(scenario)
+                .subscribeOn(scheduler)
+                .take(properties.getLimit(), true)
+                .take(properties.getDuration())
+                .flatMap(queryClient::query, properties.getConcurrency())
+                .doOnError(t -> log.error("Error running query scenario {}: ", scenario, t))
+                .onErrorResume(t -> Mono.empty())
+                .doFinally(s -> {
+                    scenario.onComplete();
+                    scheduler.dispose();
+                })
+                .doOnSubscribe(s -> log.info("Starting query scenario {}: {}", scenario, properties));
+    }
+
+    private Flux<QueryRequest> requests(QueryScenario scenario) {
+        if (scenario.getProperties().getType() == QueryType.REPLAY) {
+            return Mono.fromSupplier(() -> new QueryReplayer(scenario))
+                    .flatMapMany(replayer -> Flux.<QueryRequest>generate(sink -> {
+                        var request = replayer.next();
+                        if (request != null) {
+                            sink.next(request);
+                        } else {
+                            sink.complete();
+                        }
+                    }));
+        }
+
+        return Mono.fromSupplier(() -> new QueryGenerator(scenario, expressionConverter))
+                .flatMapMany(generator -> {
+                    var rateLimiter = RateLimiter.create(scenario.getProperties().getTps());
+                    return Flux.<QueryRequest>generate(sink -> {
+                        rateLimiter.acquire();
+                        sink.next(generator.next());
+                    });
+                });
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.monitor.query;
+
+import com.hedera.mirror.monitor.ScenarioProperties;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Data;
+import org.hibernate.validator.constraints.time.DurationMin;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+public class QueryScenarioProperties extends ScenarioProperties {
+
+    @NotNull
+    private CallProperties call = new CallProperties();
+
+    @Min(1)
+    private int concurrency = 100;
+
+    @NotNull
+    private GrpcProperties grpc = new GrpcProperties();
+
+    // Pools of values to draw each template parameter from. Either a comma separated list or an inclusive range.
+    @NotNull
+    private Map<String, String> parameters = new LinkedHashMap<>();
+
+    @NotNull
+    private ReplayProperties replay = new ReplayProperties();
+
+    @NotNull
+    private RestProperties rest = new RestProperties();
+
+    private Long seed;
+
+    @NotNull
+    @DurationMin(seconds = 1)
+    private Duration timeout = Duration.ofSeconds(10L);
+
+    @Min(0)
+    private double tps = 1.0;
+
+    @NotNull
+    private QueryType type;
+
+    @Override
+    public long getLimit() {
+        return limit > 0 ? limit : Long.MAX_VALUE;
+    }
+
+    @Data
+    @Validated
+    public static class CallProperties {
+
+        @NotBlank
+        private String block = "latest";
+
+        // The ABI encoded call data in hex with {name} placeholders for 32 byte parameter words
+        private String data = "";
+
+        private boolean estimate = false;
+
+        @Min(21_000)
+        private long gas = 15_000_000L;
+
+        private String to;
+    }
+
+    @Data
+    @Validated
+    public static class GrpcProperties {
+
+        @Min(0)
+        private long limit = 1L;
+
+        @NotNull
+        private Instant startTime = Instant.EPOCH;
+
+        private String topicId;
+    }
+
+    @Data
+    @Validated
+    public static class ReplayProperties {
+
+        // The origin of the API to replay against. Defaults to the origin of the mirror node REST API
+        private String baseUrl;
+
+        // The capture file written by the capture filter of a mirror node API
+        private Path path;
+
+        // The multiple of the captured rate to replay at, or zero to replay as fast as possible
+        @Min(0)
+        private double speed = 1.0;
+    }
+
+    @Data
+    @Validated
+    public static class RestProperties {
+
+        private String path;
+    }
+}
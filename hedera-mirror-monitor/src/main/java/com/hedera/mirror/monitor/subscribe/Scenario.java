@@ -53,6 +53,12 @@ public interface Scenario<P extends ScenarioProperties, T> {
 
     ScenarioStatus getStatus();
 
+    // Whether the scenario is one of many identical subscribers whose metrics are aggregated by scenario name
+    @JsonIgnore
+    default boolean isAggregated() {
+        return false;
+    }
+
     boolean isRunning();
 
     void onComplete();
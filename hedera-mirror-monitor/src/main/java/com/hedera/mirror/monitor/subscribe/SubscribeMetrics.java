@@ -17,18 +17,25 @@
 package com.hedera.mirror.monitor.subscribe;
 
 import com.hedera.mirror.monitor.converter.DurationToStringSerializer;
+import com.hedera.mirror.monitor.latency.LatencyHistograms;
+import com.hedera.mirror.monitor.latency.LatencyType;
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.TimeGauge;
 import io.micrometer.core.instrument.Timer;
 import jakarta.inject.Named;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.math3.util.Precision;
 import org.springframework.scheduling.annotation.Scheduled;
 
 @CustomLog
@@ -38,12 +45,16 @@ public class SubscribeMetrics {
 
     static final String METRIC_DURATION = "hedera.mirror.monitor.subscribe.duration";
     static final String METRIC_E2E = "hedera.mirror.monitor.subscribe.e2e";
+    static final String METRIC_GAPS = "hedera.mirror.monitor.subscribe.gaps";
+    static final String METRIC_RECONNECTS = "hedera.mirror.monitor.subscribe.reconnects";
+    static final String SUBSCRIBER_AGGREGATED = "all";
     static final String TAG_PROTOCOL = "protocol";
     static final String TAG_SCENARIO = "scenario";
     static final String TAG_SUBSCRIBER = "subscriber";
 
     private final Map<Scenario<?, ?>, TimeGauge> durationMetrics = new ConcurrentHashMap<>();
     private final Map<Scenario<?, ?>, Timer> latencyMetrics = new ConcurrentHashMap<>();
+    private final LatencyHistograms latencyHistograms;
     private final MeterRegistry meterRegistry;
     private final SubscribeProperties subscribeProperties;
 
@@ -56,16 +67,36 @@ public class SubscribeMetrics {
         if (publishedTimestamp != null) {
             Duration latency = Duration.between(publishedTimestamp, response.getReceivedTimestamp());
             latencyMetrics.computeIfAbsent(scenario, this::newLatencyTimer).record(latency);
+            latencyHistograms.record(LatencyType.E2E, scenario.getName(), latency);
         }
     }
 
+    public void onGap(Scenario<?, ?> scenario) {
+        newCounter(METRIC_GAPS, "The number of times a subscriber received a non-consecutive sequence number", scenario)
+                .increment();
+    }
+
+    public void onReconnect(Scenario<?, ?> scenario) {
+        newCounter(METRIC_RECONNECTS, "The number of times a subscriber reconnected after an error", scenario)
+                .increment();
+    }
+
+    private Counter newCounter(String name, String description, Scenario<?, ?> scenario) {
+        return Counter.builder(name)
+                .description(description)
+                .tag(TAG_PROTOCOL, scenario.getProtocol().toString())
+                .tag(TAG_SCENARIO, scenario.getName())
+                .tag(TAG_SUBSCRIBER, getSubscriber(scenario))
+                .register(meterRegistry);
+    }
+
     private TimeGauge newDurationGauge(Scenario<?, ?> scenario) {
         return TimeGauge.builder(METRIC_DURATION, scenario, TimeUnit.NANOSECONDS, s -> s.getElapsed()
                         .toNanos())
                 .description("How long the subscriber has been running")
                 .tag(TAG_PROTOCOL, scenario.getProtocol().toString())
                 .tag(TAG_SCENARIO, scenario.getName())
-                .tag(TAG_SUBSCRIBER, String.valueOf(scenario.getId()))
+                .tag(TAG_SUBSCRIBER, getSubscriber(scenario))
                 .register(meterRegistry);
     }
 
@@ -74,10 +105,15 @@ public class SubscribeMetrics {
                 .description("The end to end transaction latency starting from publish and ending at receive")
                 .tag(TAG_PROTOCOL, scenario.getProtocol().toString())
                 .tag(TAG_SCENARIO, scenario.getName())
-                .tag(TAG_SUBSCRIBER, String.valueOf(scenario.getId()))
+                .tag(TAG_SUBSCRIBER, getSubscriber(scenario))
                 .register(meterRegistry);
     }
 
+    // Aggregated subscribers share their meters since a tag per subscriber would be too many time series
+    private String getSubscriber(Scenario<?, ?> scenario) {
+        return scenario.isAggregated() ? SUBSCRIBER_AGGREGATED : String.valueOf(scenario.getId());
+    }
+
     @Scheduled(fixedDelayString = "${hedera.mirror.monitor.subscribe.statusFrequency:10000}")
     @SuppressWarnings("java:S3864") // Call to peek here is fine
     public void status() {
@@ -86,7 +122,15 @@ public class SubscribeMetrics {
             durationMetrics.keySet().stream()
                     .filter(Scenario::isRunning)
                     .peek(s -> running.set(true))
+                    .filter(s -> !s.isAggregated())
                     .forEach(this::status);
+            durationMetrics.keySet().stream()
+                    .filter(Scenario::isAggregated)
+                    .collect(Collectors.groupingBy(Scenario::getName, TreeMap::new, Collectors.toList()))
+                    .values()
+                    .stream()
+                    .filter(l -> l.stream().anyMatch(Scenario::isRunning))
+                    .forEach(this::aggregateStatus);
 
             if (!running.get()) {
                 log.info("No subscribers");
@@ -105,4 +149,19 @@ public class SubscribeMetrics {
                 s.getRate(),
                 s.getErrors());
     }
+
+    private void aggregateStatus(List<Scenario<?, ?>> scenarios) {
+        var first = scenarios.get(0);
+        var errors = new TreeMap<String, Integer>();
+        scenarios.forEach(s -> s.getErrors().forEach((k, v) -> errors.merge(k, v, Integer::sum)));
+        log.info(
+                "{} scenario {} with {} running subscribers received {} responses in {} at {}/s. Errors: {}",
+                first.getProtocol(),
+                first.getName(),
+                scenarios.stream().filter(Scenario::isRunning).count(),
+                scenarios.stream().mapToLong(Scenario::getCount).sum(),
+                DurationToStringSerializer.convert(first.getElapsed()),
+                Precision.round(scenarios.stream().mapToDouble(Scenario::getRate).sum(), 1),
+                errors);
+    }
 }
@@ -54,6 +54,9 @@ public class SubscribeProperties {
     @NotNull
     protected Duration statusFrequency = Duration.ofSeconds(10L);
 
+    @NotNull
+    private VerifyProperties verify = new VerifyProperties();
+
     @PostConstruct
     void validate() {
         if (enabled && grpc.isEmpty() && rest.isEmpty()) {
@@ -72,4 +75,18 @@ public class SubscribeProperties {
         grpc.forEach((name, property) -> property.setName(name));
         rest.forEach((name, property) -> property.setName(name));
     }
+
+    @Data
+    @Validated
+    public static class VerifyProperties {
+
+        private boolean enabled = false;
+
+        @DurationMin(seconds = 1L)
+        @NotNull
+        private Duration expiry = Duration.ofMinutes(2L);
+
+        @Min(1)
+        private long maxMessages = 100_000L;
+    }
 }
@@ -18,11 +18,14 @@ package com.hedera.mirror.monitor.subscribe.grpc;
 
 import com.hedera.hashgraph.sdk.Client;
 import com.hedera.hashgraph.sdk.SubscriptionHandle;
+import com.hedera.hashgraph.sdk.TopicId;
 import com.hedera.hashgraph.sdk.TopicMessage;
 import com.hedera.hashgraph.sdk.TopicMessageQuery;
 import com.hedera.mirror.monitor.MonitorProperties;
+import com.hedera.mirror.monitor.subscribe.SubscribeMetrics;
 import com.hedera.mirror.monitor.subscribe.SubscribeProperties;
 import com.hedera.mirror.monitor.subscribe.SubscribeResponse;
+import com.hedera.mirror.monitor.subscribe.verify.TransactionVerifier;
 import com.hedera.mirror.monitor.util.Utility;
 import jakarta.inject.Named;
 import java.security.SecureRandom;
@@ -42,12 +45,20 @@ class GrpcClientSDK implements GrpcClient {
     private final Flux<Client> clients;
     private final MonitorProperties monitorProperties;
     private final SecureRandom secureRandom;
+    private final SubscribeMetrics subscribeMetrics;
     private final SubscribeProperties subscribeProperties;
+    private final TransactionVerifier transactionVerifier;
 
-    GrpcClientSDK(MonitorProperties monitorProperties, SubscribeProperties subscribeProperties) {
+    GrpcClientSDK(
+            MonitorProperties monitorProperties,
+            SubscribeMetrics subscribeMetrics,
+            SubscribeProperties subscribeProperties,
+            TransactionVerifier transactionVerifier) {
         this.monitorProperties = monitorProperties;
         this.secureRandom = new SecureRandom();
+        this.subscribeMetrics = subscribeMetrics;
         this.subscribeProperties = subscribeProperties;
+        this.transactionVerifier = transactionVerifier;
         clients = Flux.range(0, subscribeProperties.getClients())
                 .flatMap(i -> Flux.defer(this::client))
                 .cache();
@@ -71,12 +82,20 @@ class GrpcClientSDK implements GrpcClient {
         topicMessageQuery.setErrorHandler((throwable, topicMessage) -> sink.tryEmitError(throwable));
         topicMessageQuery.setMaxAttempts(0); // Disable since we use our own retry logic to capture errors
         SubscriptionHandle subscriptionHandle = topicMessageQuery.subscribe(client, sink::tryEmitNext);
+        TopicId topicId = subscription.getTopicId();
 
         return sink.asFlux()
                 .publishOn(Schedulers.parallel())
                 .doFinally(s -> subscriptionHandle.unsubscribe())
                 .doOnComplete(subscription::onComplete)
                 .doOnError(subscription::onError)
+                .doOnNext(t -> transactionVerifier.verify(
+                        subscription, topicId, subscription.getLast().orElse(null), t))
+                .doOnNext(t -> {
+                    if (subscription.isGap(t)) {
+                        subscribeMetrics.onGap(subscription);
+                    }
+                })
                 .doOnNext(subscription::onNext)
                 .map(t -> toResponse(subscription, t));
     }
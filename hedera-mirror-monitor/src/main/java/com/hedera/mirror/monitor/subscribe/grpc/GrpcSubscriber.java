@@ -18,19 +18,29 @@ package com.hedera.mirror.monitor.subscribe.grpc;
 
 import static io.grpc.Status.Code.INVALID_ARGUMENT;
 
+import com.hedera.hashgraph.sdk.TopicId;
 import com.hedera.mirror.monitor.ScenarioProperties;
 import com.hedera.mirror.monitor.expression.ExpressionConverter;
+import com.hedera.mirror.monitor.publish.PublishResponse;
 import com.hedera.mirror.monitor.subscribe.MirrorSubscriber;
+import com.hedera.mirror.monitor.subscribe.SubscribeMetrics;
 import com.hedera.mirror.monitor.subscribe.SubscribeProperties;
 import com.hedera.mirror.monitor.subscribe.SubscribeResponse;
+import com.hedera.mirror.monitor.subscribe.verify.TransactionVerifier;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
 import jakarta.inject.Named;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntSupplier;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.math3.distribution.ZipfDistribution;
+import org.apache.commons.math3.random.JDKRandomGenerator;
 import reactor.core.publisher.Flux;
 import reactor.util.retry.Retry;
 
@@ -42,13 +52,21 @@ class GrpcSubscriber implements MirrorSubscriber {
 
     private final ExpressionConverter expressionConverter;
     private final GrpcClient grpcClient;
+    private final SubscribeMetrics subscribeMetrics;
     private final SubscribeProperties subscribeProperties;
+    private final TransactionVerifier transactionVerifier;
     private final Flux<GrpcSubscription> subscriptions =
             Flux.defer(this::createSubscriptions).cache();
 
+    @Override
+    public void onPublish(PublishResponse response) {
+        transactionVerifier.onPublish(response);
+    }
+
     @Override
     public Flux<SubscribeResponse> subscribe() {
-        return subscriptions.flatMap(this::clientSubscribe);
+        // Subscriptions never complete until their duration ends, so they must all be subscribed to concurrently
+        return subscriptions.flatMap(this::clientSubscribe, Integer.MAX_VALUE);
     }
 
     @Override
@@ -64,8 +82,12 @@ class GrpcSubscriber implements MirrorSubscriber {
                 String topicId = expressionConverter.convert(properties.getTopicId());
                 properties.setTopicId(topicId);
 
-                for (int i = 1; i <= properties.getSubscribers(); ++i) {
-                    subscriptionList.add(new GrpcSubscription(i, properties));
+                if (properties.getScale().isEnabled()) {
+                    subscriptionList.addAll(createScaleSubscriptions(properties));
+                } else {
+                    for (int i = 1; i <= properties.getSubscribers(); ++i) {
+                        subscriptionList.add(new GrpcSubscription(i, properties));
+                    }
                 }
             }
         }
@@ -73,6 +95,37 @@ class GrpcSubscriber implements MirrorSubscriber {
         return Flux.fromIterable(subscriptionList);
     }
 
+    // Spreads the subscribers' start times uniformly and assigns their topics from a Zipf or uniform distribution
+    private Collection<GrpcSubscription> createScaleSubscriptions(GrpcSubscriberProperties properties) {
+        var scale = properties.getScale();
+        var topicIds = new ArrayList<TopicId>();
+        topicIds.add(TopicId.fromString(properties.getTopicId()));
+        scale.getTopicIds().forEach(t -> topicIds.add(TopicId.fromString(expressionConverter.convert(t))));
+
+        var random = new Random();
+        IntSupplier topicIndex = () -> random.nextInt(topicIds.size());
+        if (scale.getTopicSkew() > 0 && topicIds.size() > 1) {
+            var zipf = new ZipfDistribution(new JDKRandomGenerator(), topicIds.size(), scale.getTopicSkew());
+            topicIndex = () -> zipf.sample() - 1;
+        }
+
+        long spread = scale.getStartSpread().toNanos();
+        List<GrpcSubscription> subscriptionList = new ArrayList<>(scale.getSubscribers());
+
+        for (int i = 1; i <= scale.getSubscribers(); ++i) {
+            Instant startTime = properties.getStartTime().minusNanos(spread > 0 ? random.nextLong(spread) : 0L);
+            TopicId topicId = topicIds.get(topicIndex.getAsInt());
+            subscriptionList.add(new GrpcSubscription(i, properties, startTime, topicId));
+        }
+
+        log.info(
+                "Created {} subscribers for scenario {} across {} topics",
+                subscriptionList.size(),
+                properties.getName(),
+                topicIds.size());
+        return subscriptionList;
+    }
+
     private Flux<SubscribeResponse> clientSubscribe(GrpcSubscription subscription) {
         GrpcSubscriberProperties subscriberProperties = subscription.getProperties();
         ScenarioProperties.RetryProperties retry = subscriberProperties.getRetry();
@@ -81,6 +134,7 @@ class GrpcSubscriber implements MirrorSubscriber {
                 .retryWhen(Retry.backoff(retry.getMaxAttempts(), retry.getMinBackoff())
                         .maxBackoff(retry.getMaxBackoff())
                         .filter(this::shouldRetry)
+                        .doBeforeRetry(r -> subscribeMetrics.onReconnect(subscription))
                         .doBeforeRetry(r -> log.warn(
                                 "Retry attempt #{} after failure: {}",
                                 r.totalRetries() + 1,
@@ -17,10 +17,14 @@
 package com.hedera.mirror.monitor.subscribe.grpc;
 
 import com.hedera.mirror.monitor.subscribe.AbstractSubscriberProperties;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.Data;
 import org.springframework.validation.annotation.Validated;
 
@@ -28,6 +32,9 @@ import org.springframework.validation.annotation.Validated;
 @Validated
 public class GrpcSubscriberProperties extends AbstractSubscriberProperties {
 
+    @NotNull
+    private ScaleProperties scale = new ScaleProperties();
+
     @NotNull
     private Instant startTime = Instant.now();
 
@@ -42,4 +49,31 @@ public class GrpcSubscriberProperties extends AbstractSubscriberProperties {
     public Instant getEndTime() {
         return startTime.plus(duration);
     }
+
+    public int getSubscriberCount() {
+        return scale.isEnabled() ? scale.getSubscribers() : subscribers;
+    }
+
+    @Data
+    @Validated
+    public static class ScaleProperties {
+
+        private boolean enabled = false;
+
+        // Each subscriber starts at a random time up to this amount before the scenario's start time
+        @NotNull
+        private Duration startSpread = Duration.ZERO;
+
+        @Min(1)
+        @Max(100_000)
+        private int subscribers = 1000;
+
+        // Additional topics to subscribe to, with the scenario's topic ID being the most popular
+        @NotNull
+        private List<String> topicIds = new ArrayList<>();
+
+        // The exponent of the Zipf distribution subscribers are assigned to topics from, with zero being uniform
+        @Min(0)
+        private double topicSkew = 0.0;
+    }
 }
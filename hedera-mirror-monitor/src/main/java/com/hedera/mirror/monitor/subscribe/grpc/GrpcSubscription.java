@@ -27,8 +27,17 @@ import java.time.Instant;
 
 class GrpcSubscription extends AbstractScenario<GrpcSubscriberProperties, TopicMessage> {
 
+    private final Instant startTime;
+    private final TopicId topicId;
+
     GrpcSubscription(int id, GrpcSubscriberProperties properties) {
+        this(id, properties, properties.getStartTime(), TopicId.fromString(properties.getTopicId()));
+    }
+
+    GrpcSubscription(int id, GrpcSubscriberProperties properties, Instant startTime, TopicId topicId) {
         super(id, properties);
+        this.startTime = startTime;
+        this.topicId = topicId;
     }
 
     @Override
@@ -38,17 +47,35 @@ class GrpcSubscription extends AbstractScenario<GrpcSubscriberProperties, TopicM
 
     TopicMessageQuery getTopicMessageQuery() {
         long limit = properties.getLimit();
-        Instant startTime =
-                getLast().map(t -> t.consensusTimestamp.plusNanos(1)).orElseGet(properties::getStartTime);
+        Instant queryStartTime =
+                getLast().map(t -> t.consensusTimestamp.plusNanos(1)).orElse(startTime);
 
         TopicMessageQuery topicMessageQuery = new TopicMessageQuery();
         topicMessageQuery.setEndTime(properties.getEndTime());
         topicMessageQuery.setLimit(limit > 0 ? limit - counter.get() : 0);
-        topicMessageQuery.setStartTime(startTime);
-        topicMessageQuery.setTopicId(TopicId.fromString(properties.getTopicId()));
+        topicMessageQuery.setStartTime(queryStartTime);
+        topicMessageQuery.setTopicId(topicId);
         return topicMessageQuery;
     }
 
+    Instant getStartTime() {
+        return startTime;
+    }
+
+    TopicId getTopicId() {
+        return topicId;
+    }
+
+    @Override
+    public boolean isAggregated() {
+        return properties.getScale().isEnabled();
+    }
+
+    // Whether the message doesn't directly follow the last message this subscription received
+    boolean isGap(TopicMessage topicResponse) {
+        return getLast().map(t -> t.sequenceNumber + 1 != topicResponse.sequenceNumber).orElse(false);
+    }
+
     @Override
     public void onNext(TopicMessage topicResponse) {
         log.trace(
@@ -83,6 +110,6 @@ class GrpcSubscription extends AbstractScenario<GrpcSubscriberProperties, TopicM
     @Override
     public String toString() {
         String name = getName();
-        return getProperties().getSubscribers() <= 1 ? name : name + " #" + getId();
+        return getProperties().getSubscriberCount() <= 1 ? name : name + " #" + getId();
     }
 }
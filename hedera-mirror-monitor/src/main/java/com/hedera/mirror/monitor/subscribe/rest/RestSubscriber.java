@@ -22,6 +22,7 @@ import com.hedera.mirror.monitor.publish.PublishResponse;
 import com.hedera.mirror.monitor.subscribe.MirrorSubscriber;
 import com.hedera.mirror.monitor.subscribe.SubscribeProperties;
 import com.hedera.mirror.monitor.subscribe.SubscribeResponse;
+import com.hedera.mirror.monitor.subscribe.verify.TransactionVerifier;
 import com.hedera.mirror.rest.model.TransactionByIdResponse;
 import jakarta.inject.Named;
 import java.security.SecureRandom;
@@ -50,6 +51,7 @@ class RestSubscriber implements MirrorSubscriber {
 
     private final RestApiClient restApiClient;
     private final SubscribeProperties subscribeProperties;
+    private final TransactionVerifier transactionVerifier;
     private final Flux<RestSubscription> subscriptions =
             Flux.defer(this::createSubscriptions).cache();
 
@@ -130,6 +132,7 @@ class RestSubscriber implements MirrorSubscriber {
                         .doOnError(t -> subscription.onError(t))
                         .onErrorResume(e -> Mono.empty())
                         .doOnNext(subscription::onNext)
+                        .doOnNext(transaction -> verify(subscription, publishResponse, transaction))
                         .map(transaction -> toResponse(subscription, publishResponse, transaction)))
                 .take(properties.getLimit(), true)
                 .take(properties.getDuration());
@@ -157,6 +160,14 @@ class RestSubscriber implements MirrorSubscriber {
                 .build();
     }
 
+    private void verify(
+            RestSubscription subscription, PublishResponse publishResponse, TransactionByIdResponse response) {
+        var transaction = Iterables.getFirst(response.getTransactions(), null);
+        if (transaction != null) {
+            transactionVerifier.verify(subscription, publishResponse, transaction);
+        }
+    }
+
     protected boolean shouldRetry(Throwable t) {
         return t instanceof WebClientResponseException webClientResponseException
                 && webClientResponseException.getStatusCode() == HttpStatus.NOT_FOUND;
@@ -0,0 +1,437 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.monitor.subscribe.verify;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.TokenNftTransfer;
+import com.hedera.hashgraph.sdk.TopicId;
+import com.hedera.hashgraph.sdk.TopicMessage;
+import com.hedera.hashgraph.sdk.TopicMessageChunk;
+import com.hedera.hashgraph.sdk.TopicMessageSubmitTransaction;
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.hedera.hashgraph.sdk.TransactionReceipt;
+import com.hedera.hashgraph.sdk.TransferTransaction;
+import com.hedera.mirror.monitor.publish.PublishResponse;
+import com.hedera.mirror.monitor.subscribe.Scenario;
+import com.hedera.mirror.monitor.subscribe.SubscribeProperties;
+import com.hedera.mirror.rest.model.StakingRewardTransfer;
+import com.hedera.mirror.rest.model.TransactionDetail;
+import com.hedera.mirror.rest.model.TransactionNftTransfersInner;
+import com.hedera.mirror.rest.model.TransactionTokenTransfersInner;
+import com.hedera.mirror.rest.model.TransactionTransfersInner;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.inject.Named;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.CustomLog;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Verifies the content of the transactions returned by the mirror node APIs against what was published. REST
+ * transactions are compared field by field to the published transaction. Published topic messages are kept in a
+ * bounded cache so the messages received over gRPC can be matched to them, and each gRPC subscription's stream is
+ * checked for sequence number gaps and a broken running hash chain. Every mismatch is counted by field.
+ */
+@CustomLog
+@Named
+public class TransactionVerifier {
+
+    static final String METRIC_MISMATCH = "hedera.mirror.monitor.subscribe.mismatch";
+    static final String METRIC_VERIFIED = "hedera.mirror.monitor.subscribe.verified";
+    static final long RUNNING_HASH_VERSION = 3L;
+    static final String TAG_FIELD = "field";
+    static final String TAG_PROTOCOL = "protocol";
+    static final String TAG_SCENARIO = "scenario";
+
+    private static final long FEE_COLLECTION_ACCOUNT = 98L;
+    private static final long NODE_REWARD_ACCOUNT = 801L;
+    private static final String SHA_384 = "SHA-384";
+    private static final long STAKING_REWARD_ACCOUNT = 800L;
+
+    private final MeterRegistry meterRegistry;
+    private final Map<MessageKey, PublishedMessage> messagesByContents;
+    private final Map<Instant, PublishedMessage> messagesByTimestamp;
+    private final SubscribeProperties.VerifyProperties properties;
+    private final Map<Scenario<?, ?>, Counter> verifiedCounters = new ConcurrentHashMap<>();
+
+    public TransactionVerifier(MeterRegistry meterRegistry, SubscribeProperties subscribeProperties) {
+        this.meterRegistry = meterRegistry;
+        this.properties = subscribeProperties.getVerify();
+        this.messagesByContents = cache();
+        this.messagesByTimestamp = cache();
+    }
+
+    /**
+     * Records a published topic message so that it can later be matched to the message received over gRPC. Messages
+     * are matched by consensus timestamp if a record was requested, otherwise by topic and contents.
+     *
+     * @param response the publish response
+     */
+    public void onPublish(PublishResponse response) {
+        if (!properties.isEnabled()
+                || !(response.getRequest().getTransaction() instanceof TopicMessageSubmitTransaction transaction)) {
+            return;
+        }
+
+        var message = transaction.getMessage().toByteArray();
+        int chunkSize = transaction.getChunkSize();
+        int chunks = Math.max(1, (message.length + chunkSize - 1) / chunkSize);
+        var publishedMessage = new PublishedMessage(
+                transaction.getTopicId(), response.getTransactionId(), message, chunks, response.getReceipt());
+        var transactionRecord = response.getTransactionRecord();
+
+        if (transactionRecord != null) {
+            messagesByTimestamp.put(transactionRecord.consensusTimestamp, publishedMessage);
+        } else {
+            messagesByContents.put(MessageKey.of(transaction.getTopicId(), message), publishedMessage);
+        }
+    }
+
+    /**
+     * Verifies a transaction returned by the REST API against the transaction that was published.
+     *
+     * @param scenario    the subscription that retrieved the transaction
+     * @param response    the publish response
+     * @param transaction the transaction returned by the REST API
+     */
+    public void verify(Scenario<?, ?> scenario, PublishResponse response, TransactionDetail transaction) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        var published = response.getRequest().getTransaction();
+        var receipt = response.getReceipt();
+        var transactionRecord = response.getTransactionRecord();
+        var memo = transaction.getMemoBase64() != null
+                ? new String(transaction.getMemoBase64(), StandardCharsets.UTF_8)
+                : StringUtils.EMPTY;
+
+        check(scenario, Field.MEMO, Objects.toString(published.getTransactionMemo(), StringUtils.EMPTY), memo);
+        check(scenario, Field.TRANSACTION_ID, toString(response.getTransactionId()), transaction.getTransactionId());
+
+        if (receipt != null) {
+            check(scenario, Field.RESULT, receipt.status.toString(), transaction.getResult());
+        }
+
+        if (transactionRecord != null) {
+            var consensusTimestamp = transactionRecord.consensusTimestamp;
+            var expected = consensusTimestamp.getEpochSecond() + "."
+                    + StringUtils.leftPad(String.valueOf(consensusTimestamp.getNano()), 9, '0');
+            check(scenario, Field.CONSENSUS_TIMESTAMP, expected, transaction.getConsensusTimestamp());
+        }
+
+        if (published instanceof TopicMessageSubmitTransaction topicMessageSubmit) {
+            var topicId = String.valueOf(topicMessageSubmit.getTopicId());
+            check(scenario, Field.ENTITY_ID, topicId, transaction.getEntityId());
+        } else if (published instanceof TransferTransaction transfer) {
+            var payer = response.getTransactionId().accountId;
+            check(scenario, Field.TRANSFERS, isTransfersMatch(transfer, payer, transaction));
+            check(scenario, Field.TOKEN_TRANSFERS, getTokenTransfers(transfer), getTokenTransfers(transaction));
+            check(scenario, Field.NFT_TRANSFERS, getNftTransfers(transfer), getNftTransfers(transaction));
+        }
+
+        verified(scenario);
+    }
+
+    /**
+     * Verifies a topic message received over gRPC. The sequence number and running hash of every chunk is checked to
+     * follow on from the previous message received by the subscription. If the message was published by this monitor,
+     * its contents, chunks and receipt are compared to what was published and its running hash is recomputed.
+     *
+     * @param scenario the subscription that received the message
+     * @param topicId  the topic of the subscription
+     * @param previous the previous message received by the subscription, if any
+     * @param current  the received message
+     */
+    public void verify(Scenario<?, ?> scenario, TopicId topicId, TopicMessage previous, TopicMessage current) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        var chunks = current.chunks != null && current.chunks.length > 0
+                ? Arrays.stream(current.chunks).map(ReceivedChunk::of).toList()
+                : List.of(new ReceivedChunk(
+                        current.consensusTimestamp,
+                        current.contents.length,
+                        current.runningHash,
+                        current.sequenceNumber));
+        var received = new ReceivedMessage(topicId, current.contents, chunks, current.transactionId);
+        var previousChunk = previous != null
+                ? new ReceivedChunk(
+                        previous.consensusTimestamp,
+                        previous.contents.length,
+                        previous.runningHash,
+                        previous.sequenceNumber)
+                : null;
+        verify(scenario, previousChunk, received);
+    }
+
+    void verify(Scenario<?, ?> scenario, ReceivedChunk previous, ReceivedMessage received) {
+        var chunks = received.chunks();
+        var published = lookup(received);
+
+        if (published != null) {
+            check(scenario, Field.MESSAGE, Arrays.equals(published.message(), received.contents()));
+            check(scenario, Field.CHUNKS, published.chunks(), chunks.size());
+
+            if (chunks.size() > 1 && received.transactionId() != null) {
+                check(scenario, Field.TRANSACTION_ID, published.transactionId(), received.transactionId());
+            }
+
+            var receipt = published.receipt();
+            if (receipt != null && receipt.topicRunningHash != null) {
+                // Chunked transactions are published as multiple transactions, and only the first one is resolved
+                var first = chunks.get(0);
+                check(scenario, Field.SEQUENCE_NUMBER, receipt.topicSequenceNumber, first.sequenceNumber());
+                check(scenario, Field.RUNNING_HASH, receipt.topicRunningHash, ByteString.copyFrom(first.runningHash()));
+            }
+        }
+
+        int offset = 0;
+        var last = previous;
+        for (var chunk : chunks) {
+            if (last != null) {
+                check(scenario, Field.SEQUENCE_NUMBER, last.sequenceNumber() + 1, chunk.sequenceNumber());
+
+                if (published != null && offset + chunk.size() <= received.contents().length) {
+                    var message = Arrays.copyOfRange(received.contents(), offset, offset + chunk.size());
+                    var payer = published.transactionId().accountId;
+                    var expected = runningHash(last.runningHash(), payer, received.topicId(), chunk, message);
+                    check(scenario, Field.RUNNING_HASH, Arrays.equals(expected, chunk.runningHash()));
+                }
+            }
+
+            offset += chunk.size();
+            last = chunk;
+        }
+
+        verified(scenario);
+    }
+
+    /**
+     * Computes the version 3 running hash of a topic message chunk, which is the SHA-384 hash of the previous running
+     * hash followed by the chunk's metadata and the SHA-384 hash of its contents serialized as done by consensus nodes.
+     */
+    static byte[] runningHash(
+            byte[] previousHash, AccountId payer, TopicId topicId, ReceivedChunk chunk, byte[] message) {
+        try {
+            var bytes = new ByteArrayOutputStream();
+            try (var out = new ObjectOutputStream(bytes)) {
+                out.write(previousHash);
+                out.writeLong(RUNNING_HASH_VERSION);
+                out.writeLong(payer.shard);
+                out.writeLong(payer.realm);
+                out.writeLong(payer.num);
+                out.writeLong(topicId.shard);
+                out.writeLong(topicId.realm);
+                out.writeLong(topicId.num);
+                out.writeLong(chunk.consensusTimestamp().getEpochSecond());
+                out.writeInt(chunk.consensusTimestamp().getNano());
+                out.writeLong(chunk.sequenceNumber());
+                out.write(MessageDigest.getInstance(SHA_384).digest(message));
+            }
+            return MessageDigest.getInstance(SHA_384).digest(bytes.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private PublishedMessage lookup(ReceivedMessage received) {
+        var first = received.chunks().get(0);
+        var published = messagesByTimestamp.get(first.consensusTimestamp());
+
+        if (published != null && Objects.equals(published.topicId(), received.topicId())) {
+            return published;
+        }
+
+        return messagesByContents.get(MessageKey.of(received.topicId(), received.contents()));
+    }
+
+    /*
+     * Every account in the published transfer list must match exactly, except that the payer is also charged the
+     * transaction fee. Staking rewards are paid out of 0.0.800, so they're reversed first. Any other account must be
+     * one that receives part of the fee: the node, the fee collection account or the staking reward accounts.
+     */
+    private boolean isTransfersMatch(TransferTransaction published, AccountId payer, TransactionDetail transaction) {
+        var differences = new HashMap<String, Long>();
+        var transfers = Objects.requireNonNullElse(transaction.getTransfers(), List.<TransactionTransfersInner>of());
+        var rewards = Objects.requireNonNullElse(
+                transaction.getStakingRewardTransfers(), List.<StakingRewardTransfer>of());
+        var stakingRewardAccount = new AccountId(payer.shard, payer.realm, STAKING_REWARD_ACCOUNT).toString();
+
+        transfers.forEach(t -> differences.merge(t.getAccount(), t.getAmount(), Long::sum));
+        rewards.forEach(r -> {
+            differences.merge(r.getAccount(), -r.getAmount(), Long::sum);
+            differences.merge(stakingRewardAccount, r.getAmount(), Long::sum);
+        });
+        published.getHbarTransfers().forEach((a, h) -> differences.merge(a.toString(), -h.toTinybars(), Long::sum));
+
+        long fee = Objects.requireNonNullElse(transaction.getChargedTxFee(), 0L);
+        differences.merge(payer.toString(), fee, Long::sum);
+
+        var feeAccounts = new HashSet<String>();
+        feeAccounts.add(new AccountId(payer.shard, payer.realm, FEE_COLLECTION_ACCOUNT).toString());
+        feeAccounts.add(new AccountId(payer.shard, payer.realm, NODE_REWARD_ACCOUNT).toString());
+        feeAccounts.add(stakingRewardAccount);
+        if (transaction.getNode() != null) {
+            feeAccounts.add(transaction.getNode());
+        }
+
+        return differences.entrySet().stream()
+                .allMatch(e -> e.getValue() == 0L || (e.getValue() > 0L && feeAccounts.contains(e.getKey())));
+    }
+
+    private Map<String, Long> getTokenTransfers(TransferTransaction transfer) {
+        var tokenTransfers = new HashMap<String, Long>();
+        transfer.getTokenTransfers().forEach((token, transfers) -> transfers.forEach(
+                (account, amount) -> tokenTransfers.merge(token + "/" + account, amount, Long::sum)));
+        return tokenTransfers;
+    }
+
+    private Map<String, Long> getTokenTransfers(TransactionDetail transaction) {
+        var tokenTransfers = new HashMap<String, Long>();
+        var transfers =
+                Objects.requireNonNullElse(transaction.getTokenTransfers(), List.<TransactionTokenTransfersInner>of());
+        transfers.forEach(t -> tokenTransfers.merge(t.getTokenId() + "/" + t.getAccount(), t.getAmount(), Long::sum));
+        return tokenTransfers;
+    }
+
+    private Set<String> getNftTransfers(TransferTransaction transfer) {
+        var nftTransfers = new HashSet<String>();
+        transfer.getTokenNftTransfers().values().stream()
+                .flatMap(List::stream)
+                .map(TransactionVerifier::toString)
+                .forEach(nftTransfers::add);
+        return nftTransfers;
+    }
+
+    private Set<String> getNftTransfers(TransactionDetail transaction) {
+        var nftTransfers = new HashSet<String>();
+        var transfers =
+                Objects.requireNonNullElse(transaction.getNftTransfers(), List.<TransactionNftTransfersInner>of());
+        transfers.forEach(t -> nftTransfers.add(t.getTokenId() + "/" + t.getSerialNumber() + "/"
+                + t.getSenderAccountId() + "/" + t.getReceiverAccountId()));
+        return nftTransfers;
+    }
+
+    private void check(Scenario<?, ?> scenario, Field field, boolean matches) {
+        if (!matches) {
+            log.warn("{}: Received a transaction with a mismatched {}", scenario, field);
+            mismatch(scenario, field);
+        }
+    }
+
+    private void check(Scenario<?, ?> scenario, Field field, Object expected, Object actual) {
+        if (!Objects.equals(expected, actual)) {
+            log.warn("{}: Expected {} {} but received {}", scenario, field, expected, actual);
+            mismatch(scenario, field);
+        }
+    }
+
+    private void mismatch(Scenario<?, ?> scenario, Field field) {
+        Counter.builder(METRIC_MISMATCH)
+                .description("The number of transactions received that don't match what was published")
+                .tag(TAG_FIELD, field.name())
+                .tag(TAG_PROTOCOL, scenario.getProtocol().toString())
+                .tag(TAG_SCENARIO, scenario.getName())
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private void verified(Scenario<?, ?> scenario) {
+        verifiedCounters
+                .computeIfAbsent(scenario, s -> Counter.builder(METRIC_VERIFIED)
+                        .description("The number of transactions received whose content was verified")
+                        .tag(TAG_PROTOCOL, s.getProtocol().toString())
+                        .tag(TAG_SCENARIO, s.getName())
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    private <K> Map<K, PublishedMessage> cache() {
+        Cache<K, PublishedMessage> cache = CacheBuilder.newBuilder()
+                .expireAfterWrite(properties.getExpiry())
+                .maximumSize(properties.getMaxMessages())
+                .build();
+        return cache.asMap();
+    }
+
+    private static String toString(TokenNftTransfer transfer) {
+        return transfer.tokenId + "/" + transfer.serial + "/" + transfer.sender + "/" + transfer.receiver;
+    }
+
+    private static String toString(TransactionId transactionId) {
+        var validStart = transactionId.validStart;
+        return transactionId.accountId + "-" + validStart.getEpochSecond() + "-"
+                + StringUtils.leftPad(String.valueOf(validStart.getNano()), 9, '0');
+    }
+
+    enum Field {
+        CHUNKS,
+        CONSENSUS_TIMESTAMP,
+        ENTITY_ID,
+        MEMO,
+        MESSAGE,
+        NFT_TRANSFERS,
+        RESULT,
+        RUNNING_HASH,
+        SEQUENCE_NUMBER,
+        TOKEN_TRANSFERS,
+        TRANSACTION_ID,
+        TRANSFERS
+    }
+
+    record MessageKey(String topicId, ByteString contents) {
+
+        static MessageKey of(TopicId topicId, byte[] contents) {
+            return new MessageKey(String.valueOf(topicId), ByteString.copyFrom(contents));
+        }
+    }
+
+    record PublishedMessage(
+            TopicId topicId, TransactionId transactionId, byte[] message, int chunks, TransactionReceipt receipt) {}
+
+    record ReceivedChunk(Instant consensusTimestamp, int size, byte[] runningHash, long sequenceNumber) {
+
+        static ReceivedChunk of(TopicMessageChunk chunk) {
+            return new ReceivedChunk(
+                    chunk.consensusTimestamp, (int) chunk.contentSize, chunk.runningHash, chunk.sequenceNumber);
+        }
+    }
+
+    record ReceivedMessage(TopicId topicId, byte[] contents, List<ReceivedChunk> chunks, TransactionId transactionId) {}
+}
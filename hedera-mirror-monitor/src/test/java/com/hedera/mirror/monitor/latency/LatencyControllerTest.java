@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.monitor.latency;
+
+import static org.mockito.Mockito.when;
+
+import com.hedera.mirror.monitor.latency.LatencySnapshot.Statistics;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+@ExtendWith(MockitoExtension.class)
+class LatencyControllerTest {
+
+    private static final Statistics STATISTICS = new Statistics(1L, 2.0, 2.0, 2.0, 2.0, 2.0, 2.0, 2.0, 2.0);
+
+    @Mock
+    private LatencyHistograms latencyHistograms;
+
+    private LatencySnapshot snapshot1;
+    private LatencySnapshot snapshot2;
+    private WebTestClient webTestClient;
+
+    @BeforeEach
+    void setup() {
+        snapshot1 = new LatencySnapshot("grpc1", LatencyType.E2E, STATISTICS, STATISTICS);
+        snapshot2 = new LatencySnapshot("publish1", LatencyType.SUBMIT, STATISTICS, STATISTICS);
+        var latencyController = new LatencyController(latencyHistograms);
+        webTestClient = WebTestClient.bindToController(latencyController).build();
+    }
+
+    @Test
+    void latencies() {
+        when(latencyHistograms.getSnapshots()).thenReturn(List.of(snapshot1, snapshot2));
+        webTestClient
+                .get()
+                .uri("/api/v1/latency")
+                .exchange()
+                .expectStatus()
+                .is2xxSuccessful()
+                .expectBodyList(LatencySnapshot.class)
+                .isEqualTo(List.of(snapshot1, snapshot2));
+    }
+
+    @Test
+    void latenciesWithScenario() {
+        when(latencyHistograms.getSnapshots()).thenReturn(List.of(snapshot1, snapshot2));
+        webTestClient
+                .get()
+                .uri("/api/v1/latency?scenario=publish1")
+                .exchange()
+                .expectStatus()
+                .is2xxSuccessful()
+                .expectBodyList(LatencySnapshot.class)
+                .isEqualTo(List.of(snapshot2));
+    }
+
+    @Test
+    void latenciesWithType() {
+        when(latencyHistograms.getSnapshots()).thenReturn(List.of(snapshot1, snapshot2));
+        webTestClient
+                .get()
+                .uri("/api/v1/latency?type=E2E")
+                .exchange()
+                .expectStatus()
+                .is2xxSuccessful()
+                .expectBodyList(LatencySnapshot.class)
+                .isEqualTo(List.of(snapshot1));
+    }
+
+    @Test
+    void latenciesNotFound() {
+        when(latencyHistograms.getSnapshots()).thenReturn(List.of(snapshot1, snapshot2));
+        webTestClient
+                .get()
+                .uri("/api/v1/latency?scenario=unknown")
+                .exchange()
+                .expectStatus()
+                .isNotFound();
+    }
+
+    @Test
+    void log() {
+        when(latencyHistograms.getLog()).thenReturn("#[StartTime: 1]\n");
+        webTestClient
+                .get()
+                .uri("/api/v1/latency/hlog")
+                .exchange()
+                .expectStatus()
+                .is2xxSuccessful()
+                .expectHeader()
+                .contentTypeCompatibleWith(MediaType.TEXT_PLAIN)
+                .expectBody(String.class)
+                .isEqualTo("#[StartTime: 1]\n");
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.monitor.latency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogReader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramsTest {
+
+    private static final String SCENARIO = "test scenario";
+
+    private LatencyHistograms latencyHistograms;
+    private LatencyProperties latencyProperties;
+
+    @BeforeEach
+    void setup() {
+        latencyProperties = new LatencyProperties();
+        latencyHistograms = new LatencyHistograms(latencyProperties);
+    }
+
+    @Test
+    void empty() {
+        latencyHistograms.roll();
+        assertThat(latencyHistograms.getSnapshots()).isEmpty();
+    }
+
+    @Test
+    void percentiles() {
+        for (int i = 1; i <= 10_000; i++) {
+            latencyHistograms.record(LatencyType.E2E, SCENARIO, Duration.ofMillis(i));
+        }
+
+        latencyHistograms.roll();
+
+        assertThat(latencyHistograms.getSnapshots()).hasSize(1).first().satisfies(s -> {
+            assertThat(s.scenario()).isEqualTo(SCENARIO);
+            assertThat(s.type()).isEqualTo(LatencyType.E2E);
+            assertThat(s.interval()).isEqualTo(s.cumulative());
+            assertThat(s.cumulative().count()).isEqualTo(10_000L);
+            assertThat(s.cumulative().min()).isEqualTo(1.0);
+            assertThat(s.cumulative().p50()).isBetween(5000.0, 5005.0);
+            assertThat(s.cumulative().p999()).isBetween(9990.0, 10_000.0);
+            assertThat(s.cumulative().p9999()).isBetween(9999.0, 10_010.0);
+            assertThat(s.cumulative().max()).isBetween(10_000.0, 10_010.0);
+        });
+    }
+
+    @Test
+    void intervalAndCumulative() {
+        latencyHistograms.record(LatencyType.SUBMIT, SCENARIO, Duration.ofMillis(10L));
+        latencyHistograms.record(LatencyType.SUBMIT, SCENARIO, Duration.ofMillis(20L));
+        latencyHistograms.roll();
+        latencyHistograms.record(LatencyType.SUBMIT, SCENARIO, Duration.ofMillis(100L));
+        latencyHistograms.roll();
+
+        assertThat(latencyHistograms.getSnapshots()).hasSize(1).first().satisfies(s -> {
+            assertThat(s.interval().count()).isEqualTo(1L);
+            assertThat(s.interval().min()).isEqualTo(100.0);
+            assertThat(s.cumulative().count()).isEqualTo(3L);
+            assertThat(s.cumulative().min()).isEqualTo(10.0);
+        });
+
+        latencyHistograms.roll();
+        assertThat(latencyHistograms.getSnapshots())
+                .first()
+                .returns(0L, s -> s.interval().count())
+                .returns(3L, s -> s.cumulative().count());
+    }
+
+    @Test
+    void getCumulative() {
+        latencyHistograms.record(LatencyType.HANDLE, SCENARIO, Duration.ofMillis(10L));
+        latencyHistograms.roll();
+        latencyHistograms.record(LatencyType.HANDLE, SCENARIO, Duration.ofMillis(20L));
+        latencyHistograms.record(LatencyType.HANDLE, "other", Duration.ofMillis(30L));
+        latencyHistograms.record(LatencyType.SUBMIT, SCENARIO, Duration.ofMillis(40L));
+
+        var cumulative = latencyHistograms.getCumulative(LatencyType.HANDLE, SCENARIO);
+        assertThat(cumulative.getTotalCount()).isEqualTo(2L);
+        assertThat(cumulative.getMaxValue()).isEqualTo(cumulative.highestEquivalentValue(20_000L));
+        assertThat(latencyHistograms.getCumulative(LatencyType.E2E, SCENARIO).getTotalCount()).isZero();
+
+        // Reading the cumulative histogram does not take the latencies from the current interval
+        latencyHistograms.roll();
+        assertThat(latencyHistograms.getSnapshots())
+                .filteredOn(s -> s.scenario().equals(SCENARIO) && s.type() == LatencyType.HANDLE)
+                .singleElement()
+                .returns(1L, s -> s.interval().count())
+                .returns(20.0, s -> s.interval().min())
+                .returns(2L, s -> s.cumulative().count());
+    }
+
+    @Test
+    void getCumulativeMerged() {
+        latencyHistograms.record(LatencyType.E2E, "a", Duration.ofMillis(10L));
+        latencyHistograms.roll();
+        latencyHistograms.record(LatencyType.E2E, "b", Duration.ofMillis(20L));
+        latencyHistograms.record(LatencyType.HANDLE, "a", Duration.ofMillis(30L));
+
+        var merged = latencyHistograms.getCumulative(LatencyType.E2E);
+        assertThat(merged.getTotalCount()).isEqualTo(2L);
+        assertThat(merged.getMaxValue()).isEqualTo(merged.highestEquivalentValue(20_000L));
+        assertThat(latencyHistograms.getCumulative(LatencyType.QUERY).getTotalCount()).isZero();
+
+        latencyHistograms.roll();
+        assertThat(latencyHistograms.getSnapshots())
+                .filteredOn(s -> s.scenario().equals("b"))
+                .singleElement()
+                .returns(1L, s -> s.interval().count());
+    }
+
+    @Test
+    void sorted() {
+        latencyHistograms.record(LatencyType.SUBMIT, "b", Duration.ofMillis(1L));
+        latencyHistograms.record(LatencyType.HANDLE, "b", Duration.ofMillis(1L));
+        latencyHistograms.record(LatencyType.E2E, "a", Duration.ofMillis(1L));
+
+        assertThat(latencyHistograms.getSnapshots())
+                .extracting(LatencySnapshot::scenario, LatencySnapshot::type)
+                .containsExactly(
+                        tuple("a", LatencyType.E2E), tuple("b", LatencyType.HANDLE), tuple("b", LatencyType.SUBMIT));
+    }
+
+    @Test
+    void negative() {
+        latencyHistograms.record(LatencyType.E2E, SCENARIO, Duration.ofMillis(-5L));
+        latencyHistograms.roll();
+        assertThat(latencyHistograms.getSnapshots())
+                .first()
+                .returns(1L, s -> s.cumulative().count())
+                .returns(0.0, s -> s.cumulative().max());
+    }
+
+    @Test
+    void disabled() {
+        latencyProperties.setEnabled(false);
+        latencyHistograms.record(LatencyType.E2E, SCENARIO, Duration.ofMillis(1L));
+        latencyHistograms.roll();
+        assertThat(latencyHistograms.getSnapshots()).isEmpty();
+    }
+
+    @Test
+    void log() {
+        latencyHistograms.record(LatencyType.E2E, SCENARIO, Duration.ofMillis(5L));
+        latencyHistograms.record(LatencyType.SUBMIT, SCENARIO, Duration.ofMillis(1L));
+        latencyHistograms.record(LatencyType.SUBMIT, SCENARIO, Duration.ofMillis(3L));
+        latencyHistograms.roll();
+
+        var bytes = latencyHistograms.getLog().getBytes(StandardCharsets.UTF_8);
+        var reader = new HistogramLogReader(new ByteArrayInputStream(bytes));
+        var histograms = new ArrayList<Histogram>();
+        while (reader.hasNext()) {
+            histograms.add((Histogram) reader.nextIntervalHistogram());
+        }
+
+        assertThat(histograms)
+                .extracting(Histogram::getTag, Histogram::getTotalCount)
+                .containsExactly(tuple("E2E/test_scenario", 1L), tuple("SUBMIT/test_scenario", 2L));
+
+        // Histograms from multiple logs can be merged by adding them together
+        var merged = histograms.get(1).copy();
+        merged.add(histograms.get(1));
+        assertThat(merged.getTotalCount()).isEqualTo(4L);
+        assertThat(merged.getMaxValue()).isEqualTo(merged.highestEquivalentValue(3000L));
+    }
+}
@@ -21,10 +21,16 @@ import static com.hedera.hashgraph.sdk.proto.ResponseCodeEnum.OK;
 import static com.hedera.hashgraph.sdk.proto.ResponseCodeEnum.SUCCESS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.platform.commons.util.ReflectionUtils.getDeclaredConstructor;
 import static org.mockito.Mockito.when;
 
 import com.google.common.util.concurrent.Uninterruptibles;
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.PrecheckStatusException;
 import com.hedera.hashgraph.sdk.PrivateKey;
+import com.hedera.hashgraph.sdk.Status;
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.hedera.hashgraph.sdk.TransferTransaction;
 import com.hedera.hashgraph.sdk.proto.CryptoServiceGrpc;
 import com.hedera.hashgraph.sdk.proto.Query;
 import com.hedera.hashgraph.sdk.proto.Response;
@@ -43,15 +49,20 @@ import com.hedera.mirror.monitor.subscribe.rest.RestApiClient;
 import com.hedera.mirror.rest.model.NetworkNode;
 import com.hedera.mirror.rest.model.ServiceEndpoint;
 import io.grpc.Server;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.grpc.inprocess.InProcessServerBuilder;
 import io.grpc.stub.StreamObserver;
 import java.io.IOException;
 import java.net.ConnectException;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import lombok.CustomLog;
 import lombok.Data;
 import org.junit.jupiter.api.AfterEach;
@@ -59,6 +70,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Flux;
@@ -73,6 +86,7 @@ class NodeSupplierTest {
     private static final Duration WAIT = Duration.ofSeconds(10L);
 
     private CryptoServiceStub cryptoServiceStub;
+    private MeterRegistry meterRegistry;
     private MonitorProperties monitorProperties;
     private NetworkNode networkNode;
     private NodeProperties node;
@@ -99,7 +113,8 @@ class NodeSupplierTest {
         operatorProperties.setAccountId("0.0.100");
         operatorProperties.setPrivateKey(PrivateKey.generateED25519().toString());
 
-        nodeSupplier = new NodeSupplier(monitorProperties, restApiClient);
+        meterRegistry = new SimpleMeterRegistry();
+        nodeSupplier = new NodeSupplier(meterRegistry, monitorProperties, restApiClient);
         cryptoServiceStub = new CryptoServiceStub();
         server = InProcessServerBuilder.forName(SERVER)
                 .addService(cryptoServiceStub)
@@ -131,6 +146,117 @@ class NodeSupplierTest {
                 .hasMessageContaining("No valid nodes available");
     }
 
+    @Test
+    void getHealthiestNode() {
+        var node2 = new NodeProperties("0.0.4", "in-process:" + SERVER);
+        monitorProperties.getNodeSelection().setEnabled(true);
+        monitorProperties.getNodeValidation().setEnabled(false);
+        nodeSupplier.validateNode(node);
+        nodeSupplier.validateNode(node2);
+
+        nodeSupplier.onSuccess(response(node, Duration.ofMillis(10L)));
+        nodeSupplier.onSuccess(response(node2, Duration.ofMillis(500L)));
+        nodeSupplier.onError(new PublishException(request(node2, Instant.now()), new TimeoutException()));
+
+        for (int i = 0; i < 10; ++i) {
+            assertThat(nodeSupplier.get()).isEqualTo(node);
+        }
+        assertThat(meterRegistry.get(NodeSupplier.METRIC_NODE_LATENCY)
+                        .tag(NodeSupplier.TAG_NODE, node2.getAccountId())
+                        .timeGauge()
+                        .value(TimeUnit.MILLISECONDS))
+                .isEqualTo(500.0);
+        assertThat(meterRegistry.get(NodeSupplier.METRIC_NODE_ERRORS)
+                        .tag(NodeSupplier.TAG_NODE, node2.getAccountId())
+                        .gauge()
+                        .value())
+                .isGreaterThan(0.0);
+    }
+
+    @Test
+    void getCircuitBreaker() {
+        var node2 = new NodeProperties("0.0.4", "in-process:" + SERVER);
+        var selectionProperties = monitorProperties.getNodeSelection();
+        selectionProperties.setEnabled(true);
+        selectionProperties.setFailureThreshold(2);
+        selectionProperties.setOpenDuration(Duration.ofMillis(100L));
+        monitorProperties.getNodeValidation().setEnabled(false);
+        nodeSupplier.validateNode(node);
+        nodeSupplier.validateNode(node2);
+
+        // Consecutive failures open the circuit
+        nodeSupplier.onError(new PublishException(request(node2, Instant.now()), new TimeoutException()));
+        nodeSupplier.onError(new PublishException(request(node2, Instant.now()), new TimeoutException()));
+        for (int i = 0; i < 10; ++i) {
+            assertThat(nodeSupplier.get()).isEqualTo(node);
+        }
+        assertThat(state(node2)).isEqualTo(NodeHealth.State.OPEN.ordinal());
+
+        // A single probe is sent once the circuit half opens
+        Uninterruptibles.sleepUninterruptibly(150L, TimeUnit.MILLISECONDS);
+        assertThat(nodeSupplier.get()).isEqualTo(node2);
+        assertThat(nodeSupplier.get()).isEqualTo(node);
+        assertThat(state(node2)).isEqualTo(NodeHealth.State.HALF_OPEN.ordinal());
+
+        // A successful probe closes the circuit
+        nodeSupplier.onSuccess(response(node2, Duration.ofMillis(10L)));
+        assertThat(state(node2)).isEqualTo(NodeHealth.State.CLOSED.ordinal());
+    }
+
+    @Test
+    void getCircuitBreakerAllOpen() {
+        var selectionProperties = monitorProperties.getNodeSelection();
+        selectionProperties.setEnabled(true);
+        selectionProperties.setFailureThreshold(1);
+        monitorProperties.getNodeValidation().setEnabled(false);
+        nodeSupplier.validateNode(node);
+
+        nodeSupplier.onError(new PublishException(request(node, Instant.now()), new TimeoutException()));
+
+        assertThat(state(node)).isEqualTo(NodeHealth.State.OPEN.ordinal());
+        assertThat(nodeSupplier.get()).isEqualTo(node);
+    }
+
+    @ParameterizedTest
+    @EnumSource(
+            value = Status.class,
+            names = {"BUSY", "PLATFORM_NOT_ACTIVE", "PLATFORM_TRANSACTION_NOT_CREATED"})
+    void onErrorNodeStatus(Status status) throws Exception {
+        var selectionProperties = monitorProperties.getNodeSelection();
+        selectionProperties.setEnabled(true);
+        selectionProperties.setFailureThreshold(1);
+        monitorProperties.getNodeValidation().setEnabled(false);
+        nodeSupplier.validateNode(node);
+
+        nodeSupplier.onError(new PublishException(request(node, Instant.now()), precheckStatusException(status)));
+
+        assertThat(state(node)).isEqualTo(NodeHealth.State.OPEN.ordinal());
+    }
+
+    @ParameterizedTest
+    @EnumSource(
+            value = Status.class,
+            names = {"INSUFFICIENT_PAYER_BALANCE", "INVALID_SIGNATURE", "TRANSACTION_EXPIRED"})
+    void onErrorPayerStatus(Status status) throws Exception {
+        var selectionProperties = monitorProperties.getNodeSelection();
+        selectionProperties.setEnabled(true);
+        selectionProperties.setFailureThreshold(1);
+        monitorProperties.getNodeValidation().setEnabled(false);
+        nodeSupplier.validateNode(node);
+        nodeSupplier.onSuccess(response(node, Duration.ofMillis(10L)));
+
+        nodeSupplier.onError(new PublishException(request(node, Instant.now()), precheckStatusException(status)));
+        nodeSupplier.onError(new PublishException(request(node, Instant.now()), new IllegalStateException()));
+
+        assertThat(state(node)).isEqualTo(NodeHealth.State.CLOSED.ordinal());
+        assertThat(meterRegistry
+                        .get(NodeSupplier.METRIC_NODE_ERRORS)
+                        .tag(NodeSupplier.TAG_NODE, node.getAccountId())
+                        .gauge()
+                        .value())
+                .isZero();
+    }
+
     @Test
     void init() {
         cryptoServiceStub.addQuery(Mono.just(receipt(SUCCESS)));
@@ -286,6 +412,37 @@ class NodeSupplierTest {
         assertThat(nodeSupplier.validateNode(node)).isTrue();
     }
 
+    private PublishRequest request(NodeProperties nodeProperties, Instant timestamp) {
+        var nodeAccountIds = List.of(AccountId.fromString(nodeProperties.getAccountId()));
+        return PublishRequest.builder()
+                .timestamp(timestamp)
+                .transaction(new TransferTransaction().setNodeAccountIds(nodeAccountIds))
+                .build();
+    }
+
+    private PublishResponse response(NodeProperties nodeProperties, Duration latency) {
+        var timestamp = Instant.now();
+        return PublishResponse.builder()
+                .request(request(nodeProperties, timestamp.minus(latency)))
+                .timestamp(timestamp)
+                .build();
+    }
+
+    private PrecheckStatusException precheckStatusException(Status status) throws Exception {
+        var transactionId = TransactionId.withValidStart(AccountId.fromString("0.0.2"), Instant.now());
+        var constructor = getDeclaredConstructor(PrecheckStatusException.class);
+        constructor.setAccessible(true);
+        return constructor.newInstance(status, transactionId);
+    }
+
+    private double state(NodeProperties nodeProperties) {
+        return meterRegistry
+                .get(NodeSupplier.METRIC_NODE_STATE)
+                .tag(NodeSupplier.TAG_NODE, nodeProperties.getAccountId())
+                .gauge()
+                .value();
+    }
+
     private Response receipt(ResponseCodeEnum responseCode) {
         ResponseHeader responseHeader =
                 ResponseHeader.newBuilder().setNodeTransactionPrecheckCode(OK).build();
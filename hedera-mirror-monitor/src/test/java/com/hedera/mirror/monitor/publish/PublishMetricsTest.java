@@ -26,6 +26,10 @@ import com.hedera.hashgraph.sdk.TopicMessageSubmitTransaction;
 import com.hedera.hashgraph.sdk.TransactionId;
 import com.hedera.hashgraph.sdk.TransactionReceipt;
 import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
+import com.hedera.mirror.monitor.latency.LatencyHistograms;
+import com.hedera.mirror.monitor.latency.LatencyProperties;
+import com.hedera.mirror.monitor.latency.LatencySnapshot;
+import com.hedera.mirror.monitor.latency.LatencyType;
 import com.hedera.mirror.monitor.publish.transaction.TransactionType;
 import io.grpc.Status;
 import io.micrometer.core.instrument.Gauge;
@@ -53,6 +57,7 @@ class PublishMetricsTest {
     private static final String NODE_ACCOUNT_ID = "0.0.3";
     private static final String SCENARIO_NAME = "test";
 
+    private LatencyHistograms latencyHistograms;
     private MeterRegistry meterRegistry;
     private PublishMetrics publishMetrics;
     private PublishProperties publishProperties;
@@ -62,7 +67,8 @@ class PublishMetricsTest {
     void setup() {
         meterRegistry = new SimpleMeterRegistry();
         publishProperties = new PublishProperties();
-        publishMetrics = new PublishMetrics(meterRegistry, publishProperties);
+        latencyHistograms = new LatencyHistograms(new LatencyProperties());
+        publishMetrics = new PublishMetrics(latencyHistograms, meterRegistry, publishProperties);
 
         PublishScenarioProperties publishScenarioProperties = new PublishScenarioProperties();
         publishScenarioProperties.setName(SCENARIO_NAME);
@@ -91,6 +97,58 @@ class PublishMetricsTest {
                 .extracting(t -> t.mean(TimeUnit.SECONDS))
                 .asInstanceOf(InstanceOfAssertFactories.DOUBLE)
                 .isGreaterThanOrEqualTo(3.0);
+
+        latencyHistograms.roll();
+        assertThat(latencyHistograms.getSnapshots())
+                .extracting(LatencySnapshot::type)
+                .containsExactly(LatencyType.HANDLE, LatencyType.SUBMIT);
+        assertThat(latencyHistograms.getSnapshots())
+                .allSatisfy(s -> assertThat(s.scenario()).isEqualTo(SCENARIO_NAME))
+                .allSatisfy(s -> assertThat(s.cumulative().count()).isEqualTo(2L));
+    }
+
+    @Test
+    void onSuccessOpenLoop() {
+        var request = request().toBuilder()
+                .scheduledTimestamp(Instant.now().minusSeconds(7L))
+                .build();
+        var response = response().toBuilder().request(request).build();
+        publishMetrics.onSuccess(response);
+
+        assertMetric(meterRegistry.find(PublishMetrics.METRIC_HANDLE_CORRECTED).timers())
+                .returns(PublishMetrics.SUCCESS, t -> t.getId().getTag(PublishMetrics.Tags.TAG_STATUS))
+                .extracting(t -> t.mean(TimeUnit.SECONDS))
+                .asInstanceOf(InstanceOfAssertFactories.DOUBLE)
+                .isGreaterThanOrEqualTo(7.0);
+
+        assertMetric(meterRegistry.find(PublishMetrics.METRIC_SUBMIT_CORRECTED).timers())
+                .returns(PublishMetrics.SUCCESS, t -> t.getId().getTag(PublishMetrics.Tags.TAG_STATUS))
+                .extracting(t -> t.mean(TimeUnit.SECONDS))
+                .asInstanceOf(InstanceOfAssertFactories.DOUBLE)
+                .isGreaterThanOrEqualTo(5.0);
+
+        // The uncorrected latencies are still measured from the actual send time
+        assertMetric(meterRegistry.find(PublishMetrics.METRIC_SUBMIT).timers())
+                .extracting(t -> t.mean(TimeUnit.SECONDS))
+                .asInstanceOf(InstanceOfAssertFactories.DOUBLE)
+                .isBetween(3.0, 4.0);
+
+        assertThat(latencyHistograms.getSnapshots())
+                .extracting(LatencySnapshot::type)
+                .containsExactly(
+                        LatencyType.HANDLE,
+                        LatencyType.HANDLE_CORRECTED,
+                        LatencyType.SUBMIT,
+                        LatencyType.SUBMIT_CORRECTED);
+    }
+
+    @Test
+    void onSuccessClosedLoop() {
+        publishMetrics.onSuccess(response());
+        assertThat(meterRegistry.find(PublishMetrics.METRIC_HANDLE_CORRECTED).timers())
+                .isEmpty();
+        assertThat(meterRegistry.find(PublishMetrics.METRIC_SUBMIT_CORRECTED).timers())
+                .isEmpty();
     }
 
     @Test
@@ -181,6 +239,7 @@ class PublishMetricsTest {
                 .contains("INFO")
                 .contains("Scenario " + SCENARIO_NAME + " published 0 transactions in")
                 .contains("Errors: {" + status + "=1}");
+        assertThat(latencyHistograms.getSnapshots()).isEmpty();
     }
 
     @Test
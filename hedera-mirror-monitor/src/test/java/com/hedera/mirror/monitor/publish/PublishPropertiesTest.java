@@ -19,6 +19,7 @@ package com.hedera.mirror.monitor.publish;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.hedera.mirror.monitor.latency.LatencyType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -61,6 +62,15 @@ class PublishPropertiesTest {
         assertThrows(IllegalArgumentException.class, publishProperties::validate);
     }
 
+    @Test
+    void saturationLatencyType() {
+        publishProperties.getSaturation().setLatencyType(LatencyType.QUERY);
+        publishProperties.validate();
+
+        publishProperties.getSaturation().setEnabled(true);
+        assertThrows(IllegalArgumentException.class, publishProperties::validate);
+    }
+
     @Test
     void noScenariosDisabled() {
         publishProperties.setEnabled(false);
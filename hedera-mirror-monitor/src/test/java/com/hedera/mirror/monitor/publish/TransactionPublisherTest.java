@@ -19,6 +19,8 @@ package com.hedera.mirror.monitor.publish;
 import static com.hedera.hashgraph.sdk.proto.ResponseCodeEnum.OK;
 import static com.hedera.hashgraph.sdk.proto.ResponseCodeEnum.SUCCESS;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.hedera.hashgraph.sdk.PrivateKey;
@@ -134,6 +136,8 @@ class TransactionPublisherTest {
                 })
                 .expectComplete()
                 .verify(Duration.ofSeconds(1L));
+
+        verify(nodeSupplier).onSuccess(any(PublishResponse.class));
     }
 
     @Test
@@ -203,6 +207,8 @@ class TransactionPublisherTest {
                         .isInstanceOf(PublishException.class)
                         .hasMessageContaining(errorResponseCode.toString()))
                 .verify(Duration.ofSeconds(1L));
+
+        verify(nodeSupplier).onError(any(PublishException.class));
     }
 
     @Test
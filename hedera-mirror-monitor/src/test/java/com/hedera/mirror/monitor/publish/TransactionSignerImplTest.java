@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.monitor.publish;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.PrivateKey;
+import com.hedera.hashgraph.sdk.TopicId;
+import com.hedera.hashgraph.sdk.TopicMessageSubmitTransaction;
+import com.hedera.mirror.monitor.MonitorProperties;
+import com.hedera.mirror.monitor.NodeProperties;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionSignerImplTest {
+
+    private static final AccountId OPERATOR = AccountId.fromString("0.0.100");
+
+    @Mock
+    private NodeSupplier nodeSupplier;
+
+    private MonitorProperties monitorProperties;
+    private PrivateKey privateKey;
+    private PublishProperties publishProperties;
+    private TransactionSigner transactionSigner;
+
+    @BeforeEach
+    void setup() {
+        privateKey = PrivateKey.generateED25519();
+        monitorProperties = new MonitorProperties();
+        monitorProperties.getOperator().setAccountId(OPERATOR.toString());
+        monitorProperties.getOperator().setPrivateKey(privateKey.toString());
+        publishProperties = new PublishProperties();
+        transactionSigner = new TransactionSignerImpl(monitorProperties, nodeSupplier, publishProperties);
+    }
+
+    @Test
+    void sign() {
+        var node = new NodeProperties("0.0.3", "127.0.0.1");
+        when(nodeSupplier.get()).thenReturn(node);
+        var transaction = transaction();
+
+        transactionSigner.sign(transaction);
+
+        assertThat(transaction.isFrozen()).isTrue();
+        assertThat(transaction.getNodeAccountIds()).isEqualTo(node.getAccountIds());
+        assertThat(transaction.getTransactionId().accountId).isEqualTo(OPERATOR);
+        assertThat(transaction.getTransactionId().validStart).isCloseTo(Instant.now(), within(10, ChronoUnit.SECONDS));
+        assertThat(transaction.getSignatures().get(node.getAccountIds().get(0)))
+                .containsOnlyKeys(privateKey.getPublicKey());
+    }
+
+    @Test
+    void signWithNode() {
+        var nodeAccountId = AccountId.fromString("0.0.4");
+        var transaction = transaction().setNodeAccountIds(List.of(nodeAccountId));
+
+        transactionSigner.sign(transaction);
+
+        verify(nodeSupplier, never()).get();
+        assertThat(transaction.getNodeAccountIds()).containsExactly(nodeAccountId);
+        assertThat(transaction.getSignatures().get(nodeAccountId)).containsOnlyKeys(privateKey.getPublicKey());
+    }
+
+    @Test
+    void nodeSelectionWithPool() {
+        monitorProperties.getNodeSelection().setEnabled(true);
+        publishProperties.getPool().setEnabled(true);
+
+        assertThatThrownBy(() -> new TransactionSignerImpl(monitorProperties, nodeSupplier, publishProperties))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Node selection");
+    }
+
+    @Test
+    void nodeSelectionWithoutPool() {
+        monitorProperties.getNodeSelection().setEnabled(true);
+        var node = new NodeProperties("0.0.3", "127.0.0.1");
+        when(nodeSupplier.get()).thenReturn(node);
+        var transaction = transaction();
+
+        new TransactionSignerImpl(monitorProperties, nodeSupplier, publishProperties).sign(transaction);
+
+        assertThat(transaction.getNodeAccountIds()).isEqualTo(node.getAccountIds());
+    }
+
+    private TopicMessageSubmitTransaction transaction() {
+        return new TopicMessageSubmitTransaction().setTopicId(TopicId.fromString("0.0.1000")).setMessage("test");
+    }
+}
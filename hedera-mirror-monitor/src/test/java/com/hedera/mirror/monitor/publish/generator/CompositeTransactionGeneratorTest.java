@@ -18,22 +18,30 @@ package com.hedera.mirror.monitor.publish.generator;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.from;
+import static org.assertj.core.api.Assertions.within;
 import static org.assertj.core.api.Assertions.withinPercentage;
 
 import com.google.common.base.Stopwatch;
 import com.google.common.base.Suppliers;
 import com.google.common.collect.HashMultiset;
 import com.google.common.collect.Multiset;
+import com.google.common.util.concurrent.Uninterruptibles;
 import com.hedera.mirror.monitor.ScenarioStatus;
 import com.hedera.mirror.monitor.publish.PublishProperties;
 import com.hedera.mirror.monitor.publish.PublishRequest;
 import com.hedera.mirror.monitor.publish.PublishScenario;
 import com.hedera.mirror.monitor.publish.PublishScenarioProperties;
 import com.hedera.mirror.monitor.publish.transaction.TransactionType;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.apache.commons.math3.util.Pair;
@@ -45,6 +53,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 
 class CompositeTransactionGeneratorTest {
 
+    private MeterRegistry meterRegistry;
     private PublishScenarioProperties publishScenarioProperties1;
     private PublishScenarioProperties publishScenarioProperties2;
     private PublishProperties properties;
@@ -53,6 +62,7 @@ class CompositeTransactionGeneratorTest {
 
     @BeforeEach
     void init() {
+        meterRegistry = new SimpleMeterRegistry();
         publishScenarioProperties1 = new PublishScenarioProperties();
         publishScenarioProperties1.setName("test1");
         publishScenarioProperties1.setProperties(Map.of("topicId", "0.0.1000"));
@@ -71,8 +81,10 @@ class CompositeTransactionGeneratorTest {
         properties.getScenarios().put(publishScenarioProperties2.getName(), publishScenarioProperties2);
         supplier = Suppliers.memoize(() -> new CompositeTransactionGenerator(
                 p -> p,
+                meterRegistry,
                 p -> p.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)),
-                properties));
+                properties,
+                t -> {}));
 
         prepare();
     }
@@ -141,6 +153,20 @@ class CompositeTransactionGeneratorTest {
                 .containsExactly(1.0);
     }
 
+    @Test
+    void setTps() {
+        CompositeTransactionGenerator generator = supplier.get();
+
+        assertThat(generator.setTps(publishScenarioProperties2.getName(), 750)).isTrue();
+        assertThat(generator.setTps("unknown", 750)).isFalse();
+
+        assertThat(publishScenarioProperties2.getTps()).isEqualTo(750);
+        assertThat(generator.rateLimiter.get().getRate()).isEqualTo(1500);
+        assertThat(generator.distribution.get().getPmf())
+                .extracting(Pair::getValue)
+                .containsExactly(0.5, 0.5);
+    }
+
     @Test
     void noScenario() {
         properties.getScenarios().clear();
@@ -161,12 +187,80 @@ class CompositeTransactionGeneratorTest {
         assertThat(stopwatch.elapsed().toMillis() * 1.0 / 1000).isCloseTo(seconds, withinPercentage(5));
     }
 
+    @Test
+    void openLoop() {
+        properties.setOpenLoop(true);
+        CompositeTransactionGenerator generator = supplier.get();
+
+        var publishRequests = generator.next(0);
+        assertThat(publishRequests)
+                .hasSize(generator.batchSize.get())
+                .extracting(PublishRequest::getScheduledTimestamp)
+                .doesNotContainNull()
+                .isSorted();
+        var first = publishRequests.getFirst().getScheduledTimestamp();
+        var last = publishRequests.getLast().getScheduledTimestamp();
+        var interval = Duration.ofNanos((long) (1_000_000_000L / totalTps));
+        assertThat(Duration.between(first, last)).isEqualTo(interval.multipliedBy(publishRequests.size() - 1L));
+        assertThat(generator.next(0).getFirst().getScheduledTimestamp())
+                .isCloseTo(last.plus(interval), within(100, ChronoUnit.MICROS));
+    }
+
+    @Test
+    void openLoopBacklog() {
+        properties.setOpenLoop(true);
+        CompositeTransactionGenerator generator = supplier.get();
+        var backlog = meterRegistry.find(CompositeTransactionGenerator.METRIC_BACKLOG).gauge();
+        assertThat(backlog).isNotNull().returns(0.0, Gauge::value);
+
+        generator.next(0);
+        Uninterruptibles.sleepUninterruptibly(500, TimeUnit.MILLISECONDS);
+        assertThat(backlog.value()).isCloseTo(totalTps / 2, withinPercentage(20));
+
+        // Late sends are generated without waiting and keep their intended send time
+        var stopwatch = Stopwatch.createStarted();
+        var publishRequests = generator.next((int) (totalTps / 4));
+        assertThat(stopwatch.elapsed()).isLessThan(Duration.ofMillis(200L));
+        assertThat(publishRequests.getLast().getScheduledTimestamp()).isBefore(Instant.now());
+        assertThat(backlog.value()).isCloseTo(totalTps / 4, withinPercentage(20));
+    }
+
+    @Test
+    void closedLoop() {
+        CompositeTransactionGenerator generator = supplier.get();
+        assertThat(generator.next(0)).extracting(PublishRequest::getScheduledTimestamp).containsOnlyNulls();
+        assertThat(meterRegistry.find(CompositeTransactionGenerator.METRIC_BACKLOG).gauge())
+                .isNull();
+    }
+
     @Test
     void publishDisabled() {
         properties.setEnabled(false);
         assertInactive();
     }
 
+    @Test
+    void pool() {
+        properties.getPool().setEnabled(true);
+        CompositeTransactionGenerator generator = supplier.get();
+        assertThat(generator.transactionPools).hasSize(2);
+        assertThat(generator.next(2)).hasSize(2);
+        assertThat(meterRegistry.find(TransactionPool.METRIC_POOL_SIZE).gauges())
+                .hasSize(2);
+    }
+
+    @Test
+    void poolScenariosComplete() {
+        properties.getPool().setEnabled(true);
+        properties.getScenarios().remove(publishScenarioProperties2.getName());
+        publishScenarioProperties1.setLimit(1L);
+        CompositeTransactionGenerator generator = supplier.get();
+        assertThat(generator.next()).hasSize(1);
+        assertThat(generator.next()).isEmpty();
+        assertInactive();
+        assertThat(generator.transactionPools).isEmpty();
+    }
+
     @Test
     void scenariosComplete() {
         properties.getScenarios().remove(publishScenarioProperties2.getName());
@@ -261,8 +355,10 @@ class CompositeTransactionGeneratorTest {
         // warmup so in tests the timing will be accurate
         TransactionGenerator generator = Suppliers.synchronizedSupplier(() -> new CompositeTransactionGenerator(
                         p -> p,
+                        new SimpleMeterRegistry(),
                         p -> p.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)),
-                        properties))
+                        properties,
+                        t -> {}))
                 .get();
         generator.next(0);
     }
@@ -0,0 +1,202 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.monitor.publish.generator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import com.google.common.base.Stopwatch;
+import com.google.common.util.concurrent.Uninterruptibles;
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.PrivateKey;
+import com.hedera.hashgraph.sdk.Transaction;
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.hedera.mirror.monitor.publish.PublishProperties;
+import com.hedera.mirror.monitor.publish.PublishScenarioProperties;
+import com.hedera.mirror.monitor.publish.TransactionSigner;
+import com.hedera.mirror.monitor.publish.transaction.TransactionType;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TransactionPoolTest {
+
+    private static final AccountId NODE = AccountId.fromString("0.0.3");
+    private static final AccountId OPERATOR = AccountId.fromString("0.0.2");
+    private static final PrivateKey PRIVATE_KEY = PrivateKey.generateED25519();
+
+    private volatile Duration age;
+    private MeterRegistry meterRegistry;
+    private PublishProperties.PoolProperties poolProperties;
+    private PublishScenarioProperties properties;
+    private TransactionPool transactionPool;
+
+    @BeforeEach
+    void setup() {
+        age = Duration.ZERO;
+        meterRegistry = new SimpleMeterRegistry();
+        poolProperties = new PublishProperties.PoolProperties();
+        poolProperties.setSize(10);
+        properties = new PublishScenarioProperties();
+        properties.setName("test");
+        properties.setProperties(Map.of("topicId", "0.0.1000"));
+        properties.setTps(100);
+        properties.setType(TransactionType.CONSENSUS_SUBMIT_MESSAGE);
+    }
+
+    @AfterEach
+    void teardown() {
+        if (transactionPool != null) {
+            transactionPool.close();
+        }
+    }
+
+    @Test
+    void next() {
+        var publishRequests = pool().next(3);
+
+        assertThat(publishRequests).hasSize(3).allSatisfy(r -> {
+            var transaction = r.getTransaction();
+            assertThat(transaction.isFrozen()).isTrue();
+            assertThat(transaction.getNodeAccountIds()).containsExactly(NODE);
+            assertThat(transaction.getSignatures().get(NODE)).containsKey(PRIVATE_KEY.getPublicKey());
+            assertThat(r.getTimestamp()).isCloseTo(Instant.now(), within(1, ChronoUnit.SECONDS));
+        });
+        assertThat(publishRequests)
+                .extracting(r -> r.getTransaction().getTransactionId())
+                .doesNotHaveDuplicates();
+    }
+
+    @Test
+    void concurrentWorkers() {
+        properties.setLimit(200L);
+        properties.setTps(1000);
+        poolProperties.setSize(200);
+        poolProperties.setThreads(4);
+        pool();
+
+        var publishRequests = transactionPool.next(200);
+
+        // Every worker must get its own transaction object from the shared generator
+        var transactions = Collections.newSetFromMap(new IdentityHashMap<Transaction<?>, Boolean>());
+        publishRequests.forEach(r -> transactions.add(r.getTransaction()));
+        assertThat(publishRequests).hasSize(200);
+        assertThat(transactions).hasSize(200);
+        assertThatThrownBy(transactionPool::next).isInstanceOf(ScenarioException.class);
+    }
+
+    @Test
+    void fill() {
+        pool();
+        awaitSize(10);
+    }
+
+    @Test
+    void capacityLimitedByMaxAge() {
+        properties.setTps(0.1);
+        pool();
+        awaitSize(6);
+    }
+
+    @Test
+    void stale() {
+        age = poolProperties.getMaxAge().plusSeconds(1L);
+        pool();
+        awaitSize(10);
+        age = Duration.ZERO;
+
+        assertThat(transactionPool.next(2)).hasSize(2);
+        var stale = meterRegistry.find(TransactionPool.METRIC_POOL_STALE).functionCounter();
+        assertThat(stale).isNotNull();
+        assertThat(stale.count()).isEqualTo(transactionPool.getStale()).isCloseTo(10.0, within(2.0));
+    }
+
+    @Test
+    void reachedLimit() {
+        properties.setLimit(2L);
+        pool();
+        assertThat(transactionPool.next(5)).hasSize(2);
+        assertThatThrownBy(transactionPool::next)
+                .isInstanceOf(ScenarioException.class)
+                .hasMessageContaining("Reached publish limit");
+    }
+
+    @Test
+    void signingFailureRetried() {
+        var failures = new int[] {2};
+        TransactionSigner transactionSigner = t -> {
+            if (failures[0]-- > 0) {
+                throw new IllegalArgumentException("No valid nodes available");
+            }
+            sign(t);
+        };
+        poolProperties.setThreads(1);
+        transactionPool = new TransactionPool(generator(), meterRegistry, poolProperties, transactionSigner);
+
+        assertThat(transactionPool.next()).hasSize(1);
+    }
+
+    @Test
+    void close() {
+        pool();
+        awaitSize(10);
+        transactionPool.close();
+        Uninterruptibles.sleepUninterruptibly(200, TimeUnit.MILLISECONDS);
+        assertThat(meterRegistry.find(TransactionPool.METRIC_POOL_SIZE).gauge())
+                .isNotNull()
+                .returns(0.0, Gauge::value);
+    }
+
+    private TransactionPool pool() {
+        transactionPool = new TransactionPool(generator(), meterRegistry, poolProperties, this::sign);
+        return transactionPool;
+    }
+
+    private ConfigurableTransactionGenerator generator() {
+        return new ConfigurableTransactionGenerator(p -> p, p -> Collections.unmodifiableMap(p), properties);
+    }
+
+    private void sign(Transaction<?> transaction) {
+        var validStart = Instant.now().minus(age);
+        transaction.setNodeAccountIds(List.of(NODE));
+        transaction.setTransactionId(TransactionId.withValidStart(OPERATOR, validStart));
+        transaction.freezeWith(null);
+        transaction.sign(PRIVATE_KEY);
+    }
+
+    private void awaitSize(int expected) {
+        var size = meterRegistry.find(TransactionPool.METRIC_POOL_SIZE).gauge();
+        assertThat(size).isNotNull();
+        var stopwatch = Stopwatch.createStarted();
+        while (size.value() < expected && stopwatch.elapsed(TimeUnit.SECONDS) < 5) {
+            Uninterruptibles.sleepUninterruptibly(10, TimeUnit.MILLISECONDS);
+        }
+        assertThat(size.value()).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.monitor.publish.saturation;
+
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+@ExtendWith(MockitoExtension.class)
+class SaturationControllerTest {
+
+    @Mock
+    private SaturationSearch saturationSearch;
+
+    private SaturationResult result1;
+    private SaturationResult result2;
+    private WebTestClient webTestClient;
+
+    @BeforeEach
+    void setup() {
+        result1 = new SaturationResult("publish1");
+        result1.add(new SaturationStep(10.0, 10.0, 0.0, 100.0, true));
+        result1.add(new SaturationStep(20.0, 15.0, 0.0, null, false));
+        result1.complete();
+        result2 = new SaturationResult("publish2");
+        var saturationController = new SaturationController(saturationSearch);
+        webTestClient = WebTestClient.bindToController(saturationController).build();
+    }
+
+    @Test
+    void results() {
+        when(saturationSearch.getResults()).thenReturn(List.of(result1, result2));
+        webTestClient
+                .get()
+                .uri("/api/v1/saturation")
+                .exchange()
+                .expectStatus()
+                .is2xxSuccessful()
+                .expectBody()
+                .jsonPath("$.length()")
+                .isEqualTo(2)
+                .jsonPath("$[0].scenario")
+                .isEqualTo("publish1")
+                .jsonPath("$[0].completed")
+                .isEqualTo(true)
+                .jsonPath("$[0].maxTps")
+                .isEqualTo(10.0)
+                .jsonPath("$[0].steps.length()")
+                .isEqualTo(2)
+                .jsonPath("$[0].steps[1].achievedTps")
+                .isEqualTo(15.0)
+                .jsonPath("$[0].steps[1].passed")
+                .isEqualTo(false)
+                .jsonPath("$[1].scenario")
+                .isEqualTo("publish2")
+                .jsonPath("$[1].completed")
+                .isEqualTo(false);
+    }
+
+    @Test
+    void resultsWithScenario() {
+        when(saturationSearch.getResults()).thenReturn(List.of(result1, result2));
+        webTestClient
+                .get()
+                .uri("/api/v1/saturation?scenario=publish2")
+                .exchange()
+                .expectStatus()
+                .is2xxSuccessful()
+                .expectBody()
+                .jsonPath("$.length()")
+                .isEqualTo(1)
+                .jsonPath("$[0].scenario")
+                .isEqualTo("publish2");
+    }
+
+    @Test
+    void resultsNotFound() {
+        when(saturationSearch.getResults()).thenReturn(List.of(result1, result2));
+        webTestClient
+                .get()
+                .uri("/api/v1/saturation?scenario=unknown")
+                .exchange()
+                .expectStatus()
+                .isNotFound();
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.monitor.publish.saturation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.hedera.mirror.monitor.latency.LatencyHistograms;
+import com.hedera.mirror.monitor.latency.LatencyProperties;
+import com.hedera.mirror.monitor.latency.LatencyType;
+import com.hedera.mirror.monitor.publish.PublishException;
+import com.hedera.mirror.monitor.publish.PublishProperties;
+import com.hedera.mirror.monitor.publish.PublishScenario;
+import com.hedera.mirror.monitor.publish.PublishScenarioProperties;
+import com.hedera.mirror.monitor.publish.generator.CompositeTransactionGenerator;
+import com.hedera.mirror.monitor.publish.transaction.TransactionType;
+import java.time.Duration;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class SaturationSearchTest {
+
+    private static final Duration HALF_STEP = Duration.ofSeconds(5L);
+    private static final Duration LATENCY = Duration.ofSeconds(1L);
+    private static final String SCENARIO_NAME = "test";
+    private static final Duration WAIT = Duration.ofSeconds(10L);
+
+    @Mock
+    private CompositeTransactionGenerator transactionGenerator;
+
+    private LatencyHistograms latencyHistograms;
+    private PublishProperties publishProperties;
+    private PublishScenario publishScenario;
+    private SaturationSearch saturationSearch;
+
+    @BeforeEach
+    void setup() {
+        var scenarioProperties = new PublishScenarioProperties();
+        scenarioProperties.setName(SCENARIO_NAME);
+        scenarioProperties.setTps(10.0);
+        scenarioProperties.setType(TransactionType.CONSENSUS_SUBMIT_MESSAGE);
+        publishScenario = new PublishScenario(scenarioProperties);
+
+        publishProperties = new PublishProperties();
+        publishProperties.setWarmupPeriod(Duration.ZERO);
+        publishProperties.getSaturation().setEnabled(true);
+        publishProperties.getSaturation().setHold(HALF_STEP.multipliedBy(2L));
+        publishProperties.getSaturation().setMaxTps(100.0);
+
+        latencyHistograms = new LatencyHistograms(new LatencyProperties());
+        saturationSearch = new SaturationSearch(latencyHistograms, publishProperties, transactionGenerator);
+        when(transactionGenerator.scenarios()).thenReturn(Flux.just(publishScenario));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = LatencyType.class, names = {"E2E", "HANDLE"})
+    void latencyViolation(LatencyType latencyType) {
+        publishProperties.getSaturation().setLatencyType(latencyType);
+        StepVerifier.withVirtualTime(() -> saturationSearch.search())
+                .thenAwait(HALF_STEP)
+                .then(() -> publish(100, 0, LATENCY))
+                .thenAwait(HALF_STEP.multipliedBy(2L))
+                .then(() -> publish(200, 0, LATENCY))
+                .thenAwait(HALF_STEP.multipliedBy(2L))
+                .then(() -> publish(300, 0, Duration.ofSeconds(20L)))
+                .thenAwait(HALF_STEP)
+                .assertNext(result -> {
+                    assertThat(result)
+                            .returns(SCENARIO_NAME, SaturationResult::getScenario)
+                            .returns(20.0, SaturationResult::getMaxTps)
+                            .returns(true, SaturationResult::isCompleted);
+                    assertThat(result.getSteps())
+                            .extracting(SaturationStep::tps, SaturationStep::achievedTps, SaturationStep::passed)
+                            .containsExactly(
+                                    tuple(10.0, 10.0, true), tuple(20.0, 20.0, true), tuple(30.0, 30.0, false));
+                    assertThat(result.getSteps().get(2).latency()).isGreaterThan(10_000.0);
+                })
+                .expectComplete()
+                .verify(WAIT);
+
+        var ordered = inOrder(transactionGenerator);
+        ordered.verify(transactionGenerator).setTps(SCENARIO_NAME, 10.0);
+        ordered.verify(transactionGenerator).setTps(SCENARIO_NAME, 20.0);
+        ordered.verify(transactionGenerator).setTps(SCENARIO_NAME, 30.0);
+        ordered.verify(transactionGenerator).setTps(SCENARIO_NAME, 10.0);
+        assertThat(saturationSearch.getResults()).hasSize(1);
+    }
+
+    @Test
+    void errorRateViolation() {
+        StepVerifier.withVirtualTime(() -> saturationSearch.search())
+                .thenAwait(HALF_STEP)
+                .then(() -> publish(99, 1, LATENCY))
+                .thenAwait(HALF_STEP.multipliedBy(2L))
+                .then(() -> publish(190, 10, LATENCY))
+                .thenAwait(HALF_STEP)
+                .assertNext(result -> {
+                    assertThat(result.getMaxTps()).isEqualTo(10.0);
+                    assertThat(result.getSteps())
+                            .extracting(SaturationStep::achievedTps, SaturationStep::errorRate, SaturationStep::passed)
+                            .containsExactly(tuple(9.9, 0.01, true), tuple(19.0, 0.05, false));
+                })
+                .expectComplete()
+                .verify(WAIT);
+    }
+
+    @Test
+    void throughputViolation() {
+        StepVerifier.withVirtualTime(() -> saturationSearch.search())
+                .thenAwait(HALF_STEP)
+                .then(() -> publish(50, 0, null))
+                .thenAwait(HALF_STEP)
+                .assertNext(result -> {
+                    assertThat(result.getMaxTps()).isNull();
+                    assertThat(result.getSteps()).containsExactly(new SaturationStep(10.0, 5.0, 0.0, null, false));
+                })
+                .expectComplete()
+                .verify(WAIT);
+    }
+
+    @Test
+    void maxTps() {
+        publishProperties.getSaturation().setMaxTps(20.0);
+
+        StepVerifier.withVirtualTime(() -> saturationSearch.search())
+                .thenAwait(HALF_STEP)
+                .then(() -> publish(100, 0, null))
+                .thenAwait(HALF_STEP.multipliedBy(2L))
+                .then(() -> publish(200, 0, null))
+                .thenAwait(HALF_STEP)
+                .assertNext(result -> assertThat(result)
+                        .returns(20.0, SaturationResult::getMaxTps)
+                        .extracting(SaturationResult::getSteps)
+                        .asList()
+                        .hasSize(2))
+                .expectComplete()
+                .verify(WAIT);
+    }
+
+    @Test
+    void scenarioNotSelected() {
+        publishProperties.getSaturation().setScenarios(Set.of("other"));
+
+        StepVerifier.withVirtualTime(() -> saturationSearch.search())
+                .thenAwait(HALF_STEP)
+                .expectComplete()
+                .verify(WAIT);
+
+        assertThat(saturationSearch.getResults()).isEmpty();
+        verify(transactionGenerator, never()).setTps(anyString(), anyDouble());
+    }
+
+    @Test
+    void scenarioCompleted() {
+        publishScenario.onComplete();
+
+        StepVerifier.withVirtualTime(() -> saturationSearch.search())
+                .thenAwait(HALF_STEP)
+                .assertNext(result -> assertThat(result)
+                        .returns(null, SaturationResult::getMaxTps)
+                        .returns(true, SaturationResult::isCompleted))
+                .expectComplete()
+                .verify(WAIT);
+    }
+
+    private void publish(int successes, int errors, Duration latency) {
+        for (int i = 0; i < successes; i++) {
+            publishScenario.onNext(null);
+        }
+
+        for (int i = 0; i < errors; i++) {
+            publishScenario.onError(new PublishException(null, new IllegalStateException()));
+        }
+
+        if (latency != null) {
+            // E2E latencies of every subscriber are merged, while other types only use the searched scenario's own
+            latencyHistograms.record(LatencyType.E2E, "subscriber1", latency);
+            latencyHistograms.record(LatencyType.E2E, "subscriber2", latency);
+            latencyHistograms.record(LatencyType.HANDLE, SCENARIO_NAME, latency);
+            latencyHistograms.record(LatencyType.HANDLE, "other", Duration.ofMinutes(1L));
+            latencyHistograms.record(LatencyType.SUBMIT, SCENARIO_NAME, Duration.ofMinutes(1L));
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.monitor.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hedera.mirror.monitor.expression.ExpressionConverter;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ParameterPoolTest {
+
+    private static final ExpressionConverter EXPRESSION_CONVERTER = p -> p.replace("${account.a}", "0.0.5");
+    private static final int SAMPLES = 1000;
+
+    private final Random random = new Random(1L);
+
+    @ParameterizedTest
+    @CsvSource(
+            delimiter = ';',
+            textBlock = """
+            1..5; 1,2,3,4,5
+            0.0.1000..0.0.1002; 0.0.1000,0.0.1001,0.0.1002
+            ' 1.2.3 .. 1.2.4 '; 1.2.3,1.2.4
+            7..7; 7
+            a,b, c; a,b,c
+            '${account.a},0.0.6'; 0.0.5,0.0.6
+            """)
+    void sample(String pool, String expected) {
+        var parameterPool = ParameterPool.of("test", pool, EXPRESSION_CONVERTER);
+        var samples = new HashSet<String>();
+
+        for (int i = 0; i < SAMPLES; i++) {
+            samples.add(parameterPool.sample(random));
+        }
+
+        assertThat(samples).isEqualTo(Set.of(expected.split(",")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", " ", ",", "5..1", "0.0.1..0.1.2", "a..b", "1..", "0.0.1..2"})
+    void invalid(String pool) {
+        assertThatThrownBy(() -> ParameterPool.of("test", pool, EXPRESSION_CONVERTER))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("test");
+    }
+}
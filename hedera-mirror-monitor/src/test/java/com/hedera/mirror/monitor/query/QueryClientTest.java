@@ -0,0 +1,329 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.monitor.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.hedera.hashgraph.sdk.TopicId;
+import com.hedera.hashgraph.sdk.TopicMessageQuery;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicQuery;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicResponse;
+import com.hedera.mirror.monitor.MonitorProperties;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class QueryClientTest {
+
+    private static final Duration WAIT = Duration.ofSeconds(10L);
+
+    @Mock
+    private ExchangeFunction exchangeFunction;
+
+    private ConsensusServiceStub consensusServiceStub;
+    private MonitorProperties monitorProperties;
+    private QueryScenarioProperties properties;
+    private QueryClient queryClient;
+    private Server server;
+
+    @BeforeEach
+    void setup() throws Exception {
+        monitorProperties = new MonitorProperties();
+        monitorProperties.getMirrorNode().getGrpc().setHost("in-process:query");
+        monitorProperties.getMirrorNode().getRest().setHost("127.0.0.1");
+        properties = new QueryScenarioProperties();
+        properties.setName("test");
+        queryClient = new QueryClient(monitorProperties, WebClient.builder().exchangeFunction(exchangeFunction));
+
+        consensusServiceStub = new ConsensusServiceStub();
+        server = InProcessServerBuilder.forName("query")
+                .addService(consensusServiceStub)
+                .build()
+                .start();
+    }
+
+    @AfterEach
+    void teardown() throws Exception {
+        queryClient.close();
+        server.shutdown();
+        server.awaitTermination();
+    }
+
+    @Test
+    void rest() {
+        properties.setType(QueryType.REST);
+        when(exchangeFunction.exchange(any())).thenReturn(response(HttpStatus.OK));
+        var request = request()
+                .parameters(Map.of("account", "0.0.1000"))
+                .uri("/accounts/{account}")
+                .build();
+
+        verifyResponse(request, QueryResponse.SUCCESS);
+
+        var clientRequest = ArgumentCaptor.forClass(ClientRequest.class);
+        verify(exchangeFunction).exchange(clientRequest.capture());
+        assertThat(clientRequest.getValue())
+                .returns(HttpMethod.GET, ClientRequest::method)
+                .returns(uri("/accounts/0.0.1000"), ClientRequest::url);
+        assertThat(request.getScenario())
+                .returns(1L, QueryScenario::getCount)
+                .returns(Map.of(), QueryScenario::getErrors);
+    }
+
+    @Test
+    void restError() {
+        properties.setType(QueryType.REST);
+        when(exchangeFunction.exchange(any())).thenReturn(response(HttpStatus.NOT_FOUND));
+        var request = request().parameters(Map.of()).uri("/accounts/0.0.1").build();
+
+        verifyResponse(request, HttpStatus.NOT_FOUND.name());
+
+        assertThat(request.getScenario())
+                .returns(0L, QueryScenario::getCount)
+                .returns(Map.of(HttpStatus.NOT_FOUND.name(), 1), QueryScenario::getErrors);
+    }
+
+    @Test
+    void restTimeout() {
+        properties.setType(QueryType.REST);
+        properties.setTimeout(Duration.ofMillis(100L));
+        when(exchangeFunction.exchange(any())).thenReturn(Mono.never());
+        var request = request().parameters(Map.of()).uri("/accounts/0.0.1").build();
+
+        verifyResponse(request, "TimeoutException");
+    }
+
+    @Test
+    void contractCall() {
+        properties.setType(QueryType.CONTRACT_CALL);
+        when(exchangeFunction.exchange(any())).thenReturn(response(HttpStatus.OK));
+        var request = request()
+                .body(Map.of("data", "0x70a08231", "to", "0x00000000000000000000000000000000000007d0"))
+                .parameters(Map.of())
+                .uri(QueryGenerator.CONTRACT_CALL_URI)
+                .build();
+
+        verifyResponse(request, QueryResponse.SUCCESS);
+
+        var clientRequest = ArgumentCaptor.forClass(ClientRequest.class);
+        verify(exchangeFunction).exchange(clientRequest.capture());
+        assertThat(clientRequest.getValue())
+                .returns(HttpMethod.POST, ClientRequest::method)
+                .returns(uri(QueryGenerator.CONTRACT_CALL_URI), ClientRequest::url);
+    }
+
+    @Test
+    void grpc() {
+        properties.setType(QueryType.GRPC);
+        var request = request().topicMessageQuery(topicMessageQuery()).build();
+
+        verifyResponse(request, QueryResponse.SUCCESS);
+
+        assertThat(consensusServiceStub.getRequest().get().getTopicID().getTopicNum())
+                .isEqualTo(1000L);
+        assertThat(request.getScenario()).returns(1L, QueryScenario::getCount);
+    }
+
+    @Test
+    void grpcError() {
+        properties.setType(QueryType.GRPC);
+        consensusServiceStub.setError(Status.NOT_FOUND);
+        var request = request().topicMessageQuery(topicMessageQuery()).build();
+
+        verifyResponse(request, Status.Code.NOT_FOUND.toString());
+
+        assertThat(request.getScenario())
+                .returns(0L, QueryScenario::getCount)
+                .returns(Map.of(Status.Code.NOT_FOUND.toString(), 1), QueryScenario::getErrors);
+    }
+
+    @Test
+    void replay() {
+        properties.setType(QueryType.REPLAY);
+        when(exchangeFunction.exchange(any())).thenReturn(response(HttpStatus.NOT_FOUND));
+        var captured = new CapturedRequest(0L, "GET", "/api/v1/accounts/0.0.1", "limit=1", null, null, 404, 5L);
+        var request = request()
+                .captured(captured)
+                .parameters(Map.of())
+                .uri("/api/v1/accounts/0.0.1?limit=1")
+                .build();
+
+        verifyResponse(request, QueryResponse.SUCCESS);
+
+        var clientRequest = ArgumentCaptor.forClass(ClientRequest.class);
+        verify(exchangeFunction).exchange(clientRequest.capture());
+        assertThat(clientRequest.getValue())
+                .returns(HttpMethod.GET, ClientRequest::method)
+                .returns(uri("/accounts/0.0.1?limit=1"), ClientRequest::url);
+        assertThat(request.getScenario()).returns(1L, QueryScenario::getCount);
+    }
+
+    @Test
+    void replayBody() {
+        properties.setType(QueryType.REPLAY);
+        properties.getReplay().setBaseUrl("http://graphql:8083/");
+        when(exchangeFunction.exchange(any())).thenReturn(response(HttpStatus.OK));
+        var body = "{\"query\":\"{account(input:{entityId:{num:2}}){balance}}\"}";
+        var captured = new CapturedRequest(0L, "POST", "/graphql/alpha", null, body, null, 200, 5L);
+        var request = request()
+                .captured(captured)
+                .parameters(Map.of())
+                .uri("/graphql/alpha")
+                .build();
+
+        verifyResponse(request, QueryResponse.SUCCESS);
+
+        var clientRequest = ArgumentCaptor.forClass(ClientRequest.class);
+        verify(exchangeFunction).exchange(clientRequest.capture());
+        assertThat(clientRequest.getValue())
+                .returns(HttpMethod.POST, ClientRequest::method)
+                .returns(URI.create("http://graphql:8083/graphql/alpha"), ClientRequest::url)
+                .returns(MediaType.APPLICATION_JSON, r -> r.headers().getContentType());
+    }
+
+    @Test
+    void replayHeaders() {
+        properties.setType(QueryType.REPLAY);
+        when(exchangeFunction.exchange(any())).thenReturn(response(HttpStatus.NOT_MODIFIED));
+        var headers = Map.of(HttpHeaders.ACCEPT, MediaType.TEXT_PLAIN_VALUE, HttpHeaders.IF_NONE_MATCH, "\"abc\"");
+        var captured = new CapturedRequest(0L, "GET", "/api/v1/accounts/0.0.1", null, null, headers, 304, 5L);
+        var request = request()
+                .captured(captured)
+                .parameters(Map.of())
+                .uri("/api/v1/accounts/0.0.1")
+                .build();
+
+        verifyResponse(request, QueryResponse.SUCCESS);
+
+        var clientRequest = ArgumentCaptor.forClass(ClientRequest.class);
+        verify(exchangeFunction).exchange(clientRequest.capture());
+        assertThat(clientRequest.getValue().headers())
+                .returns(List.of(MediaType.TEXT_PLAIN), HttpHeaders::getAccept)
+                .returns(List.of("\"abc\""), HttpHeaders::getIfNoneMatch);
+    }
+
+    @Test
+    void replayMismatch() {
+        properties.setType(QueryType.REPLAY);
+        when(exchangeFunction.exchange(any())).thenReturn(response(HttpStatus.NOT_FOUND));
+        var captured = new CapturedRequest(0L, "GET", "/api/v1/accounts/0.0.1", null, null, null, 200, 5L);
+        var request = request()
+                .captured(captured)
+                .parameters(Map.of())
+                .uri("/api/v1/accounts/0.0.1")
+                .build();
+
+        var status = "NOT_FOUND (expected OK)";
+        verifyResponse(request, status);
+
+        assertThat(request.getScenario())
+                .returns(0L, QueryScenario::getCount)
+                .returns(Map.of(status, 1), QueryScenario::getErrors);
+    }
+
+    private void verifyResponse(QueryRequest request, String status) {
+        StepVerifier.create(queryClient.query(request))
+                .assertNext(r -> assertThat(r)
+                        .returns(request, QueryResponse::getRequest)
+                        .returns(status, QueryResponse::getStatus)
+                        .satisfies(q -> assertThat(q.getTimestamp()).isAfterOrEqualTo(request.getTimestamp())))
+                .expectComplete()
+                .verify(WAIT);
+    }
+
+    private QueryRequest.QueryRequestBuilder request() {
+        return QueryRequest.builder().scenario(new QueryScenario(properties)).timestamp(Instant.now());
+    }
+
+    private Mono<ClientResponse> response(HttpStatus httpStatus) {
+        return Mono.just(ClientResponse.create(httpStatus)
+                .header("Content-Type", "application/json")
+                .body("{}")
+                .build());
+    }
+
+    private TopicMessageQuery topicMessageQuery() {
+        return new TopicMessageQuery()
+                .setEndTime(Instant.now())
+                .setLimit(1L)
+                .setStartTime(Instant.EPOCH)
+                .setTopicId(TopicId.fromString("0.0.1000"));
+    }
+
+    private URI uri(String path) {
+        return URI.create(monitorProperties.getMirrorNode().getRest().getBaseUrl() + path);
+    }
+
+    private static class ConsensusServiceStub extends ConsensusServiceGrpc.ConsensusServiceImplBase {
+
+        private final AtomicReference<ConsensusTopicQuery> request = new AtomicReference<>();
+        private volatile Status error;
+
+        @Override
+        public void subscribeTopic(ConsensusTopicQuery query, StreamObserver<ConsensusTopicResponse> streamObserver) {
+            request.set(query);
+
+            if (error != null) {
+                streamObserver.onError(new StatusRuntimeException(error));
+                return;
+            }
+
+            streamObserver.onNext(ConsensusTopicResponse.newBuilder()
+                    .setSequenceNumber(1L)
+                    .build());
+            streamObserver.onCompleted();
+        }
+
+        AtomicReference<ConsensusTopicQuery> getRequest() {
+            return request;
+        }
+
+        void setError(Status error) {
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.monitor.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hedera.mirror.monitor.expression.ExpressionConverter;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class QueryGeneratorTest {
+
+    private static final ExpressionConverter EXPRESSION_CONVERTER = p -> p;
+
+    private QueryScenarioProperties properties;
+
+    @BeforeEach
+    void setup() {
+        properties = new QueryScenarioProperties();
+        properties.setName("test");
+        properties.setSeed(1L);
+    }
+
+    @Test
+    void rest() {
+        properties.setType(QueryType.REST);
+        properties.getRest().setPath("/api/v1/accounts/{account}");
+        properties.getParameters().put("account", "0.0.1000..0.0.1001");
+
+        var request = generator().next();
+
+        assertThat(request)
+                .returns(null, QueryRequest::getBody)
+                .returns("/accounts/{account}", QueryRequest::getUri)
+                .returns(null, QueryRequest::getTopicMessageQuery)
+                .satisfies(r -> assertThat(r.getTimestamp()).isNotNull())
+                .extracting(QueryRequest::getParameters)
+                .satisfies(p -> assertThat(p.get("account")).isIn("0.0.1000", "0.0.1001"));
+    }
+
+    @Test
+    void contractCall() {
+        properties.setType(QueryType.CONTRACT_CALL);
+        properties.getCall().setData("0x70a08231{account}{amount}{hash}");
+        properties.getCall().setEstimate(true);
+        properties.getCall().setTo("{contract}");
+        properties.getParameters().putAll(Map.of(
+                "account", "0.0.1000", "amount", "-1", "contract", "0.0.2000", "hash", "0xAB"));
+
+        var request = generator().next();
+        var data = "0x70a08231" + "0".repeat(61) + "3e8" + "f".repeat(64) + "0".repeat(62) + "ab";
+
+        assertThat(request.getUri()).isEqualTo(QueryGenerator.CONTRACT_CALL_URI);
+        assertThat(request.getBody())
+                .containsExactly(
+                        Map.entry("block", "latest"),
+                        Map.entry("data", data),
+                        Map.entry("estimate", true),
+                        Map.entry("gas", 15_000_000L),
+                        Map.entry("to", "0x" + "0".repeat(37) + "7d0"));
+    }
+
+    @Test
+    void contractCallWithoutData() {
+        properties.setType(QueryType.CONTRACT_CALL);
+        properties.getCall().setTo("0x00000000000000000000000000000000000007d0");
+
+        assertThat(generator().next().getBody())
+                .doesNotContainKey("data")
+                .containsEntry("to", "0x00000000000000000000000000000000000007d0");
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                "0x10000000000000000000000000000000000000000000000000000000000000000",
+                "115792089237316195423570985008687907853269984665640564039457584007913129639936",
+                "-57896044618658097711785492504343953926634992332820282019728792003956564819969"
+            })
+    void contractCallOverflow(String value) {
+        properties.setType(QueryType.CONTRACT_CALL);
+        properties.getCall().setData("0x70a08231{value}");
+        properties.getCall().setTo("0.0.2000");
+        properties.getParameters().put("value", value);
+        var generator = generator();
+
+        assertThatThrownBy(generator::next)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("32 bytes");
+    }
+
+    @Test
+    void grpc() {
+        properties.setType(QueryType.GRPC);
+        properties.getGrpc().setTopicId("0.0.{topic}");
+        properties.getParameters().put("topic", "1000..1010");
+
+        var request = generator().next();
+
+        assertThat(request)
+                .returns(null, QueryRequest::getBody)
+                .returns(null, QueryRequest::getUri)
+                .satisfies(r -> assertThat(r.getTopicMessageQuery()).isNotNull());
+    }
+
+    @Test
+    void missingParameter() {
+        properties.setType(QueryType.REST);
+        properties.getRest().setPath("/api/v1/accounts/{account}");
+
+        assertThatThrownBy(this::generator)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("account");
+    }
+
+    @Test
+    void seed() {
+        properties.setType(QueryType.REST);
+        properties.getRest().setPath("/api/v1/accounts/{account}/nfts?limit={limit}");
+        properties.getParameters().put("account", "0.0.1000..0.0.100000");
+        properties.getParameters().put("limit", "1..100");
+        var generator1 = generator();
+        var generator2 = generator();
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(generator1.next().getParameters()).isEqualTo(generator2.next().getParameters());
+        }
+    }
+
+    private QueryGenerator generator() {
+        return new QueryGenerator(new QueryScenario(properties), EXPRESSION_CONVERTER);
+    }
+}
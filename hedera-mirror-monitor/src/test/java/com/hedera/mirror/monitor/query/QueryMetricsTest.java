@@ -0,0 +1,179 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.monitor.query;
+
+import static com.hedera.mirror.monitor.query.QueryMetrics.METRIC_CAPTURED_LATENCY;
+import static com.hedera.mirror.monitor.query.QueryMetrics.METRIC_DURATION;
+import static com.hedera.mirror.monitor.query.QueryMetrics.METRIC_LATENCY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.hedera.mirror.monitor.latency.LatencyHistograms;
+import com.hedera.mirror.monitor.latency.LatencyProperties;
+import com.hedera.mirror.monitor.latency.LatencyType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+
+@ExtendWith(OutputCaptureExtension.class)
+class QueryMetricsTest {
+
+    private static final String SCENARIO_NAME = "test";
+
+    private LatencyHistograms latencyHistograms;
+    private MeterRegistry meterRegistry;
+    private QueryMetrics queryMetrics;
+    private QueryProperties queryProperties;
+    private QueryScenario queryScenario;
+
+    @BeforeEach
+    void setup() {
+        latencyHistograms = new LatencyHistograms(new LatencyProperties());
+        meterRegistry = new SimpleMeterRegistry();
+        queryProperties = new QueryProperties();
+        queryProperties.setEnabled(true);
+        queryMetrics = new QueryMetrics(latencyHistograms, meterRegistry, queryProperties);
+
+        var properties = new QueryScenarioProperties();
+        properties.setName(SCENARIO_NAME);
+        properties.setType(QueryType.REST);
+        queryScenario = new QueryScenario(properties);
+    }
+
+    @Test
+    void onNextSuccess() {
+        queryMetrics.onNext(response(QueryResponse.SUCCESS));
+
+        assertThat(meterRegistry.find(METRIC_DURATION).timeGauges())
+                .hasSize(1)
+                .first()
+                .returns(SCENARIO_NAME, t -> t.getId().getTag(QueryMetrics.Tags.TAG_SCENARIO))
+                .returns(QueryType.REST.toString(), t -> t.getId().getTag(QueryMetrics.Tags.TAG_TYPE));
+
+        assertThat(meterRegistry.find(METRIC_LATENCY).timers())
+                .hasSize(1)
+                .first()
+                .returns(1L, t -> t.count())
+                .returns(2.0, t -> t.mean(TimeUnit.SECONDS))
+                .returns(SCENARIO_NAME, t -> t.getId().getTag(QueryMetrics.Tags.TAG_SCENARIO))
+                .returns(QueryResponse.SUCCESS, t -> t.getId().getTag(QueryMetrics.Tags.TAG_STATUS))
+                .returns(QueryType.REST.toString(), t -> t.getId().getTag(QueryMetrics.Tags.TAG_TYPE));
+
+        latencyHistograms.roll();
+        assertThat(latencyHistograms.getSnapshots())
+                .hasSize(1)
+                .first()
+                .returns(LatencyType.QUERY, s -> s.type())
+                .returns(SCENARIO_NAME, s -> s.scenario())
+                .returns(1L, s -> s.cumulative().count())
+                .satisfies(s -> assertThat(s.cumulative().max()).isCloseTo(2000.0, within(2.0)));
+    }
+
+    @Test
+    void onNextError() {
+        queryMetrics.onNext(response("NOT_FOUND"));
+        queryMetrics.onNext(response(QueryResponse.SUCCESS));
+
+        assertThat(meterRegistry.find(METRIC_DURATION).timeGauges()).hasSize(1);
+        assertThat(meterRegistry.find(METRIC_LATENCY).timers())
+                .hasSize(2)
+                .extracting(t -> t.getId().getTag(QueryMetrics.Tags.TAG_STATUS))
+                .containsExactlyInAnyOrder("NOT_FOUND", QueryResponse.SUCCESS);
+
+        latencyHistograms.roll();
+        assertThat(latencyHistograms.getSnapshots())
+                .hasSize(1)
+                .first()
+                .returns(1L, s -> s.cumulative().count());
+    }
+
+    @Test
+    void onNextCaptured() {
+        var captured = new CapturedRequest(0L, "GET", "/api/v1/accounts", null, null, null, 200, 500L);
+        queryMetrics.onNext(response(QueryResponse.SUCCESS, captured));
+        queryMetrics.onNext(response(QueryResponse.SUCCESS));
+
+        assertThat(meterRegistry.find(METRIC_CAPTURED_LATENCY).timers())
+                .hasSize(1)
+                .first()
+                .returns(1L, t -> t.count())
+                .returns(0.5, t -> t.mean(TimeUnit.SECONDS))
+                .returns(SCENARIO_NAME, t -> t.getId().getTag(QueryMetrics.Tags.TAG_SCENARIO));
+        assertThat(meterRegistry.find(METRIC_LATENCY).timers())
+                .hasSize(1)
+                .first()
+                .returns(2L, t -> t.count());
+    }
+
+    @Test
+    void status(CapturedOutput logOutput) {
+        var response = response(QueryResponse.SUCCESS);
+        queryScenario.onNext(response);
+        queryMetrics.onNext(response);
+        queryMetrics.status();
+
+        assertThat(logOutput)
+                .asString()
+                .hasLineCount(1)
+                .contains("INFO")
+                .contains("REST scenario " + SCENARIO_NAME + " executed 1 queries in")
+                .contains("Errors: {}");
+    }
+
+    @Test
+    void statusNotRunning(CapturedOutput logOutput) {
+        queryMetrics.onNext(response(QueryResponse.SUCCESS));
+        queryScenario.onComplete();
+        queryMetrics.status();
+
+        assertThat(logOutput).asString().contains("No queriers").doesNotContain("executed");
+    }
+
+    @Test
+    void statusDisabled(CapturedOutput logOutput) {
+        queryProperties.setEnabled(false);
+        queryMetrics.onNext(response(QueryResponse.SUCCESS));
+        queryMetrics.status();
+
+        assertThat(logOutput).asString().isEmpty();
+    }
+
+    private QueryResponse response(String status) {
+        return response(status, null);
+    }
+
+    private QueryResponse response(String status, CapturedRequest captured) {
+        var now = Instant.now();
+        var request = QueryRequest.builder()
+                .captured(captured)
+                .scenario(queryScenario)
+                .timestamp(now.minusSeconds(2L))
+                .uri("/accounts")
+                .build();
+        return QueryResponse.builder()
+                .request(request)
+                .status(status)
+                .timestamp(now)
+                .build();
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.monitor.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class QueryReplayerTest {
+
+    private static final String CAPTURE =
+            """
+            {"offset":200,"method":"GET","path":"/api/v1/blocks","headers":{"Accept":"*/*"},"status":200,"latency":3}
+            {"offset":100,"method":"GET","path":"/api/v1/accounts/0.0.2","query":"limit=1","status":200,"latency":7}
+
+            {"offset":400,"method":"POST","path":"/graphql/alpha","body":"{}","status":400,"latency":1,"extra":true}
+            """;
+
+    @TempDir
+    private Path dataPath;
+
+    private QueryScenarioProperties properties;
+
+    @BeforeEach
+    void setup() throws IOException {
+        var path = dataPath.resolve("capture.jsonl");
+        Files.writeString(path, CAPTURE);
+        properties = new QueryScenarioProperties();
+        properties.setName("test");
+        properties.setType(QueryType.REPLAY);
+        properties.getReplay().setPath(path);
+    }
+
+    @Test
+    void replay() {
+        var replayer = replayer();
+
+        assertThat(replayer.size()).isEqualTo(3);
+        assertThat(replayer.next())
+                .returns("/api/v1/accounts/0.0.2?limit=1", QueryRequest::getUri)
+                .returns(Map.of(), QueryRequest::getParameters)
+                .returns(7L, r -> r.getCaptured().latency())
+                .satisfies(r -> assertThat(r.getTimestamp()).isNotNull());
+        assertThat(replayer.next())
+                .returns("/api/v1/blocks", QueryRequest::getUri)
+                .returns(Map.of("Accept", "*/*"), r -> r.getCaptured().headers());
+        assertThat(replayer.next())
+                .returns("/graphql/alpha", QueryRequest::getUri)
+                .returns("POST", r -> r.getCaptured().method())
+                .returns("{}", r -> r.getCaptured().body());
+        assertThat(replayer.next()).isNull();
+    }
+
+    @Test
+    void speed() {
+        properties.getReplay().setSpeed(2.0);
+
+        var offsets = replayOffsets();
+
+        // The 300ms captured between the first and last request are replayed in 150ms
+        assertThat(offsets.get(1)).isGreaterThanOrEqualTo(Duration.ofMillis(50L));
+        assertThat(offsets.get(2)).isGreaterThanOrEqualTo(Duration.ofMillis(150L));
+        assertThat(offsets.get(2)).isLessThan(Duration.ofMillis(300L));
+    }
+
+    @Test
+    void speedUnlimited() {
+        properties.getReplay().setSpeed(0.0);
+
+        var offsets = replayOffsets();
+
+        assertThat(offsets.get(2)).isLessThan(Duration.ofMillis(100L));
+    }
+
+    @Test
+    void empty() throws IOException {
+        Files.writeString(properties.getReplay().getPath(), "\n");
+
+        assertThatThrownBy(this::replayer)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("is empty");
+    }
+
+    @Test
+    void missing() {
+        properties.getReplay().setPath(dataPath.resolve("missing.jsonl"));
+
+        assertThatThrownBy(this::replayer)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unable to read capture file");
+    }
+
+    private QueryReplayer replayer() {
+        return new QueryReplayer(new QueryScenario(properties));
+    }
+
+    private List<Duration> replayOffsets() {
+        var replayer = replayer();
+        var offsets = new ArrayList<Duration>();
+        long start = System.nanoTime();
+
+        while (replayer.next() != null) {
+            offsets.add(Duration.ofNanos(System.nanoTime() - start));
+        }
+
+        return offsets;
+    }
+}
@@ -18,13 +18,21 @@ package com.hedera.mirror.monitor.subscribe;
 
 import static com.hedera.mirror.monitor.subscribe.SubscribeMetrics.METRIC_DURATION;
 import static com.hedera.mirror.monitor.subscribe.SubscribeMetrics.METRIC_E2E;
+import static com.hedera.mirror.monitor.subscribe.SubscribeMetrics.METRIC_GAPS;
+import static com.hedera.mirror.monitor.subscribe.SubscribeMetrics.METRIC_RECONNECTS;
+import static com.hedera.mirror.monitor.subscribe.SubscribeMetrics.SUBSCRIBER_AGGREGATED;
 import static com.hedera.mirror.monitor.subscribe.SubscribeMetrics.TAG_PROTOCOL;
 import static com.hedera.mirror.monitor.subscribe.SubscribeMetrics.TAG_SCENARIO;
 import static com.hedera.mirror.monitor.subscribe.SubscribeMetrics.TAG_SUBSCRIBER;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 
 import com.hedera.mirror.monitor.ScenarioStatus;
+import com.hedera.mirror.monitor.latency.LatencyHistograms;
+import com.hedera.mirror.monitor.latency.LatencyProperties;
+import com.hedera.mirror.monitor.latency.LatencyType;
 import com.hedera.mirror.monitor.subscribe.grpc.GrpcSubscriberProperties;
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Instant;
@@ -38,6 +46,7 @@ import org.springframework.boot.test.system.OutputCaptureExtension;
 @ExtendWith(OutputCaptureExtension.class)
 class SubscribeMetricsTest {
 
+    private LatencyHistograms latencyHistograms;
     private MeterRegistry meterRegistry;
     private SubscribeProperties subscribeProperties;
     private SubscribeMetrics subscribeMetrics;
@@ -49,7 +58,8 @@ class SubscribeMetricsTest {
         properties.setName("Test");
         meterRegistry = new SimpleMeterRegistry();
         subscribeProperties = new SubscribeProperties();
-        subscribeMetrics = new SubscribeMetrics(meterRegistry, subscribeProperties);
+        latencyHistograms = new LatencyHistograms(new LatencyProperties());
+        subscribeMetrics = new SubscribeMetrics(latencyHistograms, meterRegistry, subscribeProperties);
     }
 
     @Test
@@ -98,6 +108,56 @@ class SubscribeMetricsTest {
                 .returns(subscription.getProtocol().toString(), t -> t.getId().getTag(TAG_PROTOCOL))
                 .returns(subscription.getName(), t -> t.getId().getTag(TAG_SCENARIO))
                 .returns(String.valueOf(subscription.getId()), t -> t.getId().getTag(TAG_SUBSCRIBER));
+
+        latencyHistograms.roll();
+        assertThat(latencyHistograms.getSnapshots())
+                .hasSize(1)
+                .first()
+                .returns(LatencyType.E2E, s -> s.type())
+                .returns(subscription.getName(), s -> s.scenario())
+                .returns(2L, s -> s.cumulative().count())
+                .satisfies(s -> assertThat(s.cumulative().max()).isCloseTo(4000.0, within(4.0)));
+    }
+
+    @Test
+    void recordAggregated() {
+        TestScenario subscription1 = new TestScenario();
+        subscription1.setAggregated(true);
+        TestScenario subscription2 = new TestScenario();
+        subscription2.setAggregated(true);
+        subscription2.setId(2);
+
+        subscribeMetrics.onNext(response(subscription1));
+        subscribeMetrics.onNext(response(subscription2));
+
+        assertThat(meterRegistry.find(METRIC_DURATION).timeGauges())
+                .hasSize(1)
+                .first()
+                .returns(SUBSCRIBER_AGGREGATED, t -> t.getId().getTag(TAG_SUBSCRIBER));
+        assertThat(meterRegistry.find(METRIC_E2E).timers())
+                .hasSize(1)
+                .first()
+                .returns(2L, t -> t.count())
+                .returns(SUBSCRIBER_AGGREGATED, t -> t.getId().getTag(TAG_SUBSCRIBER));
+    }
+
+    @Test
+    void recordGapsAndReconnects() {
+        TestScenario subscription = new TestScenario();
+        subscribeMetrics.onGap(subscription);
+        subscribeMetrics.onGap(subscription);
+        subscribeMetrics.onReconnect(subscription);
+
+        assertThat(meterRegistry.find(METRIC_GAPS).counters())
+                .hasSize(1)
+                .first()
+                .returns(2.0, Counter::count)
+                .returns(subscription.getName(), c -> c.getId().getTag(TAG_SCENARIO))
+                .returns(String.valueOf(subscription.getId()), c -> c.getId().getTag(TAG_SUBSCRIBER));
+        assertThat(meterRegistry.find(METRIC_RECONNECTS).counters())
+                .hasSize(1)
+                .first()
+                .returns(1.0, Counter::count);
     }
 
     @Test
@@ -117,6 +177,27 @@ class SubscribeMetricsTest {
                 .contains("GRPC scenario Test received 1 responses in 1s at 1.0/s. Errors: {}");
     }
 
+    @Test
+    void statusAggregated(CapturedOutput logOutput) {
+        TestScenario testSubscription1 = new TestScenario();
+        testSubscription1.setAggregated(true);
+        testSubscription1.getErrors().put("UNAVAILABLE", 1);
+        TestScenario testSubscription2 = new TestScenario();
+        testSubscription2.setAggregated(true);
+        testSubscription2.getErrors().put("UNAVAILABLE", 2);
+        testSubscription2.setId(2);
+
+        subscribeMetrics.onNext(response(testSubscription1));
+        subscribeMetrics.onNext(response(testSubscription2));
+        subscribeMetrics.status();
+
+        assertThat(logOutput)
+                .asString()
+                .hasLineCount(1)
+                .contains("GRPC scenario Test with 2 running subscribers received 2 responses in 1s at 2.0/s. "
+                        + "Errors: {UNAVAILABLE=3}");
+    }
+
     @Test
     void statusDisabled(CapturedOutput logOutput) {
         subscribeProperties.setEnabled(false);
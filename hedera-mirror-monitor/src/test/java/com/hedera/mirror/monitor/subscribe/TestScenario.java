@@ -27,6 +27,7 @@ import lombok.Data;
 @Data
 public class TestScenario implements Scenario<ScenarioProperties, Object> {
 
+    private boolean aggregated = false;
     private long count = 1;
     private Duration elapsed = Duration.ofSeconds(1L);
     private Map<String, Integer> errors = new HashMap<>();
@@ -25,14 +25,21 @@ import com.hedera.hashgraph.sdk.proto.mirror.ConsensusServiceGrpc;
 import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicQuery;
 import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicResponse;
 import com.hedera.mirror.monitor.MonitorProperties;
+import com.hedera.mirror.monitor.latency.LatencyHistograms;
+import com.hedera.mirror.monitor.latency.LatencyProperties;
+import com.hedera.mirror.monitor.subscribe.SubscribeMetrics;
 import com.hedera.mirror.monitor.subscribe.SubscribeProperties;
 import com.hedera.mirror.monitor.subscribe.SubscribeResponse;
+import com.hedera.mirror.monitor.subscribe.verify.TransactionVerifier;
 import com.hedera.mirror.monitor.util.Utility;
 import io.grpc.Server;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
 import io.grpc.inprocess.InProcessServerBuilder;
 import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Arrays;
@@ -56,9 +63,11 @@ class GrpcClientSDKTest {
 
     private ConsensusServiceStub consensusServiceStub;
     private GrpcClientSDK grpcClientSDK;
+    private MeterRegistry meterRegistry;
     private MonitorProperties monitorProperties;
     private GrpcSubscriberProperties properties;
     private Server server;
+    private SubscribeProperties subscribeProperties;
     private GrpcSubscription subscription;
 
     @BeforeEach
@@ -70,7 +79,13 @@ class GrpcClientSDKTest {
         subscription = new GrpcSubscription(1, properties);
         monitorProperties = new MonitorProperties();
         monitorProperties.getMirrorNode().getGrpc().setHost("in-process:test");
-        grpcClientSDK = new GrpcClientSDK(monitorProperties, new SubscribeProperties());
+        meterRegistry = new SimpleMeterRegistry();
+        subscribeProperties = new SubscribeProperties();
+        var latencyHistograms = new LatencyHistograms(new LatencyProperties());
+        var subscribeMetrics = new SubscribeMetrics(latencyHistograms, meterRegistry, subscribeProperties);
+        var transactionVerifier = new TransactionVerifier(meterRegistry, subscribeProperties);
+        grpcClientSDK =
+                new GrpcClientSDK(monitorProperties, subscribeMetrics, subscribeProperties, transactionVerifier);
 
         consensusServiceStub = new ConsensusServiceStub();
         server = InProcessServerBuilder.forName("test")
@@ -170,6 +185,28 @@ class GrpcClientSDKTest {
         consensusServiceStub.setResponses(Flux.fromIterable(responses));
 
         verifyResponses(StepVerifier.withVirtualTime(() -> grpcClientSDK.subscribe(subscription)), responses);
+
+        assertThat(meterRegistry.find("hedera.mirror.monitor.subscribe.gaps").counter())
+                .isNotNull()
+                .returns(1.0, Counter::count);
+    }
+
+    @Test
+    void outOfSequenceVerified() {
+        subscribeProperties.getVerify().setEnabled(true);
+        List<ConsensusTopicResponse> responses = Arrays.asList(response(1L), response(2L), response(4L));
+        consensusServiceStub.setResponses(Flux.fromIterable(responses));
+
+        verifyResponses(StepVerifier.withVirtualTime(() -> grpcClientSDK.subscribe(subscription)), responses);
+
+        assertThat(meterRegistry.find("hedera.mirror.monitor.subscribe.mismatch").counters())
+                .hasSize(1)
+                .first()
+                .returns("SEQUENCE_NUMBER", c -> c.getId().getTag("field"))
+                .returns(1.0, Counter::count);
+        assertThat(meterRegistry.find("hedera.mirror.monitor.subscribe.verified").counter())
+                .isNotNull()
+                .returns(3.0, Counter::count);
     }
 
     @Test
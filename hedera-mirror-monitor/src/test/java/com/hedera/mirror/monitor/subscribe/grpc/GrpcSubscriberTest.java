@@ -18,19 +18,25 @@ package com.hedera.mirror.monitor.subscribe.grpc;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.hedera.hashgraph.sdk.TopicId;
 import com.hedera.mirror.monitor.ScenarioProtocol;
 import com.hedera.mirror.monitor.expression.ExpressionConverter;
 import com.hedera.mirror.monitor.publish.PublishResponse;
 import com.hedera.mirror.monitor.subscribe.Scenario;
+import com.hedera.mirror.monitor.subscribe.SubscribeMetrics;
 import com.hedera.mirror.monitor.subscribe.SubscribeProperties;
 import com.hedera.mirror.monitor.subscribe.SubscribeResponse;
+import com.hedera.mirror.monitor.subscribe.verify.TransactionVerifier;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -50,6 +56,12 @@ class GrpcSubscriberTest {
     @Mock
     private GrpcClient grpcClient;
 
+    @Mock
+    private SubscribeMetrics subscribeMetrics;
+
+    @Mock
+    private TransactionVerifier transactionVerifier;
+
     private GrpcSubscriber grpcSubscriber;
 
     @BeforeEach
@@ -57,13 +69,16 @@ class GrpcSubscriberTest {
         grpcSubscriberProperties.setName("Test");
         grpcSubscriberProperties.setTopicId("0.0.1000");
         subscribeProperties.getGrpc().put(grpcSubscriberProperties.getName(), grpcSubscriberProperties);
-        grpcSubscriber = new GrpcSubscriber(expressionConverter, grpcClient, subscribeProperties);
+        grpcSubscriber = new GrpcSubscriber(
+                expressionConverter, grpcClient, subscribeMetrics, subscribeProperties, transactionVerifier);
     }
 
     @Test
     void onPublish() {
-        grpcSubscriber.onPublish(PublishResponse.builder().build());
+        var publishResponse = PublishResponse.builder().build();
+        grpcSubscriber.onPublish(publishResponse);
         verifyNoInteractions(grpcClient);
+        verify(transactionVerifier).onPublish(publishResponse);
     }
 
     @Test
@@ -98,6 +113,39 @@ class GrpcSubscriberTest {
                 .containsExactly(1, 2);
     }
 
+    @Test
+    void scale() {
+        var scale = grpcSubscriberProperties.getScale();
+        scale.setEnabled(true);
+        scale.setStartSpread(Duration.ofHours(1L));
+        scale.setSubscribers(500);
+        scale.setTopicIds(List.of("0.0.1001", "0.0.1002"));
+        scale.setTopicSkew(1.0);
+        var topicIds = List.of(
+                TopicId.fromString("0.0.1000"), TopicId.fromString("0.0.1001"), TopicId.fromString("0.0.1002"));
+        var startTime = grpcSubscriberProperties.getStartTime();
+        when(grpcClient.subscribe(any())).thenReturn(Flux.never());
+
+        StepVerifier.withVirtualTime(() -> grpcSubscriber.subscribe())
+                .thenAwait(WAIT)
+                .expectNextCount(0L)
+                .thenCancel()
+                .verify(WAIT);
+
+        // All subscribers are subscribed to concurrently
+        verify(grpcClient, times(500)).subscribe(any());
+        assertThat(grpcSubscriber.getSubscriptions().collectList().block())
+                .hasSize(500)
+                .doesNotHaveDuplicates()
+                .allSatisfy(s -> assertThat(s)
+                        .returns(true, Scenario::isAggregated)
+                        .satisfies(g -> assertThat(g.getTopicId()).isIn(topicIds))
+                        .satisfies(g -> assertThat(g.getStartTime())
+                                .isBetween(startTime.minus(scale.getStartSpread()), startTime)))
+                .extracting(GrpcSubscription::getTopicId)
+                .containsAll(topicIds);
+    }
+
     @Test
     void multipleScenarios() {
         GrpcSubscriberProperties grpcSubscriberProperties2 = new GrpcSubscriberProperties();
@@ -151,6 +199,7 @@ class GrpcSubscriberTest {
                 .expectNextCount(1L)
                 .expectComplete()
                 .verify(WAIT);
+        verify(subscribeMetrics).onReconnect(any());
     }
 
     @Test
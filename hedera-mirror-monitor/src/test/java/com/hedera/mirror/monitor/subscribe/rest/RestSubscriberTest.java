@@ -42,8 +42,10 @@ import com.hedera.mirror.monitor.publish.transaction.TransactionType;
 import com.hedera.mirror.monitor.subscribe.Scenario;
 import com.hedera.mirror.monitor.subscribe.SubscribeProperties;
 import com.hedera.mirror.monitor.subscribe.SubscribeResponse;
+import com.hedera.mirror.monitor.subscribe.verify.TransactionVerifier;
 import com.hedera.mirror.rest.model.TransactionByIdResponse;
 import com.hedera.mirror.rest.model.TransactionDetail;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.IOException;
 import java.time.Duration;
 import java.time.Instant;
@@ -110,7 +112,8 @@ class RestSubscriberTest {
 
         WebClient.Builder builder = WebClient.builder().exchangeFunction(exchangeFunction);
         var restApiClient = new RestApiClient(monitorProperties, builder);
-        restSubscriber = new RestSubscriber(restApiClient, subscribeProperties);
+        var transactionVerifier = new TransactionVerifier(new SimpleMeterRegistry(), subscribeProperties);
+        restSubscriber = new RestSubscriber(restApiClient, subscribeProperties, transactionVerifier);
     }
 
     @Test
@@ -0,0 +1,338 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.monitor.subscribe.verify;
+
+import static com.hedera.mirror.monitor.subscribe.verify.TransactionVerifier.METRIC_MISMATCH;
+import static com.hedera.mirror.monitor.subscribe.verify.TransactionVerifier.METRIC_VERIFIED;
+import static com.hedera.mirror.monitor.subscribe.verify.TransactionVerifier.TAG_FIELD;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Hbar;
+import com.hedera.hashgraph.sdk.NftId;
+import com.hedera.hashgraph.sdk.TokenId;
+import com.hedera.hashgraph.sdk.TopicId;
+import com.hedera.hashgraph.sdk.TopicMessageSubmitTransaction;
+import com.hedera.hashgraph.sdk.Transaction;
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.hedera.hashgraph.sdk.TransactionReceipt;
+import com.hedera.hashgraph.sdk.TransactionRecord;
+import com.hedera.hashgraph.sdk.TransferTransaction;
+import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.sdk.proto.Timestamp;
+import com.hedera.mirror.monitor.publish.PublishRequest;
+import com.hedera.mirror.monitor.publish.PublishResponse;
+import com.hedera.mirror.monitor.subscribe.SubscribeProperties;
+import com.hedera.mirror.monitor.subscribe.TestScenario;
+import com.hedera.mirror.monitor.subscribe.verify.TransactionVerifier.ReceivedChunk;
+import com.hedera.mirror.monitor.subscribe.verify.TransactionVerifier.ReceivedMessage;
+import com.hedera.mirror.rest.model.StakingRewardTransfer;
+import com.hedera.mirror.rest.model.TransactionDetail;
+import com.hedera.mirror.rest.model.TransactionNftTransfersInner;
+import com.hedera.mirror.rest.model.TransactionTokenTransfersInner;
+import com.hedera.mirror.rest.model.TransactionTransfersInner;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TransactionVerifierTest {
+
+    private static final String MEMO = "Monitor test";
+    private static final AccountId PAYER = AccountId.fromString("0.0.2");
+    private static final AccountId RECIPIENT = AccountId.fromString("0.0.1001");
+    private static final Instant TIMESTAMP = Instant.ofEpochSecond(1700000000L, 5L);
+    private static final TokenId TOKEN = TokenId.fromString("0.0.2000");
+    private static final TopicId TOPIC = TopicId.fromString("0.0.1000");
+    private static final TransactionId TRANSACTION_ID = TransactionId.withValidStart(PAYER, TIMESTAMP);
+
+    private MeterRegistry meterRegistry;
+    private TestScenario scenario;
+    private SubscribeProperties subscribeProperties;
+    private TransactionVerifier transactionVerifier;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        scenario = new TestScenario();
+        subscribeProperties = new SubscribeProperties();
+        subscribeProperties.getVerify().setEnabled(true);
+        transactionVerifier = new TransactionVerifier(meterRegistry, subscribeProperties);
+    }
+
+    @Test
+    void restTransfer() {
+        var response = publishResponse(transfer(), null);
+        transactionVerifier.verify(scenario, response, restTransfer(-106L, 100L));
+        assertThat(mismatches()).isEmpty();
+        assertThat(verified()).isEqualTo(1.0);
+    }
+
+    @Test
+    void restTransferMismatch() {
+        var response = publishResponse(transfer(), null);
+        var transaction = restTransfer(-106L, 99L)
+                .memoBase64("other".getBytes(StandardCharsets.UTF_8))
+                .tokenTransfers(List.of(tokenTransfer(PAYER, -5L), tokenTransfer(RECIPIENT, 4L)))
+                .nftTransfers(List.of());
+        transactionVerifier.verify(scenario, response, transaction);
+        assertThat(mismatches())
+                .containsOnlyKeys("MEMO", "NFT_TRANSFERS", "TOKEN_TRANSFERS", "TRANSFERS")
+                .containsValue(1.0);
+        assertThat(verified()).isEqualTo(1.0);
+    }
+
+    @Test
+    void restTransferWithStakingReward() {
+        var response = publishResponse(transfer(), null);
+        var transaction = restTransfer(-106L, 110L)
+                .stakingRewardTransfers(List.of(new StakingRewardTransfer().account(RECIPIENT.toString()).amount(10L)));
+        transaction.addTransfersItem(new TransactionTransfersInner().account("0.0.800").amount(-10L));
+        transactionVerifier.verify(scenario, response, transaction);
+        assertThat(mismatches()).isEmpty();
+    }
+
+    @Test
+    void restTransferRecipientOverpaid() {
+        var response = publishResponse(transfer(), null);
+        var transaction = restTransfer(-107L, 101L);
+        transactionVerifier.verify(scenario, response, transaction);
+        assertThat(mismatches()).containsOnlyKeys("TRANSFERS");
+    }
+
+    @Test
+    void restTransferUnexpectedAccount() {
+        var response = publishResponse(transfer(), null);
+        var transaction = restTransfer(-106L, 100L);
+        transaction.addTransfersItem(new TransactionTransfersInner().account("0.0.1002").amount(1L));
+        transactionVerifier.verify(scenario, response, transaction);
+        assertThat(mismatches()).containsOnlyKeys("TRANSFERS");
+    }
+
+    @Test
+    void restTransferPayerOvercharged() {
+        var response = publishResponse(transfer(), null);
+        var transaction = restTransfer(-107L, 100L);
+        transaction.addTransfersItem(new TransactionTransfersInner().account("0.0.3").amount(1L));
+        transactionVerifier.verify(scenario, response, transaction);
+        assertThat(mismatches()).containsOnlyKeys("TRANSFERS");
+    }
+
+    @Test
+    void restTopicMessage() {
+        var transactionRecord = transactionRecord(TIMESTAMP, 1L, new byte[48]);
+        var response = publishResponse(topicMessage("message"), transactionRecord);
+        var transaction = new TransactionDetail()
+                .consensusTimestamp("1700000000.000000005")
+                .entityId(TOPIC.toString())
+                .memoBase64(MEMO.getBytes(StandardCharsets.UTF_8))
+                .result("SUCCESS")
+                .transactionId("0.0.2-1700000000-000000005");
+        transactionVerifier.verify(scenario, response, transaction);
+        assertThat(mismatches()).isEmpty();
+
+        transaction.consensusTimestamp("1700000000.000000006").entityId("0.0.1001").result("INVALID_SIGNATURE");
+        transactionVerifier.verify(scenario, response, transaction);
+        assertThat(mismatches()).containsOnlyKeys("CONSENSUS_TIMESTAMP", "ENTITY_ID", "RESULT");
+        assertThat(verified()).isEqualTo(2.0);
+    }
+
+    @Test
+    void grpc() {
+        var message = "message".getBytes(StandardCharsets.UTF_8);
+        var previous = new ReceivedChunk(TIMESTAMP, 4, hash(1), 1L);
+        var chunk = chunk(previous, TIMESTAMP.plusSeconds(1L), 2L, message);
+        var response = publishResponse(topicMessage("message"), null).toBuilder()
+                .receipt(receipt(2L, chunk.runningHash()))
+                .build();
+
+        transactionVerifier.onPublish(response);
+        transactionVerifier.verify(scenario, previous, received(message, chunk));
+        assertThat(mismatches()).isEmpty();
+        assertThat(verified()).isEqualTo(1.0);
+    }
+
+    @Test
+    void grpcChunked() {
+        var message = new byte[1500];
+        Arrays.fill(message, (byte) 'a');
+        var previous = new ReceivedChunk(TIMESTAMP, 4, hash(1), 1L);
+        var chunk1 = chunk(previous, TIMESTAMP.plusSeconds(1L), 2L, Arrays.copyOfRange(message, 0, 1024));
+        var chunk2 = chunk(chunk1, TIMESTAMP.plusSeconds(2L), 3L, Arrays.copyOfRange(message, 1024, 1500));
+        var transactionRecord = transactionRecord(chunk1.consensusTimestamp(), 2L, chunk1.runningHash());
+        var transaction = new TopicMessageSubmitTransaction().setMessage(message).setTopicId(TOPIC);
+
+        transactionVerifier.onPublish(publishResponse(transaction, transactionRecord));
+        var received = new ReceivedMessage(TOPIC, message, List.of(chunk1, chunk2), TRANSACTION_ID);
+        transactionVerifier.verify(scenario, previous, received);
+        assertThat(mismatches()).isEmpty();
+    }
+
+    @Test
+    void grpcMismatch() {
+        var message = "message".getBytes(StandardCharsets.UTF_8);
+        var previous = new ReceivedChunk(TIMESTAMP, 4, hash(1), 1L);
+        var chunk = chunk(previous, TIMESTAMP.plusSeconds(1L), 2L, message);
+        var transactionRecord = transactionRecord(chunk.consensusTimestamp(), 3L, hash(2));
+        transactionVerifier.onPublish(publishResponse(topicMessage("message"), transactionRecord));
+
+        // Same length contents with an unexpected sequence number and a running hash that doesn't follow on
+        var contents = "massage".getBytes(StandardCharsets.UTF_8);
+        var received = new ReceivedChunk(chunk.consensusTimestamp(), message.length, hash(3), 3L);
+        transactionVerifier.verify(scenario, previous, received(contents, received));
+        assertThat(mismatches())
+                .containsOnlyKeys("MESSAGE", "RUNNING_HASH", "SEQUENCE_NUMBER")
+                .containsEntry("MESSAGE", 1.0)
+                .containsEntry("RUNNING_HASH", 2.0)
+                .containsEntry("SEQUENCE_NUMBER", 1.0);
+    }
+
+    @Test
+    void grpcNotPublished() {
+        var message = "message".getBytes(StandardCharsets.UTF_8);
+        var previous = new ReceivedChunk(TIMESTAMP, 4, hash(1), 1L);
+        var chunk = new ReceivedChunk(TIMESTAMP.plusSeconds(1L), message.length, hash(2), 2L);
+
+        transactionVerifier.verify(scenario, previous, received(message, chunk));
+        transactionVerifier.verify(scenario, null, received(message, chunk));
+        assertThat(mismatches()).isEmpty();
+        assertThat(verified()).isEqualTo(2.0);
+    }
+
+    @Test
+    void disabled() {
+        subscribeProperties.getVerify().setEnabled(false);
+        var response = publishResponse(transfer(), null);
+        transactionVerifier.onPublish(response);
+        transactionVerifier.verify(scenario, response, new TransactionDetail());
+        assertThat(mismatches()).isEmpty();
+        assertThat(meterRegistry.find(METRIC_VERIFIED).counter()).isNull();
+    }
+
+    private ReceivedChunk chunk(ReceivedChunk previous, Instant timestamp, long sequenceNumber, byte[] message) {
+        var chunk = new ReceivedChunk(timestamp, message.length, null, sequenceNumber);
+        var runningHash = TransactionVerifier.runningHash(previous.runningHash(), PAYER, TOPIC, chunk, message);
+        return new ReceivedChunk(timestamp, message.length, runningHash, sequenceNumber);
+    }
+
+    private byte[] hash(int value) {
+        var hash = new byte[48];
+        Arrays.fill(hash, (byte) value);
+        return hash;
+    }
+
+    private Map<String, Double> mismatches() {
+        return meterRegistry.find(METRIC_MISMATCH).counters().stream()
+                .collect(Collectors.toMap(c -> c.getId().getTag(TAG_FIELD), Counter::count));
+    }
+
+    private PublishResponse publishResponse(Transaction<?> transaction, TransactionRecord transactionRecord) {
+        transaction.setTransactionMemo(MEMO);
+        var request = PublishRequest.builder().transaction(transaction).build();
+        return PublishResponse.builder()
+                .receipt(transactionRecord != null ? transactionRecord.receipt : null)
+                .request(request)
+                .transactionId(TRANSACTION_ID)
+                .transactionRecord(transactionRecord)
+                .build();
+    }
+
+    @SneakyThrows
+    private TransactionReceipt receipt(long sequenceNumber, byte[] runningHash) {
+        return TransactionReceipt.fromBytes(receiptProto(sequenceNumber, runningHash).toByteArray());
+    }
+
+    private com.hedera.hashgraph.sdk.proto.TransactionReceipt receiptProto(long sequenceNumber, byte[] runningHash) {
+        return com.hedera.hashgraph.sdk.proto.TransactionReceipt.newBuilder()
+                .setStatus(ResponseCodeEnum.SUCCESS)
+                .setTopicRunningHash(ByteString.copyFrom(runningHash))
+                .setTopicSequenceNumber(sequenceNumber)
+                .build();
+    }
+
+    private ReceivedMessage received(byte[] contents, ReceivedChunk chunk) {
+        return new ReceivedMessage(TOPIC, contents, List.of(chunk), null);
+    }
+
+    private TransactionDetail restTransfer(long payerAmount, long recipientAmount) {
+        return new TransactionDetail()
+                .chargedTxFee(6L)
+                .memoBase64(MEMO.getBytes(StandardCharsets.UTF_8))
+                .nftTransfers(List.of(new TransactionNftTransfersInner()
+                        .receiverAccountId(RECIPIENT.toString())
+                        .senderAccountId(PAYER.toString())
+                        .serialNumber(1L)
+                        .tokenId(TOKEN.toString())))
+                .tokenTransfers(List.of(tokenTransfer(PAYER, -5L), tokenTransfer(RECIPIENT, 5L)))
+                .node("0.0.3")
+                .transactionId("0.0.2-1700000000-000000005")
+                .transfers(new ArrayList<>(List.of(
+                        new TransactionTransfersInner().account("0.0.3").amount(1L),
+                        new TransactionTransfersInner().account("0.0.98").amount(5L),
+                        new TransactionTransfersInner().account(PAYER.toString()).amount(payerAmount),
+                        new TransactionTransfersInner()
+                                .account(RECIPIENT.toString())
+                                .amount(recipientAmount))));
+    }
+
+    private TransactionTokenTransfersInner tokenTransfer(AccountId accountId, long amount) {
+        return new TransactionTokenTransfersInner()
+                .account(accountId.toString())
+                .amount(amount)
+                .tokenId(TOKEN.toString());
+    }
+
+    private TopicMessageSubmitTransaction topicMessage(String message) {
+        return new TopicMessageSubmitTransaction().setMessage(message).setTopicId(TOPIC);
+    }
+
+    @SneakyThrows
+    private TransactionRecord transactionRecord(Instant consensusTimestamp, long sequenceNumber, byte[] runningHash) {
+        var timestamp = Timestamp.newBuilder()
+                .setSeconds(consensusTimestamp.getEpochSecond())
+                .setNanos(consensusTimestamp.getNano());
+        var transactionRecord = com.hedera.hashgraph.sdk.proto.TransactionRecord.newBuilder()
+                .setConsensusTimestamp(timestamp)
+                .setReceipt(receiptProto(sequenceNumber, runningHash))
+                .setTransactionID(TRANSACTION_ID.toProtobuf())
+                .build();
+        return TransactionRecord.fromBytes(transactionRecord.toByteArray());
+    }
+
+    private TransferTransaction transfer() {
+        return new TransferTransaction()
+                .addHbarTransfer(PAYER, Hbar.fromTinybars(-100L))
+                .addHbarTransfer(RECIPIENT, Hbar.fromTinybars(100L))
+                .addNftTransfer(new NftId(TOKEN, 1L), PAYER, RECIPIENT)
+                .addTokenTransfer(TOKEN, PAYER, -5L)
+                .addTokenTransfer(TOKEN, RECIPIENT, 5L);
+    }
+
+    private double verified() {
+        return meterRegistry.find(METRIC_VERIFIED).counter().count();
+    }
+}
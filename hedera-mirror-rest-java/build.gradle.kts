@@ -18,6 +18,7 @@ description = "Hedera Mirror Node Rest Java"
 
 plugins {
     id("openapi-conventions")
+    id("jmh-conventions")
     id("jooq-conventions")
     id("spring-conventions")
 }
@@ -40,6 +41,7 @@ dependencies {
     implementation("org.springframework.cloud:spring-cloud-starter-kubernetes-fabric8-config")
     runtimeOnly("org.postgresql:postgresql")
     testImplementation(project(path = ":common", configuration = "testClasses"))
+    testImplementation("org.awaitility:awaitility")
     testImplementation("org.mockito:mockito-inline")
     testImplementation("org.flywaydb:flyway-core")
     testImplementation("org.springframework.boot:spring-boot-testcontainers")
@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.restjava.controller;
+
+import static com.hedera.mirror.restjava.jooq.domain.Tables.NFT_ALLOWANCE;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hedera.mirror.common.domain.DomainBuilder;
+import com.hedera.mirror.common.domain.entity.NftAllowance;
+import com.hedera.mirror.rest.model.Links;
+import com.hedera.mirror.rest.model.NftAllowancesResponse;
+import com.hedera.mirror.restjava.controller.JsonPageWriter.Page;
+import com.hedera.mirror.restjava.jooq.DomainRecordMapperProvider;
+import com.hedera.mirror.restjava.jooq.domain.tables.records.NftAllowanceRecord;
+import com.hedera.mirror.restjava.mapper.CommonMapper;
+import com.hedera.mirror.restjava.mapper.CommonMapperImpl;
+import com.hedera.mirror.restjava.mapper.NftAllowanceJsonWriter;
+import com.hedera.mirror.restjava.mapper.NftAllowanceMapper;
+import com.hedera.mirror.restjava.mapper.NftAllowanceMapperImpl;
+import com.hedera.mirror.restjava.repository.NftAllowanceRepositoryCustom;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultConfiguration;
+import org.jooq.postgres.extensions.types.LongRange;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Compares rendering a page of NFT allowances by mapping the records to domain objects and then to API models, as the
+ * other list endpoints do, against streaming the records straight to JSON.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5)
+public class NftAllowancePageBenchmark {
+
+    @Param({"25", "100"})
+    private int limit;
+
+    private final CommonMapper commonMapper = new CommonMapperImpl();
+    private final NftAllowanceMapper mapper = new NftAllowanceMapperImpl(commonMapper);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JsonPageWriter jsonPageWriter = new JsonPageWriter(objectMapper);
+    private final NftAllowanceJsonWriter nftAllowanceJsonWriter = new NftAllowanceJsonWriter(commonMapper);
+    private List<NftAllowanceRecord> records;
+
+    @Setup
+    public void setup() {
+        var request = new MockHttpServletRequest("GET", "/api/v1/accounts/0.0.1000/allowances/nfts");
+        request.addParameter("limit", String.valueOf(limit));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        var configuration = new DefaultConfiguration()
+                .set(SQLDialect.POSTGRES)
+                .set(new DomainRecordMapperProvider());
+        var dslContext = DSL.using(configuration);
+        var domainBuilder = new DomainBuilder();
+        records = new ArrayList<>(limit);
+
+        for (int i = 0; i < limit; i++) {
+            var allowance = domainBuilder.nftAllowance().get();
+            var source = dslContext.newRecord(NFT_ALLOWANCE);
+            source.setApprovedForAll(allowance.isApprovedForAll());
+            source.setOwner(allowance.getOwner());
+            source.setSpender(allowance.getSpender());
+            source.setTimestampRange(LongRange.longRange(allowance.getTimestampLower(), true, null, false));
+            source.setTokenId(allowance.getTokenId());
+            records.add(source);
+        }
+    }
+
+    @TearDown
+    public void teardown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public void mapped() throws IOException {
+        var allowances = new ArrayList<NftAllowance>(records.size());
+        for (var source : records) {
+            allowances.add(source.into(NftAllowance.class));
+        }
+
+        var next = NftAllowanceRepositoryCustom.BY_OWNER.getNextLink(allowances, limit, Direction.ASC, this::keyValues);
+        var response = new NftAllowancesResponse().allowances(mapper.map(allowances));
+        response.links(new Links().next(next));
+        objectMapper.writeValue(OutputStream.nullOutputStream(), response);
+    }
+
+    @Benchmark
+    public void streamed() throws IOException {
+        var page = new Page<>("allowances", records, NftAllowanceRepositoryCustom.BY_OWNER, limit, Direction.ASC);
+        jsonPageWriter.write(
+                OutputStream.nullOutputStream(),
+                page,
+                nftAllowanceJsonWriter,
+                a -> List.of(commonMapper.mapEntityId(a.getSpender()), commonMapper.mapEntityId(a.getTokenId())));
+    }
+
+    private List<String> keyValues(NftAllowance allowance) {
+        return List.of(
+                commonMapper.mapEntityId(allowance.getSpender()), commonMapper.mapEntityId(allowance.getTokenId()));
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.restjava.common;
+
+import static org.jooq.impl.DSL.noCondition;
+
+import com.hedera.mirror.common.domain.entity.EntityId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.function.Function;
+import org.jooq.Condition;
+import org.jooq.Cursor;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.ResultQuery;
+import org.jooq.SortField;
+import org.jooq.Table;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.util.CollectionUtils;
+
+/**
+ * Keyset (seek) pagination over a table ordered by a list of key columns. Each key column is exposed as a range query
+ * parameter, and a parameter for a key requires the parameters for all the keys preceding it. For keys (k1, k2, k3)
+ * with parameters (p1, p2, p3), the seek condition is the union of the following levels, so a page always resumes
+ * exactly after the last row of the previous page when the parameters come from the next link:
+ *
+ * <pre>
+ *     k1 beyond p1
+ *     k1 = p1 and k2 beyond p2
+ *     k1 = p1 and k2 = p2 and k3 op p3
+ * </pre>
+ * <p>
+ * All but the last parameter are normalized to an inclusive pivot (e.g. gt:5 becomes 6) before the levels are built.
+ * The condition is further bound by the first key's pivot so the database can use a range scan on an index led by the
+ * key columns.
+ *
+ * @param <R> The type of the table record
+ */
+public class KeysetPaginator<R extends Record> {
+
+    private final Table<R> table;
+    private final List<Key> keys;
+
+    private KeysetPaginator(Table<R> table, List<Key> keys) {
+        if (keys.isEmpty()) {
+            throw new IllegalArgumentException("At least one key is required");
+        }
+
+        this.table = table;
+        this.keys = keys;
+    }
+
+    public static <R extends Record> KeysetPaginator<R> of(Table<R> table, Key... keys) {
+        return new KeysetPaginator<>(table, List.of(keys));
+    }
+
+    /**
+     * Convenience for passing the range parameters of the keys as varargs, some of which may be null.
+     *
+     * @param bounds The range parameters in key order
+     * @return The list of range parameters
+     */
+    public static List<RangeParameter<?>> bounds(RangeParameter<?>... bounds) {
+        return Arrays.asList(bounds);
+    }
+
+    /**
+     * Builds the next link from the last item of a full page. The link contains every key parameter, inclusive for all
+     * but the last key and exclusive for the last key, which is the cursor {@link #getCondition} resumes from.
+     *
+     * @param page      The items of the current page
+     * @param limit     The requested page size
+     * @param order     The sort order
+     * @param keyValues Extracts the formatted key values of an item, in the order of the keys
+     * @return The next link, or null if there are no more pages
+     */
+    public <T> String getNextLink(List<T> page, int limit, Direction order, Function<T, List<String>> keyValues) {
+        var last = CollectionUtils.lastElement(page);
+        if (last == null || page.size() < limit) {
+            return null;
+        }
+
+        return getNextLink(page.size(), limit, order, keyValues.apply(last));
+    }
+
+    /**
+     * Builds the next link from the key values of the last item of a page that is not held in memory.
+     *
+     * @param count  The number of items in the current page
+     * @param limit  The requested page size
+     * @param order  The sort order
+     * @param values The formatted key values of the last item, in the order of the keys
+     * @return The next link, or null if there are no more pages
+     */
+    public String getNextLink(int count, int limit, Direction order, List<String> values) {
+        if (count == 0 || count < limit) {
+            return null;
+        }
+
+        if (values.size() != keys.size()) {
+            throw new IllegalArgumentException(
+                    "Expected %d key values but got %d".formatted(keys.size(), values.size()));
+        }
+
+        var lastValues = new LinkedHashMap<String, String>();
+        for (int i = 0; i < keys.size(); i++) {
+            lastValues.put(keys.get(i).parameter(), values.get(i));
+        }
+
+        return Utils.getPaginationLink(false, lastValues, order);
+    }
+
+    /**
+     * Fetches a page of the table.
+     *
+     * @param dslContext The jOOQ context
+     * @param condition  The conditions to apply in addition to the seek condition
+     * @param bounds     The range parameters of the keys in key order. A null or empty parameter means absent.
+     * @param order      The sort order
+     * @param limit      The page size
+     * @param type       The type to map the records into
+     * @return The page
+     */
+    public <T> List<T> fetch(
+            DSLContext dslContext,
+            Condition condition,
+            List<? extends RangeParameter<?>> bounds,
+            Direction order,
+            int limit,
+            Class<T> type) {
+        return select(dslContext, condition, bounds, order, limit).fetchInto(type);
+    }
+
+    /**
+     * Fetches a page of the table lazily, so the records can be processed one at a time without materializing the page.
+     * The cursor holds on to its database connection and must be closed.
+     *
+     * @param dslContext The jOOQ context
+     * @param condition  The conditions to apply in addition to the seek condition
+     * @param bounds     The range parameters of the keys in key order. A null or empty parameter means absent.
+     * @param order      The sort order
+     * @param limit      The page size
+     * @return The cursor over the records of the page
+     */
+    public Cursor<R> fetchLazy(
+            DSLContext dslContext,
+            Condition condition,
+            List<? extends RangeParameter<?>> bounds,
+            Direction order,
+            int limit) {
+        return select(dslContext, condition, bounds, order, limit).fetchLazy();
+    }
+
+    /**
+     * Builds the seek condition for the range parameters of the keys.
+     *
+     * @param bounds The range parameters of the keys in key order. A null or empty parameter means absent.
+     * @return The seek condition
+     * @throws IllegalArgumentException if a parameter is present without the parameters of the preceding keys, or if an
+     *                                  operator is not supported
+     */
+    public Condition getCondition(List<? extends RangeParameter<?>> bounds) {
+        var present = getPresentBounds(bounds);
+        if (present.isEmpty()) {
+            return noCondition();
+        }
+
+        int last = present.size() - 1;
+        var condition = noCondition();
+        var prefix = noCondition();
+
+        for (int i = 0; i < last; i++) {
+            var field = keys.get(i).field();
+            var operator = present.get(i).operator();
+            long pivot = getPivot(present.get(i));
+
+            if (operator != RangeOperator.EQ) {
+                condition = condition.or(prefix.and(isAscending(operator) ? field.gt(pivot) : field.lt(pivot)));
+            }
+
+            prefix = prefix.and(field.eq(pivot));
+        }
+
+        var lastBound = present.get(last);
+        var lastField = keys.get(last).field();
+        condition = condition.or(prefix.and(lastBound.operator().getFunction().apply(lastField, lastBound.value())));
+
+        var first = present.getFirst();
+        if (last > 0 && first.operator() != RangeOperator.EQ) {
+            var field = keys.getFirst().field();
+            long pivot = getPivot(first);
+            condition = (isAscending(first.operator()) ? field.ge(pivot) : field.le(pivot)).and(condition);
+        }
+
+        return condition;
+    }
+
+    public Collection<SortField<Long>> getSortFields(Direction order) {
+        var sortFields = new ArrayList<SortField<Long>>(keys.size());
+        for (var key : keys) {
+            sortFields.add(order == Direction.DESC ? key.field().desc() : key.field().asc());
+        }
+        return sortFields;
+    }
+
+    private ResultQuery<R> select(
+            DSLContext dslContext,
+            Condition condition,
+            List<? extends RangeParameter<?>> bounds,
+            Direction order,
+            int limit) {
+        return dslContext
+                .selectFrom(table)
+                .where(condition.and(getCondition(bounds)))
+                .orderBy(getSortFields(order))
+                .limit(limit);
+    }
+
+    private List<Bound> getPresentBounds(List<? extends RangeParameter<?>> bounds) {
+        if (bounds.size() > keys.size()) {
+            throw new IllegalArgumentException(
+                    "Expected at most %d range parameters but got %d".formatted(keys.size(), bounds.size()));
+        }
+
+        var present = new ArrayList<Bound>(bounds.size());
+        for (int i = 0; i < bounds.size(); i++) {
+            var bound = bounds.get(i);
+            if (bound == null || bound.operator() == null) {
+                continue;
+            }
+
+            if (present.size() != i) {
+                throw new IllegalArgumentException("%s parameter must have %s present"
+                        .formatted(keys.get(i).parameter(), keys.get(present.size()).parameter()));
+            }
+
+            if (bound.operator() == RangeOperator.NE) {
+                throw new IllegalArgumentException("Invalid range operator ne. This operator is not supported");
+            }
+
+            present.add(new Bound(bound.operator(), toLong(bound.value())));
+        }
+
+        return present;
+    }
+
+    private static long getPivot(Bound bound) {
+        return switch (bound.operator()) {
+            case GT -> bound.value() + 1;
+            case LT -> bound.value() - 1;
+            default -> bound.value();
+        };
+    }
+
+    private static boolean isAscending(RangeOperator operator) {
+        return operator == RangeOperator.GT || operator == RangeOperator.GTE;
+    }
+
+    private static long toLong(Object value) {
+        return switch (value) {
+            case EntityId entityId -> entityId.getId();
+            case Number number -> number.longValue();
+            default -> throw new IllegalArgumentException("Unsupported range parameter value " + value);
+        };
+    }
+
+    /**
+     * A key column and the name of the query parameter used to filter it.
+     *
+     * @param parameter The query parameter name
+     * @param field     The key column
+     */
+    public record Key(String parameter, Field<Long> field) {}
+
+    private record Bound(RangeOperator operator, long value) {}
+}
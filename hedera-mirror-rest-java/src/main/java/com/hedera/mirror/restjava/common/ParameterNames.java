@@ -22,5 +22,6 @@ import lombok.experimental.UtilityClass;
 public class ParameterNames {
 
     public static final String ACCOUNT_ID = "account.id";
+    public static final String SPENDER_ID = "spender.id";
     public static final String TOKEN_ID = "token.id";
 }
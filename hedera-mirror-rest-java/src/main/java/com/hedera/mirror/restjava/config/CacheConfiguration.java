@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.restjava.config;
+
+import java.util.Set;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CacheConfiguration {
+
+    public static final String CACHE_MANAGER_ENTITY_ADDRESS = "entityAddress";
+    public static final String CACHE_MANAGER_ENTITY_ADDRESS_NOT_FOUND = "entityAddressNotFound";
+    public static final String CACHE_NAME_ALIAS = "alias";
+    public static final String CACHE_NAME_EVM_ADDRESS = "evmAddress";
+
+    @Bean(CACHE_MANAGER_ENTITY_ADDRESS)
+    CacheManager entityAddressCacheManager(CacheProperties cacheProperties) {
+        return cacheManager(cacheProperties.getEntityAddress());
+    }
+
+    @Bean(CACHE_MANAGER_ENTITY_ADDRESS_NOT_FOUND)
+    CacheManager entityAddressNotFoundCacheManager(CacheProperties cacheProperties) {
+        return cacheManager(cacheProperties.getEntityAddressNotFound());
+    }
+
+    private CacheManager cacheManager(String specification) {
+        var caffeineCacheManager = new CaffeineCacheManager();
+        // We have to eagerly set cache names to register metrics
+        caffeineCacheManager.setCacheNames(Set.of(CACHE_NAME_ALIAS, CACHE_NAME_EVM_ADDRESS));
+        caffeineCacheManager.setCacheSpecification(specification);
+        return caffeineCacheManager;
+    }
+}
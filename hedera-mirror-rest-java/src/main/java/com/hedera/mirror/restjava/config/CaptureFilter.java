@@ -0,0 +1,195 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.restjava.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.inject.Named;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.CustomLog;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingRequestWrapper;
+
+/**
+ * Appends each API request and its outcome to the capture file as a line of JSON when capture is enabled, so the
+ * monitor can replay the real request mix. A line holds the method, path, query and body of the request, its offset in
+ * milliseconds from the start of the capture, the request headers that affect the status, and the response status and
+ * latency in milliseconds. Captured requests are queued and written by a dedicated thread so request threads never
+ * block on the file, and requests are dropped when the queue is full. The filter runs inside the {@link LoggingFilter}
+ * and outside the {@link ResponseFilter}, so it records the status and latency the client saw, including conditional
+ * and cached responses.
+ */
+@CustomLog
+@Named
+@Order(CaptureFilter.ORDER)
+class CaptureFilter extends OncePerRequestFilter {
+
+    static final int ORDER = LoggingFilter.ORDER + 1;
+
+    @SuppressWarnings("java:S1075")
+    private static final String ACTUATOR_PATH = "/actuator/";
+
+    private static final List<String> HEADERS = List.of(HttpHeaders.ACCEPT, HttpHeaders.IF_NONE_MATCH);
+    private static final long POLL_TIMEOUT_MS = 100L;
+
+    private final AtomicLong dropped = new AtomicLong(0L);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final CaptureProperties properties;
+    private final BlockingQueue<CapturedRequest> queue;
+    private final long startTime = System.currentTimeMillis();
+    private final BufferedWriter writer;
+    private final Thread writerThread;
+    private volatile boolean running = true;
+
+    CaptureFilter(CaptureProperties properties) throws IOException {
+        this.properties = properties;
+
+        if (properties.isEnabled()) {
+            this.queue = new ArrayBlockingQueue<>(properties.getQueueSize());
+            this.writer = Files.newBufferedWriter(
+                    properties.getPath(), StandardOpenOption.APPEND, StandardOpenOption.CREATE);
+            this.writerThread = Thread.ofPlatform().daemon().name("capture-writer").start(this::write);
+            log.info("Capturing requests to {}", properties.getPath().toAbsolutePath());
+        } else {
+            this.queue = null;
+            this.writer = null;
+            this.writerThread = null;
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return writer == null || StringUtils.startsWith(request.getRequestURI(), ACTUATOR_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long start = System.currentTimeMillis();
+        var requestWrapper = new ContentCachingRequestWrapper(request, properties.getMaxBodySize());
+        boolean failed = true;
+
+        try {
+            filterChain.doFilter(requestWrapper, response);
+            failed = false;
+        } finally {
+            int status = failed ? HttpStatus.INTERNAL_SERVER_ERROR.value() : response.getStatus();
+            capture(requestWrapper, status, start);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (writer != null) {
+            running = false;
+
+            try {
+                writerThread.join();
+                writer.close();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException e) {
+                log.warn("Unable to close capture file: {}", e.getMessage());
+            }
+
+            if (dropped.get() > 0) {
+                log.warn("Dropped {} requests because the capture queue was full", dropped.get());
+            }
+        }
+    }
+
+    private void capture(ContentCachingRequestWrapper request, int status, long start) {
+        try {
+            var body = request.getContentAsString();
+            var capturedRequest = new CapturedRequest(
+                    start - startTime,
+                    request.getMethod(),
+                    request.getRequestURI(),
+                    request.getQueryString(),
+                    StringUtils.isEmpty(body) ? null : body,
+                    getHeaders(request),
+                    status,
+                    System.currentTimeMillis() - start);
+
+            if (!queue.offer(capturedRequest)) {
+                dropped.incrementAndGet();
+            }
+        } catch (Exception e) {
+            log.warn("Unable to capture request {}: {}", request.getRequestURI(), e.getMessage());
+        }
+    }
+
+    private Map<String, String> getHeaders(HttpServletRequest request) {
+        var headers = new LinkedHashMap<String, String>();
+        for (var name : HEADERS) {
+            var value = request.getHeader(name);
+            if (value != null) {
+                headers.put(name, value);
+            }
+        }
+        return headers.isEmpty() ? null : headers;
+    }
+
+    // Drains the queue to the file until destroyed, flushing whenever the queue is empty
+    private void write() {
+        while (running || !queue.isEmpty()) {
+            try {
+                var capturedRequest = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (capturedRequest != null) {
+                    writer.write(objectMapper.writeValueAsString(capturedRequest));
+                    writer.newLine();
+
+                    if (queue.isEmpty()) {
+                        writer.flush();
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.warn("Unable to write captured request: {}", e.getMessage());
+            }
+        }
+    }
+
+    record CapturedRequest(
+            long offset,
+            String method,
+            String path,
+            String query,
+            String body,
+            Map<String, String> headers,
+            int status,
+            long latency) {}
+}
@@ -16,18 +16,24 @@
 
 package com.hedera.mirror.restjava.config;
 
+import com.hedera.mirror.restjava.exception.ResponseCommittedException;
 import jakarta.inject.Named;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.CustomLog;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 @CustomLog
 @Named
+@Order(LoggingFilter.ORDER)
 class LoggingFilter extends OncePerRequestFilter {
 
+    static final int ORDER = Ordered.HIGHEST_PRECEDENCE;
+
     @SuppressWarnings("java:S1075")
     private static final String ACTUATOR_PATH = "/actuator/";
 
@@ -40,6 +46,10 @@ class LoggingFilter extends OncePerRequestFilter {
 
         try {
             filterChain.doFilter(request, response);
+        } catch (ResponseCommittedException e) {
+            // Let the container abort the connection so the client doesn't mistake the partial body as complete
+            cause = e;
+            throw e;
         } catch (Exception t) {
             cause = t;
         } finally {
@@ -18,7 +18,10 @@ package com.hedera.mirror.restjava.config;
 
 import io.github.mweirauch.micrometer.jvm.extras.ProcessMemoryMetrics;
 import io.github.mweirauch.micrometer.jvm.extras.ProcessThreadMetrics;
+import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -34,4 +37,10 @@ class MetricsConfiguration {
     MeterBinder processThreadMetrics() {
         return new ProcessThreadMetrics();
     }
+
+    @Bean
+    @ConditionalOnProperty(name = "hedera.mirror.rest-java.response.cache.enabled", havingValue = "true")
+    MeterBinder responseCacheMetrics(ResponseFilter responseFilter) {
+        return new CaffeineCacheMetrics<>(responseFilter.getCache(), "response", Tags.empty());
+    }
 }
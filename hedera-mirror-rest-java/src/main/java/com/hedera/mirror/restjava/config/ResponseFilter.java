@@ -0,0 +1,186 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.restjava.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import jakarta.inject.Named;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * Adds a strong ETag computed from the body and a Cache-Control header to successful responses of the configured
+ * paths, and answers requests whose If-None-Match header matches the ETag with a 304. Responses are buffered to compute
+ * the ETag, so paths that stream their response should not be configured. Optionally, responses are cached in-process
+ * for their max-age so repeated identical requests don't query the database.
+ */
+@Named
+@Order(ResponseFilter.ORDER)
+class ResponseFilter extends OncePerRequestFilter {
+
+    static final int ORDER = CaptureFilter.ORDER + 1;
+
+    // Request headers that change the response, so they're part of the cache key
+    private static final List<String> VARY = List.of(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+
+    // Response headers that are written from the cached response instead of copied from the handler's response
+    private static final List<String> WRITTEN = List.of(
+            HttpHeaders.CACHE_CONTROL, HttpHeaders.CONTENT_LENGTH, HttpHeaders.CONTENT_TYPE, HttpHeaders.ETAG);
+
+    @Getter(AccessLevel.PACKAGE)
+    private final Cache<String, CachedResponse> cache;
+
+    private final List<PathPattern> paths;
+    private final ResponseProperties properties;
+
+    ResponseFilter(ResponseProperties properties) {
+        this.properties = properties;
+        this.paths = properties.getPaths().stream()
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+
+        var cacheProperties = properties.getCache();
+        this.cache = cacheProperties.isEnabled()
+                ? Caffeine.newBuilder()
+                        .expireAfter(new MaxAgeExpiry())
+                        .maximumWeight(cacheProperties.getMaxSize().toBytes())
+                        .recordStats()
+                        .weigher((String key, CachedResponse value) -> key.length() + value.body().length)
+                        .build()
+                : null;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!HttpMethod.GET.matches(request.getMethod())) {
+            return true;
+        }
+
+        var path = PathContainer.parsePath(request.getRequestURI());
+        return paths.stream().noneMatch(p -> p.matches(path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        var key = getKey(request);
+        var cached = cache != null ? cache.getIfPresent(key) : null;
+        if (cached != null) {
+            write(request, response, cached);
+            return;
+        }
+
+        var wrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, wrapper);
+
+        if (wrapper.getStatus() != HttpStatus.OK.value()) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+
+        var body = wrapper.getContentAsByteArray();
+        var eTag = '"' + DigestUtils.md5DigestAsHex(body) + '"';
+        var headers = new TreeMap<String, String>(String.CASE_INSENSITIVE_ORDER);
+        wrapper.getHeaderNames().forEach(name -> headers.put(name, wrapper.getHeader(name)));
+        WRITTEN.forEach(headers::remove);
+        var maxAge = properties.getMaxAge();
+        cached = new CachedResponse(body, wrapper.getContentType(), eTag, headers, maxAge);
+
+        if (cache != null && maxAge.isPositive()) {
+            cache.put(key, cached);
+        }
+
+        // The buffered body is discarded and written by this filter instead
+        write(request, response, cached);
+    }
+
+    private String getKey(HttpServletRequest request) {
+        var key = new StringBuilder(request.getRequestURI());
+        var queryString = request.getQueryString();
+        if (queryString != null) {
+            key.append('?').append(queryString);
+        }
+
+        for (var header : VARY) {
+            key.append('\n').append(Objects.toString(request.getHeader(header), ""));
+        }
+
+        return key.toString();
+    }
+
+    private void write(HttpServletRequest request, HttpServletResponse response, CachedResponse cached)
+            throws IOException {
+        cached.headers().forEach(response::setHeader);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cached.cacheControl());
+        if (new ServletWebRequest(request, response).checkNotModified(cached.eTag())) {
+            return;
+        }
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(cached.contentType());
+        response.setContentLength(cached.body().length);
+        response.getOutputStream().write(cached.body());
+    }
+
+    record CachedResponse(byte[] body, String contentType, String eTag, Map<String, String> headers, Duration maxAge) {
+
+        String cacheControl() {
+            return CacheControl.maxAge(maxAge).cachePublic().getHeaderValue();
+        }
+    }
+
+    private static class MaxAgeExpiry implements Expiry<String, CachedResponse> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedResponse value, long currentTime) {
+            return value.maxAge().toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedResponse value, long currentTime, long currentDuration) {
+            return value.maxAge().toNanos();
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedResponse value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
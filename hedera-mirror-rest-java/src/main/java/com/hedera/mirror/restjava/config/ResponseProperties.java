@@ -0,0 +1,55 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.restjava.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import java.util.List;
+import lombok.Data;
+import org.hibernate.validator.constraints.time.DurationMin;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+@ConfigurationProperties("hedera.mirror.rest-java.response")
+@Data
+@Validated
+public class ResponseProperties {
+
+    @NotNull
+    @Valid
+    private CacheProperties cache = new CacheProperties();
+
+    @DurationMin(seconds = 0)
+    @NotNull
+    private Duration maxAge = Duration.ofSeconds(1L);
+
+    // The path patterns of the endpoints whose responses are buffered to add an ETag. Streamed endpoints are excluded
+    @NotNull
+    private List<String> paths = List.of(
+            "/api/v1/accounts/{id}/allowances/crypto", "/api/v1/accounts/{id}/allowances/tokens");
+
+    @Data
+    public static class CacheProperties {
+
+        private boolean enabled = false;
+
+        @NotNull
+        private DataSize maxSize = DataSize.ofMegabytes(32L);
+    }
+}
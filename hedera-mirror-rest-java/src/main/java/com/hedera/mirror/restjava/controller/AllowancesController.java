@@ -17,23 +17,38 @@
 package com.hedera.mirror.restjava.controller;
 
 import static com.hedera.mirror.restjava.common.ParameterNames.ACCOUNT_ID;
+import static com.hedera.mirror.restjava.common.ParameterNames.SPENDER_ID;
 import static com.hedera.mirror.restjava.common.ParameterNames.TOKEN_ID;
 
+import com.hedera.mirror.rest.model.CryptoAllowancesResponse;
 import com.hedera.mirror.rest.model.Links;
-import com.hedera.mirror.rest.model.NftAllowancesResponse;
+import com.hedera.mirror.rest.model.TokenAllowancesResponse;
 import com.hedera.mirror.restjava.common.EntityIdParameter;
 import com.hedera.mirror.restjava.common.EntityIdRangeParameter;
-import com.hedera.mirror.restjava.common.Utils;
-import com.hedera.mirror.restjava.mapper.NftAllowanceMapper;
+import com.hedera.mirror.restjava.controller.JsonPageWriter.Page;
+import com.hedera.mirror.restjava.exception.ResponseCommittedException;
+import com.hedera.mirror.restjava.mapper.CommonMapper;
+import com.hedera.mirror.restjava.mapper.CryptoAllowanceMapper;
+import com.hedera.mirror.restjava.mapper.NftAllowanceJsonWriter;
+import com.hedera.mirror.restjava.mapper.TokenAllowanceMapper;
+import com.hedera.mirror.restjava.repository.CryptoAllowanceRepositoryCustom;
+import com.hedera.mirror.restjava.repository.NftAllowanceRepositoryCustom;
+import com.hedera.mirror.restjava.repository.TokenAllowanceRepositoryCustom;
+import com.hedera.mirror.restjava.service.CryptoAllowanceRequest;
+import com.hedera.mirror.restjava.service.CryptoAllowanceService;
 import com.hedera.mirror.restjava.service.NftAllowanceRequest;
 import com.hedera.mirror.restjava.service.NftAllowanceService;
+import com.hedera.mirror.restjava.service.TokenAllowanceRequest;
+import com.hedera.mirror.restjava.service.TokenAllowanceService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Positive;
-import java.util.LinkedHashMap;
+import java.io.IOException;
+import java.util.List;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Sort;
-import org.springframework.util.CollectionUtils;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -49,17 +64,50 @@ public class AllowancesController {
     private static final int MAX_LIMIT = 100;
     private static final String DEFAULT_LIMIT = "25";
 
-    private final NftAllowanceService service;
-    private final NftAllowanceMapper nftAllowanceMapper;
+    private final CommonMapper commonMapper;
+    private final CryptoAllowanceMapper cryptoAllowanceMapper;
+    private final CryptoAllowanceService cryptoAllowanceService;
+    private final JsonPageWriter jsonPageWriter;
+    private final NftAllowanceJsonWriter nftAllowanceJsonWriter;
+    private final NftAllowanceService nftAllowanceService;
+    private final TokenAllowanceMapper tokenAllowanceMapper;
+    private final TokenAllowanceService tokenAllowanceService;
 
-    @GetMapping(value = "/nfts")
-    NftAllowancesResponse getNftAllowancesByAccountId(
+    @GetMapping(value = "/crypto")
+    CryptoAllowancesResponse getCryptoAllowancesByAccountId(
+            @PathVariable EntityIdParameter id,
+            @RequestParam(defaultValue = DEFAULT_LIMIT) @Positive @Max(MAX_LIMIT) int limit,
+            @RequestParam(defaultValue = "desc") Sort.Direction order,
+            @RequestParam(name = SPENDER_ID, required = false) EntityIdRangeParameter spenderId) {
+
+        var request = CryptoAllowanceRequest.builder()
+                .accountId(id)
+                .limit(limit)
+                .order(order)
+                .spenderId(spenderId)
+                .build();
+
+        var serviceResponse = cryptoAllowanceService.getCryptoAllowances(request);
+
+        var response = new CryptoAllowancesResponse();
+        response.setAllowances(cryptoAllowanceMapper.map(serviceResponse));
+
+        var next = CryptoAllowanceRepositoryCustom.PAGINATOR.getNextLink(
+                response.getAllowances(), limit, order, a -> List.of(a.getSpender()));
+        response.links(new Links().next(next));
+        return response;
+    }
+
+    @GetMapping(value = "/nfts", produces = MediaType.APPLICATION_JSON_VALUE)
+    void getNftAllowancesByAccountId(
             @PathVariable EntityIdParameter id,
             @RequestParam(name = ACCOUNT_ID, required = false) EntityIdRangeParameter accountId,
             @RequestParam(defaultValue = DEFAULT_LIMIT) @Positive @Max(MAX_LIMIT) int limit,
             @RequestParam(defaultValue = "asc") Sort.Direction order,
             @RequestParam(defaultValue = "true") boolean owner,
-            @RequestParam(name = TOKEN_ID, required = false) EntityIdRangeParameter tokenId) {
+            @RequestParam(name = TOKEN_ID, required = false) EntityIdRangeParameter tokenId,
+            HttpServletResponse response)
+            throws IOException {
 
         var builder = NftAllowanceRequest.builder()
                 .accountId(id)
@@ -69,21 +117,50 @@ public class AllowancesController {
                 .ownerOrSpenderId(accountId)
                 .tokenId(tokenId);
 
-        var serviceResponse = service.getNftAllowances(builder.build());
+        try (var cursor = nftAllowanceService.getNftAllowanceCursor(builder.build())) {
+            var paginator = NftAllowanceRepositoryCustom.getPaginator(owner);
+            var page = new Page<>("allowances", cursor, paginator, limit, order);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            jsonPageWriter.write(
+                    response.getOutputStream(),
+                    page,
+                    nftAllowanceJsonWriter,
+                    a -> List.of(
+                            commonMapper.mapEntityId(owner ? a.getSpender() : a.getOwner()),
+                            commonMapper.mapEntityId(a.getTokenId())));
+        } catch (IOException | RuntimeException e) {
+            if (!response.isCommitted()) {
+                throw e;
+            }
 
-        var response = new NftAllowancesResponse();
-        response.setAllowances(nftAllowanceMapper.map(serviceResponse));
-        var last = CollectionUtils.lastElement(response.getAllowances());
-        String next = null;
-
-        if (last != null && serviceResponse.size() == limit) {
-            var lastAccountId = owner ? last.getSpender() : last.getOwner();
-            var lastValues = new LinkedHashMap<String, String>();
-            lastValues.put(ACCOUNT_ID, lastAccountId);
-            lastValues.put(TOKEN_ID, last.getTokenId());
-            next = Utils.getPaginationLink(false, lastValues, order);
+            // The 200 status and part of the page were already sent, so abort instead of ending a truncated body
+            throw new ResponseCommittedException("Unable to write NFT allowances of " + id, e);
         }
+    }
+
+    @GetMapping(value = "/tokens")
+    TokenAllowancesResponse getTokenAllowancesByAccountId(
+            @PathVariable EntityIdParameter id,
+            @RequestParam(defaultValue = DEFAULT_LIMIT) @Positive @Max(MAX_LIMIT) int limit,
+            @RequestParam(defaultValue = "asc") Sort.Direction order,
+            @RequestParam(name = SPENDER_ID, required = false) EntityIdRangeParameter spenderId,
+            @RequestParam(name = TOKEN_ID, required = false) EntityIdRangeParameter tokenId) {
+
+        var request = TokenAllowanceRequest.builder()
+                .accountId(id)
+                .limit(limit)
+                .order(order)
+                .spenderId(spenderId)
+                .tokenId(tokenId)
+                .build();
+
+        var serviceResponse = tokenAllowanceService.getTokenAllowances(request);
+
+        var response = new TokenAllowancesResponse();
+        response.setAllowances(tokenAllowanceMapper.map(serviceResponse));
 
+        var next = TokenAllowanceRepositoryCustom.PAGINATOR.getNextLink(
+                response.getAllowances(), limit, order, a -> List.of(a.getSpender(), a.getTokenId()));
         response.links(new Links().next(next));
         return response;
     }
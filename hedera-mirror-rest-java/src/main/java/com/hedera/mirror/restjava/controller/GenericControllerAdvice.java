@@ -25,6 +25,7 @@ import com.hedera.mirror.common.exception.InvalidEntityException;
 import com.hedera.mirror.rest.model.Error;
 import com.hedera.mirror.rest.model.ErrorStatus;
 import com.hedera.mirror.rest.model.ErrorStatusMessagesInner;
+import com.hedera.mirror.restjava.exception.ResponseCommittedException;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.CustomLog;
@@ -80,6 +81,13 @@ class GenericControllerAdvice extends ResponseEntityExceptionHandler {
         return errorResponse(SERVICE_UNAVAILABLE.getReasonPhrase(), SERVICE_UNAVAILABLE);
     }
 
+    // Rethrown so the container aborts the connection, since an error response can't follow a partially sent body
+    @ExceptionHandler
+    private void responseCommitted(final ResponseCommittedException e) {
+        log.error("Aborting response: ", e);
+        throw e;
+    }
+
     @ExceptionHandler
     private ResponseEntity<Error> genericError(final Exception e) {
         log.error("Generic error: ", e);
@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.restjava.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hedera.mirror.restjava.common.KeysetPaginator;
+import com.hedera.mirror.restjava.mapper.RecordJsonWriter;
+import jakarta.inject.Named;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.jooq.Record;
+import org.springframework.data.domain.Sort.Direction;
+
+/**
+ * Streams a page of records as a JSON list response of the form {@code {"<name>": [...], "links": {"next": ...}}}.
+ * Each record is written as soon as it's read, so neither the domain objects nor the API models of the page are ever
+ * held in memory. The next link is built from the last record.
+ */
+@Named
+@RequiredArgsConstructor
+class JsonPageWriter {
+
+    private final ObjectMapper objectMapper;
+
+    <R extends Record> void write(
+            OutputStream outputStream,
+            Page<R> page,
+            RecordJsonWriter<R> recordWriter,
+            Function<R, List<String>> keyValues)
+            throws IOException {
+        try (var generator = objectMapper.createGenerator(outputStream)) {
+            // Leave the JSON unterminated if a record fails so a partially written page is never mistaken as complete
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(page.name());
+
+            int count = 0;
+            R last = null;
+            for (var source : page.records()) {
+                recordWriter.write(source, generator);
+                last = source;
+                count++;
+            }
+
+            generator.writeEndArray();
+
+            var next = last != null
+                    ? page.paginator().getNextLink(count, page.limit(), page.order(), keyValues.apply(last))
+                    : null;
+            generator.writeObjectFieldStart("links");
+            generator.writeStringField("next", next);
+            generator.writeEndObject();
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * A page of records to write.
+     *
+     * @param name      The name of the list field in the response
+     * @param records   The records of the page, typically a jOOQ cursor
+     * @param paginator The paginator the page was fetched with
+     * @param limit     The requested page size
+     * @param order     The sort order
+     */
+    record Page<R extends Record>(
+            String name, Iterable<R> records, KeysetPaginator<R> paginator, int limit, Direction order) {}
+}
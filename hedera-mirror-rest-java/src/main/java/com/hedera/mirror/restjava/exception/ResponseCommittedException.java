@@ -0,0 +1,34 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.restjava.exception;
+
+import java.io.Serial;
+
+/**
+ * Thrown when a streamed response fails after its status and part of its body were sent, so an error response can no
+ * longer be written and the connection must be aborted instead.
+ */
+@SuppressWarnings("java:S110")
+public class ResponseCommittedException extends RestJavaException {
+
+    @Serial
+    private static final long serialVersionUID = -2871546032950163705L;
+
+    public ResponseCommittedException(String message, Throwable throwable) {
+        super(message, throwable);
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.restjava.mapper;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.hedera.mirror.restjava.jooq.domain.tables.records.NftAllowanceRecord;
+import jakarta.inject.Named;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Writes an nft allowance record as the JSON representation of {@link com.hedera.mirror.rest.model.NftAllowance}.
+ */
+@Named
+@RequiredArgsConstructor
+public class NftAllowanceJsonWriter implements RecordJsonWriter<NftAllowanceRecord> {
+
+    private final CommonMapper commonMapper;
+
+    @Override
+    public void write(NftAllowanceRecord source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeBooleanField("approved_for_all", Boolean.TRUE.equals(source.getApprovedForAll()));
+        generator.writeStringField("owner", commonMapper.mapEntityId(source.getOwner()));
+        generator.writeStringField("spender", commonMapper.mapEntityId(source.getSpender()));
+
+        var timestampRange = source.getTimestampRange();
+        if (timestampRange != null) {
+            var lower = timestampRange.lower();
+            var upper = timestampRange.upper();
+            generator.writeObjectFieldStart("timestamp");
+            generator.writeStringField("from", lower != null ? commonMapper.mapTimestamp(lower) : null);
+            generator.writeStringField("to", upper != null ? commonMapper.mapTimestamp(upper) : null);
+            generator.writeEndObject();
+        } else {
+            generator.writeNullField("timestamp");
+        }
+
+        generator.writeStringField("token_id", commonMapper.mapEntityId(source.getTokenId()));
+        generator.writeEndObject();
+    }
+}
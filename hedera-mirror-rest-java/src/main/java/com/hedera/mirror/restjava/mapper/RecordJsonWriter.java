@@ -0,0 +1,33 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.restjava.mapper;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.IOException;
+import org.jooq.Record;
+
+/**
+ * Writes a database record directly as the JSON representation of its API model, without creating the intermediate
+ * domain and model objects. The output must be identical to serializing the model mapped from the record.
+ *
+ * @param <R> The type of the record
+ */
+@FunctionalInterface
+public interface RecordJsonWriter<R extends Record> {
+
+    void write(R source, JsonGenerator generator) throws IOException;
+}
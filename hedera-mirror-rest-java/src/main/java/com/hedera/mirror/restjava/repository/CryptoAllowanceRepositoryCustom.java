@@ -0,0 +1,45 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.restjava.repository;
+
+import static com.hedera.mirror.restjava.common.ParameterNames.SPENDER_ID;
+import static com.hedera.mirror.restjava.jooq.domain.Tables.CRYPTO_ALLOWANCE;
+
+import com.hedera.mirror.common.domain.entity.CryptoAllowance;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.restjava.common.KeysetPaginator;
+import com.hedera.mirror.restjava.common.KeysetPaginator.Key;
+import com.hedera.mirror.restjava.jooq.domain.tables.records.CryptoAllowanceRecord;
+import com.hedera.mirror.restjava.service.CryptoAllowanceRequest;
+import jakarta.validation.constraints.NotNull;
+import java.util.Collection;
+
+public interface CryptoAllowanceRepositoryCustom {
+
+    KeysetPaginator<CryptoAllowanceRecord> PAGINATOR =
+            KeysetPaginator.of(CRYPTO_ALLOWANCE, new Key(SPENDER_ID, CRYPTO_ALLOWANCE.SPENDER));
+
+    /**
+     * Find all crypto allowances with a positive amount granted by the owner matching the request parameters
+     *
+     * @param request   Request object for CryptoAllowance
+     * @param accountId The owner's account id
+     * @return The matching crypto allowances
+     */
+    @NotNull
+    Collection<CryptoAllowance> findAll(CryptoAllowanceRequest request, EntityId accountId);
+}
@@ -21,7 +21,7 @@ import java.util.Optional;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 
-public interface EntityRepository extends CrudRepository<Entity, Long> {
+public interface EntityRepository extends CrudRepository<Entity, Long>, EntityRepositoryCustom {
 
     @Query(value = "select id from entity where alias = ?1 and deleted <> true", nativeQuery = true)
     Optional<Long> findByAlias(byte[] alias);
@@ -0,0 +1,43 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.restjava.repository;
+
+import com.hedera.mirror.common.domain.entity.Entity;
+import jakarta.validation.constraints.NotNull;
+import java.util.Collection;
+
+public interface EntityRepositoryCustom {
+
+    /**
+     * Finds the non-deleted entities with any of the aliases. Only the id and the alias of the entities are populated.
+     *
+     * @param aliases The aliases to find
+     * @return The matching entities
+     */
+    @NotNull
+    Collection<Entity> findAllByAlias(Collection<byte[]> aliases);
+
+    /**
+     * Finds the non-deleted entities with any of the EVM addresses. Only the id and the EVM address of the entities
+     * are populated.
+     *
+     * @param evmAddresses The EVM addresses to find
+     * @return The matching entities
+     */
+    @NotNull
+    Collection<Entity> findAllByEvmAddress(Collection<byte[]> evmAddresses);
+}
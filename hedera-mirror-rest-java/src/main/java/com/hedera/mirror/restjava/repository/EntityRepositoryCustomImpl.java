@@ -0,0 +1,54 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.restjava.repository;
+
+import static com.hedera.mirror.restjava.jooq.domain.Tables.ENTITY;
+
+import com.hedera.mirror.common.domain.entity.Entity;
+import jakarta.inject.Named;
+import jakarta.validation.constraints.NotNull;
+import java.util.Collection;
+import lombok.RequiredArgsConstructor;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+
+@Named
+@RequiredArgsConstructor
+class EntityRepositoryCustomImpl implements EntityRepositoryCustom {
+
+    private final DSLContext dslContext;
+
+    @NotNull
+    @Override
+    public Collection<Entity> findAllByAlias(Collection<byte[]> aliases) {
+        return findAll(ENTITY.ALIAS, aliases);
+    }
+
+    @NotNull
+    @Override
+    public Collection<Entity> findAllByEvmAddress(Collection<byte[]> evmAddresses) {
+        return findAll(ENTITY.EVM_ADDRESS, evmAddresses);
+    }
+
+    private Collection<Entity> findAll(Field<byte[]> field, Collection<byte[]> values) {
+        return dslContext
+                .select(ENTITY.ID, field)
+                .from(ENTITY)
+                .where(field.in(values).and(ENTITY.DELETED.ne(true)))
+                .fetchInto(Entity.class);
+    }
+}
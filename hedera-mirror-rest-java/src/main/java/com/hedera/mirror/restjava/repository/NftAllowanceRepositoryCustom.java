@@ -16,14 +16,37 @@
 
 package com.hedera.mirror.restjava.repository;
 
+import static com.hedera.mirror.restjava.common.ParameterNames.ACCOUNT_ID;
+import static com.hedera.mirror.restjava.common.ParameterNames.TOKEN_ID;
+import static com.hedera.mirror.restjava.jooq.domain.Tables.NFT_ALLOWANCE;
+
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.entity.NftAllowance;
+import com.hedera.mirror.restjava.common.KeysetPaginator;
+import com.hedera.mirror.restjava.common.KeysetPaginator.Key;
+import com.hedera.mirror.restjava.jooq.domain.tables.records.NftAllowanceRecord;
 import com.hedera.mirror.restjava.service.NftAllowanceRequest;
 import jakarta.validation.constraints.NotNull;
 import java.util.Collection;
+import org.jooq.Cursor;
 
 public interface NftAllowanceRepositoryCustom {
 
+    KeysetPaginator<NftAllowanceRecord> BY_OWNER = KeysetPaginator.of(
+            NFT_ALLOWANCE, new Key(ACCOUNT_ID, NFT_ALLOWANCE.SPENDER), new Key(TOKEN_ID, NFT_ALLOWANCE.TOKEN_ID));
+    KeysetPaginator<NftAllowanceRecord> BY_SPENDER = KeysetPaginator.of(
+            NFT_ALLOWANCE, new Key(ACCOUNT_ID, NFT_ALLOWANCE.OWNER), new Key(TOKEN_ID, NFT_ALLOWANCE.TOKEN_ID));
+
+    /**
+     * Gets the keyset paginator of the allowances granted by or to an account
+     *
+     * @param byOwner Whether the allowances are queried by owner
+     * @return The keyset paginator
+     */
+    static KeysetPaginator<NftAllowanceRecord> getPaginator(boolean byOwner) {
+        return byOwner ? BY_OWNER : BY_SPENDER;
+    }
+
     /**
      * Find all NftAllowance matching the request parameters with the given limit, sort order, and byOwner flag
      *
@@ -33,4 +56,14 @@ public interface NftAllowanceRepositoryCustom {
      */
     @NotNull
     Collection<NftAllowance> findAll(NftAllowanceRequest request, EntityId accountId);
+
+    /**
+     * Find all NftAllowance matching the request parameters lazily. The returned cursor must be closed.
+     *
+     * @param request   Request object for NftAllowance
+     * @param accountId The account id the allowances are granted by or to
+     * @return The cursor over the matching nft allowance records
+     */
+    @NotNull
+    Cursor<NftAllowanceRecord> findAllLazy(NftAllowanceRequest request, EntityId accountId);
 }
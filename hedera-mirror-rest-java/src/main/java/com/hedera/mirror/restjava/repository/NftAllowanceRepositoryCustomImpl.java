@@ -16,130 +16,60 @@
 
 package com.hedera.mirror.restjava.repository;
 
+import static com.hedera.mirror.restjava.common.KeysetPaginator.bounds;
 import static com.hedera.mirror.restjava.jooq.domain.Tables.NFT_ALLOWANCE;
-import static org.jooq.impl.DSL.noCondition;
 
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.entity.NftAllowance;
-import com.hedera.mirror.restjava.common.EntityIdRangeParameter;
-import com.hedera.mirror.restjava.common.RangeOperator;
+import com.hedera.mirror.restjava.common.RangeParameter;
 import com.hedera.mirror.restjava.jooq.domain.tables.records.NftAllowanceRecord;
 import com.hedera.mirror.restjava.service.NftAllowanceRequest;
 import jakarta.inject.Named;
 import jakarta.validation.constraints.NotNull;
 import java.util.Collection;
 import java.util.List;
-import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.jooq.Condition;
+import org.jooq.Cursor;
 import org.jooq.DSLContext;
-import org.jooq.Field;
-import org.jooq.SortField;
-import org.jooq.TableField;
-import org.springframework.data.domain.Sort.Direction;
 
 @Named
 @RequiredArgsConstructor
 class NftAllowanceRepositoryCustomImpl implements NftAllowanceRepositoryCustom {
 
-    private static final Map<OrderSpec, List<SortField<?>>> SORT_ORDERS = Map.of(
-            new OrderSpec(true, Direction.ASC), List.of(NFT_ALLOWANCE.SPENDER.asc(), NFT_ALLOWANCE.TOKEN_ID.asc()),
-            new OrderSpec(true, Direction.DESC), List.of(NFT_ALLOWANCE.SPENDER.desc(), NFT_ALLOWANCE.TOKEN_ID.desc()),
-            new OrderSpec(false, Direction.ASC), List.of(NFT_ALLOWANCE.OWNER.asc(), NFT_ALLOWANCE.TOKEN_ID.asc()),
-            new OrderSpec(false, Direction.DESC), List.of(NFT_ALLOWANCE.OWNER.desc(), NFT_ALLOWANCE.TOKEN_ID.desc()));
-
     private final DSLContext dslContext;
 
     @NotNull
     @Override
-    @SuppressWarnings("unchecked")
     public Collection<NftAllowance> findAll(NftAllowanceRequest request, EntityId accountId) {
-        boolean byOwner = request.isOwner();
-        int limit = request.getLimit();
-        var order = request.getOrder();
-
-        var primaryField = byOwner ? NFT_ALLOWANCE.OWNER : NFT_ALLOWANCE.SPENDER;
-        var primarySortField = byOwner ? NFT_ALLOWANCE.SPENDER : NFT_ALLOWANCE.OWNER;
-
-        var primarySortParam = request.getOwnerOrSpenderId();
-        var tokenParam = request.getTokenId();
-
-        var commonCondition = getCondition(primaryField, RangeOperator.EQ, accountId.getId());
-        var baseCondition = getBaseCondition(primarySortParam, tokenParam, primarySortField);
-        var secondaryCondition = getSecondaryCondition(primarySortParam, tokenParam, primarySortField);
-        var condition = commonCondition.and(baseCondition.or(secondaryCondition));
-
-        return dslContext
-                .selectFrom(NFT_ALLOWANCE)
-                .where(condition)
-                .orderBy(SORT_ORDERS.get(new OrderSpec(byOwner, order)))
-                .limit(limit)
-                .fetchInto(NftAllowance.class);
+        var paginator = NftAllowanceRepositoryCustom.getPaginator(request.isOwner());
+        return paginator.fetch(
+                dslContext,
+                getCondition(request, accountId),
+                getBounds(request),
+                request.getOrder(),
+                request.getLimit(),
+                NftAllowance.class);
     }
 
-    private Condition getBaseCondition(
-            EntityIdRangeParameter primarySortParam,
-            EntityIdRangeParameter tokenParam,
-            TableField<NftAllowanceRecord, Long> primarySortField) {
-        if (primarySortParam == null) {
-            return noCondition();
-        }
-
-        var primaryCondition = getCondition(
-                primarySortField,
-                primarySortParam.operator(),
-                primarySortParam.value().getId());
-
-        if (tokenParam == null) {
-            return primaryCondition;
-        }
-
-        var tokenCondition = getCondition(
-                NFT_ALLOWANCE.TOKEN_ID,
-                tokenParam.operator(),
-                tokenParam.value().getId());
-
-        if (primarySortParam.operator() == RangeOperator.EQ) {
-            return primaryCondition.and(tokenCondition);
-        }
-
-        // Get the condition for primary field with EQ operator
-        long value = primarySortParam.value().getId();
-        if (primarySortParam.operator() == RangeOperator.GT) {
-            value += 1L;
-        } else if (primarySortParam.operator() == RangeOperator.LT) {
-            value -= 1L;
-        }
-
-        var equalCondition = getCondition(primarySortField, RangeOperator.EQ, value);
-        return equalCondition.and(tokenCondition);
+    @NotNull
+    @Override
+    public Cursor<NftAllowanceRecord> findAllLazy(NftAllowanceRequest request, EntityId accountId) {
+        var paginator = NftAllowanceRepositoryCustom.getPaginator(request.isOwner());
+        return paginator.fetchLazy(
+                dslContext,
+                getCondition(request, accountId),
+                getBounds(request),
+                request.getOrder(),
+                request.getLimit());
     }
 
-    private Condition getSecondaryCondition(
-            EntityIdRangeParameter primarySortParam,
-            EntityIdRangeParameter tokenParam,
-            TableField<NftAllowanceRecord, Long> primarySortField) {
-        // No secondary condition if there is no token parameter, or the primary sort parameter's operator is EQ. Note
-        // that
-        // it's guaranteed that there must be a primary sort parameter when token parameter exists
-        if (tokenParam == null || primarySortParam.operator() == RangeOperator.EQ) {
-            return noCondition();
-        }
-
-        long value = primarySortParam.value().getId();
-        var operator = primarySortParam.operator();
-        if (operator == RangeOperator.GT || operator == RangeOperator.GTE) {
-            value += 1L;
-        } else if (operator == RangeOperator.LT || operator == RangeOperator.LTE) {
-            value -= 1L;
-        }
-
-        return getCondition(primarySortField, operator, value);
+    private static List<RangeParameter<?>> getBounds(NftAllowanceRequest request) {
+        return bounds(request.getOwnerOrSpenderId(), request.getTokenId());
     }
 
-    private record OrderSpec(boolean byOwner, Direction direction) {}
-
-    public Condition getCondition(Field<Long> field, RangeOperator operator, Long value) {
-        return operator.getFunction().apply(field, value);
+    private static Condition getCondition(NftAllowanceRequest request, EntityId accountId) {
+        var primaryField = request.isOwner() ? NFT_ALLOWANCE.OWNER : NFT_ALLOWANCE.SPENDER;
+        return primaryField.eq(accountId.getId());
     }
 }
@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.restjava.repository;
+
+import static com.hedera.mirror.restjava.common.ParameterNames.SPENDER_ID;
+import static com.hedera.mirror.restjava.common.ParameterNames.TOKEN_ID;
+import static com.hedera.mirror.restjava.jooq.domain.Tables.TOKEN_ALLOWANCE;
+
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.entity.TokenAllowance;
+import com.hedera.mirror.restjava.common.KeysetPaginator;
+import com.hedera.mirror.restjava.common.KeysetPaginator.Key;
+import com.hedera.mirror.restjava.jooq.domain.tables.records.TokenAllowanceRecord;
+import com.hedera.mirror.restjava.service.TokenAllowanceRequest;
+import jakarta.validation.constraints.NotNull;
+import java.util.Collection;
+
+public interface TokenAllowanceRepositoryCustom {
+
+    KeysetPaginator<TokenAllowanceRecord> PAGINATOR = KeysetPaginator.of(
+            TOKEN_ALLOWANCE, new Key(SPENDER_ID, TOKEN_ALLOWANCE.SPENDER), new Key(TOKEN_ID, TOKEN_ALLOWANCE.TOKEN_ID));
+
+    /**
+     * Find all fungible token allowances with a positive amount granted by the owner matching the request parameters
+     *
+     * @param request   Request object for TokenAllowance
+     * @param accountId The owner's account id
+     * @return The matching token allowances
+     */
+    @NotNull
+    Collection<TokenAllowance> findAll(TokenAllowanceRequest request, EntityId accountId);
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.restjava.repository;
+
+import static com.hedera.mirror.restjava.common.KeysetPaginator.bounds;
+import static com.hedera.mirror.restjava.jooq.domain.Tables.TOKEN_ALLOWANCE;
+
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.entity.TokenAllowance;
+import com.hedera.mirror.restjava.service.TokenAllowanceRequest;
+import jakarta.inject.Named;
+import jakarta.validation.constraints.NotNull;
+import java.util.Collection;
+import lombok.RequiredArgsConstructor;
+import org.jooq.DSLContext;
+
+@Named
+@RequiredArgsConstructor
+class TokenAllowanceRepositoryCustomImpl implements TokenAllowanceRepositoryCustom {
+
+    private final DSLContext dslContext;
+
+    @NotNull
+    @Override
+    public Collection<TokenAllowance> findAll(TokenAllowanceRequest request, EntityId accountId) {
+        var condition = TOKEN_ALLOWANCE.OWNER.eq(accountId.getId()).and(TOKEN_ALLOWANCE.AMOUNT.gt(0L));
+        return PAGINATOR.fetch(
+                dslContext,
+                condition,
+                bounds(request.getSpenderId(), request.getTokenId()),
+                request.getOrder(),
+                request.getLimit(),
+                TokenAllowance.class);
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.restjava.service;
+
+import com.hedera.mirror.common.domain.entity.CryptoAllowance;
+import com.hedera.mirror.restjava.repository.CryptoAllowanceRepository;
+import jakarta.inject.Named;
+import java.util.Collection;
+import lombok.RequiredArgsConstructor;
+
+@Named
+@RequiredArgsConstructor
+public class CryptoAllowanceServiceImpl implements CryptoAllowanceService {
+
+    private final CryptoAllowanceRepository repository;
+    private final EntityService entityService;
+
+    @Override
+    public Collection<CryptoAllowance> getCryptoAllowances(CryptoAllowanceRequest request) {
+        var id = entityService.lookup(request.getAccountId());
+        return repository.findAll(request, id);
+    }
+}
@@ -18,8 +18,19 @@ package com.hedera.mirror.restjava.service;
 
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.restjava.common.EntityIdParameter;
+import java.util.Collection;
+import java.util.Map;
 
 public interface EntityService {
 
     EntityId lookup(EntityIdParameter entityId);
+
+    /**
+     * Resolves multiple entity ids at once. The aliases and EVM addresses that are not cached are each resolved in a
+     * single query.
+     *
+     * @param entityIds The entity ids to resolve
+     * @return The resolved entity id of each given entity id that was found, in the order of the given entity ids
+     */
+    Map<EntityIdParameter, EntityId> lookupAll(Collection<? extends EntityIdParameter> entityIds);
 }
@@ -16,6 +16,12 @@
 
 package com.hedera.mirror.restjava.service;
 
+import static com.hedera.mirror.restjava.config.CacheConfiguration.CACHE_MANAGER_ENTITY_ADDRESS;
+import static com.hedera.mirror.restjava.config.CacheConfiguration.CACHE_MANAGER_ENTITY_ADDRESS_NOT_FOUND;
+import static com.hedera.mirror.restjava.config.CacheConfiguration.CACHE_NAME_ALIAS;
+import static com.hedera.mirror.restjava.config.CacheConfiguration.CACHE_NAME_EVM_ADDRESS;
+
+import com.hedera.mirror.common.domain.entity.Entity;
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.restjava.RestJavaProperties;
 import com.hedera.mirror.restjava.common.EntityIdAliasParameter;
@@ -25,20 +31,93 @@ import com.hedera.mirror.restjava.common.EntityIdParameter;
 import com.hedera.mirror.restjava.repository.EntityRepository;
 import jakarta.inject.Named;
 import jakarta.persistence.EntityNotFoundException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import lombok.RequiredArgsConstructor;
+import java.util.function.Function;
+import org.apache.commons.codec.binary.Hex;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 
 @Named
-@RequiredArgsConstructor
 public class EntityServiceImpl implements EntityService {
 
-    private final EntityRepository entityRepository;
+    private final AddressResolver aliasResolver;
+    private final AddressResolver evmAddressResolver;
     private final RestJavaProperties properties;
 
+    public EntityServiceImpl(
+            @Qualifier(CACHE_MANAGER_ENTITY_ADDRESS) CacheManager cacheManager,
+            @Qualifier(CACHE_MANAGER_ENTITY_ADDRESS_NOT_FOUND) CacheManager notFoundCacheManager,
+            EntityRepository entityRepository,
+            RestJavaProperties properties) {
+        this.aliasResolver = new AddressResolver(
+                getCache(cacheManager, CACHE_NAME_ALIAS),
+                getCache(notFoundCacheManager, CACHE_NAME_ALIAS),
+                entityRepository::findByAlias,
+                entityRepository::findAllByAlias,
+                Entity::getAlias);
+        this.evmAddressResolver = new AddressResolver(
+                getCache(cacheManager, CACHE_NAME_EVM_ADDRESS),
+                getCache(notFoundCacheManager, CACHE_NAME_EVM_ADDRESS),
+                entityRepository::findByEvmAddress,
+                entityRepository::findAllByEvmAddress,
+                Entity::getEvmAddress);
+        this.properties = properties;
+    }
+
     @Override
     @SuppressWarnings("java:S1481")
     public EntityId lookup(EntityIdParameter accountId) {
+        validate(accountId);
+
+        var id = switch (accountId) {
+            case EntityIdNumParameter p -> Optional.of(p.id());
+            case EntityIdAliasParameter p -> aliasResolver.resolve(p.alias()).map(EntityId::of);
+            case EntityIdEvmAddressParameter p -> evmAddressResolver.resolve(p.evmAddress()).map(EntityId::of);
+        };
+
+        return id.orElseThrow(() -> new EntityNotFoundException("No account found for the given ID"));
+    }
+
+    @Override
+    public Map<EntityIdParameter, EntityId> lookupAll(Collection<? extends EntityIdParameter> entityIds) {
+        var aliases = new ArrayList<byte[]>();
+        var evmAddresses = new ArrayList<byte[]>();
+        for (EntityIdParameter entityId : entityIds) {
+            validate(entityId);
+
+            if (entityId instanceof EntityIdAliasParameter p) {
+                aliases.add(p.alias());
+            } else if (entityId instanceof EntityIdEvmAddressParameter p) {
+                evmAddresses.add(p.evmAddress());
+            }
+        }
 
+        var aliasIds = aliasResolver.resolveAll(aliases);
+        var evmAddressIds = evmAddressResolver.resolveAll(evmAddresses);
+        var ids = new LinkedHashMap<EntityIdParameter, EntityId>(entityIds.size());
+        for (EntityIdParameter entityId : entityIds) {
+            var id = switch (entityId) {
+                case EntityIdNumParameter p -> p.id();
+                case EntityIdAliasParameter p -> aliasIds.get(AddressResolver.getKey(p.alias()));
+                case EntityIdEvmAddressParameter p -> evmAddressIds.get(AddressResolver.getKey(p.evmAddress()));
+            };
+
+            if (id != null) {
+                ids.put(entityId, id);
+            }
+        }
+
+        return ids;
+    }
+
+    private void validate(EntityIdParameter accountId) {
         if (accountId.shard() != properties.getShard()) {
             throw new IllegalArgumentException("ID %s has invalid shard".formatted(accountId));
         }
@@ -46,13 +125,67 @@ public class EntityServiceImpl implements EntityService {
         if (accountId.realm() != 0) {
             throw new IllegalArgumentException("ID %s has invalid realm".formatted(accountId));
         }
+    }
 
-        var id = switch (accountId) {
-            case EntityIdNumParameter p -> Optional.of(p.id());
-            case EntityIdAliasParameter p -> entityRepository.findByAlias(p.alias()).map(EntityId::of);
-            case EntityIdEvmAddressParameter p -> entityRepository.findByEvmAddress(p.evmAddress()).map(EntityId::of);
-        };
+    private static Cache getCache(CacheManager cacheManager, String name) {
+        return Objects.requireNonNull(cacheManager.getCache(name), () -> "Missing cache " + name);
+    }
 
-        return id.orElseThrow(() -> new EntityNotFoundException("No account found for the given ID"));
+    /**
+     * Resolves an alias or EVM address to an entity id. Both caches expire quickly since the entity may be created or
+     * deleted at any time, but they still absorb the repeated lookups of the same address by bursts of requests.
+     */
+    private record AddressResolver(
+            Cache cache,
+            Cache notFoundCache,
+            Function<byte[], Optional<Long>> find,
+            Function<Collection<byte[]>, Collection<Entity>> findAll,
+            Function<Entity, byte[]> getAddress) {
+
+        private static String getKey(byte[] address) {
+            return Hex.encodeHexString(address);
+        }
+
+        Optional<Long> resolve(byte[] address) {
+            var key = getKey(address);
+            var id = cache.get(key, Long.class);
+            if (id != null) {
+                return Optional.of(id);
+            } else if (notFoundCache.get(key) != null) {
+                return Optional.empty();
+            }
+
+            var result = find.apply(address);
+            result.ifPresentOrElse(i -> cache.put(key, i), () -> notFoundCache.put(key, Boolean.TRUE));
+            return result;
+        }
+
+        Map<String, EntityId> resolveAll(Collection<byte[]> addresses) {
+            var ids = new HashMap<String, EntityId>();
+            var missing = new HashMap<String, byte[]>();
+            for (var address : addresses) {
+                var key = getKey(address);
+                var id = cache.get(key, Long.class);
+                if (id != null) {
+                    ids.put(key, EntityId.of(id));
+                } else if (notFoundCache.get(key) == null) {
+                    missing.put(key, address);
+                }
+            }
+
+            if (missing.isEmpty()) {
+                return ids;
+            }
+
+            for (var entity : findAll.apply(missing.values())) {
+                var key = getKey(getAddress.apply(entity));
+                cache.put(key, entity.getId());
+                ids.put(key, EntityId.of(entity.getId()));
+                missing.remove(key);
+            }
+
+            missing.keySet().forEach(key -> notFoundCache.put(key, Boolean.TRUE));
+            return ids;
+        }
     }
 }
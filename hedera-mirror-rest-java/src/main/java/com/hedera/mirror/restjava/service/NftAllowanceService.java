@@ -17,9 +17,19 @@
 package com.hedera.mirror.restjava.service;
 
 import com.hedera.mirror.common.domain.entity.NftAllowance;
+import com.hedera.mirror.restjava.jooq.domain.tables.records.NftAllowanceRecord;
 import java.util.Collection;
+import org.jooq.Cursor;
 
 public interface NftAllowanceService {
 
     Collection<NftAllowance> getNftAllowances(NftAllowanceRequest request);
+
+    /**
+     * Gets the nft allowances matching the request lazily. The returned cursor must be closed.
+     *
+     * @param request The request
+     * @return The cursor over the matching nft allowance records
+     */
+    Cursor<NftAllowanceRecord> getNftAllowanceCursor(NftAllowanceRequest request);
 }
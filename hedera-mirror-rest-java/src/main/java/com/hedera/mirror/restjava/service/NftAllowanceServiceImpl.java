@@ -16,13 +16,16 @@
 
 package com.hedera.mirror.restjava.service;
 
+import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.entity.NftAllowance;
 import com.hedera.mirror.restjava.common.EntityIdRangeParameter;
 import com.hedera.mirror.restjava.common.RangeOperator;
+import com.hedera.mirror.restjava.jooq.domain.tables.records.NftAllowanceRecord;
 import com.hedera.mirror.restjava.repository.NftAllowanceRepository;
 import jakarta.inject.Named;
 import java.util.Collection;
 import lombok.RequiredArgsConstructor;
+import org.jooq.Cursor;
 
 @Named
 @RequiredArgsConstructor
@@ -32,7 +35,17 @@ public class NftAllowanceServiceImpl implements NftAllowanceService {
     private final EntityService entityService;
 
     public Collection<NftAllowance> getNftAllowances(NftAllowanceRequest request) {
+        var id = validate(request);
+        return repository.findAll(request, id);
+    }
 
+    @Override
+    public Cursor<NftAllowanceRecord> getNftAllowanceCursor(NftAllowanceRequest request) {
+        var id = validate(request);
+        return repository.findAllLazy(request, id);
+    }
+
+    private EntityId validate(NftAllowanceRequest request) {
         var ownerOrSpenderId = request.getOwnerOrSpenderId();
         var token = request.getTokenId();
         var id = entityService.lookup(request.getAccountId());
@@ -42,7 +55,7 @@ public class NftAllowanceServiceImpl implements NftAllowanceService {
         verifyRangeId(token);
         verifyRangeId(ownerOrSpenderId);
 
-        return repository.findAll(request, id);
+        return id;
     }
 
     private static void verifyRangeId(EntityIdRangeParameter idParam) {
@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.restjava.service;
+
+import static com.hedera.mirror.restjava.common.ParameterNames.SPENDER_ID;
+
+import com.hedera.mirror.common.domain.entity.TokenAllowance;
+import com.hedera.mirror.restjava.common.EntityIdRangeParameter;
+import com.hedera.mirror.restjava.common.RangeOperator;
+import com.hedera.mirror.restjava.repository.TokenAllowanceRepository;
+import jakarta.inject.Named;
+import java.util.Collection;
+import lombok.RequiredArgsConstructor;
+
+@Named
+@RequiredArgsConstructor
+public class TokenAllowanceServiceImpl implements TokenAllowanceService {
+
+    private final TokenAllowanceRepository repository;
+    private final EntityService entityService;
+
+    @Override
+    public Collection<TokenAllowance> getTokenAllowances(TokenAllowanceRequest request) {
+        var id = entityService.lookup(request.getAccountId());
+        checkBounds(request.getSpenderId(), request.getTokenId());
+        return repository.findAll(request, id);
+    }
+
+    /*
+     * A token id bound continues a spender id bound in the same direction, so it requires an inclusive or equal
+     * spender id bound in that direction.
+     */
+    private static void checkBounds(EntityIdRangeParameter spenderId, EntityIdRangeParameter tokenId) {
+        if (spenderId == null || spenderId.operator() == null || spenderId.operator() == RangeOperator.EQ) {
+            return;
+        }
+
+        if (tokenId == null || tokenId.operator() == null) {
+            return;
+        }
+
+        var tokenOperator = tokenId.operator();
+        var spenderOperator = spenderId.operator();
+        if ((tokenOperator == RangeOperator.GT || tokenOperator == RangeOperator.GTE)
+                && spenderOperator != RangeOperator.GTE) {
+            throw new IllegalArgumentException(SPENDER_ID + " must have gte or eq operator");
+        }
+
+        if ((tokenOperator == RangeOperator.LT || tokenOperator == RangeOperator.LTE)
+                && spenderOperator != RangeOperator.LTE) {
+            throw new IllegalArgumentException(SPENDER_ID + " must have lte or eq operator");
+        }
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.restjava.common;
+
+import static com.hedera.mirror.restjava.common.KeysetPaginator.bounds;
+import static com.hedera.mirror.restjava.common.ParameterNames.ACCOUNT_ID;
+import static com.hedera.mirror.restjava.common.ParameterNames.TOKEN_ID;
+import static com.hedera.mirror.restjava.jooq.domain.Tables.NFT_ALLOWANCE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.jooq.impl.DSL.noCondition;
+
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.entity.NftAllowance;
+import com.hedera.mirror.restjava.RestJavaIntegrationTest;
+import com.hedera.mirror.restjava.common.KeysetPaginator.Key;
+import com.hedera.mirror.restjava.jooq.domain.tables.records.NftAllowanceRecord;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import lombok.RequiredArgsConstructor;
+import org.jooq.DSLContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.util.UriComponentsBuilder;
+
+@RequiredArgsConstructor
+class KeysetPaginatorTest extends RestJavaIntegrationTest {
+
+    private static final String PATH = "/api/v1/accounts/0.0.1000/allowances/nfts";
+    private static final KeysetPaginator<NftAllowanceRecord> PAGINATOR = KeysetPaginator.of(
+            NFT_ALLOWANCE, new Key(ACCOUNT_ID, NFT_ALLOWANCE.SPENDER), new Key(TOKEN_ID, NFT_ALLOWANCE.TOKEN_ID));
+
+    private final DSLContext dslContext;
+
+    @AfterEach
+    void cleanup() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void noBounds() {
+        assertThat(PAGINATOR.getCondition(bounds(null, null))).isEqualTo(noCondition());
+        assertThat(PAGINATOR.getCondition(bounds(EntityIdRangeParameter.EMPTY))).isEqualTo(noCondition());
+    }
+
+    @Test
+    void singleBound() {
+        var condition = PAGINATOR.getCondition(bounds(parameter(RangeOperator.GT, 5L)));
+        assertThat(condition).isEqualTo(NFT_ALLOWANCE.SPENDER.gt(5L));
+    }
+
+    @Test
+    void equalLeadingBound() {
+        var bounds = bounds(parameter(RangeOperator.EQ, 5L), parameter(RangeOperator.LT, 9L));
+        var condition = PAGINATOR.getCondition(bounds);
+        assertThat(condition).isEqualTo(NFT_ALLOWANCE.SPENDER.eq(5L).and(NFT_ALLOWANCE.TOKEN_ID.lt(9L)));
+    }
+
+    @Test
+    void exclusiveLeadingBound() {
+        var bounds = bounds(parameter(RangeOperator.GT, 5L), parameter(RangeOperator.GTE, 9L));
+        var condition = PAGINATOR.getCondition(bounds);
+        var expected = NFT_ALLOWANCE
+                .SPENDER
+                .ge(6L)
+                .and(NFT_ALLOWANCE
+                        .SPENDER
+                        .gt(6L)
+                        .or(NFT_ALLOWANCE.SPENDER.eq(6L).and(NFT_ALLOWANCE.TOKEN_ID.ge(9L))));
+        assertThat(condition).isEqualTo(expected);
+    }
+
+    @Test
+    void missingLeadingBound() {
+        var bounds = bounds(null, parameter(RangeOperator.GT, 9L));
+        assertThatThrownBy(() -> PAGINATOR.getCondition(bounds))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("token.id parameter must have account.id present");
+    }
+
+    @Test
+    void notEqualBound() {
+        var bounds = bounds(parameter(RangeOperator.NE, 5L));
+        assertThatThrownBy(() -> PAGINATOR.getCondition(bounds))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid range operator ne");
+    }
+
+    @Test
+    void tooManyBounds() {
+        var bounds = bounds(parameter(RangeOperator.EQ, 1L), parameter(RangeOperator.EQ, 2L), null);
+        assertThatThrownBy(() -> PAGINATOR.getCondition(bounds)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void nextLinkPartialPage() {
+        var page = List.of(domainBuilder.nftAllowance().get());
+        assertThat(PAGINATOR.getNextLink(page, 2, Direction.ASC, this::keyValues)).isNull();
+        assertThat(PAGINATOR.getNextLink(List.<NftAllowance>of(), 2, Direction.ASC, this::keyValues))
+                .isNull();
+    }
+
+    /**
+     * Property: for any data set, sort order, page size and starting bounds in the direction of the sort order,
+     * following the next links visits exactly the rows a single unbounded query returns, in the same order, with no
+     * row skipped or duplicated.
+     */
+    @RepeatedTest(25)
+    void pagesVisitEveryRowOnce() {
+        long seed = System.nanoTime();
+        var random = new Random(seed);
+        long owner = domainBuilder.id();
+        var spenders = ids(random, 1 + random.nextInt(5));
+        var tokens = ids(random, 1 + random.nextInt(5));
+        var persisted = new ArrayList<NftAllowance>();
+
+        var keys = new HashSet<List<Long>>();
+        int count = random.nextInt(spenders.size() * tokens.size() + 1);
+        while (keys.size() < count) {
+            long spender = spenders.get(random.nextInt(spenders.size()));
+            long token = tokens.get(random.nextInt(tokens.size()));
+            if (keys.add(List.of(spender, token))) {
+                persisted.add(domainBuilder
+                        .nftAllowance()
+                        .customize(n -> n.owner(owner).spender(spender).tokenId(token))
+                        .persist());
+            }
+        }
+
+        // Rows of another owner must never leak into the pages
+        domainBuilder.nftAllowance().customize(n -> n.spender(spenders.getFirst())).persist();
+
+        var order = random.nextBoolean() ? Direction.ASC : Direction.DESC;
+        int limit = 1 + random.nextInt(5);
+        var accountBound = random.nextBoolean() ? randomBound(random, order, spenders) : null;
+        var tokenBound = accountBound != null && random.nextBoolean() ? randomBound(random, order, tokens) : null;
+        var condition = NFT_ALLOWANCE.OWNER.eq(owner);
+        var description = "seed=%d, order=%s, limit=%d, account.id=%s, token.id=%s"
+                .formatted(seed, order, limit, accountBound, tokenBound);
+
+        var expected = PAGINATOR.fetch(
+                dslContext, condition, bounds(accountBound, tokenBound), order, Integer.MAX_VALUE, NftAllowance.class);
+        if (accountBound == null) {
+            var comparator = Comparator.comparingLong(NftAllowance::getSpender)
+                    .thenComparingLong(NftAllowance::getTokenId);
+            persisted.sort(order == Direction.ASC ? comparator : comparator.reversed());
+            assertThat(expected).as(description).containsExactlyElementsOf(persisted);
+        }
+
+        var actual = new ArrayList<NftAllowance>();
+        var bounds = bounds(accountBound, tokenBound);
+        for (int pages = 0; pages <= expected.size(); pages++) {
+            setRequest(bounds);
+            var page = PAGINATOR.fetch(dslContext, condition, bounds, order, limit, NftAllowance.class);
+            assertThat(page.size()).as(description).isLessThanOrEqualTo(limit);
+            actual.addAll(page);
+
+            var next = PAGINATOR.getNextLink(page, limit, order, this::keyValues);
+            if (next == null) {
+                break;
+            }
+
+            var params = UriComponentsBuilder.fromUriString(next).build().getQueryParams();
+            assertThat(next).as(description).startsWith(PATH);
+            bounds = bounds(
+                    EntityIdRangeParameter.valueOf(params.getFirst(ACCOUNT_ID)),
+                    EntityIdRangeParameter.valueOf(params.getFirst(TOKEN_ID)));
+        }
+
+        assertThat(actual).as(description).containsExactlyElementsOf(expected);
+    }
+
+    private List<String> keyValues(NftAllowance nftAllowance) {
+        return List.of(
+                EntityId.of(nftAllowance.getSpender()).toString(),
+                EntityId.of(nftAllowance.getTokenId()).toString());
+    }
+
+    private List<Long> ids(Random random, int count) {
+        // Leave gaps between the ids so exclusive bounds can fall between two keys
+        var ids = new ArrayList<Long>(count);
+        long id = domainBuilder.id();
+        for (int i = 0; i < count; i++) {
+            ids.add(id);
+            id += 1 + random.nextInt(3);
+        }
+        return ids;
+    }
+
+    private EntityIdRangeParameter randomBound(Random random, Direction order, List<Long> ids) {
+        var operators = order == Direction.ASC
+                ? List.of(RangeOperator.GT, RangeOperator.GTE)
+                : List.of(RangeOperator.LT, RangeOperator.LTE);
+        var operator = operators.get(random.nextInt(operators.size()));
+        long value = ids.get(random.nextInt(ids.size())) + random.nextInt(3) - 1;
+        return parameter(operator, value);
+    }
+
+    private static EntityIdRangeParameter parameter(RangeOperator operator, long value) {
+        return new EntityIdRangeParameter(operator, EntityId.of(value));
+    }
+
+    private void setRequest(List<RangeParameter<?>> bounds) {
+        var request = new MockHttpServletRequest("GET", PATH);
+        var names = List.of(ACCOUNT_ID, TOKEN_ID);
+        for (int i = 0; i < bounds.size(); i++) {
+            var bound = bounds.get(i);
+            if (bound != null && bound.operator() != null) {
+                request.addParameter(names.get(i), bound.operator() + ":" + bound.value());
+            }
+        }
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+}
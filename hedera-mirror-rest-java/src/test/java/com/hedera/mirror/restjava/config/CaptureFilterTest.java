@@ -0,0 +1,215 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.restjava.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hedera.mirror.restjava.config.CaptureFilter.CapturedRequest;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.annotation.OrderUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class CaptureFilterTest {
+
+    private static final String ETAG = "\"abc\"";
+    private static final String PATH = "/api/v1/accounts/1000/allowances/crypto";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final CaptureProperties properties = new CaptureProperties();
+
+    @TempDir
+    private Path tempDir;
+
+    @BeforeEach
+    void setup() {
+        properties.setEnabled(true);
+        properties.setPath(tempDir.resolve("capture.jsonl"));
+    }
+
+    @Test
+    @SneakyThrows
+    void capture() {
+        var captureFilter = new CaptureFilter(properties);
+        var request = new MockHttpServletRequest("GET", PATH);
+        request.setQueryString("limit=2&order=desc");
+        var response = new MockHttpServletResponse();
+        response.setStatus(HttpStatus.OK.value());
+
+        captureFilter.doFilter(request, response, new MockFilterChain());
+        captureFilter.destroy();
+
+        assertThat(read())
+                .hasSize(1)
+                .first()
+                .returns("GET", CapturedRequest::method)
+                .returns(PATH, CapturedRequest::path)
+                .returns("limit=2&order=desc", CapturedRequest::query)
+                .returns(null, CapturedRequest::body)
+                .returns(null, CapturedRequest::headers)
+                .returns(HttpStatus.OK.value(), CapturedRequest::status)
+                .satisfies(c -> assertThat(c.offset()).isNotNegative())
+                .satisfies(c -> assertThat(c.latency()).isNotNegative());
+    }
+
+    @Test
+    @SneakyThrows
+    void captureBody() {
+        var captureFilter = new CaptureFilter(properties);
+        var body = "{\"query\":\"{ account { id } }\"}";
+        var request = new MockHttpServletRequest("POST", PATH);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        var response = new MockHttpServletResponse();
+
+        captureFilter.doFilter(request, response, (req, res) -> {
+            req.getInputStream().readAllBytes();
+            ((HttpServletResponse) res).setStatus(HttpStatus.BAD_REQUEST.value());
+        });
+        captureFilter.destroy();
+
+        assertThat(read())
+                .hasSize(1)
+                .first()
+                .returns("POST", CapturedRequest::method)
+                .returns(null, CapturedRequest::query)
+                .returns(body, CapturedRequest::body)
+                .returns(HttpStatus.BAD_REQUEST.value(), CapturedRequest::status);
+    }
+
+    @Test
+    @SneakyThrows
+    void captureHeaders() {
+        var captureFilter = new CaptureFilter(properties);
+        var request = new MockHttpServletRequest("GET", PATH);
+        request.addHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, ETAG);
+        request.addHeader(HttpHeaders.USER_AGENT, "test");
+        var response = new MockHttpServletResponse();
+        response.setStatus(HttpStatus.NOT_MODIFIED.value());
+
+        captureFilter.doFilter(request, response, new MockFilterChain());
+        captureFilter.destroy();
+
+        assertThat(read())
+                .hasSize(1)
+                .first()
+                .returns(
+                        Map.of(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE, HttpHeaders.IF_NONE_MATCH, ETAG),
+                        CapturedRequest::headers)
+                .returns(HttpStatus.NOT_MODIFIED.value(), CapturedRequest::status);
+    }
+
+    @Test
+    @SneakyThrows
+    void captureMany() {
+        var captureFilter = new CaptureFilter(properties);
+        int count = 100;
+
+        for (int i = 0; i < count; i++) {
+            var request = new MockHttpServletRequest("GET", PATH);
+            request.setQueryString("limit=" + (i + 1));
+            captureFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        }
+        captureFilter.destroy();
+
+        assertThat(read())
+                .hasSize(count)
+                .extracting(CapturedRequest::query)
+                .startsWith("limit=1", "limit=2")
+                .endsWith("limit=" + count);
+    }
+
+    @Test
+    @SneakyThrows
+    void captureError() {
+        var captureFilter = new CaptureFilter(properties);
+        var request = new MockHttpServletRequest("GET", PATH);
+        var response = new MockHttpServletResponse();
+
+        assertThatThrownBy(() -> captureFilter.doFilter(request, response, (req, res) -> {
+                    throw new ServletException("error");
+                }))
+                .isInstanceOf(ServletException.class);
+        captureFilter.destroy();
+
+        assertThat(read())
+                .hasSize(1)
+                .first()
+                .returns(HttpStatus.INTERNAL_SERVER_ERROR.value(), CapturedRequest::status);
+    }
+
+    @Test
+    @SneakyThrows
+    void actuator() {
+        var captureFilter = new CaptureFilter(properties);
+        var request = new MockHttpServletRequest("GET", "/actuator/health");
+
+        captureFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        captureFilter.destroy();
+
+        assertThat(read()).isEmpty();
+    }
+
+    @Test
+    @SneakyThrows
+    void disabled() {
+        properties.setEnabled(false);
+        var captureFilter = new CaptureFilter(properties);
+        var request = new MockHttpServletRequest("GET", PATH);
+
+        captureFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        captureFilter.destroy();
+
+        assertThat(properties.getPath()).doesNotExist();
+    }
+
+    @Test
+    void order() {
+        var orders = Stream.of(LoggingFilter.class, CaptureFilter.class, ResponseFilter.class)
+                .map(OrderUtils::getOrder)
+                .toList();
+        assertThat(orders).doesNotContainNull().isSorted().doesNotHaveDuplicates();
+    }
+
+    @SneakyThrows
+    private List<CapturedRequest> read() {
+        var lines = Files.readAllLines(properties.getPath());
+        var capturedRequests = new ArrayList<CapturedRequest>();
+        for (var line : lines) {
+            capturedRequests.add(objectMapper.readValue(line, CapturedRequest.class));
+        }
+        return capturedRequests;
+    }
+}
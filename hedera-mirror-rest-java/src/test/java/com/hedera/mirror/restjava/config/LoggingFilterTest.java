@@ -18,7 +18,10 @@ package com.hedera.mirror.restjava.config;
 
 import static com.google.common.net.HttpHeaders.X_FORWARDED_FOR;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.hedera.mirror.restjava.exception.ResponseCommittedException;
+import jakarta.servlet.FilterChain;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -89,6 +92,22 @@ class LoggingFilterTest {
         assertLog(output, "WARN", "\\w+ GET / in \\d+ ms: " + exception.getMessage());
     }
 
+    @Test
+    @SneakyThrows
+    void filterOnResponseCommitted(CapturedOutput output) {
+        var request = new MockHttpServletRequest("GET", "/");
+        var exception = new ResponseCommittedException("committed", new IllegalStateException());
+
+        response.setStatus(HttpStatus.OK.value());
+
+        FilterChain failingChain = (request1, response1) -> {
+            throw exception;
+        };
+
+        assertThatThrownBy(() -> loggingFilter.doFilter(request, response, failingChain)).isSameAs(exception);
+        assertLog(output, "WARN", "\\w+ GET / in \\d+ ms: " + exception.getMessage());
+    }
+
     private void assertLog(CapturedOutput logOutput, String level, String pattern) {
         assertThat(logOutput).asString().hasLineCount(1).contains(level).containsPattern(pattern);
     }
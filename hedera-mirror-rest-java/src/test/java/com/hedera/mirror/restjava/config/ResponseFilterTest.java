@@ -0,0 +1,215 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.restjava.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ResponseFilterTest {
+
+    private static final String BODY = "{\"allowances\":[]}";
+    private static final String ETAG = "\"0e4a8ff9d7d2a7f1d22e5d8e0b4b0b7c\"";
+    private static final String PATH = "/api/v1/accounts/1000/allowances/crypto";
+
+    private int invocations;
+    private ResponseProperties properties;
+    private int status;
+
+    @BeforeEach
+    void setup() {
+        invocations = 0;
+        properties = new ResponseProperties();
+        status = HttpStatus.OK.value();
+    }
+
+    @Test
+    void etag() {
+        var response = get(new ResponseFilter(properties), request());
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(BODY);
+        assertThat(response.getContentType()).isEqualTo(MediaType.APPLICATION_JSON_VALUE);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).matches("\"[0-9a-f]{32}\"");
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("max-age=1, public");
+        assertThat(response.getHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN)).isEqualTo("*");
+    }
+
+    @Test
+    void ifNoneMatch() {
+        var filter = new ResponseFilter(properties);
+        var eTag = get(filter, request()).getHeader(HttpHeaders.ETAG);
+        var request = request();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, eTag);
+
+        var response = get(filter, request);
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(eTag);
+    }
+
+    @Test
+    void ifNoneMatchDifferent() {
+        var request = request();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, ETAG);
+
+        var response = get(new ResponseFilter(properties), request);
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(BODY);
+    }
+
+    @Test
+    void cache() {
+        properties.getCache().setEnabled(true);
+        var filter = new ResponseFilter(properties);
+
+        var response1 = get(filter, request());
+        var response2 = get(filter, request());
+        var response3 = get(filter, request("limit=1"));
+
+        assertThat(invocations).isEqualTo(2);
+        assertThat(response2.getContentAsByteArray()).isEqualTo(response1.getContentAsByteArray());
+        assertThat(response2.getHeader(HttpHeaders.ETAG)).isEqualTo(response1.getHeader(HttpHeaders.ETAG));
+        assertThat(response2.getContentType()).isEqualTo(MediaType.APPLICATION_JSON_VALUE);
+        assertThat(response2.getHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN)).isEqualTo("*");
+        assertThat(response3.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(BODY);
+        assertThat(filter.getCache().stats())
+                .returns(1L, CacheStats::hitCount)
+                .returns(2L, CacheStats::missCount);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING})
+    void cacheVaryingHeader(String header) {
+        properties.getCache().setEnabled(true);
+        var filter = new ResponseFilter(properties);
+        var request = request();
+        request.addHeader(header, "other");
+
+        get(filter, request());
+        get(filter, request);
+        get(filter, request);
+
+        assertThat(invocations).isEqualTo(2);
+    }
+
+    @Test
+    void cacheZeroMaxAge() {
+        properties.setMaxAge(Duration.ZERO);
+        properties.getCache().setEnabled(true);
+        var filter = new ResponseFilter(properties);
+
+        get(filter, request());
+        var response = get(filter, request());
+
+        assertThat(invocations).isEqualTo(2);
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("max-age=0, public");
+        assertThat(filter.getCache().estimatedSize()).isZero();
+    }
+
+    @Test
+    void error() {
+        status = HttpStatus.BAD_REQUEST.value();
+        properties.getCache().setEnabled(true);
+        var filter = new ResponseFilter(properties);
+
+        get(filter, request());
+        var response = get(filter, request());
+
+        assertThat(invocations).isEqualTo(2);
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(BODY);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                "/actuator/health",
+                "/api/v1/accounts/1000/allowances/nfts",
+                "/api/v1/accounts/1000/allowances/crypto/other"
+            })
+    void notFiltered(String path) {
+        properties.getCache().setEnabled(true);
+        var filter = new ResponseFilter(properties);
+        var post = new MockHttpServletRequest("POST", PATH);
+        var request = new MockHttpServletRequest("GET", path);
+
+        assertThat(get(filter, post).getHeader(HttpHeaders.ETAG)).isNull();
+        assertThat(get(filter, request).getHeader(HttpHeaders.ETAG)).isNull();
+        assertThat(filter.getCache().estimatedSize()).isZero();
+    }
+
+    @Test
+    void paths() {
+        properties.setPaths(List.of("/api/v1/accounts/{id}/allowances/nfts"));
+        var filter = new ResponseFilter(properties);
+
+        assertThat(get(filter, request()).getHeader(HttpHeaders.ETAG)).isNull();
+        var nfts = new MockHttpServletRequest("GET", "/api/v1/accounts/1000/allowances/nfts");
+        assertThat(get(filter, nfts).getHeader(HttpHeaders.ETAG)).isNotNull();
+    }
+
+    @SneakyThrows
+    private MockHttpServletResponse get(ResponseFilter filter, MockHttpServletRequest request) {
+        var response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> {
+            invocations++;
+            var httpResponse = (HttpServletResponse) res;
+            httpResponse.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, "*");
+            httpResponse.setStatus(status);
+            httpResponse.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            httpResponse.getOutputStream().write(BODY.getBytes(StandardCharsets.UTF_8));
+        };
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private MockHttpServletRequest request() {
+        return request("");
+    }
+
+    private MockHttpServletRequest request(String query) {
+        var request = new MockHttpServletRequest("GET", PATH);
+        if (!query.isEmpty()) {
+            request.setQueryString(query);
+            for (var parameter : query.split("&")) {
+                var pair = parameter.split("=", 2);
+                request.addParameter(pair[0], pair[1]);
+            }
+        }
+        return request;
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.restjava.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.restjava.common.EntityIdNumParameter;
+import com.hedera.mirror.restjava.exception.ResponseCommittedException;
+import com.hedera.mirror.restjava.jooq.domain.tables.records.NftAllowanceRecord;
+import com.hedera.mirror.restjava.mapper.CommonMapperImpl;
+import com.hedera.mirror.restjava.mapper.NftAllowanceJsonWriter;
+import com.hedera.mirror.restjava.service.NftAllowanceService;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import org.jooq.Cursor;
+import org.jooq.exception.DataAccessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@ExtendWith(MockitoExtension.class)
+class AllowancesControllerCursorTest {
+
+    private static final EntityIdNumParameter ID = new EntityIdNumParameter(EntityId.of(1000L));
+
+    @Mock
+    private Cursor<NftAllowanceRecord> cursor;
+
+    @Mock
+    private NftAllowanceService nftAllowanceService;
+
+    private AllowancesController controller;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setup() {
+        var commonMapper = new CommonMapperImpl();
+        var jsonPageWriter = new JsonPageWriter(new ObjectMapper());
+        var nftAllowanceJsonWriter = new NftAllowanceJsonWriter(commonMapper);
+        controller = new AllowancesController(
+                commonMapper, null, null, jsonPageWriter, nftAllowanceJsonWriter, nftAllowanceService, null, null);
+        response = new MockHttpServletResponse();
+        when(nftAllowanceService.getNftAllowanceCursor(any())).thenReturn(cursor);
+    }
+
+    @Test
+    void cursorFailsBeforeCommit() {
+        var exception = new DataAccessException("error");
+        when(cursor.iterator()).thenReturn(new FailingIterator(0, exception));
+
+        // The error response can still be written by the controller advice
+        assertThatThrownBy(this::getNftAllowances).isSameAs(exception);
+        assertThat(response.isCommitted()).isFalse();
+        verify(cursor).close();
+    }
+
+    @Test
+    void cursorFailsAfterCommit() {
+        var exception = new DataAccessException("error");
+        when(cursor.iterator()).thenReturn(new FailingIterator(1000, exception));
+
+        assertThatThrownBy(this::getNftAllowances)
+                .isInstanceOf(ResponseCommittedException.class)
+                .hasCause(exception);
+        assertThat(response.isCommitted()).isTrue();
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8))
+                .startsWith("{\"allowances\":[{")
+                .doesNotEndWith("}");
+        verify(cursor).close();
+    }
+
+    private void getNftAllowances() throws Exception {
+        controller.getNftAllowancesByAccountId(ID, null, 25, Direction.ASC, true, null, response);
+    }
+
+    // Returns the given number of records and then fails like a cursor losing its database connection
+    private static class FailingIterator implements Iterator<NftAllowanceRecord> {
+
+        private final RuntimeException exception;
+        private int remaining;
+
+        private FailingIterator(int records, RuntimeException exception) {
+            this.exception = exception;
+            this.remaining = records;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return true;
+        }
+
+        @Override
+        public NftAllowanceRecord next() {
+            if (remaining-- <= 0) {
+                throw exception;
+            }
+
+            var source = new NftAllowanceRecord();
+            source.setApprovedForAll(true);
+            source.setOwner(1000L);
+            source.setSpender(2000L + remaining);
+            source.setTokenId(3000L);
+            return source;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.restjava.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hedera.mirror.common.domain.entity.CryptoAllowance;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.rest.model.CryptoAllowancesResponse;
+import com.hedera.mirror.rest.model.Error;
+import com.hedera.mirror.rest.model.ErrorStatusMessagesInner;
+import com.hedera.mirror.restjava.RestJavaIntegrationTest;
+import com.hedera.mirror.restjava.mapper.CryptoAllowanceMapper;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+
+@RequiredArgsConstructor
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class CryptoAllowancesControllerTest extends RestJavaIntegrationTest {
+
+    private final CryptoAllowanceMapper mapper;
+
+    @LocalServerPort
+    private int port;
+
+    private RestClient restClient;
+
+    @BeforeEach
+    void setup() {
+        restClient = RestClient.builder()
+                .baseUrl("http://localhost:%d/api/v1/accounts/{id}/allowances/crypto".formatted(port))
+                .defaultHeader("Accept", "application/json")
+                .build();
+    }
+
+    @Test
+    void cryptoAllowances() {
+        // Given
+        long owner = domainBuilder.id();
+        var allowance1 = persist(owner);
+        var allowance2 = persist(owner);
+        domainBuilder
+                .cryptoAllowance()
+                .customize(c -> c.amount(0).owner(owner))
+                .persist();
+        domainBuilder.cryptoAllowance().persist();
+
+        // When
+        var result = restClient.get().uri("", owner).retrieve().body(CryptoAllowancesResponse.class);
+
+        // Then the default order is descending by spender and allowances with no amount remaining are excluded
+        assertThat(result.getAllowances()).isEqualTo(mapper.map(sorted(allowance1, allowance2).reversed()));
+        assertThat(result.getLinks().getNext()).isNull();
+    }
+
+    @Test
+    void cryptoAllowancesNextLink() {
+        // Given
+        long owner = domainBuilder.id();
+        var allowances = sorted(persist(owner), persist(owner)).reversed();
+        var first = allowances.getFirst();
+        var next = "/api/v1/accounts/%d/allowances/crypto?limit=1&spender.id=lt:%s"
+                .formatted(owner, EntityId.of(first.getSpender()));
+
+        // When
+        var result =
+                restClient.get().uri("?limit=1", owner).retrieve().body(CryptoAllowancesResponse.class);
+
+        // Then
+        assertThat(result.getAllowances()).isEqualTo(mapper.map(List.of(first)));
+        assertThat(result.getLinks().getNext()).isEqualTo(next);
+
+        // When following the next link
+        result = restClient
+                .get()
+                .uri("?limit=1&spender.id=lt:{spender}", owner, EntityId.of(first.getSpender()))
+                .retrieve()
+                .body(CryptoAllowancesResponse.class);
+
+        // Then
+        assertThat(result.getAllowances()).isEqualTo(mapper.map(List.of(allowances.getLast())));
+    }
+
+    @Test
+    void cryptoAllowancesSpenderId() {
+        // Given
+        long owner = domainBuilder.id();
+        var allowances = sorted(persist(owner), persist(owner), persist(owner));
+        var second = allowances.get(1);
+        var next = "/api/v1/accounts/%d/allowances/crypto?spender.id=gt:%s&limit=1&order=asc"
+                .formatted(owner, EntityId.of(second.getSpender()));
+
+        // When
+        var result = restClient
+                .get()
+                .uri("?spender.id=gte:{spender}&limit=1&order=asc", owner, EntityId.of(second.getSpender()))
+                .retrieve()
+                .body(CryptoAllowancesResponse.class);
+
+        // Then
+        assertThat(result.getAllowances()).isEqualTo(mapper.map(List.of(second)));
+        assertThat(result.getLinks().getNext()).isEqualTo(next);
+    }
+
+    @Test
+    void cryptoAllowancesSpenderIdNotEqual() {
+        // Given
+        long owner = domainBuilder.id();
+        persist(owner);
+
+        // When
+        ThrowingCallable callable = () -> restClient
+                .get()
+                .uri("?spender.id=ne:0.0.1000", owner)
+                .retrieve()
+                .body(CryptoAllowancesResponse.class);
+
+        // Then
+        validateError(callable, "Invalid range operator ne. This operator is not supported");
+    }
+
+    private CryptoAllowance persist(long owner) {
+        return domainBuilder.cryptoAllowance().customize(c -> c.owner(owner)).persist();
+    }
+
+    private List<CryptoAllowance> sorted(CryptoAllowance... allowances) {
+        return Stream.of(allowances)
+                .sorted(Comparator.comparingLong(CryptoAllowance::getSpender))
+                .toList();
+    }
+
+    private void validateError(ThrowingCallable callable, String message) {
+        assertThatThrownBy(callable)
+                .isInstanceOf(HttpClientErrorException.BadRequest.class)
+                .asInstanceOf(InstanceOfAssertFactories.type(HttpClientErrorException.class))
+                .extracting(r -> r.getResponseBodyAs(Error.class)
+                        .getStatus()
+                        .getMessages()
+                        .getFirst())
+                .returns(message, ErrorStatusMessagesInner::getMessage);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.restjava.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.restjava.controller.JsonPageWriter.Page;
+import com.hedera.mirror.restjava.jooq.domain.tables.records.NftAllowanceRecord;
+import com.hedera.mirror.restjava.repository.NftAllowanceRepositoryCustom;
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class JsonPageWriterTest {
+
+    private static final String PATH = "/api/v1/accounts/1000/allowances/nfts";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JsonPageWriter jsonPageWriter = new JsonPageWriter(objectMapper);
+
+    @BeforeEach
+    void setup() {
+        var request = new MockHttpServletRequest("GET", PATH);
+        request.addParameter("limit", "2");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void cleanup() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void writeFullPage() {
+        var records = List.of(nftAllowance(2000L, 3000L), nftAllowance(2001L, 3001L));
+        var next = PATH + "?limit=2&account.id=gte:0.0.2001&token.id=gt:0.0.3001";
+
+        assertThat(write(records, 2))
+                .isEqualTo("{\"allowances\":[{\"spender\":\"0.0.2000\",\"token_id\":\"0.0.3000\"},"
+                        + "{\"spender\":\"0.0.2001\",\"token_id\":\"0.0.3001\"}],\"links\":{\"next\":\"" + next
+                        + "\"}}");
+    }
+
+    @Test
+    void writePartialPage() {
+        var records = List.of(nftAllowance(2000L, 3000L));
+
+        assertThat(write(records, 2))
+                .isEqualTo("{\"allowances\":[{\"spender\":\"0.0.2000\",\"token_id\":\"0.0.3000\"}],"
+                        + "\"links\":{\"next\":null}}");
+    }
+
+    @Test
+    void writeEmptyPage() {
+        assertThat(write(List.of(), 2)).isEqualTo("{\"allowances\":[],\"links\":{\"next\":null}}");
+    }
+
+    @SneakyThrows
+    private String write(List<NftAllowanceRecord> records, int limit) {
+        var outputStream = new ByteArrayOutputStream();
+        var page = new Page<>("allowances", records, NftAllowanceRepositoryCustom.BY_OWNER, limit, Direction.ASC);
+        jsonPageWriter.write(outputStream, page, (source, generator) -> {
+            generator.writeStartObject();
+            generator.writeStringField("spender", toString(source.getSpender()));
+            generator.writeStringField("token_id", toString(source.getTokenId()));
+            generator.writeEndObject();
+        }, a -> List.of(toString(a.getSpender()), toString(a.getTokenId())));
+        return outputStream.toString();
+    }
+
+    private NftAllowanceRecord nftAllowance(long spender, long tokenId) {
+        var source = new NftAllowanceRecord();
+        source.setSpender(spender);
+        source.setTokenId(tokenId);
+        return source;
+    }
+
+    private static String toString(long id) {
+        return EntityId.of(id).toString();
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.restjava.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.entity.TokenAllowance;
+import com.hedera.mirror.rest.model.Error;
+import com.hedera.mirror.rest.model.ErrorStatusMessagesInner;
+import com.hedera.mirror.rest.model.TokenAllowancesResponse;
+import com.hedera.mirror.restjava.RestJavaIntegrationTest;
+import com.hedera.mirror.restjava.mapper.TokenAllowanceMapper;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+
+@RequiredArgsConstructor
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class TokenAllowancesControllerTest extends RestJavaIntegrationTest {
+
+    private final TokenAllowanceMapper mapper;
+
+    @LocalServerPort
+    private int port;
+
+    private RestClient restClient;
+
+    @BeforeEach
+    void setup() {
+        restClient = RestClient.builder()
+                .baseUrl("http://localhost:%d/api/v1/accounts/{id}/allowances/tokens".formatted(port))
+                .defaultHeader("Accept", "application/json")
+                .build();
+    }
+
+    @Test
+    void tokenAllowances() {
+        // Given
+        long owner = domainBuilder.id();
+        long spender = domainBuilder.id();
+        var allowance1 = persist(owner, spender);
+        var allowance2 = persist(owner, spender);
+        var allowance3 = persist(owner, domainBuilder.id());
+        domainBuilder
+                .tokenAllowance()
+                .customize(t -> t.amount(0).owner(owner))
+                .persist();
+        domainBuilder.tokenAllowance().persist();
+
+        // When
+        var result = restClient.get().uri("", owner).retrieve().body(TokenAllowancesResponse.class);
+
+        // Then the default order is ascending by spender and token and allowances with no amount remaining are excluded
+        assertThat(result.getAllowances()).isEqualTo(mapper.map(sorted(allowance1, allowance2, allowance3)));
+        assertThat(result.getLinks().getNext()).isNull();
+    }
+
+    @Test
+    void tokenAllowancesNextLink() {
+        // Given
+        long owner = domainBuilder.id();
+        long spender = domainBuilder.id();
+        var allowances = sorted(persist(owner, spender), persist(owner, spender), persist(owner, domainBuilder.id()));
+        var first = allowances.getFirst();
+        var next = "/api/v1/accounts/%d/allowances/tokens?limit=1&spender.id=gte:%s&token.id=gt:%s"
+                .formatted(owner, EntityId.of(first.getSpender()), EntityId.of(first.getTokenId()));
+
+        // When
+        var result = restClient.get().uri("?limit=1", owner).retrieve().body(TokenAllowancesResponse.class);
+
+        // Then
+        assertThat(result.getAllowances()).isEqualTo(mapper.map(List.of(first)));
+        assertThat(result.getLinks().getNext()).isEqualTo(next);
+
+        // When following the next link
+        result = restClient
+                .get()
+                .uri(
+                        "?limit=2&spender.id=gte:{spender}&token.id=gt:{token}",
+                        owner,
+                        EntityId.of(first.getSpender()),
+                        EntityId.of(first.getTokenId()))
+                .retrieve()
+                .body(TokenAllowancesResponse.class);
+
+        // Then the rest of the same spender's tokens are followed by the next spender's
+        assertThat(result.getAllowances()).isEqualTo(mapper.map(allowances.subList(1, 3)));
+    }
+
+    @Test
+    void tokenAllowancesOrderDesc() {
+        // Given
+        long owner = domainBuilder.id();
+        var allowances = sorted(persist(owner, domainBuilder.id()), persist(owner, domainBuilder.id()));
+        var last = allowances.getLast();
+        var next = "/api/v1/accounts/%d/allowances/tokens?limit=1&order=desc&spender.id=lte:%s&token.id=lt:%s"
+                .formatted(owner, EntityId.of(last.getSpender()), EntityId.of(last.getTokenId()));
+
+        // When
+        var result = restClient
+                .get()
+                .uri("?limit=1&order=desc", owner)
+                .retrieve()
+                .body(TokenAllowancesResponse.class);
+
+        // Then
+        assertThat(result.getAllowances()).isEqualTo(mapper.map(List.of(last)));
+        assertThat(result.getLinks().getNext()).isEqualTo(next);
+    }
+
+    @ParameterizedTest
+    @CsvSource(
+            delimiter = '|',
+            textBlock =
+                    """
+            token.id=gt:0.0.1000                      | token.id parameter must have spender.id present
+            spender.id=gt:0.0.1000&token.id=gt:0.0.1  | spender.id must have gte or eq operator
+            spender.id=lte:0.0.1000&token.id=gt:0.0.1 | spender.id must have gte or eq operator
+            spender.id=lt:0.0.1000&token.id=lt:0.0.1  | spender.id must have lte or eq operator
+            spender.id=ne:0.0.1000                    | Invalid range operator ne. This operator is not supported
+            """)
+    void tokenAllowancesInvalidBounds(String parameters, String message) {
+        // Given
+        long owner = domainBuilder.id();
+        persist(owner, domainBuilder.id());
+
+        // When
+        ThrowingCallable callable = () -> restClient
+                .get()
+                .uri("?" + parameters, owner)
+                .retrieve()
+                .body(TokenAllowancesResponse.class);
+
+        // Then
+        assertThatThrownBy(callable)
+                .isInstanceOf(HttpClientErrorException.BadRequest.class)
+                .asInstanceOf(InstanceOfAssertFactories.type(HttpClientErrorException.class))
+                .extracting(r -> r.getResponseBodyAs(Error.class)
+                        .getStatus()
+                        .getMessages()
+                        .getFirst())
+                .returns(message, ErrorStatusMessagesInner::getMessage);
+    }
+
+    private TokenAllowance persist(long owner, long spender) {
+        return domainBuilder
+                .tokenAllowance()
+                .customize(t -> t.owner(owner).spender(spender))
+                .persist();
+    }
+
+    private List<TokenAllowance> sorted(TokenAllowance... allowances) {
+        return Stream.of(allowances)
+                .sorted(Comparator.comparingLong(TokenAllowance::getSpender)
+                        .thenComparingLong(TokenAllowance::getTokenId))
+                .toList();
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.restjava.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.Range;
+import com.hedera.mirror.common.domain.DomainBuilder;
+import com.hedera.mirror.common.domain.entity.NftAllowance;
+import com.hedera.mirror.restjava.jooq.domain.tables.records.NftAllowanceRecord;
+import java.io.StringWriter;
+import lombok.SneakyThrows;
+import org.jooq.postgres.extensions.types.LongRange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class NftAllowanceJsonWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private DomainBuilder domainBuilder;
+    private NftAllowanceMapper mapper;
+    private NftAllowanceJsonWriter writer;
+
+    @BeforeEach
+    void setup() {
+        var commonMapper = new CommonMapperImpl();
+        domainBuilder = new DomainBuilder();
+        mapper = new NftAllowanceMapperImpl(commonMapper);
+        writer = new NftAllowanceJsonWriter(commonMapper);
+    }
+
+    @Test
+    void write() {
+        var allowance = domainBuilder.nftAllowance().get();
+        assertWrite(allowance, toRecord(allowance));
+    }
+
+    @Test
+    void writeHistorical() {
+        long timestamp = domainBuilder.timestamp();
+        var allowance = domainBuilder
+                .nftAllowance()
+                .customize(a -> a.timestampRange(Range.closedOpen(timestamp, timestamp + 10)))
+                .get();
+        assertWrite(allowance, toRecord(allowance));
+    }
+
+    @Test
+    void writeNulls() {
+        assertWrite(new NftAllowance(), new NftAllowanceRecord());
+    }
+
+    @SneakyThrows
+    private void assertWrite(NftAllowance allowance, NftAllowanceRecord source) {
+        var expected = objectMapper.writeValueAsString(mapper.map(allowance));
+        var actual = new StringWriter();
+        try (var generator = objectMapper.createGenerator(actual)) {
+            writer.write(source, generator);
+        }
+
+        assertThat(objectMapper.readTree(actual.toString())).isEqualTo(objectMapper.readTree(expected));
+    }
+
+    private NftAllowanceRecord toRecord(NftAllowance allowance) {
+        var source = new NftAllowanceRecord();
+        source.setApprovedForAll(allowance.isApprovedForAll());
+        source.setOwner(allowance.getOwner());
+        source.setSpender(allowance.getSpender());
+        source.setTimestampRange(
+                LongRange.longRange(allowance.getTimestampLower(), true, allowance.getTimestampUpper(), false));
+        source.setTokenId(allowance.getTokenId());
+        return source;
+    }
+}
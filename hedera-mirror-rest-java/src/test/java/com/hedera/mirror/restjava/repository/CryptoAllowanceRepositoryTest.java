@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.restjava.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.mirror.common.domain.entity.CryptoAllowance;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.restjava.RestJavaIntegrationTest;
+import com.hedera.mirror.restjava.common.EntityIdNumParameter;
+import com.hedera.mirror.restjava.common.EntityIdRangeParameter;
+import com.hedera.mirror.restjava.common.RangeOperator;
+import com.hedera.mirror.restjava.service.CryptoAllowanceRequest;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort.Direction;
+
+@RequiredArgsConstructor
+class CryptoAllowanceRepositoryTest extends RestJavaIntegrationTest {
+
+    private final CryptoAllowanceRepository cryptoAllowanceRepository;
+
+    private EntityId owner;
+    private List<CryptoAllowance> allowances;
+
+    @BeforeEach
+    void setup() {
+        owner = domainBuilder.entityId();
+        // Spenders in ascending order
+        allowances = List.of(persist(), persist(), persist());
+
+        // Allowances that are never returned for the owner
+        domainBuilder
+                .cryptoAllowance()
+                .customize(c -> c.amount(0).owner(owner.getId()))
+                .persist();
+        domainBuilder.cryptoAllowance().persist();
+    }
+
+    @Test
+    void findAll() {
+        assertThat(cryptoAllowanceRepository.findAll(request().build(), owner))
+                .containsExactly(allowances.get(2), allowances.get(1), allowances.get(0));
+    }
+
+    @Test
+    void findAllAscending() {
+        var request = request().limit(2).order(Direction.ASC).build();
+        assertThat(cryptoAllowanceRepository.findAll(request, owner))
+                .containsExactly(allowances.get(0), allowances.get(1));
+    }
+
+    @Test
+    void findAllSpenderEq() {
+        var request = request().spenderId(spender(RangeOperator.EQ, 1)).build();
+        assertThat(cryptoAllowanceRepository.findAll(request, owner)).containsExactly(allowances.get(1));
+    }
+
+    @Test
+    void findAllSpenderGt() {
+        var request = request().spenderId(spender(RangeOperator.GT, 0)).order(Direction.ASC).build();
+        assertThat(cryptoAllowanceRepository.findAll(request, owner))
+                .containsExactly(allowances.get(1), allowances.get(2));
+    }
+
+    @Test
+    void findAllSpenderLte() {
+        var request = request().spenderId(spender(RangeOperator.LTE, 1)).build();
+        assertThat(cryptoAllowanceRepository.findAll(request, owner))
+                .containsExactly(allowances.get(1), allowances.get(0));
+    }
+
+    @Test
+    void findAllNoMatch() {
+        var otherOwner = domainBuilder.entityId();
+        assertThat(cryptoAllowanceRepository.findAll(request().build(), otherOwner)).isEmpty();
+
+        var request = request().spenderId(spender(RangeOperator.GT, 2)).build();
+        assertThat(cryptoAllowanceRepository.findAll(request, owner)).isEmpty();
+    }
+
+    private CryptoAllowance persist() {
+        return domainBuilder
+                .cryptoAllowance()
+                .customize(c -> c.owner(owner.getId()))
+                .persist();
+    }
+
+    private CryptoAllowanceRequest.CryptoAllowanceRequestBuilder request() {
+        return CryptoAllowanceRequest.builder().accountId(new EntityIdNumParameter(owner));
+    }
+
+    private EntityIdRangeParameter spender(RangeOperator operator, int index) {
+        return new EntityIdRangeParameter(operator, EntityId.of(allowances.get(index).getSpender()));
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.restjava.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.entity.TokenAllowance;
+import com.hedera.mirror.restjava.RestJavaIntegrationTest;
+import com.hedera.mirror.restjava.common.EntityIdNumParameter;
+import com.hedera.mirror.restjava.common.EntityIdRangeParameter;
+import com.hedera.mirror.restjava.common.RangeOperator;
+import com.hedera.mirror.restjava.service.TokenAllowanceRequest;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort.Direction;
+
+@RequiredArgsConstructor
+class TokenAllowanceRepositoryTest extends RestJavaIntegrationTest {
+
+    private final TokenAllowanceRepository tokenAllowanceRepository;
+
+    private EntityId owner;
+    private List<Long> spenders;
+    private List<Long> tokenIds;
+    private List<TokenAllowance> allowances;
+
+    @BeforeEach
+    void setup() {
+        // Set up 2 (spenders) x 2 (tokens) allowances, ordered by spender and then token
+        owner = domainBuilder.entityId();
+        spenders = List.of(domainBuilder.id(), domainBuilder.id());
+        tokenIds = List.of(domainBuilder.id(), domainBuilder.id());
+        allowances = List.of(persist(0, 0), persist(0, 1), persist(1, 0), persist(1, 1));
+
+        // Allowances that are never returned for the owner
+        domainBuilder
+                .tokenAllowance()
+                .customize(t -> t.amount(0).owner(owner.getId()))
+                .persist();
+        domainBuilder.tokenAllowance().persist();
+    }
+
+    @Test
+    void findAll() {
+        assertThat(tokenAllowanceRepository.findAll(request().build(), owner)).containsExactlyElementsOf(allowances);
+    }
+
+    @Test
+    void findAllDescending() {
+        var request = request().limit(3).order(Direction.DESC).build();
+        assertThat(tokenAllowanceRepository.findAll(request, owner))
+                .containsExactly(allowances.get(3), allowances.get(2), allowances.get(1));
+    }
+
+    @Test
+    void findAllSpenderEq() {
+        var request = request().spenderId(spender(RangeOperator.EQ, 1)).build();
+        assertThat(tokenAllowanceRepository.findAll(request, owner))
+                .containsExactly(allowances.get(2), allowances.get(3));
+    }
+
+    @Test
+    void findAllSpenderEqTokenGt() {
+        var request = request()
+                .spenderId(spender(RangeOperator.EQ, 0))
+                .tokenId(token(RangeOperator.GT, 0))
+                .build();
+        assertThat(tokenAllowanceRepository.findAll(request, owner)).containsExactly(allowances.get(1));
+    }
+
+    @Test
+    void findAllSpenderGteTokenGt() {
+        // The next page after the first allowance continues with the remaining tokens of the spender
+        var request = request()
+                .spenderId(spender(RangeOperator.GTE, 0))
+                .tokenId(token(RangeOperator.GT, 0))
+                .build();
+        assertThat(tokenAllowanceRepository.findAll(request, owner))
+                .containsExactly(allowances.get(1), allowances.get(2), allowances.get(3));
+    }
+
+    @Test
+    void findAllSpenderLteTokenLt() {
+        var request = request()
+                .spenderId(spender(RangeOperator.LTE, 1))
+                .tokenId(token(RangeOperator.LT, 1))
+                .order(Direction.DESC)
+                .build();
+        assertThat(tokenAllowanceRepository.findAll(request, owner))
+                .containsExactly(allowances.get(2), allowances.get(1), allowances.get(0));
+    }
+
+    @Test
+    void findAllNoMatch() {
+        var otherOwner = domainBuilder.entityId();
+        assertThat(tokenAllowanceRepository.findAll(request().build(), otherOwner)).isEmpty();
+
+        var request = request()
+                .spenderId(spender(RangeOperator.EQ, 1))
+                .tokenId(token(RangeOperator.GT, 1))
+                .build();
+        assertThat(tokenAllowanceRepository.findAll(request, owner)).isEmpty();
+    }
+
+    private TokenAllowance persist(int spenderIndex, int tokenIndex) {
+        return domainBuilder
+                .tokenAllowance()
+                .customize(t -> t.owner(owner.getId())
+                        .spender(spenders.get(spenderIndex))
+                        .tokenId(tokenIds.get(tokenIndex)))
+                .persist();
+    }
+
+    private TokenAllowanceRequest.TokenAllowanceRequestBuilder request() {
+        return TokenAllowanceRequest.builder().accountId(new EntityIdNumParameter(owner));
+    }
+
+    private EntityIdRangeParameter spender(RangeOperator operator, int index) {
+        return new EntityIdRangeParameter(operator, EntityId.of(spenders.get(index)));
+    }
+
+    private EntityIdRangeParameter token(RangeOperator operator, int index) {
+        return new EntityIdRangeParameter(operator, EntityId.of(tokenIds.get(index)));
+    }
+}
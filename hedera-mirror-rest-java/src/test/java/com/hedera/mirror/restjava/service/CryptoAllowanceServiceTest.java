@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.restjava.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.hedera.mirror.common.domain.entity.CryptoAllowance;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.restjava.RestJavaIntegrationTest;
+import com.hedera.mirror.restjava.common.EntityIdAliasParameter;
+import com.hedera.mirror.restjava.common.EntityIdEvmAddressParameter;
+import com.hedera.mirror.restjava.common.EntityIdNumParameter;
+import com.hedera.mirror.restjava.common.EntityIdRangeParameter;
+import com.hedera.mirror.restjava.common.RangeOperator;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+@RequiredArgsConstructor
+class CryptoAllowanceServiceTest extends RestJavaIntegrationTest {
+
+    private final CryptoAllowanceService service;
+
+    @Test
+    void getCryptoAllowances() {
+        var owner = domainBuilder.entityId();
+        var cryptoAllowance1 = saveCryptoAllowance(owner);
+        var cryptoAllowance2 = saveCryptoAllowance(owner);
+        saveCryptoAllowance(domainBuilder.entityId());
+
+        var request = CryptoAllowanceRequest.builder().accountId(new EntityIdNumParameter(owner)).build();
+
+        assertThat(service.getCryptoAllowances(request)).containsExactly(cryptoAllowance2, cryptoAllowance1);
+    }
+
+    @Test
+    void getCryptoAllowancesWithSpenderAndLimit() {
+        var owner = domainBuilder.entityId();
+        var cryptoAllowance1 = saveCryptoAllowance(owner);
+        var cryptoAllowance2 = saveCryptoAllowance(owner);
+        saveCryptoAllowance(owner);
+
+        var request = CryptoAllowanceRequest.builder()
+                .accountId(new EntityIdNumParameter(owner))
+                .limit(1)
+                .order(Sort.Direction.ASC)
+                .spenderId(new EntityIdRangeParameter(RangeOperator.GT, EntityId.of(cryptoAllowance1.getSpender())))
+                .build();
+
+        assertThat(service.getCryptoAllowances(request)).containsExactly(cryptoAllowance2);
+    }
+
+    @Test
+    void getCryptoAllowancesWithAlias() {
+        var entity = domainBuilder.entity().persist();
+        var cryptoAllowance = saveCryptoAllowance(entity.toEntityId());
+
+        var request = CryptoAllowanceRequest.builder()
+                .accountId(new EntityIdAliasParameter(0, 0, entity.getAlias()))
+                .build();
+
+        assertThat(service.getCryptoAllowances(request)).containsExactly(cryptoAllowance);
+    }
+
+    @Test
+    void getCryptoAllowancesWithEvmAddress() {
+        var entity = domainBuilder.entity().persist();
+        var cryptoAllowance = saveCryptoAllowance(entity.toEntityId());
+
+        var request = CryptoAllowanceRequest.builder()
+                .accountId(new EntityIdEvmAddressParameter(0, 0, entity.getEvmAddress()))
+                .build();
+
+        assertThat(service.getCryptoAllowances(request)).containsExactly(cryptoAllowance);
+    }
+
+    @Test
+    void getCryptoAllowancesAccountNotFound() {
+        var request = CryptoAllowanceRequest.builder()
+                .accountId(new EntityIdAliasParameter(0, 0, domainBuilder.key()))
+                .build();
+
+        assertThrows(EntityNotFoundException.class, () -> service.getCryptoAllowances(request));
+    }
+
+    private CryptoAllowance saveCryptoAllowance(EntityId owner) {
+        return domainBuilder
+                .cryptoAllowance()
+                .customize(c -> c.owner(owner.getId()))
+                .persist();
+    }
+}
@@ -17,15 +17,27 @@
 package com.hedera.mirror.restjava.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
 
 import com.google.common.io.BaseEncoding;
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.restjava.RestJavaIntegrationTest;
+import com.hedera.mirror.restjava.RestJavaProperties;
 import com.hedera.mirror.restjava.common.EntityIdAliasParameter;
 import com.hedera.mirror.restjava.common.EntityIdEvmAddressParameter;
 import com.hedera.mirror.restjava.common.EntityIdNumParameter;
+import com.hedera.mirror.restjava.repository.EntityRepository;
 import jakarta.persistence.EntityNotFoundException;
+import java.time.Duration;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.codec.DecoderException;
 import org.apache.commons.codec.binary.Hex;
@@ -33,10 +45,13 @@ import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
 
 @RequiredArgsConstructor
 class EntityServiceTest extends RestJavaIntegrationTest {
 
+    private final EntityRepository entityRepository;
+    private final RestJavaProperties restJavaProperties;
     private final EntityService service;
 
     @Test
@@ -56,6 +71,97 @@ class EntityServiceTest extends RestJavaIntegrationTest {
         assertThat(service.lookup(unknownAccountId)).isEqualTo(unknownAccountId.id());
     }
 
+    @Test
+    void lookupCached() {
+        var entity = domainBuilder.entity().persist();
+        var id = entity.toEntityId();
+        var alias = new EntityIdAliasParameter(0, 0, entity.getAlias());
+        var evmAddress = new EntityIdEvmAddressParameter(0, 0, entity.getEvmAddress());
+        assertThat(service.lookup(alias)).isEqualTo(id);
+        assertThat(service.lookup(evmAddress)).isEqualTo(id);
+
+        entityRepository.deleteAll();
+
+        // A deleted entity is no longer found once its cached id expires
+        await().atMost(Duration.ofSeconds(5L)).untilAsserted(() -> {
+            assertThrows(EntityNotFoundException.class, () -> service.lookup(alias));
+            assertThrows(EntityNotFoundException.class, () -> service.lookup(evmAddress));
+        });
+    }
+
+    @Test
+    void lookupNotFoundCached() {
+        var alias = domainBuilder.key();
+        var aliasParameter = new EntityIdAliasParameter(0, 0, alias);
+        assertThrows(EntityNotFoundException.class, () -> service.lookup(aliasParameter));
+
+        domainBuilder.entity().customize(e -> e.alias(alias)).persist();
+
+        assertThrows(EntityNotFoundException.class, () -> service.lookup(aliasParameter));
+    }
+
+    @Test
+    void lookupAll() {
+        var entity1 = domainBuilder.entity().persist();
+        var entity2 = domainBuilder.entity().persist();
+        var entity3 = domainBuilder.entity().persist();
+        var deleted = domainBuilder.entity().customize(e -> e.deleted(true)).persist();
+        var numParameter = getEntityId("0.0.5000");
+
+        // Cache the alias of the first entity
+        var aliasParameter1 = new EntityIdAliasParameter(0, 0, entity1.getAlias());
+        assertThat(service.lookup(aliasParameter1)).isEqualTo(entity1.toEntityId());
+
+        var evmAddressParameter3 = new EntityIdEvmAddressParameter(0, 0, entity3.getEvmAddress());
+        var aliasParameter2 = new EntityIdAliasParameter(0, 0, entity2.getAlias());
+        var ids = service.lookupAll(List.of(
+                evmAddressParameter3,
+                aliasParameter1,
+                numParameter,
+                new EntityIdAliasParameter(0, 0, domainBuilder.key()),
+                aliasParameter2,
+                new EntityIdEvmAddressParameter(0, 0, deleted.getEvmAddress())));
+
+        assertThat(ids)
+                .containsExactly(
+                        entry(evmAddressParameter3, entity3.toEntityId()),
+                        entry(aliasParameter1, entity1.toEntityId()),
+                        entry(numParameter, numParameter.id()),
+                        entry(aliasParameter2, entity2.toEntityId()));
+        assertThat(service.lookupAll(List.of())).isEmpty();
+    }
+
+    @Test
+    void lookupAllQueriesOncePerAddressType() {
+        var repository = mock(EntityRepository.class);
+        var entityService = new EntityServiceImpl(
+                new CaffeineCacheManager(), new CaffeineCacheManager(), repository, restJavaProperties);
+        var entity1 = domainBuilder.entity().get();
+        var entity2 = domainBuilder.entity().get();
+        var entity3 = domainBuilder.entity().get();
+        var entity4 = domainBuilder.entity().get();
+        when(repository.findAllByAlias(any())).thenReturn(List.of(entity1, entity2));
+        when(repository.findAllByEvmAddress(any())).thenReturn(List.of(entity3, entity4));
+
+        var ids = entityService.lookupAll(List.of(
+                new EntityIdAliasParameter(0, 0, entity1.getAlias()),
+                new EntityIdEvmAddressParameter(0, 0, entity3.getEvmAddress()),
+                new EntityIdAliasParameter(0, 0, entity2.getAlias()),
+                new EntityIdEvmAddressParameter(0, 0, entity4.getEvmAddress()),
+                getEntityId("0.0.5000")));
+
+        assertThat(ids).hasSize(5);
+        verify(repository).findAllByAlias(argThat(a -> a.size() == 2));
+        verify(repository).findAllByEvmAddress(argThat(e -> e.size() == 2));
+        verifyNoMoreInteractions(repository);
+    }
+
+    @Test
+    void lookupAllInvalidShardRealm() {
+        var entityIds = List.of(getEntityId("0.0.5000"), getEntityIdAliasParameter("AABBCC22", 0L, 1L));
+        assertThrows(IllegalArgumentException.class, () -> service.lookupAll(entityIds));
+    }
+
     @Test
     @SuppressWarnings("java:S5778")
     void lookupEntityNotPresent() {
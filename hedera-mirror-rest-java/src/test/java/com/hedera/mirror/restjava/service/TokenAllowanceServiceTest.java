@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.restjava.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.entity.TokenAllowance;
+import com.hedera.mirror.restjava.RestJavaIntegrationTest;
+import com.hedera.mirror.restjava.common.EntityIdAliasParameter;
+import com.hedera.mirror.restjava.common.EntityIdEvmAddressParameter;
+import com.hedera.mirror.restjava.common.EntityIdNumParameter;
+import com.hedera.mirror.restjava.common.EntityIdRangeParameter;
+import com.hedera.mirror.restjava.common.RangeOperator;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.data.domain.Sort;
+
+@RequiredArgsConstructor
+class TokenAllowanceServiceTest extends RestJavaIntegrationTest {
+
+    private final TokenAllowanceService service;
+
+    @Test
+    void getTokenAllowances() {
+        var owner = domainBuilder.entityId();
+        var tokenAllowance1 = saveTokenAllowance(owner);
+        var tokenAllowance2 = saveTokenAllowance(owner);
+        saveTokenAllowance(domainBuilder.entityId());
+
+        var request = TokenAllowanceRequest.builder().accountId(new EntityIdNumParameter(owner)).build();
+
+        assertThat(service.getTokenAllowances(request)).containsExactly(tokenAllowance1, tokenAllowance2);
+    }
+
+    @Test
+    void getTokenAllowancesWithBoundsAndLimit() {
+        var owner = domainBuilder.entityId();
+        long spender = domainBuilder.id();
+        var tokenAllowance1 = saveTokenAllowance(owner, spender);
+        var tokenAllowance2 = saveTokenAllowance(owner, spender);
+        saveTokenAllowance(owner, spender);
+
+        var request = TokenAllowanceRequest.builder()
+                .accountId(new EntityIdNumParameter(owner))
+                .limit(1)
+                .spenderId(new EntityIdRangeParameter(RangeOperator.GTE, EntityId.of(spender)))
+                .tokenId(new EntityIdRangeParameter(RangeOperator.GT, EntityId.of(tokenAllowance1.getTokenId())))
+                .build();
+
+        assertThat(service.getTokenAllowances(request)).containsExactly(tokenAllowance2);
+    }
+
+    @Test
+    void getTokenAllowancesOrderDesc() {
+        var owner = domainBuilder.entityId();
+        long spender = domainBuilder.id();
+        var tokenAllowance1 = saveTokenAllowance(owner, spender);
+        var tokenAllowance2 = saveTokenAllowance(owner, spender);
+        var tokenAllowance3 = saveTokenAllowance(owner, spender);
+
+        var request = TokenAllowanceRequest.builder()
+                .accountId(new EntityIdNumParameter(owner))
+                .order(Sort.Direction.DESC)
+                .spenderId(new EntityIdRangeParameter(RangeOperator.LTE, EntityId.of(spender)))
+                .tokenId(new EntityIdRangeParameter(RangeOperator.LT, EntityId.of(tokenAllowance3.getTokenId())))
+                .build();
+
+        assertThat(service.getTokenAllowances(request)).containsExactly(tokenAllowance2, tokenAllowance1);
+    }
+
+    @Test
+    void getTokenAllowancesWithAlias() {
+        var entity = domainBuilder.entity().persist();
+        var tokenAllowance = saveTokenAllowance(entity.toEntityId());
+
+        var request = TokenAllowanceRequest.builder()
+                .accountId(new EntityIdAliasParameter(0, 0, entity.getAlias()))
+                .build();
+
+        assertThat(service.getTokenAllowances(request)).containsExactly(tokenAllowance);
+    }
+
+    @Test
+    void getTokenAllowancesWithEvmAddress() {
+        var entity = domainBuilder.entity().persist();
+        var tokenAllowance = saveTokenAllowance(entity.toEntityId());
+
+        var request = TokenAllowanceRequest.builder()
+                .accountId(new EntityIdEvmAddressParameter(0, 0, entity.getEvmAddress()))
+                .build();
+
+        assertThat(service.getTokenAllowances(request)).containsExactly(tokenAllowance);
+    }
+
+    @Test
+    void getTokenAllowancesAccountNotFound() {
+        var request = TokenAllowanceRequest.builder()
+                .accountId(new EntityIdAliasParameter(0, 0, domainBuilder.key()))
+                .build();
+
+        assertThrows(EntityNotFoundException.class, () -> service.getTokenAllowances(request));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "GT, GT, spender.id must have gte or eq operator",
+        "GT, GTE, spender.id must have gte or eq operator",
+        "LTE, GT, spender.id must have gte or eq operator",
+        "LT, LT, spender.id must have lte or eq operator",
+        "GTE, LTE, spender.id must have lte or eq operator"
+    })
+    void getTokenAllowancesInvalidBounds(RangeOperator spenderOperator, RangeOperator tokenOperator, String message) {
+        var owner = domainBuilder.entityId();
+        var request = TokenAllowanceRequest.builder()
+                .accountId(new EntityIdNumParameter(owner))
+                .spenderId(new EntityIdRangeParameter(spenderOperator, domainBuilder.entityId()))
+                .tokenId(new EntityIdRangeParameter(tokenOperator, domainBuilder.entityId()))
+                .build();
+
+        assertThatThrownBy(() -> service.getTokenAllowances(request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(message);
+    }
+
+    private TokenAllowance saveTokenAllowance(EntityId owner) {
+        return saveTokenAllowance(owner, domainBuilder.id());
+    }
+
+    private TokenAllowance saveTokenAllowance(EntityId owner, long spender) {
+        return domainBuilder
+                .tokenAllowance()
+                .customize(t -> t.owner(owner.getId()).spender(spender))
+                .persist();
+    }
+}